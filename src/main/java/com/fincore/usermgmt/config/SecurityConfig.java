@@ -32,6 +32,8 @@ public class SecurityConfig {
                 .requestMatchers("/api/system/info", "/api/system/auth-test").permitAll()  // Only specific system endpoints
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
+                // Signed direct uploads of the local storage backend carry their own authorisation
+                .requestMatchers("/api/storage/local-uploads").permitAll()
                 // Swagger UI and API documentation
                 .requestMatchers("/swagger-ui/**", "/swagger-ui.html").permitAll()
                 .requestMatchers("/v3/api-docs/**", "/api-docs/**").permitAll()
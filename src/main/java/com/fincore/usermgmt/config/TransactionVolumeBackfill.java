@@ -0,0 +1,86 @@
+package com.fincore.usermgmt.config;
+
+import com.fincore.usermgmt.entity.Organisation;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Derives the typed transaction volume columns for organisations saved before
+ * those columns existed. New and updated organisations get them on save, so this
+ * only has work to do once after the migration and finds nothing afterwards.
+ * Runs on the scheduler shortly after startup and then periodically, one chunk per
+ * transaction; a chunk that fails is logged and retried on the next run.
+ */
+@Component
+@Slf4j
+public class TransactionVolumeBackfill {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final OrganisationRepository organisationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionVolumeBackfill(OrganisationRepository organisationRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.organisationRepository = organisationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${organisation.transaction-volumes.backfill-interval-ms:3600000}",
+               initialDelayString = "${organisation.transaction-volumes.backfill-initial-delay-ms:30000}")
+    public void backfill() {
+        long afterId = 0;
+        int total = 0;
+        int failed = 0;
+        while (true) {
+            long from = afterId;
+            List<Object[]> rows;
+            try {
+                rows = organisationRepository.findUnparsedTransactionVolumes(from, PageRequest.of(0, CHUNK_SIZE));
+            } catch (RuntimeException e) {
+                log.error("Failed to read organisations for the transaction volume backfill after ID {}", from, e);
+                break;
+            }
+            if (rows.isEmpty()) {
+                break;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> rows.forEach(this::backfillRow));
+                total += rows.size();
+            } catch (RuntimeException e) {
+                log.error("Failed to derive transaction volumes for organisations after ID {}", from, e);
+                failed += rows.size();
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        if (total > 0 || failed > 0) {
+            log.info("Derived typed transaction volumes for {} existing organisations, {} failed", total, failed);
+        }
+    }
+
+    private void backfillRow(Object[] row) {
+        Organisation parsed = Organisation.builder()
+                .monthlyTurnoverRange((String) row[1])
+                .numberOfIncomingTransactions((String) row[2])
+                .numberOfOutgoingTransactions((String) row[3])
+                .valueOfIncomingTransactions((String) row[4])
+                .valueOfOutgoingTransactions((String) row[5])
+                .maxValueOfIncomingPayments((String) row[6])
+                .maxValueOfOutgoingPayments((String) row[7])
+                .build();
+        parsed.parseTransactionVolumes();
+        organisationRepository.updateTransactionVolumes((Long) row[0],
+                parsed.getMonthlyTurnoverMin(), parsed.getMonthlyTurnoverMax(),
+                parsed.getIncomingTransactionCount(), parsed.getOutgoingTransactionCount(),
+                parsed.getIncomingTransactionValue(), parsed.getOutgoingTransactionValue(),
+                parsed.getMaxIncomingPayment(), parsed.getMaxOutgoingPayment(), LocalDateTime.now());
+    }
+}
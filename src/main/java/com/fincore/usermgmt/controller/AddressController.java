@@ -4,6 +4,7 @@ import com.fincore.usermgmt.dto.AddressCreateDTO;
 import com.fincore.usermgmt.dto.AddressDTO;
 import com.fincore.usermgmt.dto.ErrorResponse;
 import com.fincore.usermgmt.service.AddressService;
+import com.fincore.usermgmt.util.ResourceVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,8 +19,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * REST Controller for Address management endpoints.
@@ -70,15 +73,21 @@ public class AddressController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved address",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = AddressDTO.class))),
+        @ApiResponse(responseCode = "304", description = "Not modified since the If-None-Match ETag or If-Modified-Since date"),
         @ApiResponse(responseCode = "404", description = "Address not found"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<AddressDTO> getAddressById(
         @Parameter(description = "Address ID", required = true, example = "1")
-        @PathVariable Long id
+        @PathVariable Long id,
+        WebRequest webRequest
     ) {
         log.info("REST request to get address by ID: {}", id);
+        Optional<ResourceVersion> version = addressService.getAddressVersion(id);
+        if (version.isPresent() && version.get().checkNotModified(webRequest)) {
+            return null; // 304 already prepared
+        }
         return addressService.getAddressById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -184,7 +193,7 @@ public class AddressController {
     @PutMapping("/{id}")
     @Operation(
         summary = "Update an address",
-        description = "Updates an existing address with new information"
+        description = "Updates an existing address with new information. Send If-Match with the ETag from GET to avoid overwriting a concurrent change."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Address updated successfully",
@@ -192,6 +201,8 @@ public class AddressController {
         @ApiResponse(responseCode = "404", description = "Address not found"),
         @ApiResponse(responseCode = "400", description = "Invalid input data",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "412", description = "Changed since the If-Match ETag was read",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -199,10 +210,16 @@ public class AddressController {
             @Parameter(description = "Address ID", required = true, example = "1")
             @PathVariable Long id,
             @Parameter(description = "Updated address data", required = true)
-            @Valid @RequestBody AddressCreateDTO updateDTO) {
+            @Valid @RequestBody AddressCreateDTO updateDTO,
+            WebRequest webRequest) {
         log.info("REST request to update address ID: {}", id);
+        Optional<ResourceVersion> current = addressService.getAddressVersion(id);
+        if (current.isPresent() && current.get().checkNotModified(webRequest)) {
+            return null; // 412 already prepared
+        }
+        Long expectedVersion = current.map(version -> version.expectedVersion(webRequest)).orElse(null);
         try {
-            AddressDTO updated = addressService.updateAddress(id, updateDTO);
+            AddressDTO updated = addressService.updateAddress(id, updateDTO, expectedVersion);
             return ResponseEntity.ok(updated);
         } catch (RuntimeException e) {
             if (e.getMessage().contains("not found")) {
@@ -2,7 +2,10 @@ package com.fincore.usermgmt.controller;
 
 import com.fincore.usermgmt.dto.*;
 import com.fincore.usermgmt.service.KycDocumentService;
-import com.fincore.usermgmt.service.GcsFileStorageService;
+import com.fincore.usermgmt.service.KycDocumentUploadService;
+import com.fincore.usermgmt.service.FileStorageService;
+import com.fincore.usermgmt.service.storage.StoredFile;
+import com.fincore.usermgmt.util.ResourceVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,13 +17,22 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * REST Controller for KYC Document management endpoints.
@@ -33,8 +45,11 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 public class KycDocumentController {
 
+    private static final int MAX_BATCH_FILES = 20;
+
     private final KycDocumentService kycDocumentService;
-    private final GcsFileStorageService fileStorageService;
+    private final KycDocumentUploadService kycDocumentUploadService;
+    private final FileStorageService fileStorageService;
 
     /**
      * Upload a new KYC document with file (multipart/form-data).
@@ -44,7 +59,8 @@ public class KycDocumentController {
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(
         summary = "Upload a new KYC document with file",
-        description = "Uploads a new KYC document for an organisation with an actual file. The file is stored in GCS and metadata is saved to database."
+        description = "Uploads a new KYC document for an organisation with an actual file. The file is stored in the configured storage backend and metadata is saved to database. " +
+                "For large files, prefer a direct upload through /api/kyc-documents/upload-intents, which keeps the file off this API."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Document uploaded successfully",
@@ -93,6 +109,42 @@ public class KycDocumentController {
         }
     }
 
+    /**
+     * Upload the files of several KYC documents at once (multipart/form-data).
+     */
+    @PostMapping(value = "/upload/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+        summary = "Upload several KYC documents with files",
+        description = "Uploads up to 20 files for an organisation, with one document type per file in the same order. " +
+                "The files are stored concurrently and the documents created in one batch. Each file is reported " +
+                "separately, so one failed file does not fail the others."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "One result per file, in order",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = KycDocumentCreateResultDTO.class))),
+        @ApiResponse(responseCode = "400", description = "No files, too many files, or not one document type per file",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<KycDocumentCreateResultDTO>> uploadDocuments(
+            @Parameter(description = "Files to upload", required = true)
+            @RequestParam("files") List<MultipartFile> files,
+            @Parameter(description = "Organisation ID", required = true)
+            @RequestParam("organisationId") Long organisationId,
+            @Parameter(description = "Document type of each file, in the same order", required = true)
+            @RequestParam("documentTypes") List<String> documentTypes,
+            @Parameter(description = "Verification identifier (optional)")
+            @RequestParam(value = "verificationIdentifier", required = false) Integer verificationIdentifier) {
+        if (files.isEmpty() || files.size() > MAX_BATCH_FILES || files.size() != documentTypes.size()) {
+            log.warn("Invalid KYC document batch upload: {} files, {} document types", files.size(), documentTypes.size());
+            return ResponseEntity.badRequest().build();
+        }
+        log.info("REST request to upload {} KYC document files for organisation: {}", files.size(), organisationId);
+        return ResponseEntity.ok(kycDocumentUploadService.uploadDocuments(
+                organisationId, files, documentTypes, verificationIdentifier));
+    }
+
     /**
      * Upload a new KYC document (JSON only - no file).
      * Use this endpoint only if you're providing a pre-existing file URL.
@@ -152,20 +204,140 @@ public class KycDocumentController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved document",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = KycDocumentDTO.class))),
+        @ApiResponse(responseCode = "304", description = "Not modified since the If-None-Match ETag or If-Modified-Since date"),
         @ApiResponse(responseCode = "404", description = "Document not found"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<KycDocumentDTO> getDocumentById(
         @Parameter(description = "Document ID", required = true, example = "1")
-        @PathVariable Long id
+        @PathVariable Long id,
+        WebRequest webRequest
     ) {
         log.info("REST request to get KYC document by ID: {}", id);
+        Optional<ResourceVersion> version = kycDocumentService.getDocumentVersion(id);
+        if (version.isPresent() && version.get().checkNotModified(webRequest)) {
+            return null; // 304 already prepared
+        }
         return kycDocumentService.getDocumentById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Stream the file of a document.
+     */
+    @GetMapping("/{id}/content")
+    @Operation(
+        summary = "Download the file of a KYC document",
+        description = "Streams the stored file with its content type and length. Supports a single byte range " +
+                "through Range (and If-Range), and If-None-Match with the ETag of the stored file."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Whole file"),
+        @ApiResponse(responseCode = "206", description = "The requested byte range"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the If-None-Match ETag"),
+        @ApiResponse(responseCode = "404", description = "Document or its file not found"),
+        @ApiResponse(responseCode = "416", description = "Range not satisfiable"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> getDocumentContent(
+            @Parameter(description = "Document ID", required = true, example = "1")
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            WebRequest webRequest) throws IOException {
+        log.info("REST request to download KYC document ID: {}", id);
+        Optional<KycDocumentDTO> document = kycDocumentService.getDocumentById(id);
+        if (document.isEmpty() || document.get().getFileUrl() == null) {
+            return ResponseEntity.notFound().build();
+        }
+        Optional<StoredFile> stored = fileStorageService.getFile(document.get().getFileUrl());
+        if (stored.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        StoredFile file = stored.get();
+        if (webRequest.checkNotModified(file.eTag())) {
+            return null; // 304 already prepared
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setETag(file.eTag());
+        headers.setContentType(contentType(file, document.get().getFileName()));
+        if (document.get().getFileName() != null) {
+            headers.setContentDisposition(ContentDisposition.inline()
+                    .filename(document.get().getFileName(), StandardCharsets.UTF_8)
+                    .build());
+        }
+
+        long start = 0;
+        long end = file.size() - 1;
+        HttpStatus status = HttpStatus.OK;
+        // A stale If-Range means the client's partial copy is outdated, so it gets the whole file
+        List<HttpRange> ranges = range != null && (ifRange == null || ifRange.equals(file.eTag()))
+                ? parseRanges(range)
+                : List.of();
+        // Several ranges would need a multipart body; answering with the whole file is also valid
+        if (ranges.size() == 1) {
+            HttpRange requested = ranges.get(0);
+            try {
+                start = requested.getRangeStart(file.size());
+                end = requested.getRangeEnd(file.size());
+            } catch (IllegalArgumentException e) {
+                return rangeNotSatisfiable(file);
+            }
+            // HttpRange clamps the end to the file, so a range past it comes back with start > end
+            if (start >= file.size() || start > end) {
+                return rangeNotSatisfiable(file);
+            }
+            status = HttpStatus.PARTIAL_CONTENT;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + file.size());
+        }
+        headers.setContentLength(end - start + 1);
+        if (file.size() == 0) {
+            return ResponseEntity.status(status).headers(headers).build();
+        }
+
+        long first = start;
+        long last = end;
+        StreamingResponseBody body = out -> fileStorageService.copyRange(file, first, last, out);
+        return ResponseEntity.status(status).headers(headers).body(body);
+    }
+
+    private static ResponseEntity<StreamingResponseBody> rangeNotSatisfiable(StoredFile file) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size())
+                .build();
+    }
+
+    /**
+     * The content type recorded at upload, or else the one implied by the file name.
+     */
+    private MediaType contentType(StoredFile file, String fileName) {
+        if (file.contentType() != null) {
+            try {
+                return MediaType.parseMediaType(file.contentType());
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring invalid stored content type {}", file.contentType());
+            }
+        }
+        return MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    /**
+     * Parse a Range header. A malformed header is ignored, as RFC 9110 allows.
+     */
+    private List<HttpRange> parseRanges(String range) {
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring malformed Range header: {}", range);
+            return List.of();
+        }
+    }
+
     /**
      * Get all documents for an organisation.
      */
@@ -298,7 +470,7 @@ public class KycDocumentController {
     @PutMapping("/{id}")
     @Operation(
         summary = "Update a KYC document",
-        description = "Updates an existing KYC document's metadata and information"
+        description = "Updates an existing KYC document's metadata and information. Send If-Match with the ETag from GET to avoid overwriting a concurrent change."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Document updated successfully",
@@ -307,6 +479,8 @@ public class KycDocumentController {
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "404", description = "Document not found",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "412", description = "Changed since the If-Match ETag was read",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -314,10 +488,16 @@ public class KycDocumentController {
             @Parameter(description = "Document ID", required = true, example = "1")
             @PathVariable Long id,
             @Parameter(description = "Document update data", required = true)
-            @Valid @RequestBody KycDocumentUpdateDTO updateDTO) {
+            @Valid @RequestBody KycDocumentUpdateDTO updateDTO,
+            WebRequest webRequest) {
         log.info("REST request to update KYC document ID: {}", id);
+        Optional<ResourceVersion> current = kycDocumentService.getDocumentVersion(id);
+        if (current.isPresent() && current.get().checkNotModified(webRequest)) {
+            return null; // 412 already prepared
+        }
+        Long expectedVersion = current.map(version -> version.expectedVersion(webRequest)).orElse(null);
         try {
-            KycDocumentDTO updated = kycDocumentService.updateDocument(id, updateDTO);
+            KycDocumentDTO updated = kycDocumentService.updateDocument(id, updateDTO, expectedVersion);
             return ResponseEntity.ok(updated);
         } catch (RuntimeException e) {
             if (e.getMessage().contains("not found")) {
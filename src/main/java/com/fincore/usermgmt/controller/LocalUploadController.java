@@ -0,0 +1,83 @@
+package com.fincore.usermgmt.controller;
+
+import com.fincore.usermgmt.service.storage.LocalFileStorageBackend;
+import com.fincore.usermgmt.service.storage.StoredFile;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.util.Optional;
+
+/**
+ * Receives direct uploads to signed URLs when files are stored locally, standing in for the
+ * bucket. Authorised by the URL signature rather than a JWT, like a signed GCS URL.
+ */
+@RestController
+@RequestMapping(LocalFileStorageBackend.UPLOAD_PATH)
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Local Storage Uploads", description = "Signed upload URLs of the local storage backend")
+public class LocalUploadController {
+
+    private final LocalFileStorageBackend backend;
+
+    /**
+     * Store the request body under the signed name.
+     */
+    @PutMapping
+    @Operation(
+        summary = "Upload to a signed URL",
+        description = "Streams the body to the local storage backend. The Content-Type and Content-MD5 headers " +
+                "must be the ones the URL was signed for. An existing file is never replaced."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "File stored"),
+        @ApiResponse(responseCode = "400", description = "Body does not match the Content-MD5 or Content-Length"),
+        @ApiResponse(responseCode = "403", description = "Signature invalid or expired"),
+        @ApiResponse(responseCode = "412", description = "A file is already stored under the name")
+    })
+    public ResponseEntity<Void> upload(
+            @Parameter(description = "Storage name", required = true) @RequestParam String name,
+            @Parameter(description = "Expiry, in epoch seconds", required = true) @RequestParam long expires,
+            @Parameter(description = "URL signature", required = true) @RequestParam String signature,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestHeader(value = "Content-MD5", required = false) String contentMd5,
+            HttpServletRequest request) throws IOException {
+        if (!backend.verifyUpload(name, expires, contentType, contentMd5, signature)) {
+            log.warn("Rejected upload to {}: signature invalid or expired", name);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        Optional<StoredFile> stored;
+        try {
+            stored = backend.storeUpload(name, contentMd5, request.getContentLengthLong(), request::getInputStream);
+        } catch (FileAlreadyExistsException e) {
+            // As GCS does for the x-goog-if-generation-match: 0 header of the signed URL
+            log.warn("Rejected upload to {}: a file is already stored under the name", name);
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        if (stored.isEmpty()) {
+            // GCS answers BadDigest and keeps nothing
+            log.warn("Rejected upload to {}: content does not match Content-MD5 or Content-Length", name);
+            return ResponseEntity.badRequest().build();
+        }
+        log.info("Stored direct upload {} ({} bytes)", name, stored.get().size());
+        return ResponseEntity.ok().eTag(stored.get().eTag()).build();
+    }
+}
@@ -2,7 +2,10 @@ package com.fincore.usermgmt.controller;
 
 import com.fincore.usermgmt.dto.*;
 import com.fincore.usermgmt.service.KycDocumentService;
+import com.fincore.usermgmt.service.OrganisationArchiveService;
 import com.fincore.usermgmt.service.OrganisationService;
+import com.fincore.usermgmt.service.OrganisationSicCodeService;
+import com.fincore.usermgmt.util.ResourceVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,8 +20,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * REST Controller for Organisation management endpoints.
@@ -33,6 +38,8 @@ public class OrganisationController {
 
     private final OrganisationService organisationService;
     private final KycDocumentService kycDocumentService;
+    private final OrganisationArchiveService organisationArchiveService;
+    private final OrganisationSicCodeService organisationSicCodeService;
 
     /**
      * Create a new organisation.
@@ -48,6 +55,8 @@ public class OrganisationController {
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrganisationDTO.class))),
         @ApiResponse(responseCode = "400", description = "Invalid input data or duplicate registration number",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "409", description = "Registration or company number already used, or the owner already has an organisation",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -70,6 +79,7 @@ public class OrganisationController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved organisation",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrganisationDTO.class))),
+        @ApiResponse(responseCode = "304", description = "Not modified since the If-None-Match ETag or If-Modified-Since date"),
         @ApiResponse(responseCode = "404", description = "Organisation not found",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
@@ -77,28 +87,37 @@ public class OrganisationController {
     })
     public ResponseEntity<OrganisationDTO> getOrganisationById(
             @Parameter(description = "Organisation ID", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
         log.info("REST request to get organisation by ID: {}", id);
+        // Validators are read before the body, so a concurrent update can only make the tag older than the body
+        Optional<ResourceVersion> version = organisationService.getOrganisationVersion(id);
+        if (version.isPresent() && version.get().checkNotModified(webRequest)) {
+            return null; // 304 already prepared
+        }
         return organisationService.getOrganisationById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
-     * Get all organisations with pagination.
+     * Get all organisations with pagination, optionally selecting only some fields.
      */
     @GetMapping
     @Operation(
         summary = "Get all organisations (paginated)",
-        description = "Retrieves all organisations with pagination and sorting support"
+        description = "Retrieves all organisations with pagination and sorting support. " +
+                "With fields=a,b,... each row holds only id and the requested scalar fields, read without loading the organisations."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved organisations",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = PagedResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Unknown field requested",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<PagedResponse<OrganisationDTO>> getAllOrganisations(
+    public ResponseEntity<PagedResponse<?>> getAllOrganisations(
             @Parameter(description = "Page number (0-indexed)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size", example = "20")
@@ -106,36 +125,231 @@ public class OrganisationController {
             @Parameter(description = "Sort field", example = "legalName")
             @RequestParam(defaultValue = "legalName") String sortBy,
             @Parameter(description = "Sort direction (ASC or DESC)", example = "ASC")
-            @RequestParam(defaultValue = "ASC") String sortDirection) {
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @Parameter(description = "Comma-separated fields to return; omit for full organisations", example = "legalName,status")
+            @RequestParam(required = false) String fields) {
         log.info("REST request to get all organisations - page: {}, size: {}", page, size);
+        if (fields != null && !fields.isBlank()) {
+            try {
+                return ResponseEntity.ok(organisationService.getAllOrganisationFields(page, size, sortBy, sortDirection, fields));
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid fields request: {}", e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        }
         PagedResponse<OrganisationDTO> response = organisationService.getAllOrganisations(page, size, sortBy, sortDirection);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get all organisations with cursor (keyset) pagination.
+     */
+    @GetMapping("/scroll")
+    @Operation(
+        summary = "Get all organisations (cursor paginated)",
+        description = "Retrieves organisations one page at a time using an opaque cursor instead of a page number. " +
+                "No total count is computed, so deep pages are as fast as the first. Sort by legalName, createdDatetime or id."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved organisations",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPagedResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, page size or sort field",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CursorPagedResponse<OrganisationDTO>> scrollOrganisations(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort field (legalName, createdDatetime or id)", example = "legalName")
+            @RequestParam(defaultValue = "legalName") String sortBy,
+            @Parameter(description = "Sort direction (ASC or DESC)", example = "ASC")
+            @RequestParam(defaultValue = "ASC") String sortDirection) {
+        log.info("REST request to scroll organisations - size: {}", size);
+        try {
+            return ResponseEntity.ok(organisationService.scrollOrganisations(size, sortBy, sortDirection, cursor));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid cursor pagination request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Search organisations with filters.
      */
     @PostMapping("/search")
     @Operation(
         summary = "Search organisations",
-        description = "Searches organisations using various filters such as name, status, owner, and date ranges with pagination support"
+        description = "Searches organisations using various filters such as name, status, owner, and date ranges with pagination support. " +
+                "With fields=a,b,... each row holds only id and the requested scalar fields."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved search results",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = PagedResponse.class))),
-        @ApiResponse(responseCode = "400", description = "Invalid search criteria",
+        @ApiResponse(responseCode = "400", description = "Invalid search criteria or unknown field requested",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<PagedResponse<OrganisationDTO>> searchOrganisations(
+    public ResponseEntity<PagedResponse<?>> searchOrganisations(
             @Parameter(description = "Organisation search criteria", required = true)
-            @RequestBody OrganisationSearchDTO searchDTO) {
+            @RequestBody OrganisationSearchDTO searchDTO,
+            @Parameter(description = "Comma-separated fields to return; omit for full organisations", example = "legalName,status")
+            @RequestParam(required = false) String fields) {
         log.info("REST request to search organisations");
+        if (fields != null && !fields.isBlank()) {
+            try {
+                return ResponseEntity.ok(organisationService.searchOrganisationFields(searchDTO, fields));
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid fields request: {}", e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        }
         PagedResponse<OrganisationDTO> response = organisationService.searchOrganisations(searchDTO);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Filter organisations with cursor (keyset) pagination.
+     */
+    @PostMapping("/search/scroll")
+    @Operation(
+        summary = "Filter organisations (cursor paginated)",
+        description = "Filters organisations by status and type one page at a time using the cursor field. " +
+                "Free-text searchTerm is not supported here because search results are ordered by relevance."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Organisations retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPagedResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, page size, sort field or a searchTerm was given",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CursorPagedResponse<OrganisationDTO>> scrollSearchOrganisations(
+            @Parameter(description = "Organisation filter criteria and cursor", required = true)
+            @RequestBody OrganisationSearchDTO searchDTO) {
+        log.info("REST request to scroll organisation search");
+        try {
+            return ResponseEntity.ok(organisationService.scrollSearchOrganisations(searchDTO));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid cursor pagination request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Search organisations by ranges over their transaction volumes.
+     */
+    @PostMapping("/search/ranges")
+    @Operation(
+        summary = "Search organisations by transaction volume ranges",
+        description = "Filters organisations by min/max ranges over the numeric transaction volumes parsed from the " +
+                "onboarding answers (monthlyTurnoverMin, monthlyTurnoverMax, incomingTransactionCount, " +
+                "outgoingTransactionCount, incomingTransactionValue, outgoingTransactionValue, maxIncomingPayment, " +
+                "maxOutgoingPayment), optionally with status and type. Organisations whose answer could not be parsed do not match."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved search results",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PagedResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Unknown range field, range without bounds or min greater than max",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<PagedResponse<OrganisationDTO>> searchOrganisationsByRanges(
+            @Parameter(description = "Range criteria", required = true)
+            @Valid @RequestBody OrganisationRangeSearchDTO searchDTO) {
+        log.info("REST request to search organisations by ranges");
+        try {
+            return ResponseEntity.ok(organisationService.searchByRanges(searchDTO));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid range search request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Find organisations by SIC section, division, group, class or subclass.
+     */
+    @GetMapping("/sic/{level}")
+    @Operation(
+        summary = "Find organisations by industry",
+        description = "Returns organisations with a SIC code under the given level of the SIC 2007 hierarchy: " +
+                "a section letter (K), division (64), group (641), class (6419 or 64.19) or subclass (64191)."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved organisations",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PagedResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Unknown SIC section or code",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<PagedResponse<OrganisationDTO>> getOrganisationsBySicCode(
+            @Parameter(description = "SIC section letter or code prefix", required = true, example = "64")
+            @PathVariable String level,
+            @Parameter(description = "Status filter", example = "ACTIVE")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Organisation type filter", example = "LTD")
+            @RequestParam(required = false) String organisationType,
+            @Parameter(description = "Page number (0-indexed)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort field", example = "legalName")
+            @RequestParam(defaultValue = "legalName") String sortBy,
+            @Parameter(description = "Sort direction (ASC or DESC)", example = "ASC")
+            @RequestParam(defaultValue = "ASC") String sortDirection) {
+        log.info("REST request to get organisations by SIC level: {}", level);
+        try {
+            return ResponseEntity.ok(organisationService.searchBySicCode(
+                    level, status, organisationType, page, size, sortBy, sortDirection));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid SIC search request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get the SIC hierarchy with organisation counts.
+     */
+    @GetMapping("/sic-hierarchy")
+    @Operation(
+        summary = "Get SIC hierarchy",
+        description = "Returns the SIC 2007 sections with their divisions and the number of organisations in each division"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Hierarchy retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<SicSectionDTO>> getSicHierarchy() {
+        log.info("REST request to get SIC hierarchy");
+        return ResponseEntity.ok(organisationSicCodeService.getHierarchy());
+    }
+
+    /**
+     * Get organisation counts for the admin dashboard.
+     */
+    @GetMapping("/stats")
+    @Operation(
+        summary = "Get organisation statistics",
+        description = "Returns organisation counts per status and per type from incrementally maintained counters"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrganisationStatsDTO.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<OrganisationStatsDTO> getOrganisationStats() {
+        log.debug("REST request to get organisation statistics");
+        return ResponseEntity.ok(organisationService.getOrganisationStats());
+    }
+
     /**
      * Get organisations by owner.
      */
@@ -192,7 +406,8 @@ public class OrganisationController {
     @PutMapping("/{id}")
     @Operation(
         summary = "Update an organisation",
-        description = "Updates an existing organisation's information including legal name, contact details, and business information"
+        description = "Updates an existing organisation's information including legal name, contact details, and business information. " +
+                "Send If-Match with the ETag from GET to avoid overwriting a concurrent change."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Organisation updated successfully",
@@ -201,6 +416,8 @@ public class OrganisationController {
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "404", description = "Organisation not found",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "412", description = "Changed since the If-Match ETag was read",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -208,10 +425,16 @@ public class OrganisationController {
             @Parameter(description = "Organisation ID", required = true, example = "1")
             @PathVariable Long id,
             @Parameter(description = "Organisation update data", required = true)
-            @Valid @RequestBody OrganisationUpdateDTO updateDTO) {
+            @Valid @RequestBody OrganisationUpdateDTO updateDTO,
+            WebRequest webRequest) {
         log.info("REST request to update organisation ID: {}", id);
+        Optional<ResourceVersion> current = organisationService.getOrganisationVersion(id);
+        if (current.isPresent() && current.get().checkNotModified(webRequest)) {
+            return null; // 412 already prepared
+        }
+        Long expectedVersion = current.map(version -> version.expectedVersion(webRequest)).orElse(null);
         try {
-            OrganisationDTO updated = organisationService.updateOrganisation(id, updateDTO);
+            OrganisationDTO updated = organisationService.updateOrganisation(id, updateDTO, expectedVersion);
             return ResponseEntity.ok(updated);
         } catch (RuntimeException e) {
             if (e.getMessage().contains("not found")) {
@@ -264,7 +487,8 @@ public class OrganisationController {
     @DeleteMapping("/{id}")
     @Operation(
         summary = "Delete an organisation",
-        description = "Permanently deletes an organisation from the system"
+        description = "Removes an organisation, with its addresses and KYC documents, from the active tables. " +
+                "It can still be read through the archived organisation endpoints."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Organisation deleted successfully"),
@@ -288,6 +512,75 @@ public class OrganisationController {
         }
     }
 
+    /**
+     * Get archived organisations with pagination.
+     */
+    @GetMapping("/archived")
+    @Operation(
+        summary = "Get archived organisations (paginated)",
+        description = "Retrieves deleted organisations and organisations archived after being closed or rejected, " +
+                "most recently archived first. Business users only see their own."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved archived organisations",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PagedResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<PagedResponse<OrganisationDTO>> getArchivedOrganisations(
+            @Parameter(description = "Page number (0-indexed)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("REST request to get archived organisations - page: {}, size: {}", page, size);
+        return ResponseEntity.ok(organisationArchiveService.getArchivedOrganisations(page, size));
+    }
+
+    /**
+     * Get an archived organisation by ID.
+     */
+    @GetMapping("/archived/{id}")
+    @Operation(
+        summary = "Get archived organisation by ID",
+        description = "Retrieves an archived organisation, with its addresses, as it was when archived"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved archived organisation",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrganisationDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Archived organisation not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<OrganisationDTO> getArchivedOrganisation(
+            @Parameter(description = "Organisation ID", required = true, example = "1")
+            @PathVariable Long id) {
+        log.info("REST request to get archived organisation ID: {}", id);
+        return organisationArchiveService.getArchivedOrganisation(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get the KYC documents archived with an organisation.
+     */
+    @GetMapping("/archived/{id}/kyc-documents")
+    @Operation(
+        summary = "Get archived KYC documents",
+        description = "Retrieves the KYC documents archived with an organisation, as they were when archived"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved archived documents"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<KycDocumentDTO>> getArchivedDocuments(
+            @Parameter(description = "Organisation ID", required = true, example = "1")
+            @PathVariable Long id) {
+        log.info("REST request to get archived KYC documents of organisation ID: {}", id);
+        return ResponseEntity.ok(organisationArchiveService.getArchivedDocuments(id));
+    }
+
     /**
      * Check if registration number exists.
      */
@@ -321,6 +614,8 @@ public class OrganisationController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Organisation submitted successfully",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrganisationDTO.class))),
+        @ApiResponse(responseCode = "409", description = "Organisation is not in a state that allows this transition or was changed concurrently",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "404", description = "Organisation not found",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
@@ -352,6 +647,8 @@ public class OrganisationController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Organisation approved successfully",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrganisationDTO.class))),
+        @ApiResponse(responseCode = "409", description = "Organisation is not in a state that allows this transition or was changed concurrently",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "404", description = "Organisation not found",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required",
@@ -361,10 +658,12 @@ public class OrganisationController {
     })
     public ResponseEntity<OrganisationDTO> approveOrganisation(
             @Parameter(description = "Organisation ID", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(description = "Organisation version the reviewer saw; rejected with 409 if it has changed", example = "3")
+            @RequestParam(required = false) Long version) {
         log.info("REST request to approve organisation - ID: {}", id);
         try {
-            OrganisationDTO approved = organisationService.approveOrganisation(id);
+            OrganisationDTO approved = organisationService.approveOrganisation(id, version);
             return ResponseEntity.ok(approved);
         } catch (RuntimeException e) {
             if (e.getMessage().contains("not found")) {
@@ -385,6 +684,8 @@ public class OrganisationController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Organisation rejected successfully",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrganisationDTO.class))),
+        @ApiResponse(responseCode = "409", description = "Organisation is not in a state that allows this transition or was changed concurrently",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "404", description = "Organisation not found",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required",
@@ -0,0 +1,229 @@
+package com.fincore.usermgmt.controller;
+
+import com.fincore.usermgmt.dto.ErrorResponse;
+import com.fincore.usermgmt.dto.OrganisationImportDTO;
+import com.fincore.usermgmt.dto.OrganisationImportErrorDTO;
+import com.fincore.usermgmt.entity.enums.ImportFormat;
+import com.fincore.usermgmt.service.OrganisationImportService;
+import com.fincore.usermgmt.util.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * REST Controller for bulk imports of organisations from the legacy platform.
+ * Import files are sent as the raw request body and streamed to the import, so they
+ * are neither held by the multipart resolver nor subject to its size limits.
+ */
+@RestController
+@RequestMapping("/api/organizations/imports")
+@Slf4j
+@Tag(name = "Organisation Import", description = "Bulk import of legacy organisations from CSV or NDJSON files")
+@SecurityRequirement(name = "bearerAuth")
+public class OrganisationImportController {
+
+    private static final int MAX_IMPORTS = 100;
+    private static final int MAX_ERRORS = 1000;
+
+    private final OrganisationImportService importService;
+    private final SecurityUtil securityUtil;
+    private final long maxSizeBytes;
+
+    public OrganisationImportController(OrganisationImportService importService, SecurityUtil securityUtil,
+                                        @Value("${organisation.import.max-size-bytes:209715200}") long maxSizeBytes) {
+        this.importService = importService;
+        this.securityUtil = securityUtil;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * Import organisations from a file.
+     */
+    @PostMapping(consumes = {ImportFormat.CSV_MEDIA_TYPE, ImportFormat.NDJSON_MEDIA_TYPE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @Operation(
+        summary = "Import organisations",
+        description = "Streams a CSV or NDJSON request body of organisations keyed by legacyIdentifier and returns " +
+                "the import with its counts and throughput. Rows already imported are skipped as duplicates. " +
+                "A FAILED import can be resumed with the same file."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished, COMPLETED or FAILED",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrganisationImportDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Format missing and not inferable from the Content-Type or file name"),
+        @ApiResponse(responseCode = "411", description = "Content-Length missing"),
+        @ApiResponse(responseCode = "413", description = "File larger than organisation.import.max-size-bytes"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - admin access required",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "409", description = "An import is already in progress",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<OrganisationImportDTO> importOrganisations(
+            @Parameter(description = "Name of the imported file, recorded with the import")
+            @RequestParam(required = false) String fileName,
+            @Parameter(description = "CSV or NDJSON; inferred from the Content-Type or file extension if omitted")
+            @RequestParam(required = false) String format,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request) throws IOException {
+        if (securityUtil.isBusinessUser()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        ImportFormat importFormat;
+        try {
+            importFormat = format != null
+                    ? ImportFormat.valueOf(format.toUpperCase(Locale.ROOT))
+                    : ImportFormat.fromContentType(contentType).orElseGet(() -> ImportFormat.fromFileName(fileName));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid import format request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        ResponseEntity<OrganisationImportDTO> rejected = checkSize(request);
+        if (rejected != null) {
+            return rejected;
+        }
+        log.info("REST request to import organisations from {} ({} bytes)", fileName, request.getContentLengthLong());
+        return ResponseEntity.ok(importService.importFile(fileName, importFormat, request.getInputStream()));
+    }
+
+    /**
+     * Resume a failed import.
+     */
+    @PostMapping(value = "/{id}/resume", consumes = {ImportFormat.CSV_MEDIA_TYPE, ImportFormat.NDJSON_MEDIA_TYPE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @Operation(
+        summary = "Resume an import",
+        description = "Continues a FAILED or interrupted import from its checkpoint. Upload the same file as the original import."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished, COMPLETED or FAILED",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrganisationImportDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Import not found"),
+        @ApiResponse(responseCode = "411", description = "Content-Length missing"),
+        @ApiResponse(responseCode = "413", description = "File larger than organisation.import.max-size-bytes"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - admin access required",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "409", description = "Import already completed, or an import is in progress",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<OrganisationImportDTO> resumeImport(
+            @Parameter(description = "Import ID", required = true) @PathVariable Long id,
+            HttpServletRequest request) throws IOException {
+        if (securityUtil.isBusinessUser()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (importService.getImport(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        ResponseEntity<OrganisationImportDTO> rejected = checkSize(request);
+        if (rejected != null) {
+            return rejected;
+        }
+        log.info("REST request to resume organisation import {}", id);
+        return ResponseEntity.ok(importService.resume(id, request.getInputStream()));
+    }
+
+    /**
+     * Get an import.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get an import", description = "Returns the counts, checkpoint and throughput of an import")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrganisationImportDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Import not found"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - admin access required",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<OrganisationImportDTO> getImport(
+            @Parameter(description = "Import ID", required = true) @PathVariable Long id) {
+        if (securityUtil.isBusinessUser()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return importService.getImport(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get recent imports.
+     */
+    @GetMapping
+    @Operation(summary = "Get recent imports", description = "Returns recent imports, most recent first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Imports retrieved"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - admin access required",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<OrganisationImportDTO>> getRecentImports(
+            @Parameter(description = "Number of imports to return (max 100)") @RequestParam(defaultValue = "20") int limit) {
+        if (securityUtil.isBusinessUser()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(importService.getRecentImports(Math.max(1, Math.min(limit, MAX_IMPORTS))));
+    }
+
+    /**
+     * Get the rows of an import that could not be imported.
+     */
+    @GetMapping("/{id}/errors")
+    @Operation(summary = "Get import errors", description = "Returns the rows that could not be imported, in file order")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Errors retrieved"),
+        @ApiResponse(responseCode = "404", description = "Import not found"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - admin access required",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<OrganisationImportErrorDTO>> getErrors(
+            @Parameter(description = "Import ID", required = true) @PathVariable Long id,
+            @Parameter(description = "Number of errors to return (max 1000)") @RequestParam(defaultValue = "100") int limit) {
+        if (securityUtil.isBusinessUser()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (importService.getImport(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(importService.getErrors(id, Math.max(1, Math.min(limit, MAX_ERRORS))));
+    }
+
+    /**
+     * Reject a body of unknown length or larger than organisation.import.max-size-bytes
+     * before any of it is read. The container stops the body at its Content-Length.
+     * @return the response to send, or null if the body can be imported
+     */
+    private ResponseEntity<OrganisationImportDTO> checkSize(HttpServletRequest request) {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0) {
+            return ResponseEntity.status(HttpStatus.LENGTH_REQUIRED).build();
+        }
+        if (contentLength > maxSizeBytes) {
+            log.warn("Rejected organisation import of {} bytes, limit is {}", contentLength, maxSizeBytes);
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,140 @@
+package com.fincore.usermgmt.controller;
+
+import com.fincore.usermgmt.dto.ErrorResponse;
+import com.fincore.usermgmt.dto.ReviewClaimDTO;
+import com.fincore.usermgmt.entity.User;
+import com.fincore.usermgmt.service.ReviewQueueService;
+import com.fincore.usermgmt.util.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * REST Controller for the reviewer work queue of organisations under review.
+ */
+@RestController
+@RequestMapping("/api/review-queue")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Review Queue", description = "Claim organisations under review without overlapping other reviewers")
+@SecurityRequirement(name = "bearerAuth")
+public class ReviewQueueController {
+
+    private static final int MAX_CLAIM = 20;
+
+    private final ReviewQueueService reviewQueueService;
+    private final SecurityUtil securityUtil;
+
+    /**
+     * Claim the next organisations to review.
+     */
+    @PostMapping("/claims")
+    @Operation(
+        summary = "Claim organisations to review",
+        description = "Claims up to count of the oldest organisations under review that no other reviewer holds. " +
+                "Claims expire after the lease unless renewed with a heartbeat."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Organisations claimed, possibly none"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - reviewer access required",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<ReviewClaimDTO>> claim(
+            @Parameter(description = "Number of organisations to claim (max 20)") @RequestParam(defaultValue = "1") int count) {
+        Optional<Long> reviewerId = currentReviewerId();
+        if (reviewerId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        log.info("REST request to claim {} organisations for review", count);
+        return ResponseEntity.ok(reviewQueueService.claimNext(reviewerId.get(), Math.max(1, Math.min(count, MAX_CLAIM))));
+    }
+
+    /**
+     * Get the claims held by the current reviewer.
+     */
+    @GetMapping("/claims")
+    @Operation(summary = "Get my claims", description = "Returns the unexpired claims of the current reviewer, oldest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Claims retrieved"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - reviewer access required",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<ReviewClaimDTO>> getClaims() {
+        Optional<Long> reviewerId = currentReviewerId();
+        if (reviewerId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(reviewQueueService.getClaims(reviewerId.get()));
+    }
+
+    /**
+     * Renew the leases of the current reviewer's claims.
+     */
+    @PostMapping("/claims/heartbeat")
+    @Operation(summary = "Renew my claims", description = "Extends every unexpired claim of the current reviewer by a full lease")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Claims still held"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - reviewer access required",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<ReviewClaimDTO>> heartbeat() {
+        Optional<Long> reviewerId = currentReviewerId();
+        if (reviewerId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(reviewQueueService.heartbeat(reviewerId.get()));
+    }
+
+    /**
+     * Return a claimed organisation to the queue.
+     */
+    @DeleteMapping("/claims/{organisationId}")
+    @Operation(summary = "Release a claim", description = "Returns a claimed organisation to the queue for other reviewers")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Claim released"),
+        @ApiResponse(responseCode = "404", description = "No unexpired claim on this organisation is held"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - reviewer access required",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<Void> release(
+            @Parameter(description = "Organisation ID", required = true) @PathVariable Long organisationId) {
+        Optional<Long> reviewerId = currentReviewerId();
+        if (reviewerId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return reviewQueueService.release(reviewerId.get(), organisationId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * The current user, if they may review. Business users cannot.
+     */
+    private Optional<Long> currentReviewerId() {
+        if (securityUtil.isBusinessUser()) {
+            return Optional.empty();
+        }
+        return securityUtil.getCurrentUser().map(User::getId);
+    }
+}
@@ -0,0 +1,110 @@
+package com.fincore.usermgmt.controller;
+
+import com.fincore.usermgmt.dto.ErrorResponse;
+import com.fincore.usermgmt.dto.RiskScoringRunDTO;
+import com.fincore.usermgmt.service.OrganisationRiskScoringService;
+import com.fincore.usermgmt.util.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for organisation risk scoring runs.
+ */
+@RestController
+@RequestMapping("/api/risk-scoring")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Risk Scoring", description = "Batch risk scoring of organisations for compliance")
+@SecurityRequirement(name = "bearerAuth")
+public class RiskScoringController {
+
+    private static final int MAX_RUNS = 100;
+
+    private final OrganisationRiskScoringService riskScoringService;
+    private final SecurityUtil securityUtil;
+
+    /**
+     * Run risk scoring now.
+     */
+    @PostMapping("/runs")
+    @Operation(
+        summary = "Run risk scoring",
+        description = "Scores organisations and returns the completed run with its throughput. " +
+                "An incremental run only re-scores organisations changed since the previous run; a full run scores all."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Run completed",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = RiskScoringRunDTO.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden - compliance access required",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "409", description = "A run is already in progress",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<RiskScoringRunDTO> runScoring(
+            @Parameter(description = "Only re-score organisations changed since the previous run")
+            @RequestParam(defaultValue = "true") boolean incremental) {
+        if (securityUtil.isBusinessUser()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        log.info("REST request to run risk scoring - incremental: {}", incremental);
+        return ResponseEntity.ok(riskScoringService.score(incremental));
+    }
+
+    /**
+     * Get the latest run.
+     */
+    @GetMapping("/runs/latest")
+    @Operation(summary = "Get latest risk scoring run", description = "Returns the most recent completed run with its throughput")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Run found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = RiskScoringRunDTO.class))),
+        @ApiResponse(responseCode = "404", description = "No run has completed yet"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - compliance access required",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<RiskScoringRunDTO> getLatestRun() {
+        if (securityUtil.isBusinessUser()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return riskScoringService.getLatestRun()
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get recent runs.
+     */
+    @GetMapping("/runs")
+    @Operation(summary = "Get recent risk scoring runs", description = "Returns recent completed runs, most recent first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Runs retrieved"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - compliance access required",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<RiskScoringRunDTO>> getRecentRuns(
+            @Parameter(description = "Number of runs to return (max 100)") @RequestParam(defaultValue = "20") int limit) {
+        if (securityUtil.isBusinessUser()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(riskScoringService.getRecentRuns(Math.max(1, Math.min(limit, MAX_RUNS))));
+    }
+}
@@ -0,0 +1,93 @@
+package com.fincore.usermgmt.controller;
+
+import com.fincore.usermgmt.dto.ErrorResponse;
+import com.fincore.usermgmt.dto.StatusChangeEventDTO;
+import com.fincore.usermgmt.service.StatusChangeFeed;
+import com.fincore.usermgmt.util.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for the organisation and KYC document status change feed.
+ */
+@RestController
+@RequestMapping("/api/status-feed")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Status Feed", description = "Server-Sent Events stream of organisation and KYC document status changes for the reviewer console")
+@SecurityRequirement(name = "bearerAuth")
+public class StatusFeedController {
+
+    private final StatusChangeFeed statusChangeFeed;
+    private final SecurityUtil securityUtil;
+
+    /**
+     * Subscribe to status change events.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Subscribe to status changes",
+        description = "Streams committed organisation and KYC document status changes as Server-Sent Events. " +
+                "Send the Last-Event-ID header when reconnecting to replay missed events; a 'resync' event means " +
+                "they are no longer available and the client should reload its lists. Heartbeat comments are sent while idle."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = StatusChangeEventDTO.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden - reviewer access required",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "503", description = "Too many open subscriptions",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<SseEmitter> subscribe(
+            @Parameter(description = "ID of the last event received, sent automatically by EventSource on reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        // Business Users only ever see their own organisation, so the global feed is for reviewers
+        if (securityUtil.isBusinessUser()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        log.info("REST request to subscribe to status feed - Last-Event-ID: {}", lastEventId);
+        try {
+            SseEmitter emitter = statusChangeFeed.subscribe(parseEventId(lastEventId));
+            return ResponseEntity.ok()
+                    .header("Cache-Control", "no-cache")
+                    .header("X-Accel-Buffering", "no")
+                    .body(emitter);
+        } catch (IllegalStateException e) {
+            log.warn("Status feed subscription rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    /**
+     * An unparseable ID is treated as very old, so the client is told to resync.
+     */
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
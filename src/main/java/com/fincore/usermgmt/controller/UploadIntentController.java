@@ -0,0 +1,116 @@
+package com.fincore.usermgmt.controller;
+
+import com.fincore.usermgmt.dto.ErrorResponse;
+import com.fincore.usermgmt.dto.KycDocumentDTO;
+import com.fincore.usermgmt.dto.UploadIntentCreateDTO;
+import com.fincore.usermgmt.dto.UploadIntentDTO;
+import com.fincore.usermgmt.service.UploadIntentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * REST Controller for uploading KYC document files straight to storage through signed URLs.
+ */
+@RestController
+@RequestMapping("/api/kyc-documents/upload-intents")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "KYC Document Direct Upload", description = "Signed URLs for uploading KYC document files straight to storage")
+@SecurityRequirement(name = "bearerAuth")
+public class UploadIntentController {
+
+    private final UploadIntentService uploadIntentService;
+
+    /**
+     * Get a signed URL to upload a document file to.
+     */
+    @PostMapping
+    @Operation(
+        summary = "Start a direct upload",
+        description = "Returns a short-lived signed URL. PUT the file to it with the returned headers, then " +
+                "complete the intent to create the KYC document. The file does not pass through this API."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Upload URL issued",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = UploadIntentDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input data, or file too large",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<UploadIntentDTO> createIntent(
+            @Parameter(description = "File to upload and the document to create for it", required = true)
+            @Valid @RequestBody UploadIntentCreateDTO createDTO) throws IOException {
+        log.info("REST request to start direct upload of {} for organisation: {}",
+                createDTO.getFileName(), createDTO.getOrganisationId());
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(uploadIntentService.createIntent(createDTO));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid direct upload request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Create the KYC document for an uploaded file.
+     */
+    @PostMapping("/{id}/complete")
+    @Operation(
+        summary = "Complete a direct upload",
+        description = "Checks the uploaded file against the declared size and MD5 and creates the KYC document. " +
+                "Completing again returns the same document."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Document created",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = KycDocumentDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Upload intent not found"),
+        @ApiResponse(responseCode = "409", description = "File not uploaded or not matching, or the intent has expired",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<KycDocumentDTO> completeIntent(
+            @Parameter(description = "Upload intent ID", required = true) @PathVariable String id) throws IOException {
+        if (uploadIntentService.getIntent(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        log.info("REST request to complete direct upload {}", id);
+        return ResponseEntity.ok(uploadIntentService.complete(id));
+    }
+
+    /**
+     * Get a direct upload.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get a direct upload", description = "Returns the status of a direct upload and the document created for it")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Upload intent found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = UploadIntentDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Upload intent not found")
+    })
+    public ResponseEntity<UploadIntentDTO> getIntent(
+            @Parameter(description = "Upload intent ID", required = true) @PathVariable String id) {
+        return uploadIntentService.getIntent(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -6,6 +6,7 @@ import com.fincore.usermgmt.dto.UserDTO;
 import com.fincore.usermgmt.dto.UserUpdateDTO;
 import com.fincore.usermgmt.service.UserService;
 import com.fincore.usermgmt.util.RoleSecurity;
+import com.fincore.usermgmt.util.ResourceVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,10 +21,12 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.stream.Collectors;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/users")
@@ -60,14 +63,20 @@ public class UserController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved user",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = UserDTO.class))),
+        @ApiResponse(responseCode = "304", description = "Not modified since the If-None-Match ETag or If-Modified-Since date"),
         @ApiResponse(responseCode = "404", description = "User not found"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<UserDTO> getUserById(
         @Parameter(description = "User ID", required = true, example = "1")
-        @PathVariable Long id
+        @PathVariable Long id,
+        WebRequest webRequest
     ) {
+        Optional<ResourceVersion> version = userService.getUserVersion(id);
+        if (version.isPresent() && version.get().checkNotModified(webRequest)) {
+            return null; // 304 already prepared
+        }
         return userService.getUserById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -117,7 +126,8 @@ public class UserController {
     @PutMapping("/{id}")
     @Operation(
         summary = "Update user",
-        description = "Updates an existing user's information. Users with protected roles (ADMIN, SUPER_ADMIN, SYSTEM_ADMINISTRATOR) cannot be modified."
+        description = "Updates an existing user's information. Users with protected roles (ADMIN, SUPER_ADMIN, SYSTEM_ADMINISTRATOR) cannot be modified. " +
+                "Send If-Match with the ETag from GET to avoid overwriting a concurrent change."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "User updated successfully",
@@ -127,6 +137,8 @@ public class UserController {
         @ApiResponse(responseCode = "403", description = "Forbidden - Cannot modify users with protected roles",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "404", description = "User not found"),
+        @ApiResponse(responseCode = "412", description = "Changed since the If-Match ETag was read",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -134,8 +146,14 @@ public class UserController {
         @Parameter(description = "User ID", required = true, example = "1")
         @PathVariable Long id,
         @Parameter(description = "User update data", required = true)
-        @Valid @RequestBody UserUpdateDTO userUpdateDTO
+        @Valid @RequestBody UserUpdateDTO userUpdateDTO,
+        WebRequest webRequest
     ) {
+        Optional<ResourceVersion> current = userService.getUserVersion(id);
+        if (current.isPresent() && current.get().checkNotModified(webRequest)) {
+            return null; // 412 already prepared
+        }
+        Long expectedVersion = current.map(version -> version.expectedVersion(webRequest)).orElse(null);
         // Check if user exists and has protected role
         return userService.getUserById(id)
                 .map(existingUser -> {
@@ -147,7 +165,7 @@ public class UserController {
                                 ));
                     }
                     try {
-                        UserDTO updatedUser = userService.updateUser(id, userUpdateDTO);
+                        UserDTO updatedUser = userService.updateUser(id, userUpdateDTO, expectedVersion);
                         return ResponseEntity.ok((Object) updatedUser);
                     } catch (RuntimeException e) {
                         throw e;
@@ -0,0 +1,24 @@
+package com.fincore.usermgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for cursor (keyset) paginated response.
+ * Pass nextCursor back unchanged to fetch the following page; it is null on the last page.
+ * No total count is returned, so every page costs the same regardless of depth.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPagedResponse<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,22 @@
+package com.fincore.usermgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of creating one KYC document of a batch, in the order the documents were submitted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KycDocumentCreateResultDTO {
+    private int index;
+    private boolean created;
+    private Long documentId;
+    private String documentType;
+    private String fileName;
+    private String error;
+}
@@ -29,4 +29,5 @@ public class KycDocumentDTO {
     private String verifiedByName;
     private LocalDateTime createdDatetime;
     private LocalDateTime lastModifiedDatetime;
+    private Long version;
 }
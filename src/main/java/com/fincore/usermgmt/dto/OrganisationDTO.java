@@ -1,12 +1,15 @@
 package com.fincore.usermgmt.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * DTO for Organisation response.
@@ -34,6 +37,7 @@ public class OrganisationDTO {
     // Regulatory Information
     private String hmrcMlrNumber;
     private LocalDate hmrcExpiryDate;
+    private String hmrcExpiryStatus;
     private String fcaNumber;
     private String icoNumber;
     
@@ -66,6 +70,21 @@ public class OrganisationDTO {
     private String maxValueOfIncomingPayments;
     private String maxValueOfOutgoingPayments;
     private String productDescription;
+
+    // Transaction volumes parsed from the answers above; null where the text could not be read
+    private BigDecimal monthlyTurnoverMin;
+    private BigDecimal monthlyTurnoverMax;
+    private Long incomingTransactionCount;
+    private Long outgoingTransactionCount;
+    private BigDecimal incomingTransactionValue;
+    private BigDecimal outgoingTransactionValue;
+    private BigDecimal maxIncomingPayment;
+    private BigDecimal maxOutgoingPayment;
+
+    // Risk
+    private Integer riskScore;
+    private String riskLevel;
+    private LocalDateTime riskScoredDatetime;
     
     // Addresses
     private AddressDTO registeredAddress;
@@ -78,4 +97,9 @@ public class OrganisationDTO {
     private String legacyIdentifier;
     private LocalDateTime createdDatetime;
     private LocalDateTime lastModifiedDatetime;
+    private Long version;
+
+    // Outcome of each KYC document submitted with the create request; absent otherwise
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<KycDocumentCreateResultDTO> kycDocumentResults;
 }
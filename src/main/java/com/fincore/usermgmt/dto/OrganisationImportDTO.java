@@ -0,0 +1,32 @@
+package com.fincore.usermgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for an organisation bulk import and its throughput.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganisationImportDTO {
+    private Long id;
+    private String fileName;
+    private String format;
+    private String status;
+    private long checkpointRow;
+    private long rowsProcessed;
+    private long importedCount;
+    private long duplicateCount;
+    private long errorCount;
+    private long durationMillis;
+    private double rowsPerSecond;
+    private String failureReason;
+    private LocalDateTime startedDatetime;
+    private LocalDateTime completedDatetime;
+}
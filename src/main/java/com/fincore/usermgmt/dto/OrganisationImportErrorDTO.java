@@ -0,0 +1,19 @@
+package com.fincore.usermgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a row of an organisation import that could not be imported.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganisationImportErrorDTO {
+    private long rowNumber;
+    private String legacyIdentifier;
+    private String message;
+}
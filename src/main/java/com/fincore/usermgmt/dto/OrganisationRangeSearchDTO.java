@@ -0,0 +1,36 @@
+package com.fincore.usermgmt.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for searching organisations by ranges over their typed transaction volumes,
+ * e.g. every active organisation with outgoing transaction value over 1,000,000.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganisationRangeSearchDTO {
+
+    @Valid
+    @NotEmpty(message = "At least one range is required")
+    private List<RangeFilterDTO> ranges;
+
+    private String status;
+    private String organisationType;
+    @Builder.Default
+    private int page = 0;
+    @Builder.Default
+    private int size = 20;
+    @Builder.Default
+    private String sortBy = "legalName";
+    @Builder.Default
+    private String sortDirection = "ASC";
+}
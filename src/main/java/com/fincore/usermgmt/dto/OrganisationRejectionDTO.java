@@ -22,6 +22,12 @@ public class OrganisationRejectionDTO {
     @NotEmpty(message = "At least one document must be rejected")
     private List<DocumentRejection> documentRejections;
 
+    /**
+     * Organisation version the reviewer saw (optional).
+     * The rejection fails with 409 if the organisation has changed since.
+     */
+    private Long version;
+
     /**
      * Individual document rejection with reason.
      */
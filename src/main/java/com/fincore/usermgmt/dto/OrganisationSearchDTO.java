@@ -21,4 +21,5 @@ public class OrganisationSearchDTO {
     private int size = 20;
     private String sortBy = "legalName";
     private String sortDirection = "ASC";
+    private String cursor;
 }
@@ -0,0 +1,23 @@
+package com.fincore.usermgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO for dashboard organisation counts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganisationStatsDTO {
+    private long totalOrganisations;
+    private Map<String, Long> countsByStatus;
+    private Map<String, Long> countsByType;
+    private LocalDateTime lastReconciledDatetime;
+}
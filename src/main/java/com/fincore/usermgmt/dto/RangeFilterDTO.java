@@ -0,0 +1,26 @@
+package com.fincore.usermgmt.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Inclusive range over one typed organisation field. Either bound may be omitted, not both.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RangeFilterDTO {
+
+    @NotBlank(message = "Field is required")
+    private String field;
+
+    private BigDecimal min;
+
+    private BigDecimal max;
+}
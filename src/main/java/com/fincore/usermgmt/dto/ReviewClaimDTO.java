@@ -0,0 +1,22 @@
+package com.fincore.usermgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for an organisation claimed from the reviewer work queue.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewClaimDTO {
+    private OrganisationDTO organisation;
+    private LocalDateTime enqueuedDatetime;
+    private LocalDateTime claimedDatetime;
+    private LocalDateTime leaseExpiresDatetime;
+}
@@ -0,0 +1,29 @@
+package com.fincore.usermgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a completed organisation risk scoring run.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RiskScoringRunDTO {
+    private Long id;
+    private String modelName;
+    private boolean incremental;
+    private LocalDateTime modifiedSince;
+    private LocalDateTime startedDatetime;
+    private LocalDateTime completedDatetime;
+    private long organisationsScored;
+    private long highRiskCount;
+    private int chunkCount;
+    private long durationMillis;
+    private double organisationsPerSecond;
+}
@@ -0,0 +1,21 @@
+package com.fincore.usermgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a SIC section with its divisions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SicSectionDTO {
+    private String code;
+    private String title;
+    private List<SicDivisionDTO> divisions;
+}
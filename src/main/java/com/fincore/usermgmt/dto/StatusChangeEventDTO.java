@@ -0,0 +1,30 @@
+package com.fincore.usermgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for a committed organisation or KYC document status change pushed on the status feed.
+ * For bulk KYC document transitions documentId is null and documentCount holds the number of documents moved.
+ * For HMRC expiry events organisationIds holds every organisation marked in the batch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatusChangeEventDTO {
+    private long eventId;
+    private String eventType;
+    private Long organisationId;
+    private Long documentId;
+    private Integer documentCount;
+    private List<Long> organisationIds;
+    private String previousStatus;
+    private String status;
+    private LocalDateTime occurredAt;
+}
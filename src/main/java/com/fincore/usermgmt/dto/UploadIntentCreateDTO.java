@@ -0,0 +1,48 @@
+package com.fincore.usermgmt.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for requesting a signed URL to upload a KYC document file to directly.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadIntentCreateDTO {
+
+    @NotNull(message = "Organisation ID is required")
+    private Long organisationId;
+
+    private Integer verificationIdentifier;
+
+    @NotBlank(message = "Document type is required")
+    private String documentType;
+
+    @Size(max = 100, message = "Sumsub document identifier must not exceed 100 characters")
+    private String sumsubDocumentIdentifier;
+
+    @NotBlank(message = "File name is required")
+    @Size(max = 255, message = "File name must not exceed 255 characters")
+    private String fileName;
+
+    @NotBlank(message = "Content type is required")
+    @Size(max = 100, message = "Content type must not exceed 100 characters")
+    private String contentType;
+
+    @NotNull(message = "File size is required")
+    @Positive(message = "File size must be positive")
+    private Long size;
+
+    @NotBlank(message = "Content MD5 is required")
+    @Pattern(regexp = "^[A-Za-z0-9+/]{22}==$", message = "Content MD5 must be the base64 MD5 of the file")
+    private String contentMd5;
+}
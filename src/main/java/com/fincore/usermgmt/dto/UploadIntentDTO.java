@@ -0,0 +1,35 @@
+package com.fincore.usermgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO for a direct upload of a KYC document file. The upload fields are only returned when
+ * the intent is created: PUT the file to uploadUrl with uploadHeaders before expiresDatetime,
+ * then complete the intent.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadIntentDTO {
+    private String id;
+    private Long organisationId;
+    private String documentType;
+    private String fileName;
+    private String contentType;
+    private long size;
+    private String status;
+    private String uploadUrl;
+    private String uploadMethod;
+    private Map<String, String> uploadHeaders;
+    private LocalDateTime expiresDatetime;
+    private Long documentId;
+    private LocalDateTime createdDatetime;
+    private LocalDateTime completedDatetime;
+}
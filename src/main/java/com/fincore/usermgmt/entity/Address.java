@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -55,6 +56,14 @@ public class Address {
     @Column(name = "Created_By")
     private Long createdBy;
 
+    @Column(name = "Last_Modified_Datetime")
+    private LocalDateTime lastModifiedDatetime;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "Version_Number", nullable = false)
+    private Long version;
+
     /**
      * Get the address type as enum.
      */
@@ -73,8 +82,14 @@ public class Address {
     @PrePersist
     protected void onCreate() {
         createdDatetime = LocalDateTime.now();
+        lastModifiedDatetime = createdDatetime;
         if (statusDescription == null) {
             statusDescription = "ACTIVE";
         }
     }
+
+    @PreUpdate
+    protected void onUpdate() {
+        lastModifiedDatetime = LocalDateTime.now();
+    }
 }
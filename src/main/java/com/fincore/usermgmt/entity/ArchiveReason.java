@@ -0,0 +1,20 @@
+package com.fincore.usermgmt.entity;
+
+/**
+ * Enum representing why an organisation was moved to the archive tables.
+ * Maps to Archive_Reason column in Organisation_Archive table.
+ */
+public enum ArchiveReason {
+    DELETED("Organisation deleted - kept for retrieval on demand"),
+    RETENTION("Organisation closed or rejected for longer than the retention period");
+
+    private final String description;
+
+    ArchiveReason(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,62 @@
+package com.fincore.usermgmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * A KYC document moved out of the KYC_Documents table with its archived organisation.
+ * The full document, as it was returned by the API when archived, is held as a JSON snapshot.
+ */
+@Entity
+@Table(name = "kyc_documents_archive", indexes = {
+        @Index(name = "idx_kyc_archive_reference", columnList = "Reference_Identifier")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedKycDocument implements Persistable<Long> {
+
+    @Id
+    @Column(name = "Document_Identifier")
+    private Long id;
+
+    @Column(name = "Reference_Identifier", nullable = false)
+    private Long organisationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Document_Type_Description", length = 50)
+    private DocumentType documentType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Status_Description", length = 20)
+    private DocumentStatus status;
+
+    @Column(name = "Archived_Datetime", nullable = false)
+    private LocalDateTime archivedDatetime;
+
+    @Column(name = "Document_Snapshot", nullable = false, columnDefinition = "TEXT")
+    private String snapshot;
+
+    // IDs are copied from the hot table, so save() must not merge (and SELECT) each new row
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        newEntity = false;
+    }
+}
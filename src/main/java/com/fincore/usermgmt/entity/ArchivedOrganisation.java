@@ -0,0 +1,78 @@
+package com.fincore.usermgmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * An organisation moved out of the Organisation table, together with its addresses.
+ * The identifying columns are kept for lookups; the full organisation, as it was
+ * returned by the API when archived, is held as a JSON snapshot.
+ */
+@Entity
+@Table(name = "organisation_archive", indexes = {
+        @Index(name = "idx_org_archive_user", columnList = "User_Identifier")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedOrganisation implements Persistable<Long> {
+
+    @Id
+    @Column(name = "Organisation_Identifier")
+    private Long id;
+
+    @Column(name = "User_Identifier")
+    private Long ownerId;
+
+    @Column(name = "Legal_Name", length = 100)
+    private String legalName;
+
+    @Column(name = "Registration_Number", length = 20)
+    private String registrationNumber;
+
+    @Column(name = "Company_Number", length = 20)
+    private String companyNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Status_Description", length = 20)
+    private OrganisationStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Archive_Reason", nullable = false, length = 20)
+    private ArchiveReason archiveReason;
+
+    @Column(name = "Last_Modified_Datetime")
+    private LocalDateTime lastModifiedDatetime;
+
+    @Column(name = "Archived_Datetime", nullable = false)
+    private LocalDateTime archivedDatetime;
+
+    @Column(name = "Archived_By")
+    private Long archivedBy;
+
+    @Column(name = "Organisation_Snapshot", nullable = false, columnDefinition = "TEXT")
+    private String snapshot;
+
+    // IDs are copied from the hot table, so save() must not merge (and SELECT) each new row
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        newEntity = false;
+    }
+}
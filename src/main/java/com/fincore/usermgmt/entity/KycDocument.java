@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
  * Used for organisation verification and compliance.
  */
 @Entity
-@Table(name = "kyc_documents")
+@Table(name = "kyc_documents", indexes = {
+        @Index(name = "idx_kyc_modified", columnList = "Last_Modified_Datetime")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -68,6 +70,10 @@ public class KycDocument {
     @Column(name = "Last_Modified_By")
     private Long lastModifiedBy;
 
+    @Version
+    @Column(name = "Version_Number", nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdDatetime = LocalDateTime.now();
@@ -1,26 +1,57 @@
 package com.fincore.usermgmt.entity;
 
+import com.fincore.usermgmt.entity.enums.HmrcExpiryStatus;
+import com.fincore.usermgmt.entity.enums.RiskLevel;
+import com.fincore.usermgmt.util.AmountParser;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
  * Entity representing an organisation/business entity.
  * Supports full organisation onboarding with regulatory compliance information.
+ * The "Organisation.summary" fetch plan loads the owner and all three addresses
+ * in the same query, which is everything OrganisationMapper touches.
  */
 @Entity
-@Table(name = "organisation")
+@Table(name = "organisation", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_org_registration_number", columnNames = "Registration_Number"),
+        @UniqueConstraint(name = "uk_org_company_number", columnNames = "Company_Number"),
+        @UniqueConstraint(name = "uk_org_owner", columnNames = "User_Identifier"),
+        @UniqueConstraint(name = "uk_org_legacy_identifier", columnNames = "Legacy_Identifier")
+}, indexes = {
+        @Index(name = "idx_org_status_modified", columnList = "Status_Description, Last_Modified_Datetime"),
+        @Index(name = "idx_org_turnover", columnList = "Monthly_Turnover_Max, Monthly_Turnover_Min"),
+        @Index(name = "idx_org_incoming_value", columnList = "Incoming_Transaction_Value, Status_Description"),
+        @Index(name = "idx_org_outgoing_value", columnList = "Outgoing_Transaction_Value, Status_Description"),
+        @Index(name = "idx_org_max_incoming", columnList = "Max_Incoming_Payment, Status_Description"),
+        @Index(name = "idx_org_max_outgoing", columnList = "Max_Outgoing_Payment, Status_Description"),
+        @Index(name = "idx_org_risk", columnList = "Risk_Level, Risk_Score"),
+        @Index(name = "idx_org_modified", columnList = "Last_Modified_Datetime"),
+        @Index(name = "idx_org_risk_scored", columnList = "Risk_Scored_Datetime"),
+        @Index(name = "idx_org_hmrc_expiry", columnList = "HMRC_Expiry_Date")
+})
+@NamedEntityGraph(name = Organisation.SUMMARY_GRAPH, attributeNodes = {
+        @NamedAttributeNode("owner"),
+        @NamedAttributeNode("registeredAddress"),
+        @NamedAttributeNode("businessAddress"),
+        @NamedAttributeNode("correspondenceAddress")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Organisation {
 
+    public static final String SUMMARY_GRAPH = "Organisation.summary";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "Organisation_Identifier")
@@ -65,6 +96,11 @@ public class Organisation {
     @Column(name = "HMRC_Expiry_Date")
     private LocalDate hmrcExpiryDate;
 
+    // Set by HmrcExpiryService; null while the registration is current
+    @Enumerated(EnumType.STRING)
+    @Column(name = "HMRC_Expiry_Status", length = 20)
+    private HmrcExpiryStatus hmrcExpiryStatus;
+
     @Column(name = "FCA_Number", length = 20)
     private String fcaNumber;
 
@@ -141,6 +177,57 @@ public class Organisation {
     @Column(name = "Product_Description", length = 255)
     private String productDescription;
 
+    // Typed transaction volumes, parsed from the free-text answers above on every save
+    @Column(name = "Monthly_Turnover_Min", precision = 19, scale = 2)
+    private BigDecimal monthlyTurnoverMin;
+
+    @Column(name = "Monthly_Turnover_Max", precision = 19, scale = 2)
+    private BigDecimal monthlyTurnoverMax;
+
+    @Column(name = "Incoming_Transaction_Count")
+    private Long incomingTransactionCount;
+
+    @Column(name = "Outgoing_Transaction_Count")
+    private Long outgoingTransactionCount;
+
+    @Column(name = "Incoming_Transaction_Value", precision = 19, scale = 2)
+    private BigDecimal incomingTransactionValue;
+
+    @Column(name = "Outgoing_Transaction_Value", precision = 19, scale = 2)
+    private BigDecimal outgoingTransactionValue;
+
+    @Column(name = "Max_Incoming_Payment", precision = 19, scale = 2)
+    private BigDecimal maxIncomingPayment;
+
+    @Column(name = "Max_Outgoing_Payment", precision = 19, scale = 2)
+    private BigDecimal maxOutgoingPayment;
+
+    // False until the typed columns have been derived, for rows written before they existed
+    @ColumnDefault("false")
+    @Column(name = "Transaction_Volumes_Parsed", nullable = false)
+    private boolean transactionVolumesParsed;
+
+    // Set when the typed columns are derived in place for an existing row, which keeps its version
+    @Column(name = "Transaction_Volumes_Parsed_Datetime")
+    private LocalDateTime transactionVolumesParsedDatetime;
+
+    // False until the codes in SIC_Code / SIC_Codes have been written to organisation_sic_codes,
+    // which may yield no rows at all
+    @ColumnDefault("false")
+    @Column(name = "Sic_Codes_Indexed", nullable = false)
+    private boolean sicCodesIndexed;
+
+    // Risk score written by OrganisationRiskScoringService; null until first scored
+    @Column(name = "Risk_Score")
+    private Integer riskScore;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Risk_Level", length = 20)
+    private RiskLevel riskLevel;
+
+    @Column(name = "Risk_Scored_Datetime")
+    private LocalDateTime riskScoredDatetime;
+
     // Address References
     @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinColumn(name = "Registered_Address_Identifier")
@@ -177,6 +264,10 @@ public class Organisation {
     @Column(name = "Last_Modified_By")
     private Long lastModifiedBy;
 
+    @Version
+    @Column(name = "Version_Number", nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdDatetime = LocalDateTime.now();
@@ -184,10 +275,29 @@ public class Organisation {
         if (status == null) {
             status = OrganisationStatus.PENDING;
         }
+        parseTransactionVolumes();
     }
 
     @PreUpdate
     protected void onUpdate() {
         lastModifiedDatetime = LocalDateTime.now();
+        parseTransactionVolumes();
+    }
+
+    /**
+     * Derive the typed transaction volume columns from the free-text answers.
+     * A value that cannot be parsed leaves its column null; the text is kept as entered.
+     */
+    public void parseTransactionVolumes() {
+        BigDecimal[] turnover = AmountParser.parseRange(monthlyTurnoverRange);
+        monthlyTurnoverMin = turnover != null ? turnover[0] : null;
+        monthlyTurnoverMax = turnover != null ? turnover[1] : null;
+        incomingTransactionCount = AmountParser.parseCount(numberOfIncomingTransactions);
+        outgoingTransactionCount = AmountParser.parseCount(numberOfOutgoingTransactions);
+        incomingTransactionValue = AmountParser.parseAmount(valueOfIncomingTransactions);
+        outgoingTransactionValue = AmountParser.parseAmount(valueOfOutgoingTransactions);
+        maxIncomingPayment = AmountParser.parseAmount(maxValueOfIncomingPayments);
+        maxOutgoingPayment = AmountParser.parseAmount(maxValueOfOutgoingPayments);
+        transactionVolumesParsed = true;
     }
 }
@@ -0,0 +1,45 @@
+package com.fincore.usermgmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of organisations with a given status and type.
+ * Maintained by OrganisationCounterService in the same transaction as each change,
+ * so dashboard counts never need to scan the Organisation table.
+ */
+@Entity
+@Table(name = "organisation_counters", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_org_counter_status_type",
+                columnNames = {"Status_Description", "Organisation_Type_Description"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganisationCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "Counter_Identifier")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Status_Description", nullable = false, length = 30)
+    private OrganisationStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Organisation_Type_Description", nullable = false, length = 20)
+    private OrganisationType organisationType;
+
+    @Column(name = "Organisation_Count", nullable = false)
+    private Long organisationCount;
+
+    @Column(name = "Last_Modified_Datetime")
+    private LocalDateTime lastModifiedDatetime;
+}
@@ -0,0 +1,76 @@
+package com.fincore.usermgmt.entity;
+
+import com.fincore.usermgmt.entity.enums.ImportFormat;
+import com.fincore.usermgmt.entity.enums.ImportStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A bulk import of legacy organisations from a file, with its checkpoint and counts.
+ * Each chunk of rows is committed together with the checkpoint, so a resumed import
+ * skips every row up to Checkpoint_Row and never writes a row twice.
+ */
+@Entity
+@Table(name = "organisation_imports", indexes = {
+        @Index(name = "idx_org_import_started", columnList = "Started_Datetime")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganisationImport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "Import_Identifier")
+    private Long id;
+
+    @Column(name = "File_Name", length = 255)
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Import_Format", nullable = false, length = 10)
+    private ImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Status_Description", nullable = false, length = 20)
+    private ImportStatus status;
+
+    // Last row committed; rows up to and including it are skipped on resume
+    @Column(name = "Checkpoint_Row", nullable = false)
+    private long checkpointRow;
+
+    @Column(name = "Imported_Count", nullable = false)
+    private long importedCount;
+
+    // Rows whose Legacy_Identifier was already imported
+    @Column(name = "Duplicate_Count", nullable = false)
+    private long duplicateCount;
+
+    @Column(name = "Error_Count", nullable = false)
+    private long errorCount;
+
+    // Time spent importing, summed over every pass of a resumed import
+    @Column(name = "Duration_Millis", nullable = false)
+    private long durationMillis;
+
+    @Column(name = "Failure_Reason", length = 255)
+    private String failureReason;
+
+    @Column(name = "Started_Datetime", nullable = false)
+    private LocalDateTime startedDatetime;
+
+    @Column(name = "Completed_Datetime")
+    private LocalDateTime completedDatetime;
+
+    @Column(name = "Last_Modified_Datetime")
+    private LocalDateTime lastModifiedDatetime;
+
+    @Column(name = "Created_By")
+    private Long createdBy;
+}
@@ -0,0 +1,38 @@
+package com.fincore.usermgmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A row of an organisation import that could not be imported.
+ */
+@Entity
+@Table(name = "organisation_import_errors", indexes = {
+        @Index(name = "idx_org_import_error_row", columnList = "Import_Identifier, Source_Row")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganisationImportError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "Error_Identifier")
+    private Long id;
+
+    @Column(name = "Import_Identifier", nullable = false)
+    private Long importId;
+
+    @Column(name = "Source_Row", nullable = false)
+    private long rowNumber;
+
+    @Column(name = "Legacy_Identifier", length = 20)
+    private String legacyIdentifier;
+
+    @Column(name = "Message", nullable = false, length = 255)
+    private String message;
+}
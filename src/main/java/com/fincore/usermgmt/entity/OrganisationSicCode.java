@@ -0,0 +1,40 @@
+package com.fincore.usermgmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One SIC code of an organisation, normalised to its 5-digit subclass.
+ * Derived from Organisation.sicCode and Organisation.sicCodes by OrganisationSicCodeService;
+ * the (SIC_Code, Organisation_Identifier) index answers lookups at any level of the hierarchy.
+ */
+@Entity
+@Table(name = "organisation_sic_codes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_org_sic_code", columnNames = {"Organisation_Identifier", "SIC_Code"})
+}, indexes = {
+        @Index(name = "idx_org_sic_code", columnList = "SIC_Code, Organisation_Identifier")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganisationSicCode {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "Sic_Code_Identifier")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "Organisation_Identifier", nullable = false)
+    private Organisation organisation;
+
+    @Column(name = "SIC_Code", nullable = false, length = 5)
+    private String sicCode;
+
+    @Column(name = "Primary_Code", nullable = false)
+    private boolean primaryCode;
+}
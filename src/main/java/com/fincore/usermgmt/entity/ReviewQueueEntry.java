@@ -0,0 +1,44 @@
+package com.fincore.usermgmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * An organisation waiting in the reviewer work queue, one row per organisation UNDER_REVIEW.
+ * A reviewer holds a claim until Lease_Expires_Datetime; heartbeats extend the lease and
+ * an expired lease makes the organisation available to the next reviewer.
+ * Claims live here rather than on the organisation so claiming never locks organisation rows.
+ */
+@Entity
+@Table(name = "review_queue", indexes = {
+        @Index(name = "idx_review_queue_enqueued", columnList = "Enqueued_Datetime, Organisation_Identifier"),
+        @Index(name = "idx_review_queue_reviewer", columnList = "Reviewer_Identifier, Lease_Expires_Datetime")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewQueueEntry {
+
+    @Id
+    @Column(name = "Organisation_Identifier")
+    private Long organisationId;
+
+    @Column(name = "Enqueued_Datetime", nullable = false)
+    private LocalDateTime enqueuedDatetime;
+
+    // User holding the claim; null while unclaimed
+    @Column(name = "Reviewer_Identifier")
+    private Long reviewerId;
+
+    @Column(name = "Claimed_Datetime")
+    private LocalDateTime claimedDatetime;
+
+    @Column(name = "Lease_Expires_Datetime")
+    private LocalDateTime leaseExpiresDatetime;
+}
@@ -0,0 +1,60 @@
+package com.fincore.usermgmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A completed organisation risk scoring run with its throughput.
+ * The start time of the latest run is the high-water mark for the next incremental run.
+ */
+@Entity
+@Table(name = "risk_scoring_runs", indexes = {
+        @Index(name = "idx_risk_run_started", columnList = "Started_Datetime")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RiskScoringRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "Run_Identifier")
+    private Long id;
+
+    @Column(name = "Model_Name", nullable = false, length = 50)
+    private String modelName;
+
+    @Column(name = "Incremental", nullable = false)
+    private boolean incremental;
+
+    // Organisations changed at or after this time were re-scored; null for a full run
+    @Column(name = "Modified_Since")
+    private LocalDateTime modifiedSince;
+
+    @Column(name = "Started_Datetime", nullable = false)
+    private LocalDateTime startedDatetime;
+
+    @Column(name = "Completed_Datetime", nullable = false)
+    private LocalDateTime completedDatetime;
+
+    @Column(name = "Organisations_Scored", nullable = false)
+    private long organisationsScored;
+
+    @Column(name = "High_Risk_Count", nullable = false)
+    private long highRiskCount;
+
+    @Column(name = "Chunk_Count", nullable = false)
+    private int chunkCount;
+
+    @Column(name = "Duration_Millis", nullable = false)
+    private long durationMillis;
+
+    @Column(name = "Organisations_Per_Second", nullable = false)
+    private double organisationsPerSecond;
+}
@@ -0,0 +1,41 @@
+package com.fincore.usermgmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * High-water mark of a scheduled scan that walks a date-ordered index.
+ * Rows up to and including (watermarkDate, watermarkIdentifier) have been processed,
+ * so the next run seeks past it instead of scanning from the start.
+ */
+@Entity
+@Table(name = "scan_watermarks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScanWatermark {
+
+    @Id
+    @Column(name = "Scan_Name", length = 50)
+    private String scanName;
+
+    @Column(name = "Watermark_Date", nullable = false)
+    private LocalDate watermarkDate;
+
+    @Column(name = "Watermark_Identifier", nullable = false)
+    private Long watermarkIdentifier;
+
+    @Column(name = "Last_Run_Datetime")
+    private LocalDateTime lastRunDatetime;
+
+    // Rows marked by the last run
+    @Column(name = "Last_Run_Count", nullable = false)
+    private int lastRunCount;
+}
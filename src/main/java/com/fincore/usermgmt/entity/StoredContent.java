@@ -0,0 +1,51 @@
+package com.fincore.usermgmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A content-addressed file in storage, named after the SHA-256 of its content, with the
+ * number of KYC document rows that reference it. Uploads of content already stored reuse
+ * the file instead of storing it again. Files left unreferenced for a grace period are deleted.
+ */
+@Entity
+@Table(name = "stored_contents", indexes = {
+        @Index(name = "idx_stored_content_unreferenced", columnList = "Reference_Count, Last_Modified_Datetime")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredContent {
+
+    // Name of the file in the storage backend, e.g. kyc-documents/sha256/<hash>
+    @Id
+    @Column(name = "Storage_Name", length = 255)
+    private String name;
+
+    // Hex SHA-256, or md5:<hex> for files uploaded straight to storage and checked by their MD5
+    @Column(name = "Content_Hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "Size_Bytes", nullable = false)
+    private long size;
+
+    @Column(name = "Content_Type", length = 100)
+    private String contentType;
+
+    // KYC document rows, live or archived, whose File_URL points at this file
+    @Column(name = "Reference_Count", nullable = false)
+    private int referenceCount;
+
+    @Column(name = "Created_Datetime", nullable = false)
+    private LocalDateTime createdDatetime;
+
+    // Last upload or reference change; unreferenced files are kept for a grace period after it
+    @Column(name = "Last_Modified_Datetime", nullable = false)
+    private LocalDateTime lastModifiedDatetime;
+}
@@ -0,0 +1,80 @@
+package com.fincore.usermgmt.entity;
+
+import com.fincore.usermgmt.entity.enums.UploadIntentStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A KYC document file being uploaded straight to storage through a signed URL. The document
+ * row is only created once the client completes the intent and the stored file matches the
+ * declared size and MD5.
+ */
+@Entity
+@Table(name = "upload_intents", indexes = {
+        @Index(name = "idx_upload_intent_expiry", columnList = "Status_Description, Expires_Datetime")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadIntent {
+
+    // Random UUID; it is also part of the storage name, so it must not be guessable
+    @Id
+    @Column(name = "Intent_Identifier", length = 36)
+    private String id;
+
+    @Column(name = "Organisation_Identifier", nullable = false)
+    private Long organisationId;
+
+    @Column(name = "Document_Type_Description", nullable = false, length = 50)
+    private String documentType;
+
+    @Column(name = "File_Name", length = 255)
+    private String fileName;
+
+    @Column(name = "Content_Type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "Size_Bytes", nullable = false)
+    private long size;
+
+    // Base64, as sent in the Content-MD5 header
+    @Column(name = "Content_MD5", nullable = false, length = 24)
+    private String contentMd5;
+
+    @Column(name = "Storage_Name", nullable = false, length = 255)
+    private String storageName;
+
+    @Column(name = "Verification_Identifier")
+    private Integer verificationIdentifier;
+
+    @Column(name = "Sumsub_Document_Identifier", length = 100)
+    private String sumsubDocumentIdentifier;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Status_Description", nullable = false, length = 20)
+    private UploadIntentStatus status;
+
+    // When the upload URL stops accepting uploads
+    @Column(name = "Expires_Datetime", nullable = false)
+    private LocalDateTime expiresDatetime;
+
+    // KYC document created on completion
+    @Column(name = "Document_Identifier")
+    private Long documentId;
+
+    @Column(name = "Created_Datetime", nullable = false)
+    private LocalDateTime createdDatetime;
+
+    @Column(name = "Completed_Datetime")
+    private LocalDateTime completedDatetime;
+
+    @Column(name = "Created_By")
+    private Long createdBy;
+}
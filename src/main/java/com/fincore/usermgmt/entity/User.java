@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -57,14 +58,22 @@ public class User {
     @Column(name = "Last_Modified_Datetime")
     private LocalDateTime lastModifiedDatetime;
 
+    // Change counter for ETags. Not a JPA @Version: User.builder().id(..) references
+    // have no version and would be treated as unsaved instances.
+    @ColumnDefault("0")
+    @Column(name = "Version_Number", nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdDatetime = LocalDateTime.now();
         lastModifiedDatetime = LocalDateTime.now();
+        version = 0L;
     }
 
     @PreUpdate
     protected void onUpdate() {
         lastModifiedDatetime = LocalDateTime.now();
+        version = version != null ? version + 1 : 1L;
     }
 }
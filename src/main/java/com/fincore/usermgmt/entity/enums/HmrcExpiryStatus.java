@@ -0,0 +1,20 @@
+package com.fincore.usermgmt.entity.enums;
+
+/**
+ * Enumeration representing how close an organisation's HMRC registration is to expiry.
+ * Null on the organisation means the registration is current.
+ */
+public enum HmrcExpiryStatus {
+    EXPIRING_SOON("HMRC registration expires within the warning window"),
+    EXPIRED("HMRC registration has expired");
+
+    private final String description;
+
+    HmrcExpiryStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
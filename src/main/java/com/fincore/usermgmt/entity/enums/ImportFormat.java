@@ -0,0 +1,62 @@
+package com.fincore.usermgmt.entity.enums;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * File formats accepted by the organisation bulk import.
+ */
+public enum ImportFormat {
+    CSV("Comma-separated values with a header row of OrganisationCreateDTO property names"),
+    NDJSON("One OrganisationCreateDTO JSON object per line");
+
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    private final String description;
+
+    ImportFormat(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Infer the format from the Content-Type of an uploaded body.
+     * @return empty for types that do not identify a format, such as application/octet-stream
+     * @throws IllegalArgumentException if the Content-Type cannot be parsed
+     */
+    public static Optional<ImportFormat> fromContentType(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        String type = (mediaType.getType() + "/" + mediaType.getSubtype()).toLowerCase(Locale.ROOT);
+        if (type.equals(CSV_MEDIA_TYPE)) {
+            return Optional.of(CSV);
+        }
+        if (type.equals(NDJSON_MEDIA_TYPE)) {
+            return Optional.of(NDJSON);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Infer the format from a file name extension.
+     * @throws IllegalArgumentException if the extension is not recognised
+     */
+    public static ImportFormat fromFileName(String fileName) {
+        String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Cannot infer import format from file name: " + fileName);
+    }
+}
@@ -0,0 +1,20 @@
+package com.fincore.usermgmt.entity.enums;
+
+/**
+ * Enumeration representing the state of an organisation bulk import
+ */
+public enum ImportStatus {
+    RUNNING("Import in progress, or interrupted before it could be marked failed"),
+    COMPLETED("Every row of the file has been processed"),
+    FAILED("Import stopped before the end of the file - resume from the checkpoint");
+
+    private final String description;
+
+    ImportStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,21 @@
+package com.fincore.usermgmt.entity.enums;
+
+/**
+ * Enumeration representing the state of a direct upload to a signed URL
+ */
+public enum UploadIntentStatus {
+    PENDING("Upload URL issued; waiting for the client to upload and complete"),
+    COMPLETED("Upload verified and the KYC document created"),
+    FAILED("Uploaded file did not match the declared size or MD5 and was deleted"),
+    EXPIRED("Not completed in time; any uploaded file was deleted");
+
+    private final String description;
+
+    UploadIntentStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
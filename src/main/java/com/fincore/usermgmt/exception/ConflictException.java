@@ -0,0 +1,16 @@
+package com.fincore.usermgmt.exception;
+
+/**
+ * Thrown when a request conflicts with the current state of a resource,
+ * such as a duplicate unique identifier. Mapped to HTTP 409 by GlobalExceptionHandler.
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.fincore.usermgmt.exception;
+
+/**
+ * Thrown when an If-Match precondition no longer holds because the resource
+ * changed after the client read it. Mapped to HTTP 412 by GlobalExceptionHandler.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -22,12 +22,16 @@ public interface AddressMapper {
     @Mapping(target = "statusDescription", constant = "ACTIVE")
     @Mapping(target = "createdDatetime", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "lastModifiedDatetime", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Address toAddress(AddressCreateDTO addressCreateDTO);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "statusDescription", ignore = true)
     @Mapping(target = "createdDatetime", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "lastModifiedDatetime", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateAddressFromDto(AddressCreateDTO dto, @MappingTarget Address address);
 
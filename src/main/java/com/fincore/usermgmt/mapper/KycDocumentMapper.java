@@ -34,6 +34,7 @@ public interface KycDocumentMapper {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "lastModifiedDatetime", ignore = true)
     @Mapping(target = "lastModifiedBy", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "documentType", source = "documentType", qualifiedByName = "stringToDocumentType")
     KycDocument toKycDocument(KycDocumentCreateDTO dto);
 
@@ -45,6 +46,7 @@ public interface KycDocumentMapper {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "lastModifiedDatetime", ignore = true)
     @Mapping(target = "lastModifiedBy", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "verificationIdentifier", ignore = true)
     @Mapping(target = "status", source = "status", qualifiedByName = "stringToStatus")
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
@@ -24,6 +24,7 @@ public interface OrganisationMapper {
     @Mapping(target = "registeredAddress", source = "registeredAddress")
     @Mapping(target = "businessAddress", source = "businessAddress")
     @Mapping(target = "correspondenceAddress", source = "correspondenceAddress")
+    @Mapping(target = "kycDocumentResults", ignore = true)
     OrganisationDTO toOrganisationDTO(Organisation organisation);
 
     @Mapping(target = "id", ignore = true)
@@ -36,6 +37,22 @@ public interface OrganisationMapper {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "lastModifiedDatetime", ignore = true)
     @Mapping(target = "lastModifiedBy", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "monthlyTurnoverMin", ignore = true)
+    @Mapping(target = "monthlyTurnoverMax", ignore = true)
+    @Mapping(target = "incomingTransactionCount", ignore = true)
+    @Mapping(target = "outgoingTransactionCount", ignore = true)
+    @Mapping(target = "incomingTransactionValue", ignore = true)
+    @Mapping(target = "outgoingTransactionValue", ignore = true)
+    @Mapping(target = "maxIncomingPayment", ignore = true)
+    @Mapping(target = "maxOutgoingPayment", ignore = true)
+    @Mapping(target = "transactionVolumesParsed", ignore = true)
+    @Mapping(target = "transactionVolumesParsedDatetime", ignore = true)
+    @Mapping(target = "sicCodesIndexed", ignore = true)
+    @Mapping(target = "riskScore", ignore = true)
+    @Mapping(target = "riskLevel", ignore = true)
+    @Mapping(target = "riskScoredDatetime", ignore = true)
+    @Mapping(target = "hmrcExpiryStatus", ignore = true)
     @Mapping(target = "organisationType", source = "organisationType", qualifiedByName = "stringToOrganisationType")
     Organisation toOrganisation(OrganisationCreateDTO dto);
 
@@ -48,6 +65,22 @@ public interface OrganisationMapper {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "lastModifiedDatetime", ignore = true)
     @Mapping(target = "lastModifiedBy", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "monthlyTurnoverMin", ignore = true)
+    @Mapping(target = "monthlyTurnoverMax", ignore = true)
+    @Mapping(target = "incomingTransactionCount", ignore = true)
+    @Mapping(target = "outgoingTransactionCount", ignore = true)
+    @Mapping(target = "incomingTransactionValue", ignore = true)
+    @Mapping(target = "outgoingTransactionValue", ignore = true)
+    @Mapping(target = "maxIncomingPayment", ignore = true)
+    @Mapping(target = "maxOutgoingPayment", ignore = true)
+    @Mapping(target = "transactionVolumesParsed", ignore = true)
+    @Mapping(target = "transactionVolumesParsedDatetime", ignore = true)
+    @Mapping(target = "sicCodesIndexed", ignore = true)
+    @Mapping(target = "riskScore", ignore = true)
+    @Mapping(target = "riskLevel", ignore = true)
+    @Mapping(target = "riskScoredDatetime", ignore = true)
+    @Mapping(target = "hmrcExpiryStatus", ignore = true)
     @Mapping(target = "organisationType", source = "organisationType", qualifiedByName = "stringToOrganisationType")
     @Mapping(target = "status", source = "status", qualifiedByName = "stringToStatus")
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
@@ -27,6 +27,7 @@ public interface UserMapper {
     @Mapping(target = "postalAddressIdentifier", ignore = true)
     @Mapping(target = "createdDatetime", ignore = true)
     @Mapping(target = "lastModifiedDatetime", ignore = true)
+    @Mapping(target = "version", ignore = true)
     User toUser(UserCreateDTO userCreateDTO);
 
     @Mapping(target = "id", ignore = true)
@@ -35,6 +36,7 @@ public interface UserMapper {
     @Mapping(target = "postalAddressIdentifier", ignore = true)
     @Mapping(target = "createdDatetime", ignore = true)
     @Mapping(target = "lastModifiedDatetime", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateUserFromDto(UserUpdateDTO userUpdateDTO, @MappingTarget User user);
 }
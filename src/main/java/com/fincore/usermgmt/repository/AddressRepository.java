@@ -2,8 +2,12 @@ package com.fincore.usermgmt.repository;
 
 import com.fincore.usermgmt.entity.Address;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -53,4 +57,20 @@ public interface AddressRepository extends JpaRepository<Address, Long> {
      * @return list of addresses created by the user
      */
     List<Address> findByCreatedBy(Long createdBy);
+
+    /**
+     * Load the version columns of an address, for answering conditional requests without loading it.
+     * @return at most one row of [version, lastModified]
+     */
+    @Query("SELECT a.version, a.lastModifiedDatetime FROM Address a WHERE a.id = :id")
+    List<Object[]> findVersionById(@Param("id") Long id);
+
+    /**
+     * Delete addresses in a single statement, once their organisations have been archived.
+     * @param ids address IDs
+     * @return number of addresses deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Address a WHERE a.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,21 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.ArchivedKycDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for KYC documents moved to the archive tables.
+ */
+@Repository
+public interface ArchivedKycDocumentRepository extends JpaRepository<ArchivedKycDocument, Long> {
+
+    /**
+     * Find the archived documents of an archived organisation.
+     * @param organisationId the organisation ID
+     * @return archived documents in ID order
+     */
+    List<ArchivedKycDocument> findByOrganisationIdOrderById(Long organisationId);
+}
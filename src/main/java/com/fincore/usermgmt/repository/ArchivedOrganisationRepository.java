@@ -0,0 +1,22 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.ArchivedOrganisation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for organisations moved to the archive tables.
+ */
+@Repository
+public interface ArchivedOrganisationRepository extends JpaRepository<ArchivedOrganisation, Long> {
+
+    /**
+     * Find archived organisations of an owner.
+     * @param ownerId the owner user ID
+     * @param pageable pagination information
+     * @return page of archived organisations
+     */
+    Page<ArchivedOrganisation> findByOwnerId(Long ownerId, Pageable pageable);
+}
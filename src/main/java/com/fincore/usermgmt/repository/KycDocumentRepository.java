@@ -6,10 +6,13 @@ import com.fincore.usermgmt.entity.KycDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +20,7 @@ import java.util.Optional;
  * Repository for KycDocument entity operations.
  */
 @Repository
-public interface KycDocumentRepository extends JpaRepository<KycDocument, Long> {
+public interface KycDocumentRepository extends JpaRepository<KycDocument, Long>, KycDocumentRepositoryCustom {
 
     /**
      * Find documents by organisation.
@@ -27,6 +30,15 @@ public interface KycDocumentRepository extends JpaRepository<KycDocument, Long>
     @Query("SELECT d FROM KycDocument d WHERE d.organisation.id = :organisationId")
     List<KycDocument> findByOrganisationId(@Param("organisationId") Long organisationId);
 
+    /**
+     * Find the documents of several organisations with what the DTO mapping reads.
+     * @param organisationIds the organisation IDs
+     * @return documents of those organisations
+     */
+    @Query("SELECT d FROM KycDocument d JOIN FETCH d.organisation LEFT JOIN FETCH d.verifiedBy " +
+           "WHERE d.organisation.id IN :organisationIds ORDER BY d.id")
+    List<KycDocument> findWithDetailsByOrganisationIdIn(@Param("organisationIds") Collection<Long> organisationIds);
+
     /**
      * Find documents by organisation with pagination.
      * @param organisationId the organisation ID
@@ -104,4 +116,83 @@ public interface KycDocumentRepository extends JpaRepository<KycDocument, Long>
      */
     @Query("SELECT COUNT(d) FROM KycDocument d WHERE d.organisation.id = :organisationId AND d.status = 'VERIFIED'")
     long countVerifiedDocumentsByOrganisation(@Param("organisationId") Long organisationId);
+
+    /**
+     * Set the status of every document of an organisation in a single UPDATE.
+     * @param organisationId the organisation ID
+     * @param status the new document status
+     * @param modifiedAt last modified timestamp to record
+     * @return number of documents updated
+     */
+    @Modifying
+    @Query("UPDATE KycDocument d SET d.status = :status, d.lastModifiedDatetime = :modifiedAt, " +
+           "d.version = d.version + 1 " +
+           "WHERE d.organisation.id = :organisationId")
+    int updateStatusByOrganisationId(
+            @Param("organisationId") Long organisationId,
+            @Param("status") DocumentStatus status,
+            @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    /**
+     * Verify every document of an organisation except the given ones and clear their reasons.
+     * @param organisationId the organisation ID
+     * @param excludedIds document IDs to leave untouched (must not be empty)
+     * @param modifiedAt last modified timestamp to record
+     * @return number of documents verified
+     */
+    @Modifying
+    @Query("UPDATE KycDocument d SET d.status = com.fincore.usermgmt.entity.DocumentStatus.VERIFIED, " +
+           "d.reasonDescription = NULL, d.lastModifiedDatetime = :modifiedAt, d.version = d.version + 1 " +
+           "WHERE d.organisation.id = :organisationId AND d.id NOT IN :excludedIds")
+    int verifyByOrganisationIdExcluding(
+            @Param("organisationId") Long organisationId,
+            @Param("excludedIds") Collection<Long> excludedIds,
+            @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    /**
+     * Verify every document of an organisation and clear their reasons.
+     * @param organisationId the organisation ID
+     * @param modifiedAt last modified timestamp to record
+     * @return number of documents verified
+     */
+    @Modifying
+    @Query("UPDATE KycDocument d SET d.status = com.fincore.usermgmt.entity.DocumentStatus.VERIFIED, " +
+           "d.reasonDescription = NULL, d.lastModifiedDatetime = :modifiedAt, d.version = d.version + 1 " +
+           "WHERE d.organisation.id = :organisationId")
+    int verifyByOrganisationId(
+            @Param("organisationId") Long organisationId,
+            @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    /**
+     * Load the version columns of a document and of the organisation and verifier named in its representation,
+     * for answering conditional requests without loading the document.
+     * @return at most one row of [version, lastModified] pairs for document, organisation and verifier
+     */
+    @Query("SELECT d.version, d.lastModifiedDatetime, o.version, o.lastModifiedDatetime, " +
+           "v.version, v.lastModifiedDatetime FROM KycDocument d " +
+           "LEFT JOIN d.organisation o LEFT JOIN d.verifiedBy v WHERE d.id = :id")
+    List<Object[]> findVersionById(@Param("id") Long id);
+
+    /**
+     * Delete every document of the given organisations in a single statement.
+     * @param organisationIds the organisation IDs
+     * @return number of documents deleted
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM KycDocument d WHERE d.organisation.id IN :organisationIds")
+    int deleteByOrganisationIdIn(@Param("organisationIds") Collection<Long> organisationIds);
+
+    /**
+     * Count the documents of several organisations per status.
+     * @return rows of [organisationId, status, count]
+     */
+    @Query("SELECT d.organisation.id, d.status, COUNT(d) FROM KycDocument d " +
+           "WHERE d.organisation.id IN :organisationIds GROUP BY d.organisation.id, d.status")
+    List<Object[]> countByOrganisationIdInGroupByStatus(@Param("organisationIds") Collection<Long> organisationIds);
+
+    /**
+     * Find organisations with a document created or changed since a point in time.
+     */
+    @Query("SELECT DISTINCT d.organisation.id FROM KycDocument d WHERE d.lastModifiedDatetime >= :since")
+    List<Long> findOrganisationIdsModifiedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,32 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.KycDocument;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk KycDocument operations that need a dynamically built query.
+ */
+public interface KycDocumentRepositoryCustom {
+
+    /**
+     * Reject the given documents of an organisation, each with its own reason, in a single UPDATE.
+     * Document IDs that do not belong to the organisation are ignored.
+     * @param organisationId the organisation ID
+     * @param reasonsByDocumentId rejection reason keyed by document ID
+     * @param modifiedAt last modified timestamp to record
+     * @return number of documents rejected
+     */
+    int rejectDocuments(Long organisationId, Map<Long, String> reasonsByDocumentId, LocalDateTime modifiedAt);
+
+    /**
+     * Insert new documents in a single JDBC batch and set their generated IDs.
+     * Hibernate cannot batch these inserts itself because the IDs are database generated.
+     * The audit fields, default status and initial version are set as on persist.
+     * The documents are not attached to the persistence context.
+     * @param documents new documents, each with its organisation set
+     */
+    void insertAll(List<KycDocument> documents);
+}
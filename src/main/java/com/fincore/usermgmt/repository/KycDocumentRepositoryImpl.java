@@ -0,0 +1,108 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.DocumentStatus;
+import com.fincore.usermgmt.entity.KycDocument;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of {@link KycDocumentRepositoryCustom}.
+ */
+public class KycDocumentRepositoryImpl implements KycDocumentRepositoryCustom {
+
+    private static final String INSERT_DOCUMENT =
+            "INSERT INTO kyc_documents (Verification_Identifier, Reference_Identifier, Document_Type_Description, " +
+            "Sumsub_Document_Identifier, File_Name, File_URL, Status_Description, Created_Datetime, Created_By, " +
+            "Last_Modified_Datetime, Last_Modified_By, Version_Number) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int rejectDocuments(Long organisationId, Map<Long, String> reasonsByDocumentId, LocalDateTime modifiedAt) {
+        if (reasonsByDocumentId.isEmpty()) {
+            return 0;
+        }
+
+        // One CASE branch per rejected document keeps this a single statement
+        StringBuilder jpql = new StringBuilder(
+                "UPDATE KycDocument d SET d.status = :status, d.lastModifiedDatetime = :modifiedAt, " +
+                "d.version = d.version + 1, d.reasonDescription = CASE d.id");
+        for (int i = 0; i < reasonsByDocumentId.size(); i++) {
+            jpql.append(" WHEN :id").append(i).append(" THEN :reason").append(i);
+        }
+        jpql.append(" ELSE d.reasonDescription END")
+                .append(" WHERE d.organisation.id = :organisationId AND d.id IN :ids");
+
+        Query query = entityManager.createQuery(jpql.toString());
+        int index = 0;
+        for (Map.Entry<Long, String> entry : reasonsByDocumentId.entrySet()) {
+            query.setParameter("id" + index, entry.getKey());
+            query.setParameter("reason" + index, entry.getValue());
+            index++;
+        }
+        return query.setParameter("status", DocumentStatus.REJECTED)
+                .setParameter("modifiedAt", modifiedAt)
+                .setParameter("organisationId", organisationId)
+                .setParameter("ids", reasonsByDocumentId.keySet())
+                .executeUpdate();
+    }
+
+    @Override
+    public void insertAll(List<KycDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (KycDocument document : documents) {
+            document.setCreatedDatetime(now);
+            document.setLastModifiedDatetime(now);
+            document.setVersion(0L);
+            if (document.getStatus() == null) {
+                document.setStatus(DocumentStatus.PENDING);
+            }
+        }
+
+        // The organisation row must be written before the documents referencing it
+        entityManager.flush();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_DOCUMENT, Statement.RETURN_GENERATED_KEYS)) {
+                for (KycDocument document : documents) {
+                    statement.setObject(1, document.getVerificationIdentifier(), Types.INTEGER);
+                    statement.setLong(2, document.getOrganisation().getId());
+                    statement.setString(3, document.getDocumentType().name());
+                    statement.setString(4, document.getSumsubDocumentIdentifier());
+                    statement.setString(5, document.getFileName());
+                    statement.setString(6, document.getFileUrl());
+                    statement.setString(7, document.getStatus().name());
+                    statement.setTimestamp(8, Timestamp.valueOf(document.getCreatedDatetime()));
+                    statement.setObject(9, document.getCreatedBy(), Types.BIGINT);
+                    statement.setTimestamp(10, Timestamp.valueOf(document.getLastModifiedDatetime()));
+                    statement.setObject(11, document.getLastModifiedBy(), Types.BIGINT);
+                    statement.setLong(12, document.getVersion());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (KycDocument document : documents) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("Missing generated ID for batch inserted KYC document");
+                        }
+                        document.setId(keys.getLong(1));
+                    }
+                }
+            }
+        });
+    }
+}
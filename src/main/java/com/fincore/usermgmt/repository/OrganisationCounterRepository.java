@@ -0,0 +1,56 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.OrganisationCounter;
+import com.fincore.usermgmt.entity.OrganisationStatus;
+import com.fincore.usermgmt.entity.OrganisationType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for OrganisationCounter entity operations.
+ */
+@Repository
+public interface OrganisationCounterRepository extends JpaRepository<OrganisationCounter, Long> {
+
+    /**
+     * Add a delta to the counter for a status and type.
+     * @param status the organisation status
+     * @param organisationType the organisation type
+     * @param delta amount to add (negative to subtract)
+     * @param modifiedAt last modified timestamp to record
+     * @return number of counter rows updated (0 if the row does not exist yet)
+     */
+    @Modifying
+    @Query("UPDATE OrganisationCounter c SET c.organisationCount = c.organisationCount + :delta, " +
+           "c.lastModifiedDatetime = :modifiedAt " +
+           "WHERE c.status = :status AND c.organisationType = :organisationType")
+    int addToCount(
+            @Param("status") OrganisationStatus status,
+            @Param("organisationType") OrganisationType organisationType,
+            @Param("delta") long delta,
+            @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    /**
+     * Lock every counter row until the end of the transaction, in status and type order.
+     * Counter changes lock their rows in the same order, so the two never deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM OrganisationCounter c ORDER BY c.status, c.organisationType")
+    List<OrganisationCounter> lockAll();
+
+    /**
+     * Read the committed counts without loading entities, so rows cached in the
+     * persistence context are never returned stale.
+     * @return rows of [status, organisationType, organisationCount]
+     */
+    @Query("SELECT c.status, c.organisationType, c.organisationCount FROM OrganisationCounter c")
+    List<Object[]> findAllCounts();
+}
@@ -0,0 +1,20 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.OrganisationImportError;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for OrganisationImportError entity operations.
+ */
+@Repository
+public interface OrganisationImportErrorRepository extends JpaRepository<OrganisationImportError, Long> {
+
+    /**
+     * Find the errors of an import in file order.
+     */
+    List<OrganisationImportError> findByImportIdOrderByRowNumber(Long importId, Pageable pageable);
+}
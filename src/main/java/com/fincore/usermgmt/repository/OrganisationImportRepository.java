@@ -0,0 +1,20 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.OrganisationImport;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for OrganisationImport entity operations.
+ */
+@Repository
+public interface OrganisationImportRepository extends JpaRepository<OrganisationImport, Long> {
+
+    /**
+     * Find imports, most recently started first.
+     */
+    List<OrganisationImport> findAllByOrderByStartedDatetimeDesc(Pageable pageable);
+}
@@ -3,21 +3,40 @@ package com.fincore.usermgmt.repository;
 import com.fincore.usermgmt.entity.Organisation;
 import com.fincore.usermgmt.entity.OrganisationStatus;
 import com.fincore.usermgmt.entity.OrganisationType;
+import com.fincore.usermgmt.entity.enums.HmrcExpiryStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Repository for Organisation entity operations.
+ * Every query that feeds a list or search response uses the
+ * Organisation.summary entity graph so mapping a page does not trigger
+ * per-row lazy loads of the owner and addresses.
  */
 @Repository
-public interface OrganisationRepository extends JpaRepository<Organisation, Long> {
+public interface OrganisationRepository extends JpaRepository<Organisation, Long>, JpaSpecificationExecutor<Organisation>,
+        OrganisationRepositoryCustom {
 
     /**
      * Find organisation by registration number.
@@ -45,24 +64,26 @@ public interface OrganisationRepository extends JpaRepository<Organisation, Long
      * @param ownerId the owner user ID
      * @return list of organisations owned by the user
      */
+    @EntityGraph(Organisation.SUMMARY_GRAPH)
     @Query("SELECT o FROM Organisation o WHERE o.owner.id = :ownerId")
     List<Organisation> findByOwnerId(@Param("ownerId") Long ownerId);
 
-    /**
-     * Check if an organisation exists for the given owner.
-     * @param ownerId the owner user ID
-     * @return true if the owner already has an organisation
-     */
-    @Query("SELECT COUNT(o) > 0 FROM Organisation o WHERE o.owner.id = :ownerId")
-    boolean existsByOwnerId(@Param("ownerId") Long ownerId);
-
     /**
      * Find organisations by status.
      * @param status the organisation status
      * @return list of organisations with the specified status
      */
+    @EntityGraph(Organisation.SUMMARY_GRAPH)
     List<Organisation> findByStatus(OrganisationStatus status);
 
+    /**
+     * Find organisations by ID with their owner and addresses.
+     * @param ids the organisation IDs
+     * @return the organisations found, in no particular order
+     */
+    @EntityGraph(Organisation.SUMMARY_GRAPH)
+    List<Organisation> findByIdIn(Collection<Long> ids);
+
     /**
      * Find organisations by type.
      * @param organisationType the organisation type
@@ -98,37 +119,361 @@ public interface OrganisationRepository extends JpaRepository<Organisation, Long
      */
     boolean existsByCompanyNumber(String companyNumber);
 
+    /**
+     * Find organisations already using either identifier, in a single round trip.
+     * A null argument never matches.
+     * @param registrationNumber the registration number, or null
+     * @param companyNumber the company number, or null
+     * @return rows of [id, registrationNumber, companyNumber]
+     */
+    @Query("SELECT o.id, o.registrationNumber, o.companyNumber FROM Organisation o " +
+           "WHERE o.registrationNumber = :registrationNumber OR o.companyNumber = :companyNumber")
+    List<Object[]> findIdentifierConflicts(
+            @Param("registrationNumber") String registrationNumber,
+            @Param("companyNumber") String companyNumber);
+
+    /**
+     * Load every registration and company number in use, for building the identifier Bloom filter.
+     * @return rows of [registrationNumber, companyNumber]
+     */
+    @Query("SELECT o.registrationNumber, o.companyNumber FROM Organisation o " +
+           "WHERE o.registrationNumber IS NOT NULL OR o.companyNumber IS NOT NULL")
+    List<Object[]> findAllIdentifiers();
+
+    /**
+     * Find which of the given legacy identifiers have already been imported.
+     */
+    @Query("SELECT o.legacyIdentifier FROM Organisation o WHERE o.legacyIdentifier IN :legacyIdentifiers")
+    List<String> findLegacyIdentifiersIn(@Param("legacyIdentifiers") Collection<String> legacyIdentifiers);
+
+    /**
+     * Find which of the given users already own an organisation.
+     */
+    @Query("SELECT o.owner.id FROM Organisation o WHERE o.owner.id IN :ownerIds")
+    List<Long> findOwnerIdsIn(@Param("ownerIds") Collection<Long> ownerIds);
+
+    /**
+     * Find which of the given registration numbers are in use.
+     */
+    @Query("SELECT o.registrationNumber FROM Organisation o WHERE o.registrationNumber IN :registrationNumbers")
+    List<String> findRegistrationNumbersIn(@Param("registrationNumbers") Collection<String> registrationNumbers);
+
+    /**
+     * Find which of the given company numbers are in use.
+     */
+    @Query("SELECT o.companyNumber FROM Organisation o WHERE o.companyNumber IN :companyNumbers")
+    List<String> findCompanyNumbersIn(@Param("companyNumbers") Collection<String> companyNumbers);
+
     /**
      * Find all organisations with pagination.
      * @param pageable pagination information
      * @return page of organisations
      */
+    @EntityGraph(Organisation.SUMMARY_GRAPH)
     Page<Organisation> findAll(Pageable pageable);
 
+    /**
+     * Find organisations matching a specification with pagination.
+     * Owner and addresses are fetched with the page, as OrganisationMapper reads them.
+     * @param specification the filters
+     * @param pageable pagination information
+     * @return page of organisations
+     */
+    @Override
+    @EntityGraph(Organisation.SUMMARY_GRAPH)
+    Page<Organisation> findAll(Specification<Organisation> specification, Pageable pageable);
+
     /**
      * Find organisations by status with pagination.
      * @param status the organisation status
      * @param pageable pagination information
      * @return page of organisations
      */
+    @EntityGraph(Organisation.SUMMARY_GRAPH)
     Page<Organisation> findByStatus(OrganisationStatus status, Pageable pageable);
 
     /**
-     * Search organisations by multiple criteria.
-     * @param searchTerm search term for name
+     * Filter organisations by status and type.
+     * Free-text matching is handled by OrganisationSearchEngine.
      * @param status optional status filter
      * @param organisationType optional type filter
      * @param pageable pagination information
      * @return page of matching organisations
      */
+    @EntityGraph(Organisation.SUMMARY_GRAPH)
     @Query("SELECT o FROM Organisation o WHERE " +
-           "(:searchTerm IS NULL OR LOWER(o.legalName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-           "OR LOWER(o.businessName) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
-           "AND (:status IS NULL OR o.status = :status) " +
+           "(:status IS NULL OR o.status = :status) " +
            "AND (:organisationType IS NULL OR o.organisationType = :organisationType)")
-    Page<Organisation> searchOrganisations(
-            @Param("searchTerm") String searchTerm,
+    Page<Organisation> findByFilters(
             @Param("status") OrganisationStatus status,
             @Param("organisationType") OrganisationType organisationType,
             Pageable pageable);
+
+    /**
+     * Ranked full-text search using the MySQL ngram FULLTEXT index ftx_org_search.
+     * Only available on MySQL; results are ordered by relevance.
+     * @param query boolean-mode query string
+     * @param status optional status name filter
+     * @param organisationType optional type name filter
+     * @param pageable page number and size (must be unsorted)
+     * @return page of matching organisations
+     */
+    @Query(value = "SELECT * FROM organisation o " +
+           "WHERE MATCH(o.Legal_Name, o.Business_Name, o.Company_Number, o.Registration_Number) AGAINST (:query IN BOOLEAN MODE) " +
+           "AND (:status IS NULL OR o.Status_Description = :status) " +
+           "AND (:organisationType IS NULL OR o.Organisation_Type_Description = :organisationType) " +
+           "ORDER BY MATCH(o.Legal_Name, o.Business_Name, o.Company_Number, o.Registration_Number) AGAINST (:query IN BOOLEAN MODE) DESC, " +
+           "o.Organisation_Identifier",
+           countQuery = "SELECT COUNT(*) FROM organisation o " +
+           "WHERE MATCH(o.Legal_Name, o.Business_Name, o.Company_Number, o.Registration_Number) AGAINST (:query IN BOOLEAN MODE) " +
+           "AND (:status IS NULL OR o.Status_Description = :status) " +
+           "AND (:organisationType IS NULL OR o.Organisation_Type_Description = :organisationType)",
+           nativeQuery = true)
+    Page<Organisation> fullTextSearch(
+            @Param("query") String query,
+            @Param("status") String status,
+            @Param("organisationType") String organisationType,
+            Pageable pageable);
+
+    /**
+     * Load organisations by ID together with their owner and addresses.
+     * Used to hydrate a page of IDs ranked by a search engine.
+     * @param ids organisation IDs
+     * @return matching organisations, in no particular order
+     */
+    @EntityGraph(Organisation.SUMMARY_GRAPH)
+    @Query("SELECT o FROM Organisation o WHERE o.id IN :ids")
+    List<Organisation> findWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Load one keyset window of organisations matching a specification, together with their owner and addresses.
+     * The fluent scroll query takes no entity graph, so the window's organisations are loaded
+     * again with the Organisation.summary graph, which fetches the owner and addresses in one query.
+     * @param specification the filters
+     * @param sort the keyset order, ending with a unique property
+     * @param limit the window size
+     * @param position where the previous window ended
+     * @return the window, in keyset order
+     */
+    default Window<Organisation> scrollWithDetails(Specification<Organisation> specification, Sort sort, int limit,
+                                                   ScrollPosition position) {
+        Window<Organisation> window = findBy(specification, query -> query.sortBy(sort).limit(limit).scroll(position));
+        if (window.isEmpty()) {
+            return window;
+        }
+        Map<Long, Organisation> loaded = findWithDetailsByIdIn(window.map(Organisation::getId).getContent()).stream()
+                .collect(Collectors.toMap(Organisation::getId, Function.identity()));
+        return window.map(organisation -> loaded.getOrDefault(organisation.getId(), organisation));
+    }
+
+    /**
+     * Load only the searchable fields of every organisation, for building the in-memory search index.
+     * @return rows of [id, legalName, businessName, companyNumber, registrationNumber]
+     */
+    @Query("SELECT o.id, o.legalName, o.businessName, o.companyNumber, o.registrationNumber FROM Organisation o")
+    List<Object[]> findSearchableFields();
+
+    /**
+     * Load the version columns of an organisation and of the owner and addresses in its representation,
+     * for answering conditional requests without loading the organisation.
+     * Risk scores and backfilled transaction volumes are written without a new version,
+     * so the row ends with Risk_Scored_Datetime and Transaction_Volumes_Parsed_Datetime.
+     * @return at most one row of [version, lastModified] pairs for organisation, owner and the three addresses,
+     *         followed by the risk scored and transaction volumes parsed timestamps
+     */
+    @Query("SELECT o.version, o.lastModifiedDatetime, ow.version, ow.lastModifiedDatetime, " +
+           "ra.version, ra.lastModifiedDatetime, ba.version, ba.lastModifiedDatetime, " +
+           "ca.version, ca.lastModifiedDatetime, o.riskScoredDatetime, o.transactionVolumesParsedDatetime " +
+           "FROM Organisation o " +
+           "LEFT JOIN o.owner ow LEFT JOIN o.registeredAddress ra " +
+           "LEFT JOIN o.businessAddress ba LEFT JOIN o.correspondenceAddress ca " +
+           "WHERE o.id = :id")
+    List<Object[]> findVersionById(@Param("id") Long id);
+
+    /**
+     * Narrow a set of organisation IDs to those matching the optional filters.
+     * @param ids candidate organisation IDs
+     * @param status optional status filter
+     * @param organisationType optional type filter
+     * @return IDs that match the filters
+     */
+    @Query("SELECT o.id FROM Organisation o WHERE o.id IN :ids " +
+           "AND (:status IS NULL OR o.status = :status) " +
+           "AND (:organisationType IS NULL OR o.organisationType = :organisationType)")
+    List<Long> findIdsMatchingFilters(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") OrganisationStatus status,
+            @Param("organisationType") OrganisationType organisationType);
+
+    /**
+     * Move an organisation to a new status only if it is still in one of the expected
+     * statuses and still at the expected version. Bumps the version on success.
+     * The persistence context is cleared, so reload the organisation afterwards.
+     * @param id the organisation ID
+     * @param fromStatuses statuses the transition is allowed from
+     * @param expectedVersion version the caller read
+     * @param toStatus the new status
+     * @param reasonDescription the new reason (may be null)
+     * @param modifiedAt last modified timestamp to record
+     * @return 1 if the transition was applied, 0 if the row changed concurrently
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Organisation o SET o.status = :toStatus, o.reasonDescription = :reasonDescription, " +
+           "o.lastModifiedDatetime = :modifiedAt, o.version = o.version + 1 " +
+           "WHERE o.id = :id AND o.status IN :fromStatuses AND o.version = :expectedVersion")
+    int transitionStatus(
+            @Param("id") Long id,
+            @Param("fromStatuses") Collection<OrganisationStatus> fromStatuses,
+            @Param("expectedVersion") Long expectedVersion,
+            @Param("toStatus") OrganisationStatus toStatus,
+            @Param("reasonDescription") String reasonDescription,
+            @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    /**
+     * Count organisations per status and type, for reconciling the organisation counters.
+     * @return rows of [status, organisationType, count]
+     */
+    @Query("SELECT o.status, o.organisationType, COUNT(o) FROM Organisation o GROUP BY o.status, o.organisationType")
+    List<Object[]> countByStatusAndType();
+
+    /**
+     * Find organisations in one of the given statuses that have not changed since the cutoff,
+     * oldest IDs first, for the archival job.
+     * @param statuses statuses eligible for archival
+     * @param cutoff only organisations last modified before this are returned
+     * @param pageable the chunk size
+     * @return organisation IDs
+     */
+    @Query("SELECT o.id FROM Organisation o WHERE o.status IN :statuses AND o.lastModifiedDatetime < :cutoff ORDER BY o.id")
+    List<Long> findArchivableIds(
+            @Param("statuses") Collection<OrganisationStatus> statuses,
+            @Param("cutoff") LocalDateTime cutoff,
+            Pageable pageable);
+
+    /**
+     * Delete organisations in a single statement, once they have been archived.
+     * Their KYC documents must already be deleted; their addresses are left to the caller.
+     * @param ids organisation IDs
+     * @return number of organisations deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Organisation o WHERE o.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find organisations whose typed transaction volumes have not been derived yet, in ID order.
+     * @param afterId only organisations with a greater ID are returned
+     * @param pageable the chunk size
+     * @return rows of [id, monthlyTurnoverRange, numberOfIncomingTransactions, numberOfOutgoingTransactions,
+     *         valueOfIncomingTransactions, valueOfOutgoingTransactions, maxValueOfIncomingPayments,
+     *         maxValueOfOutgoingPayments]
+     */
+    @Query("SELECT o.id, o.monthlyTurnoverRange, o.numberOfIncomingTransactions, o.numberOfOutgoingTransactions, " +
+           "o.valueOfIncomingTransactions, o.valueOfOutgoingTransactions, o.maxValueOfIncomingPayments, " +
+           "o.maxValueOfOutgoingPayments FROM Organisation o " +
+           "WHERE o.transactionVolumesParsed = false AND o.id > :afterId ORDER BY o.id")
+    List<Object[]> findUnparsedTransactionVolumes(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Store the typed transaction volumes of an organisation without changing its
+     * version or last modified date, since the answers themselves have not changed.
+     * Last_Modified_Datetime is assigned to itself so MySQL's ON UPDATE CURRENT_TIMESTAMP does not fire.
+     * @param parsedAt stored as Transaction_Volumes_Parsed_Datetime, which changes the ETag instead
+     * @return 1 if the organisation was updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Organisation o SET o.monthlyTurnoverMin = :monthlyTurnoverMin, " +
+           "o.monthlyTurnoverMax = :monthlyTurnoverMax, " +
+           "o.incomingTransactionCount = :incomingTransactionCount, " +
+           "o.outgoingTransactionCount = :outgoingTransactionCount, " +
+           "o.incomingTransactionValue = :incomingTransactionValue, " +
+           "o.outgoingTransactionValue = :outgoingTransactionValue, " +
+           "o.maxIncomingPayment = :maxIncomingPayment, o.maxOutgoingPayment = :maxOutgoingPayment, " +
+           "o.transactionVolumesParsed = true, o.transactionVolumesParsedDatetime = :parsedAt, " +
+           "o.lastModifiedDatetime = o.lastModifiedDatetime WHERE o.id = :id")
+    int updateTransactionVolumes(
+            @Param("id") Long id,
+            @Param("monthlyTurnoverMin") BigDecimal monthlyTurnoverMin,
+            @Param("monthlyTurnoverMax") BigDecimal monthlyTurnoverMax,
+            @Param("incomingTransactionCount") Long incomingTransactionCount,
+            @Param("outgoingTransactionCount") Long outgoingTransactionCount,
+            @Param("incomingTransactionValue") BigDecimal incomingTransactionValue,
+            @Param("outgoingTransactionValue") BigDecimal outgoingTransactionValue,
+            @Param("maxIncomingPayment") BigDecimal maxIncomingPayment,
+            @Param("maxOutgoingPayment") BigDecimal maxOutgoingPayment,
+            @Param("parsedAt") LocalDateTime parsedAt);
+
+    /**
+     * Mark organisations as having their SIC codes indexed, without changing their
+     * version or last modified date, since the organisations themselves have not changed.
+     * @return number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Organisation o SET o.sicCodesIndexed = true, o.lastModifiedDatetime = o.lastModifiedDatetime " +
+           "WHERE o.id IN :ids")
+    int markSicCodesIndexed(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find organisation IDs in ID order, for walking the whole table in chunks.
+     * @param afterId only organisations with a greater ID are returned
+     * @param pageable the chunk size
+     */
+    @Query("SELECT o.id FROM Organisation o WHERE o.id > :afterId ORDER BY o.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Find organisations changed since a point in time, or never risk scored.
+     */
+    @Query("SELECT o.id FROM Organisation o WHERE o.lastModifiedDatetime >= :since OR o.riskScoredDatetime IS NULL")
+    List<Long> findIdsModifiedOrUnscoredSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Read what the risk model scores on, without loading entities.
+     * @return rows of [id, organisationType, primaryRemittanceDestinationCountry,
+     *         secondaryRemittanceDestinationCountry, monthlyTurnoverMax, incomingTransactionValue,
+     *         outgoingTransactionValue, maxOutgoingPayment]
+     */
+    @Query("SELECT o.id, o.organisationType, o.primaryRemittanceDestinationCountry, " +
+           "o.secondaryRemittanceDestinationCountry, o.monthlyTurnoverMax, o.incomingTransactionValue, " +
+           "o.outgoingTransactionValue, o.maxOutgoingPayment FROM Organisation o WHERE o.id IN :ids")
+    List<Object[]> findRiskInputs(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find organisations whose HMRC registration expires in a date window and are not yet marked
+     * with the given status, in (expiry date, ID) order, seeking past the last row of the previous
+     * chunk. Walks idx_org_hmrc_expiry, so the cost is proportional to the window, not the table.
+     * @param afterDate only dates after this, or equal to it with an ID greater than afterId
+     * @param afterId see afterDate
+     * @param until last expiry date in the window, inclusive
+     * @param status the status being applied; organisations already marked with it are skipped
+     * @param excludedStatuses organisation statuses that are not scanned
+     * @param pageable the chunk size
+     * @return rows of [id, hmrcExpiryDate]
+     */
+    @Query("SELECT o.id, o.hmrcExpiryDate FROM Organisation o " +
+           "WHERE (o.hmrcExpiryDate > :afterDate OR (o.hmrcExpiryDate = :afterDate AND o.id > :afterId)) " +
+           "AND o.hmrcExpiryDate <= :until " +
+           "AND (o.hmrcExpiryStatus IS NULL OR o.hmrcExpiryStatus <> :status) " +
+           "AND o.status NOT IN :excludedStatuses " +
+           "ORDER BY o.hmrcExpiryDate, o.id")
+    List<Object[]> findHmrcExpiryDue(
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            @Param("until") LocalDate until,
+            @Param("status") HmrcExpiryStatus status,
+            @Param("excludedStatuses") Collection<OrganisationStatus> excludedStatuses,
+            Pageable pageable);
+
+    /**
+     * Mark organisations with an HMRC expiry status in a single statement.
+     * The version is incremented so cached representations and If-Match preconditions see the change.
+     * @return number of organisations updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Organisation o SET o.hmrcExpiryStatus = :status, o.version = o.version + 1, " +
+           "o.lastModifiedDatetime = :modifiedAt WHERE o.id IN :ids")
+    int updateHmrcExpiryStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") HmrcExpiryStatus status,
+            @Param("modifiedAt") LocalDateTime modifiedAt);
 }
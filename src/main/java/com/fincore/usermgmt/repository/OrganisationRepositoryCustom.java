@@ -0,0 +1,65 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.Organisation;
+import com.fincore.usermgmt.service.risk.RiskAssessment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Organisation queries that need a dynamically built select list, and batched writes.
+ */
+public interface OrganisationRepositoryCustom {
+
+    /**
+     * OrganisationDTO properties that can be requested as a sparse fieldset.
+     * Nested addresses are not included; they need the full organisation.
+     */
+    Set<String> PROJECTABLE_FIELDS = Set.of(
+            "id", "ownerId", "ownerName", "registrationNumber", "sicCode", "legalName", "businessName",
+            "organisationType", "businessDescription", "incorporationDate", "countryOfIncorporation",
+            "typeOfBusinessCode", "hmrcMlrNumber", "hmrcExpiryDate", "hmrcExpiryStatus", "fcaNumber", "icoNumber",
+            "numberOfBranches", "numberOfAgents", "mlroDetails", "complianceConsultantDetails",
+            "accountantDetails", "technologyServiceProviderDetails", "payoutPartnerName",
+            "registrationInformation", "companyNumber", "sicCodes", "businessLicenseNumber", "websiteAddress",
+            "primaryRemittanceDestinationCountry", "secondaryRemittanceDestinationCountry",
+            "monthlyTurnoverRange", "numberOfIncomingTransactions", "numberOfOutgoingTransactions",
+            "valueOfIncomingTransactions", "valueOfOutgoingTransactions", "maxValueOfIncomingPayments",
+            "maxValueOfOutgoingPayments", "productDescription", "monthlyTurnoverMin", "monthlyTurnoverMax",
+            "incomingTransactionCount", "outgoingTransactionCount", "incomingTransactionValue",
+            "outgoingTransactionValue", "maxIncomingPayment", "maxOutgoingPayment", "riskScore", "riskLevel",
+            "riskScoredDatetime", "statusDescription", "reasonDescription",
+            "legacyIdentifier", "createdDatetime", "lastModifiedDatetime", "version");
+
+    /**
+     * Select only the given OrganisationDTO properties of a page of organisations,
+     * without loading entities. Values are converted the same way OrganisationMapper does.
+     * @param specification filter, or null for all organisations
+     * @param fields properties from {@link #PROJECTABLE_FIELDS}, in response order
+     * @param pageable page and sort
+     * @return rows keyed by property name
+     */
+    Page<Map<String, Object>> findFields(Specification<Organisation> specification, List<String> fields,
+                                         Pageable pageable);
+
+    /**
+     * Write risk scores in JDBC batches, without changing the version or last modified
+     * date of the organisations, so scoring never counts as a change to be re-scored.
+     * @param assessments scores to write
+     * @param scoredAt stored as Risk_Scored_Datetime
+     */
+    void updateRiskScores(List<RiskAssessment> assessments, LocalDateTime scoredAt);
+
+    /**
+     * Insert new organisations and their addresses in JDBC batches, bypassing the persistence
+     * context, and set the generated IDs on the given entities. Entity callbacks do not run,
+     * so audit and derived columns must already be set. The entities are not managed afterwards.
+     * @param organisations organisations with a null ID; their owner only needs an ID
+     */
+    void insertAll(List<Organisation> organisations);
+}
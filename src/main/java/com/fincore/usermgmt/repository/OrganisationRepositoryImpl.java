@@ -0,0 +1,293 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.Address;
+import com.fincore.usermgmt.entity.Organisation;
+import com.fincore.usermgmt.entity.User;
+import com.fincore.usermgmt.service.risk.RiskAssessment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link OrganisationRepositoryCustom}.
+ */
+public class OrganisationRepositoryImpl implements OrganisationRepositoryCustom {
+
+    private static final String OWNER_FIRST_NAME = "ownerFirstName";
+    private static final String OWNER_LAST_NAME = "ownerLastName";
+    private static final int BATCH_SIZE = 500;
+
+    // Last_Modified_Datetime is assigned to itself so MySQL's ON UPDATE CURRENT_TIMESTAMP does not fire
+    private static final String UPDATE_RISK_SCORE =
+            "UPDATE organisation SET Risk_Score = ?, Risk_Level = ?, Risk_Scored_Datetime = ?, " +
+            "Last_Modified_Datetime = Last_Modified_Datetime WHERE Organisation_Identifier = ?";
+
+    private static final String INSERT_ADDRESS =
+            "INSERT INTO address (Type_Code, Address_Line1, Address_Line2, Postal_Code, State_Code, City, Country, " +
+            "Status_Description, Created_Datetime, Created_By, Last_Modified_Datetime, Version_Number) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String INSERT_ORGANISATION =
+            "INSERT INTO organisation (User_Identifier, Registration_Number, SIC_Code, Legal_Name, Business_Name, " +
+            "Organisation_Type_Description, Business_Description, Incorporation_Date, Country_Of_Incorporation, " +
+            "Type_Of_Business_Code, HMRC_MLR_Number, HMRC_Expiry_Date, HMRC_Expiry_Status, FCA_Number, ICO_Number, " +
+            "Number_Of_Branches, Number_Of_Agents, MLRO_Details, Compliance_Consultant_Details, Accountant_Details, " +
+            "Technology_Service_Provider_Details, Payout_Partner_Name, Registration_Information, Company_Number, " +
+            "SIC_Codes, Business_License_Number, Website_Address, Primary_Remittance_Destination_Country, " +
+            "Secondary_Remittance_Destination_Country, Monthly_Turnover_Range, Number_Of_Incoming_Transactions, " +
+            "Number_Of_Outgoing_Transactions, Value_Of_Incoming_Transactions, Value_Of_Outgoing_Transactions, " +
+            "Max_Value_Of_Incoming_Payments, Max_Value_Of_Outgoing_Payments, Product_Description, " +
+            "Monthly_Turnover_Min, Monthly_Turnover_Max, Incoming_Transaction_Count, Outgoing_Transaction_Count, " +
+            "Incoming_Transaction_Value, Outgoing_Transaction_Value, Max_Incoming_Payment, Max_Outgoing_Payment, " +
+            "Transaction_Volumes_Parsed, Registered_Address_Identifier, Business_Address_Identifier, " +
+            "Correspondence_Address_Identifier, Status_Description, Legacy_Identifier, Created_Datetime, Created_By, " +
+            "Last_Modified_Datetime, Last_Modified_By, Version_Number) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " +
+            "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findFields(Specification<Organisation> specification, List<String> fields,
+                                                Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Organisation> root = query.from(Organisation.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields) {
+            selections.addAll(select(root, field));
+        }
+        query.multiselect(selections);
+        Predicate predicate = specification != null ? specification.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> content = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            content.add(toRow(tuple, fields));
+        }
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    private List<Selection<?>> select(Root<Organisation> root, String field) {
+        switch (field) {
+            case "ownerId":
+                // Reads the foreign key column, no join needed
+                return List.of(root.get("owner").get("id").alias(field));
+            case "ownerName":
+                Join<Organisation, User> owner = root.join("owner", JoinType.LEFT);
+                return List.of(owner.get("firstName").alias(OWNER_FIRST_NAME),
+                        owner.get("lastName").alias(OWNER_LAST_NAME));
+            case "statusDescription":
+                return List.of(root.get("status").alias(field));
+            default:
+                if (!PROJECTABLE_FIELDS.contains(field)) {
+                    throw new IllegalArgumentException("Unknown organisation field: " + field);
+                }
+                // Every other DTO property has the same name as the entity attribute
+                return List.of(root.get(field).alias(field));
+        }
+    }
+
+    private static Map<String, Object> toRow(Tuple tuple, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            if ("ownerName".equals(field)) {
+                row.put(field, ownerName(tuple.get(OWNER_FIRST_NAME, String.class), tuple.get(OWNER_LAST_NAME, String.class)));
+                continue;
+            }
+            Object value = tuple.get(field);
+            row.put(field, value instanceof Enum<?> constant ? constant.name() : value);
+        }
+        return row;
+    }
+
+    /**
+     * Same format as OrganisationMapper.getOwnerFullName.
+     */
+    private static String ownerName(String firstName, String lastName) {
+        if (firstName == null && lastName == null) {
+            return null;
+        }
+        return ((firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "")).trim();
+    }
+
+    private long count(Specification<Organisation> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Organisation> root = query.from(Organisation.class);
+        query.select(cb.count(root));
+        Predicate predicate = specification != null ? specification.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public void updateRiskScores(List<RiskAssessment> assessments, LocalDateTime scoredAt) {
+        if (assessments.isEmpty()) {
+            return;
+        }
+        Timestamp scoredTimestamp = Timestamp.valueOf(scoredAt);
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_RISK_SCORE)) {
+                int pending = 0;
+                for (RiskAssessment assessment : assessments) {
+                    statement.setInt(1, assessment.score());
+                    statement.setString(2, assessment.level().name());
+                    statement.setTimestamp(3, scoredTimestamp);
+                    statement.setLong(4, assessment.organisationId());
+                    statement.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        });
+    }
+
+    @Override
+    public void insertAll(List<Organisation> organisations) {
+        if (organisations.isEmpty()) {
+            return;
+        }
+        List<Address> addresses = new ArrayList<>();
+        for (Organisation organisation : organisations) {
+            for (Address address : new Address[]{organisation.getRegisteredAddress(),
+                    organisation.getBusinessAddress(), organisation.getCorrespondenceAddress()}) {
+                if (address != null) {
+                    addresses.add(address);
+                }
+            }
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            // Addresses first, so their generated IDs can be written to the organisation rows
+            insertBatches(connection, INSERT_ADDRESS, addresses, OrganisationRepositoryImpl::addressValues,
+                    Address::setId);
+            insertBatches(connection, INSERT_ORGANISATION, organisations, OrganisationRepositoryImpl::organisationValues,
+                    Organisation::setId);
+        });
+    }
+
+    /**
+     * Insert rows in batches of BATCH_SIZE and assign the generated keys in insertion order.
+     */
+    private static <T> void insertBatches(Connection connection, String sql, List<T> rows,
+                                          Function<T, Object[]> values,
+                                          BiConsumer<T, Long> setId) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            Iterator<T> pendingRows = rows.iterator();
+            int pending = 0;
+            for (T row : rows) {
+                Object[] parameters = values.apply(row);
+                for (int i = 0; i < parameters.length; i++) {
+                    Object value = parameters[i];
+                    statement.setObject(i + 1, value instanceof Enum<?> constant ? constant.name() : value);
+                }
+                statement.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    executeBatch(statement, pendingRows, setId);
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                executeBatch(statement, pendingRows, setId);
+            }
+        }
+    }
+
+    private static <T> void executeBatch(PreparedStatement statement, Iterator<T> pendingRows,
+                                         BiConsumer<T, Long> setId) throws SQLException {
+        statement.executeBatch();
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            while (keys.next()) {
+                setId.accept(pendingRows.next(), keys.getLong(1));
+            }
+        }
+    }
+
+    private static Object[] addressValues(Address address) {
+        return new Object[]{
+                address.getTypeCode(), address.getAddressLine1(), address.getAddressLine2(),
+                address.getPostalCode(), address.getStateCode(), address.getCity(), address.getCountry(),
+                address.getStatusDescription(), address.getCreatedDatetime(), address.getCreatedBy(),
+                address.getLastModifiedDatetime()
+        };
+    }
+
+    private static Object[] organisationValues(Organisation o) {
+        return new Object[]{
+                o.getOwner().getId(), o.getRegistrationNumber(), o.getSicCode(), o.getLegalName(),
+                o.getBusinessName(), o.getOrganisationType(), o.getBusinessDescription(), o.getIncorporationDate(),
+                o.getCountryOfIncorporation(), o.getTypeOfBusinessCode(), o.getHmrcMlrNumber(),
+                o.getHmrcExpiryDate(), o.getHmrcExpiryStatus(), o.getFcaNumber(), o.getIcoNumber(),
+                o.getNumberOfBranches(), o.getNumberOfAgents(), o.getMlroDetails(),
+                o.getComplianceConsultantDetails(), o.getAccountantDetails(),
+                o.getTechnologyServiceProviderDetails(), o.getPayoutPartnerName(), o.getRegistrationInformation(),
+                o.getCompanyNumber(), o.getSicCodes(), o.getBusinessLicenseNumber(), o.getWebsiteAddress(),
+                o.getPrimaryRemittanceDestinationCountry(), o.getSecondaryRemittanceDestinationCountry(),
+                o.getMonthlyTurnoverRange(), o.getNumberOfIncomingTransactions(),
+                o.getNumberOfOutgoingTransactions(), o.getValueOfIncomingTransactions(),
+                o.getValueOfOutgoingTransactions(), o.getMaxValueOfIncomingPayments(),
+                o.getMaxValueOfOutgoingPayments(), o.getProductDescription(), o.getMonthlyTurnoverMin(),
+                o.getMonthlyTurnoverMax(), o.getIncomingTransactionCount(), o.getOutgoingTransactionCount(),
+                o.getIncomingTransactionValue(), o.getOutgoingTransactionValue(), o.getMaxIncomingPayment(),
+                o.getMaxOutgoingPayment(), o.isTransactionVolumesParsed(),
+                addressId(o.getRegisteredAddress()), addressId(o.getBusinessAddress()),
+                addressId(o.getCorrespondenceAddress()), o.getStatus(), o.getLegacyIdentifier(),
+                o.getCreatedDatetime(), o.getCreatedBy(), o.getLastModifiedDatetime(), o.getLastModifiedBy()
+        };
+    }
+
+    private static Long addressId(Address address) {
+        return address != null ? address.getId() : null;
+    }
+}
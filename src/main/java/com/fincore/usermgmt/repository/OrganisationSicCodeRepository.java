@@ -0,0 +1,55 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.OrganisationSicCode;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for OrganisationSicCode entity operations.
+ */
+@Repository
+public interface OrganisationSicCodeRepository extends JpaRepository<OrganisationSicCode, Long> {
+
+    /**
+     * Find the codes of an organisation, primary code first.
+     */
+    @Query("SELECT s FROM OrganisationSicCode s WHERE s.organisation.id = :organisationId " +
+           "ORDER BY s.primaryCode DESC, s.sicCode")
+    List<OrganisationSicCode> findByOrganisationId(@Param("organisationId") Long organisationId);
+
+    /**
+     * Delete the codes of several organisations. The persistence context is not cleared,
+     * so this can run in the middle of saving the organisation.
+     * @return number of rows deleted
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM OrganisationSicCode s WHERE s.organisation.id IN :organisationIds")
+    int deleteByOrganisationIdIn(@Param("organisationIds") Collection<Long> organisationIds);
+
+    /**
+     * Find organisations with SIC text that has not been indexed yet, in ID order.
+     * Text that yields no valid codes is marked as indexed too, so it is not read again.
+     * @param afterId only organisations with a greater ID are returned
+     * @param pageable the chunk size
+     * @return rows of [id, sicCode, sicCodes]
+     */
+    @Query("SELECT o.id, o.sicCode, o.sicCodes FROM Organisation o " +
+           "WHERE o.sicCodesIndexed = false AND (o.sicCode IS NOT NULL OR o.sicCodes IS NOT NULL) " +
+           "AND o.id > :afterId ORDER BY o.id")
+    List<Object[]> findUnindexedOrganisations(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Count organisations per SIC division.
+     * @return rows of [division, organisation count]
+     */
+    @Query("SELECT SUBSTRING(s.sicCode, 1, 2), COUNT(DISTINCT s.organisation.id) FROM OrganisationSicCode s " +
+           "GROUP BY SUBSTRING(s.sicCode, 1, 2)")
+    List<Object[]> countOrganisationsByDivision();
+}
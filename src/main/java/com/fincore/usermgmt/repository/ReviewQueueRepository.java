@@ -0,0 +1,101 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.ReviewQueueEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for ReviewQueueEntry entity operations.
+ */
+@Repository
+public interface ReviewQueueRepository extends JpaRepository<ReviewQueueEntry, Long> {
+
+    /**
+     * Lock the oldest unclaimed or lease-expired entries, skipping rows another reviewer
+     * has locked in a concurrent claim, so concurrent claims never wait on or return the same rows.
+     * Must run in the transaction that claims them. MySQL 8 and H2 both support SKIP LOCKED.
+     * @param now leases expiring before this are available again
+     * @param limit the number of entries to lock
+     * @return organisation IDs in queue order
+     */
+    @Query(value = "SELECT Organisation_Identifier FROM review_queue " +
+                   "WHERE Lease_Expires_Datetime IS NULL OR Lease_Expires_Datetime < :now " +
+                   "ORDER BY Enqueued_Datetime, Organisation_Identifier LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Number> lockAvailable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Claim locked entries for a reviewer.
+     * @return number of entries claimed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReviewQueueEntry e SET e.reviewerId = :reviewerId, e.claimedDatetime = :now, " +
+           "e.leaseExpiresDatetime = :leaseExpires WHERE e.organisationId IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("reviewerId") Long reviewerId,
+              @Param("now") LocalDateTime now, @Param("leaseExpires") LocalDateTime leaseExpires);
+
+    /**
+     * Extend the leases a reviewer still holds. Leases that have already expired are not revived,
+     * since another reviewer may have claimed the organisation since.
+     * @return number of leases extended
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReviewQueueEntry e SET e.leaseExpiresDatetime = :leaseExpires " +
+           "WHERE e.reviewerId = :reviewerId AND e.leaseExpiresDatetime >= :now")
+    int extendLeases(@Param("reviewerId") Long reviewerId, @Param("now") LocalDateTime now,
+                     @Param("leaseExpires") LocalDateTime leaseExpires);
+
+    /**
+     * Release a claim held by a reviewer, returning the organisation to the queue.
+     * @return 1 if the reviewer held an unexpired claim on the organisation
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReviewQueueEntry e SET e.reviewerId = NULL, e.claimedDatetime = NULL, " +
+           "e.leaseExpiresDatetime = NULL WHERE e.organisationId = :organisationId " +
+           "AND e.reviewerId = :reviewerId AND e.leaseExpiresDatetime >= :now")
+    int release(@Param("organisationId") Long organisationId, @Param("reviewerId") Long reviewerId,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * Find the unexpired claims of a reviewer, in queue order.
+     */
+    @Query("SELECT e FROM ReviewQueueEntry e WHERE e.reviewerId = :reviewerId AND e.leaseExpiresDatetime >= :now " +
+           "ORDER BY e.enqueuedDatetime, e.organisationId")
+    List<ReviewQueueEntry> findClaims(@Param("reviewerId") Long reviewerId, @Param("now") LocalDateTime now);
+
+    /**
+     * Remove organisations from the queue once they leave review or are archived.
+     * @return number of entries deleted
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ReviewQueueEntry e WHERE e.organisationId IN :ids")
+    int deleteByOrganisationIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Queue organisations under review that are missing from the queue, for rows
+     * submitted before the queue existed.
+     * @return number of entries added
+     */
+    @Modifying
+    @Query("INSERT INTO ReviewQueueEntry (organisationId, enqueuedDatetime) " +
+           "SELECT o.id, o.lastModifiedDatetime FROM Organisation o " +
+           "WHERE o.status = 'UNDER_REVIEW' " +
+           "AND NOT EXISTS (SELECT 1 FROM ReviewQueueEntry e WHERE e.organisationId = o.id)")
+    int enqueueMissing();
+
+    /**
+     * Remove entries whose organisation is no longer under review.
+     * @return number of entries deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ReviewQueueEntry e WHERE NOT EXISTS (SELECT 1 FROM Organisation o " +
+           "WHERE o.id = e.organisationId AND o.status = 'UNDER_REVIEW')")
+    int deleteStale();
+}
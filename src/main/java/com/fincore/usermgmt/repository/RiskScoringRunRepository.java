@@ -0,0 +1,26 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.RiskScoringRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for RiskScoringRun entity operations.
+ */
+@Repository
+public interface RiskScoringRunRepository extends JpaRepository<RiskScoringRun, Long> {
+
+    /**
+     * Find the most recently started run.
+     */
+    Optional<RiskScoringRun> findFirstByOrderByStartedDatetimeDesc();
+
+    /**
+     * Find runs, most recently started first.
+     */
+    List<RiskScoringRun> findAllByOrderByStartedDatetimeDesc(Pageable pageable);
+}
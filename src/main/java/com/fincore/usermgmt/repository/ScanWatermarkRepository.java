@@ -0,0 +1,12 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.ScanWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for ScanWatermark entity operations.
+ */
+@Repository
+public interface ScanWatermarkRepository extends JpaRepository<ScanWatermark, String> {
+}
@@ -0,0 +1,55 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.StoredContent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for StoredContent entity operations.
+ */
+@Repository
+public interface StoredContentRepository extends JpaRepository<StoredContent, String> {
+
+    /**
+     * Record a new upload of content already stored, restarting its grace period.
+     * @return 1 if the content is known
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StoredContent s SET s.lastModifiedDatetime = :now WHERE s.name = :name")
+    int touch(@Param("name") String name, @Param("now") LocalDateTime now);
+
+    /**
+     * Add to (or, with a negative delta, take from) the references to a file. Never goes below zero.
+     * @return 1 if the file is content-addressed and was updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StoredContent s SET s.referenceCount = s.referenceCount + :delta, s.lastModifiedDatetime = :now " +
+           "WHERE s.name = :name AND s.referenceCount + :delta >= 0")
+    int adjustReferences(@Param("name") String name, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    /**
+     * Find files that have had no references since before the cutoff, oldest first.
+     */
+    @Query("SELECT s.name FROM StoredContent s WHERE s.referenceCount = 0 AND s.lastModifiedDatetime < :cutoff " +
+           "ORDER BY s.lastModifiedDatetime")
+    List<String> findUnreferencedNames(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Lock a file that is still unreferenced since before the cutoff, so no upload or new
+     * reference can reach it until the transaction deleting it ends.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StoredContent s WHERE s.name = :name AND s.referenceCount = 0 " +
+           "AND s.lastModifiedDatetime < :cutoff")
+    Optional<StoredContent> lockUnreferenced(@Param("name") String name, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,37 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.UploadIntent;
+import com.fincore.usermgmt.entity.enums.UploadIntentStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for UploadIntent entity operations.
+ */
+@Repository
+public interface UploadIntentRepository extends JpaRepository<UploadIntent, String> {
+
+    /**
+     * Lock an intent, so concurrent completions of it create one document.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM UploadIntent u WHERE u.id = :id")
+    Optional<UploadIntent> lockById(@Param("id") String id);
+
+    /**
+     * Find intents in a status that expired before the cutoff, oldest first.
+     */
+    @Query("SELECT u.id FROM UploadIntent u WHERE u.status = :status AND u.expiresDatetime < :cutoff " +
+           "ORDER BY u.expiresDatetime")
+    List<String> findExpiredIds(@Param("status") UploadIntentStatus status, @Param("cutoff") LocalDateTime cutoff,
+                                Pageable pageable);
+}
@@ -2,10 +2,33 @@ package com.fincore.usermgmt.repository;
 
 import com.fincore.usermgmt.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByPhoneNumber(String phoneNumber);
     boolean existsByPhoneNumber(String phoneNumber);
     boolean existsByEmail(String email);
+
+    /**
+     * Load the version columns of a user and of the residential and postal addresses in its representation,
+     * for answering conditional requests without loading the user.
+     * @return at most one row of [version, lastModified] pairs for user, residential and postal address
+     */
+    @Query("SELECT u.version, u.lastModifiedDatetime, ra.version, ra.lastModifiedDatetime, " +
+           "pa.version, pa.lastModifiedDatetime FROM User u " +
+           "LEFT JOIN Address ra ON ra.id = u.residentialAddressIdentifier " +
+           "LEFT JOIN Address pa ON pa.id = u.postalAddressIdentifier " +
+           "WHERE u.id = :id")
+    List<Object[]> findVersionById(@Param("id") Long id);
+
+    /**
+     * Find which of the given user IDs exist, without loading the users.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -6,6 +6,7 @@ import com.fincore.usermgmt.entity.Address;
 import com.fincore.usermgmt.entity.AddressType;
 import com.fincore.usermgmt.mapper.AddressMapper;
 import com.fincore.usermgmt.repository.AddressRepository;
+import com.fincore.usermgmt.util.ResourceVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -50,6 +51,16 @@ public class AddressService {
                 .map(addressMapper::toAddressDTO);
     }
 
+    /**
+     * Get the conditional request validators of an address without loading it.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getAddressVersion(Long id) {
+        return addressRepository.findVersionById(id).stream()
+                .findFirst()
+                .map(ResourceVersion::fromRow);
+    }
+
     /**
      * Get all addresses.
      */
@@ -100,10 +111,20 @@ public class AddressService {
      */
     @Transactional
     public AddressDTO updateAddress(Long id, AddressCreateDTO updateDTO) {
+        return updateAddress(id, updateDTO, null);
+    }
+
+    /**
+     * Update an address, provided it still has the version the client read.
+     * @param expectedVersion version from the If-Match precondition, or null to skip the check
+     */
+    @Transactional
+    public AddressDTO updateAddress(Long id, AddressCreateDTO updateDTO, Long expectedVersion) {
         log.info("Updating address ID: {}", id);
 
         Address address = addressRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Address not found with ID: " + id));
+        ResourceVersion.checkExpectedVersion(expectedVersion, address.getVersion(), "Address " + id);
 
         addressMapper.updateAddressFromDto(updateDTO, address);
 
@@ -0,0 +1,347 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.entity.StoredContent;
+import com.fincore.usermgmt.repository.StoredContentRepository;
+import com.fincore.usermgmt.service.storage.FileStorageBackend;
+import com.fincore.usermgmt.service.storage.StoredFile;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Service for handling document file storage, addressed by the URL recorded on the document.
+ * Files are kept by the configured {@link FileStorageBackend}: Google Cloud Storage, or the
+ * local filesystem with storage.backend=local.
+ * Uploads are content-addressed by their SHA-256, so a file uploaded again (a resubmitted
+ * certificate of incorporation, say) reuses the stored copy instead of being sent again.
+ * Stored files count the KYC document rows referencing them and are deleted once nothing has
+ * referenced them for storage.dedup.orphan-grace-hours.
+ * Batches of files are uploaded concurrently on a pool of storage.upload.threads shared by
+ * all requests.
+ */
+@Service
+@Slf4j
+public class FileStorageService {
+
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final FileStorageBackend backend;
+    private final StoredContentRepository storedContentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int orphanGraceHours;
+    private final int maxConcurrentUploadsPerRequest;
+    private final ExecutorService uploadExecutor;
+
+    public FileStorageService(
+            FileStorageBackend backend,
+            StoredContentRepository storedContentRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${storage.dedup.orphan-grace-hours:24}") int orphanGraceHours,
+            @Value("${storage.upload.threads:16}") int uploadThreads,
+            @Value("${storage.upload.max-concurrency-per-request:4}") int maxConcurrentUploadsPerRequest) {
+        this.backend = backend;
+        this.storedContentRepository = storedContentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.orphanGraceHours = orphanGraceHours;
+        this.maxConcurrentUploadsPerRequest = maxConcurrentUploadsPerRequest;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.uploadExecutor = Executors.newFixedThreadPool(uploadThreads, runnable -> {
+            Thread thread = new Thread(runnable, "file-upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        uploadExecutor.shutdownNow();
+    }
+
+    /**
+     * Upload a file under the SHA-256 of its content, unless that content is already stored.
+     * The content is streamed to the backend, so heap use does not grow with its size.
+     * The upload is not referenced until a document is saved with the URL.
+     *
+     * @param file MultipartFile to upload
+     * @param folder Folder path within the storage (e.g., "kyc-documents")
+     * @return URL of the stored file
+     */
+    public String uploadFile(MultipartFile file, String folder) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Cannot upload empty file");
+        }
+
+        try {
+            long startNanos = System.nanoTime();
+            // Multipart files are spooled to disk, so hashing before the upload costs no heap
+            String hash = sha256(file);
+            String filename = folder + "/sha256/" + hash;
+            String url = backend.toUrl(filename);
+
+            LocalDateTime now = LocalDateTime.now();
+            Integer known = transactionTemplate.execute(tx -> storedContentRepository.touch(filename, now));
+            if (known != null && known == 1) {
+                Optional<StoredFile> existing = backend.stat(filename);
+                if (existing.isPresent() && existing.get().size() == file.getSize()) {
+                    log.info("Duplicate upload of {} ({} bytes) reuses {}", file.getOriginalFilename(), file.getSize(), url);
+                    return url;
+                }
+            }
+
+            StoredFile stored = backend.store(filename, file.getContentType(), file);
+            record(filename, hash, stored.size(), file.getContentType(), now);
+            long durationMillis = Math.max((System.nanoTime() - startNanos) / 1_000_000, 1);
+            log.info("File uploaded successfully: {} ({} bytes in {} ms)", url, stored.size(), durationMillis);
+            return url;
+        } catch (Exception e) {
+            log.error("Failed to upload file: {}", file.getOriginalFilename(), e);
+            throw new IOException("Failed to upload file", e);
+        }
+    }
+
+    /**
+     * Upload several files, streaming up to storage.upload.max-concurrency-per-request of them
+     * to storage at once, so the batch takes about as long as its largest file rather than the
+     * sum of them. A file that fails does not stop the others.
+     *
+     * @param files Files to upload
+     * @param folder Folder path within the storage (e.g., "kyc-documents")
+     * @return one result per file, in order
+     */
+    public List<UploadResult> uploadFiles(List<MultipartFile> files, String folder) {
+        // Caps this request's share of the pool; further files wait here, on the request thread
+        Semaphore slots = new Semaphore(maxConcurrentUploadsPerRequest);
+        List<CompletableFuture<UploadResult>> uploads = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            slots.acquireUninterruptibly();
+            uploads.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return new UploadResult(uploadFile(file, folder), null);
+                } catch (IllegalArgumentException e) {
+                    return new UploadResult(null, e.getMessage());
+                } catch (IOException | RuntimeException e) {
+                    return new UploadResult(null, "Failed to upload file");
+                } finally {
+                    slots.release();
+                }
+            }, uploadExecutor));
+        }
+        return uploads.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * Outcome of uploading one file of a batch: its URL, or why it was not uploaded.
+     */
+    public record UploadResult(String url, String error) {
+    }
+
+    /**
+     * Track a file uploaded straight to storage, unreferenced until its document is saved,
+     * so it is counted and swept like any other upload.
+     * @param hash hash the upload was verified against, prefixed with its algorithm (e.g. "md5:")
+     */
+    public void recordUpload(String name, String hash, long size, String contentType) {
+        record(name, hash, size, contentType, LocalDateTime.now());
+    }
+
+    /**
+     * Record a newly stored file, unreferenced. A concurrent upload of the same content may
+     * have recorded it first, which is fine.
+     */
+    private void record(String name, String hash, long size, String contentType, LocalDateTime now) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                if (!storedContentRepository.existsById(name)) {
+                    storedContentRepository.save(StoredContent.builder()
+                            .name(name)
+                            .contentHash(hash)
+                            .size(size)
+                            .contentType(contentType)
+                            .referenceCount(0)
+                            .createdDatetime(now)
+                            .lastModifiedDatetime(now)
+                            .build());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Stored content {} recorded by a concurrent upload", name);
+        }
+    }
+
+    /**
+     * Count new document rows referencing these URLs. URLs that are not content-addressed are ignored.
+     * Runs in the transaction saving the documents.
+     */
+    @Transactional
+    public void addReferences(Collection<String> fileUrls) {
+        adjustReferences(fileUrls, 1);
+    }
+
+    /**
+     * Stop counting deleted document rows referencing these URLs.
+     * Runs in the transaction deleting the documents.
+     */
+    @Transactional
+    public void removeReferences(Collection<String> fileUrls) {
+        adjustReferences(fileUrls, -1);
+    }
+
+    private void adjustReferences(Collection<String> fileUrls, int sign) {
+        Map<String, Integer> counts = fileUrls.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(backend::toName, Collectors.summingInt(url -> 1)));
+        LocalDateTime now = LocalDateTime.now();
+        counts.forEach((name, count) -> storedContentRepository.adjustReferences(name, sign * count, now));
+    }
+
+    /**
+     * Delete stored files that no document has referenced for the grace period. Each file is
+     * deleted while its row is locked, so an upload of the same content waits and then stores
+     * it again rather than reusing a file that is being deleted.
+     * @return number of files deleted
+     */
+    @Scheduled(fixedDelayString = "${storage.dedup.sweep-interval-ms:3600000}",
+               initialDelayString = "${storage.dedup.sweep-interval-ms:3600000}")
+    public int sweepUnreferenced() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(orphanGraceHours);
+        int deleted = 0;
+        boolean more = true;
+        while (more) {
+            List<String> names = storedContentRepository.findUnreferencedNames(cutoff, PageRequest.of(0, SWEEP_BATCH_SIZE));
+            int batchDeleted = 0;
+            for (String name : names) {
+                try {
+                    Boolean removed = transactionTemplate.execute(tx -> storedContentRepository.lockUnreferenced(name, cutoff)
+                            .map(content -> {
+                                try {
+                                    backend.delete(name);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                                storedContentRepository.delete(content);
+                                return true;
+                            })
+                            .orElse(false));
+                    if (Boolean.TRUE.equals(removed)) {
+                        batchDeleted++;
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Failed to delete unreferenced file {}", name, e);
+                }
+            }
+            deleted += batchDeleted;
+            // Stop rather than retry the same failing files in a loop
+            more = names.size() == SWEEP_BATCH_SIZE && batchDeleted > 0;
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} unreferenced stored files", deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * Delete a file.
+     *
+     * @param fileUrl URL of the file to delete
+     * @return true if deleted successfully, false otherwise
+     */
+    public boolean deleteFile(String fileUrl) {
+        try {
+            boolean deleted = backend.delete(backend.toName(fileUrl));
+            if (deleted) {
+                log.info("File deleted successfully: {}", fileUrl);
+            } else {
+                log.warn("File not found: {}", fileUrl);
+            }
+            return deleted;
+        } catch (Exception e) {
+            log.error("Failed to delete file: {}", fileUrl, e);
+            return false;
+        }
+    }
+
+    /**
+     * Get the metadata of a file without downloading it.
+     *
+     * @param fileUrl URL of the file
+     * @return the file, or empty if it does not exist
+     */
+    public Optional<StoredFile> getFile(String fileUrl) throws IOException {
+        try {
+            return backend.stat(backend.toName(fileUrl));
+        } catch (Exception e) {
+            log.error("Failed to read file metadata: {}", fileUrl, e);
+            throw new IOException("Failed to read file metadata", e);
+        }
+    }
+
+    /**
+     * Stream a byte range of a file to the output as it is read, so memory stays flat and
+     * the first bytes are written before the rest has been fetched.
+     *
+     * @param file File from {@link #getFile}
+     * @param start First byte to copy
+     * @param end Last byte to copy, inclusive
+     * @param out Stream to copy to; not closed
+     * @return number of bytes copied
+     */
+    public long copyRange(StoredFile file, long start, long end, OutputStream out) throws IOException {
+        return backend.copyRange(file, start, end, out);
+    }
+
+    /**
+     * Check if a file exists.
+     *
+     * @param fileUrl URL of the file
+     * @return true if exists, false otherwise
+     */
+    public boolean fileExists(String fileUrl) {
+        try {
+            return backend.stat(backend.toName(fileUrl)).isPresent();
+        } catch (Exception e) {
+            log.error("Failed to check file existence: {}", fileUrl, e);
+            return false;
+        }
+    }
+
+    /**
+     * Hex SHA-256 of the content, read as a stream.
+     */
+    static String sha256(InputStreamSource source) throws IOException {
+        return new ByteSource() {
+            @Override
+            public InputStream openStream() throws IOException {
+                return source.getInputStream();
+            }
+        }.hash(Hashing.sha256()).toString();
+    }
+}
@@ -0,0 +1,198 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.entity.OrganisationStatus;
+import com.fincore.usermgmt.entity.ScanWatermark;
+import com.fincore.usermgmt.entity.enums.HmrcExpiryStatus;
+import com.fincore.usermgmt.exception.ConflictException;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.ScanWatermarkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Marks organisations whose HMRC registration is about to expire or has expired.
+ * Each scan walks the HMRC_Expiry_Date index from its high-water mark to the end of
+ * its window, one transaction per chunk, and moves the mark forward with the chunk,
+ * so a run only reads the organisations that have become due since the previous run.
+ * Dates entered behind a mark are classified when the organisation is saved instead.
+ */
+@Service
+@Slf4j
+public class HmrcExpiryService {
+
+    static final String WARNING_SCAN = "hmrc-expiry-warning";
+    static final String EXPIRED_SCAN = "hmrc-expiry-expired";
+
+    // Closed and rejected organisations are not chased for renewal
+    private static final Set<OrganisationStatus> EXCLUDED_STATUSES =
+            EnumSet.of(OrganisationStatus.CLOSED, OrganisationStatus.REJECTED);
+
+    private final OrganisationRepository organisationRepository;
+    private final ScanWatermarkRepository scanWatermarkRepository;
+    private final StatusChangeFeed statusChangeFeed;
+    private final TransactionTemplate transactionTemplate;
+    private final int warningDays;
+    private final int chunkSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public HmrcExpiryService(
+            OrganisationRepository organisationRepository,
+            ScanWatermarkRepository scanWatermarkRepository,
+            StatusChangeFeed statusChangeFeed,
+            PlatformTransactionManager transactionManager,
+            @Value("${organisation.hmrc-expiry.warning-days:30}") int warningDays,
+            @Value("${organisation.hmrc-expiry.chunk-size:200}") int chunkSize) {
+        this.organisationRepository = organisationRepository;
+        this.scanWatermarkRepository = scanWatermarkRepository;
+        this.statusChangeFeed = statusChangeFeed;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.warningDays = warningDays;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Daily scan.
+     */
+    @Scheduled(cron = "${organisation.hmrc-expiry.cron:0 30 1 * * *}")
+    public void scheduledScan() {
+        try {
+            scan(LocalDate.now());
+        } catch (ConflictException e) {
+            log.info("Skipping scheduled HMRC expiry scan: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Mark registrations expiring from today to the end of the warning window as EXPIRING_SOON,
+     * and registrations that expired before today as EXPIRED.
+     * @param today the date the scan runs for
+     * @return number of organisations marked
+     * @throws ConflictException if a scan is already in progress
+     */
+    public int scan(LocalDate today) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("An HMRC expiry scan is already in progress");
+        }
+        try {
+            LocalDate yesterday = today.minusDays(1);
+            // Dates before today are left to the expired scan
+            int expiringSoon = advance(WARNING_SCAN, HmrcExpiryStatus.EXPIRING_SOON, yesterday,
+                    today.plusDays(warningDays));
+            int expired = advance(EXPIRED_SCAN, HmrcExpiryStatus.EXPIRED, null, yesterday);
+            log.info("HMRC expiry scan for {} marked {} expiring soon and {} expired", today, expiringSoon, expired);
+            return expiringSoon + expired;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Status for an expiry date entered or changed on an organisation, against what the scans
+     * have already passed. Dates ahead of both marks are left for the scans to reach.
+     * @return the status, or null if the registration is current or the date is null
+     */
+    public HmrcExpiryStatus classify(LocalDate expiryDate) {
+        if (expiryDate == null) {
+            return null;
+        }
+        if (isPassed(EXPIRED_SCAN, expiryDate)) {
+            return HmrcExpiryStatus.EXPIRED;
+        }
+        return isPassed(WARNING_SCAN, expiryDate) ? HmrcExpiryStatus.EXPIRING_SOON : null;
+    }
+
+    /**
+     * {@link #classify} for many dates at once, such as a bulk import, reading each mark only once.
+     */
+    public Function<LocalDate, HmrcExpiryStatus> classifier() {
+        LocalDate expiredMark = markDate(EXPIRED_SCAN);
+        LocalDate warningMark = markDate(WARNING_SCAN);
+        return expiryDate -> {
+            if (expiryDate == null) {
+                return null;
+            }
+            if (expiredMark != null && !expiryDate.isAfter(expiredMark)) {
+                return HmrcExpiryStatus.EXPIRED;
+            }
+            return warningMark != null && !expiryDate.isAfter(warningMark) ? HmrcExpiryStatus.EXPIRING_SOON : null;
+        };
+    }
+
+    private LocalDate markDate(String scanName) {
+        return scanWatermarkRepository.findById(scanName).map(ScanWatermark::getWatermarkDate).orElse(null);
+    }
+
+    private boolean isPassed(String scanName, LocalDate expiryDate) {
+        return scanWatermarkRepository.findById(scanName)
+                .map(mark -> !expiryDate.isAfter(mark.getWatermarkDate()))
+                .orElse(false);
+    }
+
+    /**
+     * Walk one scan from its mark to until, marking each chunk and its mark in one transaction.
+     * @param floor if the mark is behind this date, start after it instead; null for no floor
+     * @return number of organisations marked
+     */
+    private int advance(String scanName, HmrcExpiryStatus status, LocalDate floor, LocalDate until) {
+        ScanWatermark mark = scanWatermarkRepository.findById(scanName)
+                .orElseGet(() -> ScanWatermark.builder()
+                        .scanName(scanName)
+                        .watermarkDate(LocalDate.EPOCH)
+                        .watermarkIdentifier(0L)
+                        .build());
+        if (floor != null && mark.getWatermarkDate().isBefore(floor)) {
+            mark.setWatermarkDate(floor);
+            mark.setWatermarkIdentifier(Long.MAX_VALUE);
+        }
+
+        int marked = 0;
+        boolean more = !mark.getWatermarkDate().isAfter(until);
+        while (more) {
+            Integer count = transactionTemplate.execute(tx -> {
+                List<Object[]> due = organisationRepository.findHmrcExpiryDue(mark.getWatermarkDate(),
+                        mark.getWatermarkIdentifier(), until, status, EXCLUDED_STATUSES, PageRequest.of(0, chunkSize));
+                if (due.isEmpty()) {
+                    return 0;
+                }
+                List<Long> ids = new ArrayList<>(due.size());
+                for (Object[] row : due) {
+                    ids.add((Long) row[0]);
+                }
+                Object[] last = due.get(due.size() - 1);
+                mark.setWatermarkDate((LocalDate) last[1]);
+                mark.setWatermarkIdentifier((Long) last[0]);
+                organisationRepository.updateHmrcExpiryStatus(ids, status, LocalDateTime.now());
+                scanWatermarkRepository.save(mark);
+                // One notification per chunk rather than per organisation
+                statusChangeFeed.hmrcExpiryStatusChanged(status, ids);
+                return ids.size();
+            });
+            marked += count != null ? count : 0;
+            more = count != null && count == chunkSize;
+        }
+
+        // Everything up to until has been seen, including organisations skipped by the query
+        if (!mark.getWatermarkDate().isAfter(until)) {
+            mark.setWatermarkDate(until);
+            mark.setWatermarkIdentifier(Long.MAX_VALUE);
+        }
+        mark.setLastRunDatetime(LocalDateTime.now());
+        mark.setLastRunCount(marked);
+        transactionTemplate.executeWithoutResult(tx -> scanWatermarkRepository.save(mark));
+        return marked;
+    }
+}
@@ -1,6 +1,7 @@
 package com.fincore.usermgmt.service;
 
 import com.fincore.usermgmt.dto.KycDocumentCreateDTO;
+import com.fincore.usermgmt.dto.KycDocumentCreateResultDTO;
 import com.fincore.usermgmt.dto.KycDocumentDTO;
 import com.fincore.usermgmt.dto.KycDocumentUpdateDTO;
 import com.fincore.usermgmt.dto.PagedResponse;
@@ -9,6 +10,7 @@ import com.fincore.usermgmt.mapper.KycDocumentMapper;
 import com.fincore.usermgmt.repository.KycDocumentRepository;
 import com.fincore.usermgmt.repository.OrganisationRepository;
 import com.fincore.usermgmt.repository.UserRepository;
+import com.fincore.usermgmt.util.ResourceVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -18,7 +20,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -34,6 +39,8 @@ public class KycDocumentService {
     private final OrganisationRepository organisationRepository;
     private final UserRepository userRepository;
     private final KycDocumentMapper kycDocumentMapper;
+    private final StatusChangeFeed statusChangeFeed;
+    private final FileStorageService fileStorageService;
 
     /**
      * Upload a new KYC document.
@@ -49,11 +56,72 @@ public class KycDocumentService {
         document.setOrganisation(organisation);
 
         KycDocument saved = kycDocumentRepository.save(document);
+        fileStorageService.addReferences(Collections.singletonList(saved.getFileUrl()));
+        statusChangeFeed.documentStatusChanged(saved.getId(), organisation.getId(), null, saved.getStatus());
         log.info("Created KYC document with ID: {}", saved.getId());
 
         return kycDocumentMapper.toKycDocumentDTO(saved);
     }
 
+    /**
+     * Create KYC documents for an organisation in one batch, reporting each one.
+     * @return one result per submitted document, in submission order
+     */
+    @Transactional
+    public List<KycDocumentCreateResultDTO> createDocuments(Long organisationId, List<KycDocumentCreateDTO> createDTOs) {
+        Organisation organisation = organisationRepository.findById(organisationId)
+                .orElseThrow(() -> new RuntimeException("Organisation not found with ID: " + organisationId));
+        return createDocuments(organisation, createDTOs);
+    }
+
+    /**
+     * Create the KYC documents submitted with a new organisation.
+     * Valid documents are inserted in one batch against the given, already saved organisation;
+     * invalid ones are skipped and reported, so one bad document does not hold back the rest.
+     * @return one result per submitted document, in submission order
+     */
+    @Transactional
+    public List<KycDocumentCreateResultDTO> createDocuments(Organisation organisation, List<KycDocumentCreateDTO> createDTOs) {
+        log.info("Creating {} KYC documents for organisation {}", createDTOs.size(), organisation.getId());
+
+        List<KycDocumentCreateResultDTO> results = new ArrayList<>();
+        List<KycDocument> documents = new ArrayList<>();
+        List<KycDocumentCreateResultDTO> pending = new ArrayList<>();
+        for (int i = 0; i < createDTOs.size(); i++) {
+            KycDocumentCreateDTO createDTO = createDTOs.get(i);
+            KycDocumentCreateResultDTO result = KycDocumentCreateResultDTO.builder()
+                    .index(i)
+                    .documentType(createDTO != null ? createDTO.getDocumentType() : null)
+                    .fileName(createDTO != null ? createDTO.getFileName() : null)
+                    .build();
+            results.add(result);
+
+            String error = validateNewDocument(createDTO);
+            if (error != null) {
+                log.warn("Skipping KYC document {} for organisation {}: {}", i, organisation.getId(), error);
+                result.setError(error);
+                continue;
+            }
+            KycDocument document = kycDocumentMapper.toKycDocument(createDTO);
+            document.setOrganisation(organisation);
+            documents.add(document);
+            pending.add(result);
+        }
+
+        kycDocumentRepository.insertAll(documents);
+        fileStorageService.addReferences(documents.stream().map(KycDocument::getFileUrl).toList());
+        for (int i = 0; i < documents.size(); i++) {
+            KycDocument saved = documents.get(i);
+            pending.get(i).setCreated(true);
+            pending.get(i).setDocumentId(saved.getId());
+            pending.get(i).setDocumentType(saved.getDocumentType().name());
+            statusChangeFeed.documentStatusChanged(saved.getId(), organisation.getId(), null, saved.getStatus());
+        }
+        log.info("Created {} of {} KYC documents for organisation {}",
+                documents.size(), createDTOs.size(), organisation.getId());
+        return results;
+    }
+
     /**
      * Get document by ID.
      */
@@ -64,6 +132,16 @@ public class KycDocumentService {
                 .map(kycDocumentMapper::toKycDocumentDTO);
     }
 
+    /**
+     * Get the conditional request validators of a document without loading it.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getDocumentVersion(Long id) {
+        return kycDocumentRepository.findVersionById(id).stream()
+                .findFirst()
+                .map(ResourceVersion::fromRow);
+    }
+
     /**
      * Get all documents for an organisation.
      */
@@ -128,14 +206,32 @@ public class KycDocumentService {
      */
     @Transactional
     public KycDocumentDTO updateDocument(Long id, KycDocumentUpdateDTO updateDTO) {
+        return updateDocument(id, updateDTO, null);
+    }
+
+    /**
+     * Update a document, provided it still has the version the client read.
+     * @param expectedVersion version from the If-Match precondition, or null to skip the check
+     */
+    @Transactional
+    public KycDocumentDTO updateDocument(Long id, KycDocumentUpdateDTO updateDTO, Long expectedVersion) {
         log.info("Updating KYC document ID: {}", id);
 
         KycDocument document = kycDocumentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("KYC Document not found with ID: " + id));
+        ResourceVersion.checkExpectedVersion(expectedVersion, document.getVersion(), "KYC document " + id);
 
+        DocumentStatus previousStatus = document.getStatus();
+        String previousFileUrl = document.getFileUrl();
         kycDocumentMapper.updateKycDocumentFromDto(updateDTO, document);
 
         KycDocument saved = kycDocumentRepository.save(document);
+        if (!Objects.equals(previousFileUrl, saved.getFileUrl())) {
+            fileStorageService.removeReferences(Collections.singletonList(previousFileUrl));
+            fileStorageService.addReferences(Collections.singletonList(saved.getFileUrl()));
+        }
+        statusChangeFeed.documentStatusChanged(saved.getId(), saved.getOrganisation().getId(),
+                previousStatus, saved.getStatus());
         log.info("Updated KYC document ID: {}", saved.getId());
 
         return kycDocumentMapper.toKycDocumentDTO(saved);
@@ -155,11 +251,14 @@ public class KycDocumentService {
                 .orElseThrow(() -> new RuntimeException("Verifier user not found with ID: " + verifierId));
 
         DocumentStatus documentStatus = DocumentStatus.valueOf(status.toUpperCase());
+        DocumentStatus previousStatus = document.getStatus();
         document.setStatus(documentStatus);
         document.setReasonDescription(reason);
         document.setVerifiedBy(verifier);
 
         KycDocument saved = kycDocumentRepository.save(document);
+        statusChangeFeed.documentStatusChanged(saved.getId(), saved.getOrganisation().getId(),
+                previousStatus, documentStatus);
         log.info("Verified KYC document ID: {} with status: {}", saved.getId(), documentStatus);
 
         return kycDocumentMapper.toKycDocumentDTO(saved);
@@ -172,11 +271,11 @@ public class KycDocumentService {
     public void deleteDocument(Long id) {
         log.info("Deleting KYC document ID: {}", id);
 
-        if (!kycDocumentRepository.existsById(id)) {
-            throw new RuntimeException("KYC Document not found with ID: " + id);
-        }
+        KycDocument document = kycDocumentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("KYC Document not found with ID: " + id));
 
-        kycDocumentRepository.deleteById(id);
+        kycDocumentRepository.delete(document);
+        fileStorageService.removeReferences(Collections.singletonList(document.getFileUrl()));
         log.info("Deleted KYC document ID: {}", id);
     }
 
@@ -188,6 +287,27 @@ public class KycDocumentService {
         return kycDocumentRepository.countVerifiedDocumentsByOrganisation(organisationId);
     }
 
+    /**
+     * Check a document of a batch against the column constraints, since one failing
+     * row would fail the whole batch insert.
+     * @return the error message, or null if the document can be inserted
+     */
+    private static String validateNewDocument(KycDocumentCreateDTO createDTO) {
+        if (createDTO == null) {
+            return "Document is required";
+        }
+        if (createDTO.getDocumentType() == null || createDTO.getDocumentType().isBlank()) {
+            return "Document type is required";
+        }
+        if (createDTO.getSumsubDocumentIdentifier() != null && createDTO.getSumsubDocumentIdentifier().length() > 100) {
+            return "Sumsub document identifier must not exceed 100 characters";
+        }
+        if (createDTO.getFileName() != null && createDTO.getFileName().length() > 255) {
+            return "File name must not exceed 255 characters";
+        }
+        return null;
+    }
+
     /**
      * Build paginated response from Page object.
      */
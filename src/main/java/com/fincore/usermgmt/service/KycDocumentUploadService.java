@@ -0,0 +1,91 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.dto.KycDocumentCreateDTO;
+import com.fincore.usermgmt.dto.KycDocumentCreateResultDTO;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Service for uploading the files of several KYC documents in one request. The files are
+ * streamed to storage concurrently and the documents for those uploaded are then created in
+ * one batch, so a batch takes about as long as its largest file. No database transaction is
+ * held while the files upload.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KycDocumentUploadService {
+
+    static final String FOLDER = "kyc-documents";
+
+    private final OrganisationRepository organisationRepository;
+    private final FileStorageService fileStorageService;
+    private final KycDocumentService kycDocumentService;
+
+    /**
+     * Upload document files and create a document for each file uploaded. A file that fails to
+     * upload, or whose document is invalid, is reported without holding back the others.
+     * @param documentTypes document type of each file, in the same order
+     * @return one result per file, in order
+     * @throws IllegalArgumentException if there is not one document type per file
+     */
+    public List<KycDocumentCreateResultDTO> uploadDocuments(Long organisationId, List<MultipartFile> files,
+                                                            List<String> documentTypes, Integer verificationIdentifier) {
+        if (files.size() != documentTypes.size()) {
+            throw new IllegalArgumentException("One document type is required per file");
+        }
+        if (!organisationRepository.existsById(organisationId)) {
+            throw new RuntimeException("Organisation not found with ID: " + organisationId);
+        }
+
+        long startNanos = System.nanoTime();
+        List<FileStorageService.UploadResult> uploads = fileStorageService.uploadFiles(files, FOLDER);
+
+        KycDocumentCreateResultDTO[] results = new KycDocumentCreateResultDTO[files.size()];
+        List<KycDocumentCreateDTO> createDTOs = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            FileStorageService.UploadResult upload = uploads.get(i);
+            String fileName = files.get(i).getOriginalFilename();
+            if (upload.url() == null) {
+                log.warn("Failed to upload KYC document file {} for organisation {}: {}",
+                        fileName, organisationId, upload.error());
+                results[i] = KycDocumentCreateResultDTO.builder()
+                        .index(i)
+                        .documentType(documentTypes.get(i))
+                        .fileName(fileName)
+                        .error(upload.error())
+                        .build();
+                continue;
+            }
+            KycDocumentCreateDTO createDTO = new KycDocumentCreateDTO();
+            createDTO.setOrganisationId(organisationId);
+            createDTO.setDocumentType(documentTypes.get(i));
+            createDTO.setFileName(fileName);
+            createDTO.setFileUrl(upload.url());
+            createDTO.setVerificationIdentifier(verificationIdentifier);
+            createDTOs.add(createDTO);
+            positions.add(i);
+        }
+
+        // Files uploaded for documents that are not created stay unreferenced and are swept
+        if (!createDTOs.isEmpty()) {
+            List<KycDocumentCreateResultDTO> created = kycDocumentService.createDocuments(organisationId, createDTOs);
+            for (int j = 0; j < created.size(); j++) {
+                KycDocumentCreateResultDTO result = created.get(j);
+                result.setIndex(positions.get(j));
+                results[positions.get(j)] = result;
+            }
+        }
+        log.info("Uploaded {} of {} KYC document files for organisation {} in {} ms",
+                createDTOs.size(), files.size(), organisationId, (System.nanoTime() - startNanos) / 1_000_000);
+        return Arrays.asList(results);
+    }
+}
@@ -0,0 +1,275 @@
+package com.fincore.usermgmt.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fincore.usermgmt.dto.KycDocumentDTO;
+import com.fincore.usermgmt.dto.OrganisationDTO;
+import com.fincore.usermgmt.dto.PagedResponse;
+import com.fincore.usermgmt.entity.*;
+import com.fincore.usermgmt.mapper.KycDocumentMapper;
+import com.fincore.usermgmt.mapper.OrganisationMapper;
+import com.fincore.usermgmt.repository.AddressRepository;
+import com.fincore.usermgmt.repository.ArchivedKycDocumentRepository;
+import com.fincore.usermgmt.repository.ArchivedOrganisationRepository;
+import com.fincore.usermgmt.repository.KycDocumentRepository;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.OrganisationSicCodeRepository;
+import com.fincore.usermgmt.repository.ReviewQueueRepository;
+import com.fincore.usermgmt.service.search.OrganisationSearchEngine;
+import com.fincore.usermgmt.util.SecurityUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Moves organisations, with their addresses and KYC documents, out of the hot
+ * Organisation, Address and KYC_Documents tables into the archive tables.
+ * Deleting an organisation archives it straight away, so nothing is lost and the
+ * hot tables never carry deleted rows; a scheduled job archives organisations
+ * that have been CLOSED or REJECTED for longer than the retention period.
+ * Archived organisations and documents can still be read, from their snapshots.
+ */
+@Service
+@Slf4j
+public class OrganisationArchiveService {
+
+    static final Set<OrganisationStatus> ARCHIVABLE_STATUSES = Set.of(OrganisationStatus.CLOSED, OrganisationStatus.REJECTED);
+
+    private final OrganisationRepository organisationRepository;
+    private final KycDocumentRepository kycDocumentRepository;
+    private final AddressRepository addressRepository;
+    private final ArchivedOrganisationRepository archivedOrganisationRepository;
+    private final ArchivedKycDocumentRepository archivedKycDocumentRepository;
+    private final OrganisationSicCodeRepository organisationSicCodeRepository;
+    private final ReviewQueueRepository reviewQueueRepository;
+    private final OrganisationMapper organisationMapper;
+    private final KycDocumentMapper kycDocumentMapper;
+    private final OrganisationSearchEngine organisationSearchEngine;
+    private final OrganisationCounterService organisationCounterService;
+    private final SecurityUtil securityUtil;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    public OrganisationArchiveService(
+            OrganisationRepository organisationRepository,
+            KycDocumentRepository kycDocumentRepository,
+            AddressRepository addressRepository,
+            ArchivedOrganisationRepository archivedOrganisationRepository,
+            ArchivedKycDocumentRepository archivedKycDocumentRepository,
+            OrganisationSicCodeRepository organisationSicCodeRepository,
+            ReviewQueueRepository reviewQueueRepository,
+            OrganisationMapper organisationMapper,
+            KycDocumentMapper kycDocumentMapper,
+            OrganisationSearchEngine organisationSearchEngine,
+            OrganisationCounterService organisationCounterService,
+            SecurityUtil securityUtil,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${organisation.archive.retention-days:365}") int retentionDays,
+            @Value("${organisation.archive.chunk-size:200}") int chunkSize) {
+        this.organisationRepository = organisationRepository;
+        this.kycDocumentRepository = kycDocumentRepository;
+        this.addressRepository = addressRepository;
+        this.archivedOrganisationRepository = archivedOrganisationRepository;
+        this.archivedKycDocumentRepository = archivedKycDocumentRepository;
+        this.organisationSicCodeRepository = organisationSicCodeRepository;
+        this.reviewQueueRepository = reviewQueueRepository;
+        this.organisationMapper = organisationMapper;
+        this.kycDocumentMapper = kycDocumentMapper;
+        this.organisationSearchEngine = organisationSearchEngine;
+        this.organisationCounterService = organisationCounterService;
+        this.securityUtil = securityUtil;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Move organisations with their addresses and KYC documents to the archive tables.
+     * @param ids organisation IDs; IDs that do not exist are ignored
+     * @param reason why they are archived
+     * @param archivedBy the user archiving them, or null for the archival job
+     * @return number of organisations archived
+     */
+    @Transactional
+    public int archiveOrganisations(Collection<Long> ids, ArchiveReason reason, Long archivedBy) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Organisation> organisations = organisationRepository.findWithDetailsByIdIn(ids);
+        if (organisations.isEmpty()) {
+            return 0;
+        }
+        List<Long> organisationIds = organisations.stream().map(Organisation::getId).collect(Collectors.toList());
+        List<KycDocument> documents = kycDocumentRepository.findWithDetailsByOrganisationIdIn(organisationIds);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ArchivedOrganisation> archivedOrganisations = new ArrayList<>();
+        Set<Long> addressIds = new LinkedHashSet<>();
+        for (Organisation organisation : organisations) {
+            archivedOrganisations.add(ArchivedOrganisation.builder()
+                    .id(organisation.getId())
+                    .ownerId(organisation.getOwner() != null ? organisation.getOwner().getId() : null)
+                    .legalName(organisation.getLegalName())
+                    .registrationNumber(organisation.getRegistrationNumber())
+                    .companyNumber(organisation.getCompanyNumber())
+                    .status(organisation.getStatus())
+                    .archiveReason(reason)
+                    .lastModifiedDatetime(organisation.getLastModifiedDatetime())
+                    .archivedDatetime(now)
+                    .archivedBy(archivedBy)
+                    .snapshot(toJson(organisationMapper.toOrganisationDTO(organisation)))
+                    .build());
+            addAddressId(addressIds, organisation.getRegisteredAddress());
+            addAddressId(addressIds, organisation.getBusinessAddress());
+            addAddressId(addressIds, organisation.getCorrespondenceAddress());
+        }
+        List<ArchivedKycDocument> archivedDocuments = new ArrayList<>();
+        for (KycDocument document : documents) {
+            archivedDocuments.add(ArchivedKycDocument.builder()
+                    .id(document.getId())
+                    .organisationId(document.getOrganisation().getId())
+                    .documentType(document.getDocumentType())
+                    .status(document.getStatus())
+                    .archivedDatetime(now)
+                    .snapshot(toJson(kycDocumentMapper.toKycDocumentDTO(document)))
+                    .build());
+        }
+        archivedOrganisationRepository.saveAll(archivedOrganisations);
+        archivedKycDocumentRepository.saveAll(archivedDocuments);
+
+        // Children first: documents, SIC codes and queue entries reference organisations, organisations reference addresses
+        kycDocumentRepository.deleteByOrganisationIdIn(organisationIds);
+        organisationSicCodeRepository.deleteByOrganisationIdIn(organisationIds);
+        reviewQueueRepository.deleteByOrganisationIdIn(organisationIds);
+        organisationRepository.deleteAllByIdIn(organisationIds);
+        if (!addressIds.isEmpty()) {
+            addressRepository.deleteAllByIdIn(addressIds);
+        }
+
+        for (Organisation organisation : organisations) {
+            organisationSearchEngine.remove(organisation.getId());
+            organisationCounterService.recordDeleted(organisation.getStatus(), organisation.getOrganisationType());
+        }
+        log.info("Archived {} organisations and {} KYC documents ({})", organisations.size(), documents.size(), reason);
+        return organisations.size();
+    }
+
+    /**
+     * Archive organisations CLOSED or REJECTED for longer than the retention period,
+     * one chunk per transaction so locks are held briefly and progress survives a failure.
+     * @return number of organisations archived
+     */
+    @Scheduled(cron = "${organisation.archive.cron:0 30 2 * * *}")
+    public int archiveExpiredOrganisations() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        int total = 0;
+        while (true) {
+            Integer archived = transactionTemplate.execute(status -> archiveOrganisations(
+                    organisationRepository.findArchivableIds(ARCHIVABLE_STATUSES, cutoff, chunk),
+                    ArchiveReason.RETENTION, null));
+            if (archived == null || archived == 0) {
+                break;
+            }
+            total += archived;
+            if (archived < chunkSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archival job archived {} organisations last modified before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    /**
+     * Get an archived organisation as it was when archived.
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrganisationDTO> getArchivedOrganisation(Long id) {
+        return archivedOrganisationRepository.findById(id)
+                .map(archived -> fromJson(archived.getSnapshot(), OrganisationDTO.class));
+    }
+
+    /**
+     * Get archived organisations with pagination, most recently archived first.
+     * Business Users only see their own.
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<OrganisationDTO> getArchivedOrganisations(int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("archivedDatetime").descending().and(Sort.by("id")));
+        Page<ArchivedOrganisation> archived;
+        if (securityUtil.isBusinessUser()) {
+            Optional<User> currentUser = securityUtil.getCurrentUser();
+            if (currentUser.isEmpty()) {
+                return new PagedResponse<>(List.of(), page, size, 0L, 0, true, true);
+            }
+            archived = archivedOrganisationRepository.findByOwnerId(currentUser.get().getId(), pageable);
+        } else {
+            archived = archivedOrganisationRepository.findAll(pageable);
+        }
+        Page<OrganisationDTO> content = archived.map(row -> fromJson(row.getSnapshot(), OrganisationDTO.class));
+        return PagedResponse.<OrganisationDTO>builder()
+                .content(content.getContent())
+                .page(content.getNumber())
+                .size(content.getSize())
+                .totalElements(content.getTotalElements())
+                .totalPages(content.getTotalPages())
+                .first(content.isFirst())
+                .last(content.isLast())
+                .build();
+    }
+
+    /**
+     * Get the KYC documents archived with an organisation.
+     */
+    @Transactional(readOnly = true)
+    public List<KycDocumentDTO> getArchivedDocuments(Long organisationId) {
+        return archivedKycDocumentRepository.findByOrganisationIdOrderById(organisationId).stream()
+                .map(archived -> fromJson(archived.getSnapshot(), KycDocumentDTO.class))
+                .collect(Collectors.toList());
+    }
+
+    private static void addAddressId(Set<Long> addressIds, Address address) {
+        if (address != null && address.getId() != null) {
+            addressIds.add(address.getId());
+        }
+    }
+
+    private String toJson(Object snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write archive snapshot", e);
+        }
+    }
+
+    private <T> T fromJson(String snapshot, Class<T> type) {
+        try {
+            return objectMapper.readValue(snapshot, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read archive snapshot", e);
+        }
+    }
+}
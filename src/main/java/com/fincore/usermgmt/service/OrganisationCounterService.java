@@ -0,0 +1,227 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.dto.OrganisationStatsDTO;
+import com.fincore.usermgmt.entity.OrganisationCounter;
+import com.fincore.usermgmt.entity.OrganisationStatus;
+import com.fincore.usermgmt.entity.OrganisationType;
+import com.fincore.usermgmt.repository.OrganisationCounterRepository;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Maintains organisation counts per status and type for the admin dashboard.
+ * Every change is applied to the organisation_counters table in the caller's
+ * transaction and, once committed, to an in-memory LongAdder mirror that serves
+ * reads without touching the database. The mirror only sees other instances'
+ * changes after the next reconciliation, which also corrects any drift.
+ * A row exists for every status and type combination from startup, so changes
+ * only ever add to existing rows and never race to insert one.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrganisationCounterService {
+
+    private final OrganisationCounterRepository counterRepository;
+    private final OrganisationRepository organisationRepository;
+
+    private final Map<OrganisationStatus, LongAdder> statusCounts = newAdders(OrganisationStatus.class);
+    private final Map<OrganisationType, LongAdder> typeCounts = newAdders(OrganisationType.class);
+    private volatile LocalDateTime lastReconciledDatetime;
+
+    /**
+     * Count a newly created organisation.
+     */
+    @Transactional
+    public void recordCreated(OrganisationStatus status, OrganisationType organisationType) {
+        apply(status, organisationType, 1);
+    }
+
+    /**
+     * Stop counting a deleted organisation.
+     */
+    @Transactional
+    public void recordDeleted(OrganisationStatus status, OrganisationType organisationType) {
+        apply(status, organisationType, -1);
+    }
+
+    /**
+     * Move an organisation between counters after its status and/or type changed.
+     */
+    @Transactional
+    public void recordChanged(OrganisationStatus oldStatus, OrganisationType oldType,
+                              OrganisationStatus newStatus, OrganisationType newType) {
+        if (oldStatus == newStatus && oldType == newType) {
+            return;
+        }
+        // Rows are locked in the order reconcile() locks them
+        if (lockOrder(oldStatus, oldType).compareTo(lockOrder(newStatus, newType)) <= 0) {
+            apply(oldStatus, oldType, -1);
+            apply(newStatus, newType, 1);
+        } else {
+            apply(newStatus, newType, 1);
+            apply(oldStatus, oldType, -1);
+        }
+    }
+
+    /**
+     * Current counts from the in-memory mirror.
+     */
+    public OrganisationStatsDTO getStats() {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        long total = 0;
+        for (Map.Entry<OrganisationStatus, LongAdder> entry : statusCounts.entrySet()) {
+            long count = entry.getValue().sum();
+            byStatus.put(entry.getKey().name(), count);
+            total += count;
+        }
+        Map<String, Long> byType = new LinkedHashMap<>();
+        for (Map.Entry<OrganisationType, LongAdder> entry : typeCounts.entrySet()) {
+            byType.put(entry.getKey().name(), entry.getValue().sum());
+        }
+        return OrganisationStatsDTO.builder()
+                .totalOrganisations(total)
+                .countsByStatus(byStatus)
+                .countsByType(byType)
+                .lastReconciledDatetime(lastReconciledDatetime)
+                .build();
+    }
+
+    /**
+     * Create the missing counter rows, before the first reconciliation.
+     * Each row is inserted in its own transaction; one created by another instance
+     * starting at the same time is left as it is.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void createMissingCounters() {
+        Set<CounterKey> existing = new HashSet<>();
+        for (Object[] row : counterRepository.findAllCounts()) {
+            existing.add(new CounterKey((OrganisationStatus) row[0], (OrganisationType) row[1]));
+        }
+        int created = 0;
+        for (OrganisationStatus status : OrganisationStatus.values()) {
+            for (OrganisationType type : OrganisationType.values()) {
+                if (existing.contains(new CounterKey(status, type))) {
+                    continue;
+                }
+                try {
+                    counterRepository.saveAndFlush(OrganisationCounter.builder()
+                            .status(status)
+                            .organisationType(type)
+                            .organisationCount(0L)
+                            .lastModifiedDatetime(LocalDateTime.now())
+                            .build());
+                    created++;
+                } catch (DataIntegrityViolationException e) {
+                    log.debug("Organisation counter {}/{} created by another instance", status, type);
+                }
+            }
+        }
+        if (created > 0) {
+            log.info("Created {} organisation counter rows", created);
+        }
+    }
+
+    /**
+     * Recount organisations, correct any counter rows that drifted and reload the mirror.
+     * The counter rows are locked before counting, so a change committed meanwhile waits and
+     * then adds its delta to the corrected count; corrections are applied as deltas too.
+     * Runs once the application is ready and then periodically.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${organisation.counters.reconcile-interval-ms:600000}",
+               initialDelayString = "${organisation.counters.reconcile-interval-ms:600000}")
+    @Transactional
+    public void reconcile() {
+        List<OrganisationCounter> counters = counterRepository.lockAll();
+
+        Map<CounterKey, Long> actual = new HashMap<>();
+        for (Object[] row : organisationRepository.countByStatusAndType()) {
+            actual.put(new CounterKey((OrganisationStatus) row[0], (OrganisationType) row[1]), (Long) row[2]);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int corrected = 0;
+        for (OrganisationCounter counter : counters) {
+            long expected = actual.getOrDefault(new CounterKey(counter.getStatus(), counter.getOrganisationType()), 0L);
+            long stored = counter.getOrganisationCount();
+            if (stored != expected) {
+                log.warn("Organisation counter drift for {}/{}: stored {}, actual {}",
+                        counter.getStatus(), counter.getOrganisationType(), stored, expected);
+                counterRepository.addToCount(counter.getStatus(), counter.getOrganisationType(), expected - stored, now);
+                corrected++;
+            }
+        }
+
+        TransactionCallbacks.afterCommit(() -> reloadMirror(now));
+        log.info("Organisation counters reconciled, {} rows corrected", corrected);
+    }
+
+    private void apply(OrganisationStatus status, OrganisationType organisationType, long delta) {
+        if (status == null || organisationType == null) {
+            return;
+        }
+        int updated = counterRepository.addToCount(status, organisationType, delta, LocalDateTime.now());
+        if (updated == 0) {
+            // Never fail the organisation change over a count; the row is created at the next startup
+            log.warn("No organisation counter row for {}/{}, change not counted", status, organisationType);
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            statusCounts.get(status).add(delta);
+            typeCounts.get(organisationType).add(delta);
+        });
+    }
+
+    /**
+     * Replace the mirror with the committed counter table, which includes the corrections and
+     * every change committed since, on any instance.
+     */
+    private synchronized void reloadMirror(LocalDateTime reconciledAt) {
+        List<Object[]> rows = counterRepository.findAllCounts();
+        statusCounts.values().forEach(LongAdder::reset);
+        typeCounts.values().forEach(LongAdder::reset);
+        for (Object[] row : rows) {
+            statusCounts.get((OrganisationStatus) row[0]).add((Long) row[2]);
+            typeCounts.get((OrganisationType) row[1]).add((Long) row[2]);
+        }
+        lastReconciledDatetime = reconciledAt;
+    }
+
+    private static String lockOrder(OrganisationStatus status, OrganisationType organisationType) {
+        return (status != null ? status.name() : "") + "/" + (organisationType != null ? organisationType.name() : "");
+    }
+
+    private static <E extends Enum<E>> Map<E, LongAdder> newAdders(Class<E> enumType) {
+        Map<E, LongAdder> adders = new EnumMap<>(enumType);
+        for (E value : enumType.getEnumConstants()) {
+            adders.put(value, new LongAdder());
+        }
+        return Collections.unmodifiableMap(adders);
+    }
+
+    private record CounterKey(OrganisationStatus status, OrganisationType organisationType) {
+    }
+}
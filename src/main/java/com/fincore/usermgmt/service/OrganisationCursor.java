@@ -0,0 +1,99 @@
+package com.fincore.usermgmt.service;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Opaque cursor for keyset pagination of organisations.
+ * Encodes the sort column, direction and the sort key plus Organisation_Identifier
+ * of the last row returned, so the next page seeks past it instead of using an offset.
+ */
+final class OrganisationCursor {
+
+    /** Sort columns that are never null and can therefore be used as a seek key. */
+    static final Set<String> SORTABLE_PROPERTIES = Set.of("legalName", "createdDatetime", "id");
+
+    private static final String ID_PROPERTY = "id";
+    private static final String SEPARATOR = "\n";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private OrganisationCursor() {
+    }
+
+    /**
+     * Sort for the given column with Organisation_Identifier as the tie breaker.
+     */
+    static Sort sort(String sortBy, Sort.Direction direction) {
+        requireSortable(sortBy);
+        Sort sort = Sort.by(direction, sortBy);
+        return ID_PROPERTY.equals(sortBy) ? sort : sort.and(Sort.by(direction, ID_PROPERTY));
+    }
+
+    /**
+     * Decode a cursor into a scroll position; a blank cursor means the first page.
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for another sort
+     */
+    static ScrollPosition decode(String cursor, String sortBy, Sort.Direction direction) {
+        requireSortable(sortBy);
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        String[] parts;
+        try {
+            parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (!parts[0].equals(sortBy) || !parts[1].equals(direction.name())) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort order");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            if (!ID_PROPERTY.equals(sortBy)) {
+                String value = new String(DECODER.decode(parts[2]), StandardCharsets.UTF_8);
+                keys.put(sortBy, parser(sortBy).apply(value));
+            }
+            keys.put(ID_PROPERTY, Long.valueOf(parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Encode the position of the last row of a page.
+     */
+    static String encode(ScrollPosition position, String sortBy, Sort.Direction direction) {
+        Map<String, Object> keys = ((KeysetScrollPosition) position).getKeys();
+        String value = ID_PROPERTY.equals(sortBy) ? "" : String.valueOf(keys.get(sortBy));
+        // The sort value is encoded on its own so it may contain the separator
+        String raw = String.join(SEPARATOR, sortBy, direction.name(),
+                ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8)),
+                String.valueOf(keys.get(ID_PROPERTY)));
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Function<String, Object> parser(String sortBy) {
+        return "createdDatetime".equals(sortBy) ? LocalDateTime::parse : value -> value;
+    }
+
+    private static void requireSortable(String sortBy) {
+        if (!SORTABLE_PROPERTIES.contains(sortBy)) {
+            throw new IllegalArgumentException("Cursor pagination supports sorting by " + SORTABLE_PROPERTIES);
+        }
+    }
+}
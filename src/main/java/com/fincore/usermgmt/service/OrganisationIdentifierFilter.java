@@ -0,0 +1,99 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * In-memory Bloom filter over every registration number and company number in use.
+ * A negative answer means the identifier is definitely new and the duplicate check
+ * can skip the database; a positive answer only means "maybe" and must be confirmed.
+ * The filter is local to this instance, so the unique constraints on the
+ * Organisation table remain the source of truth.
+ */
+@Component
+@Slf4j
+public class OrganisationIdentifierFilter {
+
+    private static final String REGISTRATION_PREFIX = "R:";
+    private static final String COMPANY_PREFIX = "C:";
+
+    private final OrganisationRepository organisationRepository;
+    private final int expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private volatile BloomFilter<CharSequence> filter;
+
+    public OrganisationIdentifierFilter(
+            OrganisationRepository organisationRepository,
+            @Value("${organisation.identifier-filter.expected-insertions:1000000}") int expectedInsertions,
+            @Value("${organisation.identifier-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.organisationRepository = organisationRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    /**
+     * Load all existing identifiers once the application is ready.
+     * Until then every lookup answers "maybe".
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        BloomFilter<CharSequence> rebuilt = BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveProbability);
+        List<Object[]> rows = organisationRepository.findAllIdentifiers();
+        for (Object[] row : rows) {
+            putInto(rebuilt, REGISTRATION_PREFIX, (String) row[0]);
+            putInto(rebuilt, COMPANY_PREFIX, (String) row[1]);
+        }
+        filter = rebuilt;
+        log.info("Organisation identifier filter built from {} organisations", rows.size());
+    }
+
+    /**
+     * Record identifiers that are now in use.
+     */
+    public void add(String registrationNumber, String companyNumber) {
+        BloomFilter<CharSequence> current = filter;
+        if (current != null) {
+            putInto(current, REGISTRATION_PREFIX, registrationNumber);
+            putInto(current, COMPANY_PREFIX, companyNumber);
+        }
+    }
+
+    /**
+     * @return false only if the registration number is definitely not in use
+     */
+    public boolean mightContainRegistrationNumber(String registrationNumber) {
+        return mightContain(REGISTRATION_PREFIX, registrationNumber);
+    }
+
+    /**
+     * @return false only if the company number is definitely not in use
+     */
+    public boolean mightContainCompanyNumber(String companyNumber) {
+        return mightContain(COMPANY_PREFIX, companyNumber);
+    }
+
+    private boolean mightContain(String prefix, String value) {
+        if (value == null) {
+            return false;
+        }
+        BloomFilter<CharSequence> current = filter;
+        return current == null || current.mightContain(prefix + value);
+    }
+
+    private static void putInto(BloomFilter<CharSequence> target, String prefix, String value) {
+        if (value != null) {
+            target.put(prefix + value);
+        }
+    }
+}
@@ -0,0 +1,494 @@
+package com.fincore.usermgmt.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fincore.usermgmt.dto.AddressCreateDTO;
+import com.fincore.usermgmt.dto.OrganisationCreateDTO;
+import com.fincore.usermgmt.dto.OrganisationImportDTO;
+import com.fincore.usermgmt.dto.OrganisationImportErrorDTO;
+import com.fincore.usermgmt.entity.Address;
+import com.fincore.usermgmt.entity.AddressType;
+import com.fincore.usermgmt.entity.Organisation;
+import com.fincore.usermgmt.entity.OrganisationImport;
+import com.fincore.usermgmt.entity.OrganisationImportError;
+import com.fincore.usermgmt.entity.User;
+import com.fincore.usermgmt.entity.enums.HmrcExpiryStatus;
+import com.fincore.usermgmt.entity.enums.ImportFormat;
+import com.fincore.usermgmt.entity.enums.ImportStatus;
+import com.fincore.usermgmt.exception.ConflictException;
+import com.fincore.usermgmt.mapper.AddressMapper;
+import com.fincore.usermgmt.mapper.OrganisationMapper;
+import com.fincore.usermgmt.repository.OrganisationImportErrorRepository;
+import com.fincore.usermgmt.repository.OrganisationImportRepository;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.UserRepository;
+import com.fincore.usermgmt.service.imports.ImportRow;
+import com.fincore.usermgmt.service.imports.OrganisationImportReader;
+import com.fincore.usermgmt.service.search.OrganisationSearchEngine;
+import com.fincore.usermgmt.util.SecurityUtil;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.UnmodifiableIterator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of organisations from the legacy platform.
+ * The file is streamed in chunks; each chunk is checked against the database with one
+ * query per kind of conflict, and its organisations and addresses are inserted in JDBC
+ * batches together with the import checkpoint, in one transaction per chunk. Rows whose
+ * Legacy_Identifier was already imported are counted as duplicates and skipped, so
+ * re-importing a file is harmless and a failed import resumes after its checkpoint.
+ * The SIC code index, review queue and counters are brought up to date once at the end
+ * by their own catch-up routines rather than per row.
+ */
+@Service
+@Slf4j
+public class OrganisationImportService {
+
+    private static final int MAX_MESSAGE_LENGTH = 255;
+
+    private final OrganisationImportRepository importRepository;
+    private final OrganisationImportErrorRepository importErrorRepository;
+    private final OrganisationRepository organisationRepository;
+    private final UserRepository userRepository;
+    private final OrganisationMapper organisationMapper;
+    private final AddressMapper addressMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final HmrcExpiryService hmrcExpiryService;
+    private final OrganisationIdentifierFilter identifierFilter;
+    private final OrganisationSearchEngine organisationSearchEngine;
+    private final OrganisationSicCodeService organisationSicCodeService;
+    private final ReviewQueueService reviewQueueService;
+    private final OrganisationCounterService organisationCounterService;
+    private final SecurityUtil securityUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxStoredErrors;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrganisationImportService(
+            OrganisationImportRepository importRepository,
+            OrganisationImportErrorRepository importErrorRepository,
+            OrganisationRepository organisationRepository,
+            UserRepository userRepository,
+            OrganisationMapper organisationMapper,
+            AddressMapper addressMapper,
+            Validator validator,
+            ObjectMapper objectMapper,
+            HmrcExpiryService hmrcExpiryService,
+            OrganisationIdentifierFilter identifierFilter,
+            OrganisationSearchEngine organisationSearchEngine,
+            OrganisationSicCodeService organisationSicCodeService,
+            ReviewQueueService reviewQueueService,
+            OrganisationCounterService organisationCounterService,
+            SecurityUtil securityUtil,
+            PlatformTransactionManager transactionManager,
+            @Value("${organisation.import.chunk-size:1000}") int chunkSize,
+            @Value("${organisation.import.max-stored-errors:1000}") int maxStoredErrors) {
+        this.importRepository = importRepository;
+        this.importErrorRepository = importErrorRepository;
+        this.organisationRepository = organisationRepository;
+        this.userRepository = userRepository;
+        this.organisationMapper = organisationMapper;
+        this.addressMapper = addressMapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.hmrcExpiryService = hmrcExpiryService;
+        this.identifierFilter = identifierFilter;
+        this.organisationSearchEngine = organisationSearchEngine;
+        this.organisationSicCodeService = organisationSicCodeService;
+        this.reviewQueueService = reviewQueueService;
+        this.organisationCounterService = organisationCounterService;
+        this.securityUtil = securityUtil;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxStoredErrors = maxStoredErrors;
+    }
+
+    /**
+     * Import a file from the start.
+     * @param fileName original file name, for the report
+     * @param format file format
+     * @param in file content; closed once read
+     * @return the import after the run, COMPLETED or FAILED
+     * @throws ConflictException if an import is already running on this instance
+     */
+    public OrganisationImportDTO importFile(String fileName, ImportFormat format, InputStream in) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("An organisation import is already in progress");
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            OrganisationImport job = importRepository.save(OrganisationImport.builder()
+                    .fileName(fileName)
+                    .format(format)
+                    .status(ImportStatus.RUNNING)
+                    .startedDatetime(now)
+                    .lastModifiedDatetime(now)
+                    .createdBy(securityUtil.getCurrentUser().map(User::getId).orElse(null))
+                    .build());
+            log.info("Starting organisation import {} of {} ({})", job.getId(), fileName, format);
+            return toDTO(run(job, in));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Resume a failed or interrupted import with the same file, skipping every row up to its checkpoint.
+     * @param importId the import to resume
+     * @param in file content; closed once read
+     * @return the import after the run, COMPLETED or FAILED
+     * @throws ConflictException if the import has completed, or an import is already running on this instance
+     */
+    public OrganisationImportDTO resume(Long importId, InputStream in) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("An organisation import is already in progress");
+        }
+        try {
+            OrganisationImport job = importRepository.findById(importId)
+                    .orElseThrow(() -> new RuntimeException("Organisation import not found with ID: " + importId));
+            if (job.getStatus() == ImportStatus.COMPLETED) {
+                throw new ConflictException("Organisation import has already completed: " + importId);
+            }
+            log.info("Resuming organisation import {} after row {}", importId, job.getCheckpointRow());
+            job.setStatus(ImportStatus.RUNNING);
+            job.setFailureReason(null);
+            return toDTO(run(importRepository.save(job), in));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Get an import by ID.
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrganisationImportDTO> getImport(Long id) {
+        return importRepository.findById(id).map(this::toDTO);
+    }
+
+    /**
+     * Get recent imports, most recent first.
+     */
+    @Transactional(readOnly = true)
+    public List<OrganisationImportDTO> getRecentImports(int limit) {
+        return importRepository.findAllByOrderByStartedDatetimeDesc(PageRequest.of(0, limit)).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the rows of an import that could not be imported, in file order.
+     * Only the first organisation.import.max-stored-errors errors of an import are kept.
+     */
+    @Transactional(readOnly = true)
+    public List<OrganisationImportErrorDTO> getErrors(Long importId, int limit) {
+        return importErrorRepository.findByImportIdOrderByRowNumber(importId, PageRequest.of(0, limit)).stream()
+                .map(error -> OrganisationImportErrorDTO.builder()
+                        .rowNumber(error.getRowNumber())
+                        .legacyIdentifier(error.getLegacyIdentifier())
+                        .message(error.getMessage())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private OrganisationImport run(OrganisationImport job, InputStream in) {
+        long startNanos = System.nanoTime();
+        long startRows = rowsProcessed(job);
+        try {
+            importChunks(job, in);
+            job.setStatus(ImportStatus.COMPLETED);
+            job.setCompletedDatetime(LocalDateTime.now());
+        } catch (IOException | RuntimeException e) {
+            // Chunks committed so far stay imported; resuming continues after the committed checkpoint
+            log.error("Organisation import {} failed after row {}", job.getId(), job.getCheckpointRow(), e);
+            job = importRepository.findById(job.getId()).orElse(job);
+            job.setStatus(ImportStatus.FAILED);
+            job.setFailureReason(truncate(e.getClass().getSimpleName() + ": " + e.getMessage()));
+        }
+
+        long durationMillis = Math.max((System.nanoTime() - startNanos) / 1_000_000, 1);
+        job.setDurationMillis(job.getDurationMillis() + durationMillis);
+        job.setLastModifiedDatetime(LocalDateTime.now());
+        OrganisationImport saved = importRepository.save(job);
+        long rows = rowsProcessed(saved) - startRows;
+        log.info("Organisation import {} {}: {} rows in {} ms ({} per second) - {} imported, {} duplicates, {} errors in total",
+                saved.getId(), saved.getStatus(), rows, durationMillis,
+                String.format("%.1f", rows * 1000.0 / durationMillis),
+                saved.getImportedCount(), saved.getDuplicateCount(), saved.getErrorCount());
+
+        catchUp();
+        return saved;
+    }
+
+    /**
+     * Import every row after the checkpoint, one transaction per chunk.
+     */
+    private void importChunks(OrganisationImport job, InputStream in) throws IOException {
+        Function<LocalDate, HmrcExpiryStatus> hmrcClassifier = hmrcExpiryService.classifier();
+        long checkpoint = job.getCheckpointRow();
+        try (OrganisationImportReader reader = OrganisationImportReader.open(in, job.getFormat(), objectMapper)) {
+            UnmodifiableIterator<List<ImportRow>> chunks = Iterators.partition(
+                    Iterators.filter(reader, row -> row.rowNumber() > checkpoint), chunkSize);
+            while (chunks.hasNext()) {
+                List<ImportRow> chunk = chunks.next();
+                List<Organisation> imported = transactionTemplate.execute(status ->
+                        writeChunk(job, chunk, hmrcClassifier));
+                if (imported != null) {
+                    for (Organisation organisation : imported) {
+                        identifierFilter.add(organisation.getRegistrationNumber(), organisation.getCompanyNumber());
+                        organisationSearchEngine.index(organisation);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Check and insert one chunk, and move the checkpoint past it.
+     * @return the organisations inserted
+     */
+    private List<Organisation> writeChunk(OrganisationImport job, List<ImportRow> rows,
+                                          Function<LocalDate, HmrcExpiryStatus> hmrcClassifier) {
+        List<OrganisationImportError> errors = new ArrayList<>();
+        List<ImportRow> valid = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            String problem = validate(row);
+            if (problem != null) {
+                errors.add(error(job, row, problem));
+            } else {
+                valid.add(row);
+            }
+        }
+
+        // One query per kind of conflict for the whole chunk
+        Set<String> legacyIdentifiers = new HashSet<>(existing(valid, row -> row.organisation().getLegacyIdentifier(),
+                organisationRepository::findLegacyIdentifiersIn));
+        Set<Long> knownOwners = new HashSet<>(existing(valid, row -> row.organisation().getOwnerId(),
+                userRepository::findExistingIds));
+        Set<Long> takenOwners = new HashSet<>(existing(valid, row -> row.organisation().getOwnerId(),
+                organisationRepository::findOwnerIdsIn));
+        Set<String> registrationNumbers = new HashSet<>(existing(valid,
+                row -> blankToNull(row.organisation().getRegistrationNumber()),
+                organisationRepository::findRegistrationNumbersIn));
+        Set<String> companyNumbers = new HashSet<>(existing(valid,
+                row -> blankToNull(row.organisation().getCompanyNumber()),
+                organisationRepository::findCompanyNumbersIn));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Organisation> organisations = new ArrayList<>(valid.size());
+        long duplicates = 0;
+        for (ImportRow row : valid) {
+            OrganisationCreateDTO dto = row.organisation();
+            String registrationNumber = blankToNull(dto.getRegistrationNumber());
+            String companyNumber = blankToNull(dto.getCompanyNumber());
+            String problem = null;
+            if (legacyIdentifiers.contains(dto.getLegacyIdentifier())) {
+                duplicates++;
+                continue;
+            } else if (!knownOwners.contains(dto.getOwnerId())) {
+                problem = "Owner user not found with ID: " + dto.getOwnerId();
+            } else if (takenOwners.contains(dto.getOwnerId())) {
+                problem = "User already has an organisation. Each user can only create one organisation.";
+            } else if (registrationNumber != null && registrationNumbers.contains(registrationNumber)) {
+                problem = "Organisation with registration number already exists: " + registrationNumber;
+            } else if (companyNumber != null && companyNumbers.contains(companyNumber)) {
+                problem = "Organisation with company number already exists: " + companyNumber;
+            }
+            if (problem != null) {
+                errors.add(error(job, row, problem));
+                continue;
+            }
+            // Later rows of the same chunk conflict with this one
+            legacyIdentifiers.add(dto.getLegacyIdentifier());
+            takenOwners.add(dto.getOwnerId());
+            if (registrationNumber != null) {
+                registrationNumbers.add(registrationNumber);
+            }
+            if (companyNumber != null) {
+                companyNumbers.add(companyNumber);
+            }
+            organisations.add(toOrganisation(row, registrationNumber, companyNumber, job.getCreatedBy(), now,
+                    hmrcClassifier));
+        }
+
+        organisationRepository.insertAll(organisations);
+
+        errors.sort(Comparator.comparingLong(OrganisationImportError::getRowNumber));
+        long storedErrors = Math.min(job.getErrorCount(), maxStoredErrors);
+        if (storedErrors < maxStoredErrors && !errors.isEmpty()) {
+            importErrorRepository.saveAll(errors.subList(0, (int) Math.min(errors.size(), maxStoredErrors - storedErrors)));
+        }
+        job.setCheckpointRow(rows.get(rows.size() - 1).rowNumber());
+        job.setImportedCount(job.getImportedCount() + organisations.size());
+        job.setDuplicateCount(job.getDuplicateCount() + duplicates);
+        job.setErrorCount(job.getErrorCount() + errors.size());
+        job.setLastModifiedDatetime(now);
+        importRepository.save(job);
+        return organisations;
+    }
+
+    /**
+     * @return why the row cannot be imported, or null if it passes the create DTO's constraints
+     */
+    private String validate(ImportRow row) {
+        if (row.error() != null) {
+            return row.error();
+        }
+        OrganisationCreateDTO dto = row.organisation();
+        if (dto.getLegacyIdentifier() == null || dto.getLegacyIdentifier().isBlank()) {
+            return "Legacy identifier is required";
+        }
+        if (row.status() != null && organisationMapper.stringToStatus(row.status()) == null) {
+            return "Unknown organisation status: " + row.status();
+        }
+        // The address type follows from the column an address is in
+        fillTypeCode(dto.getRegisteredAddress(), AddressType.REGISTERED);
+        fillTypeCode(dto.getBusinessAddress(), AddressType.BUSINESS);
+        fillTypeCode(dto.getCorrespondenceAddress(), AddressType.CORRESPONDENCE);
+        Set<ConstraintViolation<OrganisationCreateDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        return null;
+    }
+
+    private static void fillTypeCode(AddressCreateDTO address, AddressType type) {
+        if (address != null && address.getTypeCode() == null) {
+            address.setTypeCode(type.getCode());
+        }
+    }
+
+    private Organisation toOrganisation(ImportRow row, String registrationNumber, String companyNumber, Long createdBy,
+                                        LocalDateTime now, Function<LocalDate, HmrcExpiryStatus> hmrcClassifier) {
+        OrganisationCreateDTO dto = row.organisation();
+        Organisation organisation = organisationMapper.toOrganisation(dto);
+        organisation.setOwner(userRepository.getReferenceById(dto.getOwnerId()));
+        organisation.setRegistrationNumber(registrationNumber);
+        organisation.setCompanyNumber(companyNumber);
+        if (row.status() != null) {
+            organisation.setStatus(organisationMapper.stringToStatus(row.status()));
+        }
+        organisation.setHmrcExpiryStatus(hmrcClassifier.apply(organisation.getHmrcExpiryDate()));
+        organisation.setRegisteredAddress(toAddress(dto.getRegisteredAddress(), AddressType.REGISTERED, createdBy, now));
+        organisation.setBusinessAddress(toAddress(dto.getBusinessAddress(), AddressType.BUSINESS, createdBy, now));
+        organisation.setCorrespondenceAddress(
+                toAddress(dto.getCorrespondenceAddress(), AddressType.CORRESPONDENCE, createdBy, now));
+        // Entity callbacks do not run for batch inserts
+        organisation.parseTransactionVolumes();
+        organisation.setCreatedDatetime(now);
+        organisation.setCreatedBy(createdBy);
+        organisation.setLastModifiedDatetime(now);
+        organisation.setLastModifiedBy(createdBy);
+        organisation.setVersion(0L);
+        return organisation;
+    }
+
+    private Address toAddress(AddressCreateDTO dto, AddressType type, Long createdBy, LocalDateTime now) {
+        if (dto == null) {
+            return null;
+        }
+        Address address = addressMapper.toAddress(dto);
+        address.setAddressType(type);
+        address.setStatusDescription("ACTIVE");
+        address.setCreatedDatetime(now);
+        address.setCreatedBy(createdBy);
+        address.setLastModifiedDatetime(now);
+        address.setVersion(0L);
+        return address;
+    }
+
+    /**
+     * Bring the derived tables in line with the imported organisations.
+     */
+    private void catchUp() {
+        try {
+            organisationSicCodeService.backfill();
+            reviewQueueService.synchronise();
+            organisationCounterService.reconcile();
+        } catch (RuntimeException e) {
+            // Each routine also runs on startup, and the counters on a schedule
+            log.error("Failed to update derived organisation data after import", e);
+        }
+    }
+
+    private static <K> List<K> existing(List<ImportRow> rows, Function<ImportRow, K> key,
+                                        Function<Collection<K>, List<K>> query) {
+        Set<K> keys = rows.stream()
+                .map(key)
+                .filter(value -> value != null)
+                .collect(Collectors.toSet());
+        return keys.isEmpty() ? List.of() : query.apply(keys);
+    }
+
+    private static OrganisationImportError error(OrganisationImport job, ImportRow row, String message) {
+        return OrganisationImportError.builder()
+                .importId(job.getId())
+                .rowNumber(row.rowNumber())
+                .legacyIdentifier(row.organisation() != null ? truncate(row.organisation().getLegacyIdentifier(), 20) : null)
+                .message(truncate(message))
+                .build();
+    }
+
+    private static long rowsProcessed(OrganisationImport job) {
+        return job.getImportedCount() + job.getDuplicateCount() + job.getErrorCount();
+    }
+
+    private static String truncate(String value) {
+        return truncate(value, MAX_MESSAGE_LENGTH);
+    }
+
+    private static String truncate(String value, int length) {
+        return value != null && value.length() > length ? value.substring(0, length) : value;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value;
+    }
+
+    private OrganisationImportDTO toDTO(OrganisationImport job) {
+        long rows = rowsProcessed(job);
+        return OrganisationImportDTO.builder()
+                .id(job.getId())
+                .fileName(job.getFileName())
+                .format(job.getFormat().name())
+                .status(job.getStatus().name())
+                .checkpointRow(job.getCheckpointRow())
+                .rowsProcessed(rows)
+                .importedCount(job.getImportedCount())
+                .duplicateCount(job.getDuplicateCount())
+                .errorCount(job.getErrorCount())
+                .durationMillis(job.getDurationMillis())
+                .rowsPerSecond(job.getDurationMillis() > 0 ? rows * 1000.0 / job.getDurationMillis() : 0)
+                .failureReason(job.getFailureReason())
+                .startedDatetime(job.getStartedDatetime())
+                .completedDatetime(job.getCompletedDatetime())
+                .build();
+    }
+}
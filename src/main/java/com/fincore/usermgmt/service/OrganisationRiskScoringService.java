@@ -0,0 +1,298 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.dto.RiskScoringRunDTO;
+import com.fincore.usermgmt.entity.DocumentStatus;
+import com.fincore.usermgmt.entity.OrganisationType;
+import com.fincore.usermgmt.entity.RiskScoringRun;
+import com.fincore.usermgmt.entity.enums.RiskLevel;
+import com.fincore.usermgmt.exception.ConflictException;
+import com.fincore.usermgmt.repository.KycDocumentRepository;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.RiskScoringRunRepository;
+import com.fincore.usermgmt.service.risk.OrganisationRiskModel;
+import com.fincore.usermgmt.service.risk.RiskAssessment;
+import com.fincore.usermgmt.service.risk.RiskProfile;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Batch risk scoring of organisations against the configured {@link OrganisationRiskModel}.
+ * Organisations are read in chunks of IDs as flat rows, each chunk is scored on a
+ * dedicated fork-join pool while the next chunk is read, and the scores are written
+ * back in JDBC batches, one transaction per chunk.
+ * An incremental run only re-scores organisations changed, or with a KYC document
+ * changed, since the start of the previous run, plus any never scored.
+ */
+@Service
+@Slf4j
+public class OrganisationRiskScoringService {
+
+    // Profiles per fork-join leaf task
+    private static final int SCORING_THRESHOLD = 64;
+
+    private final OrganisationRepository organisationRepository;
+    private final KycDocumentRepository kycDocumentRepository;
+    private final RiskScoringRunRepository riskScoringRunRepository;
+    private final OrganisationRiskModel riskModel;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool scoringPool;
+    private final int chunkSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrganisationRiskScoringService(
+            OrganisationRepository organisationRepository,
+            KycDocumentRepository kycDocumentRepository,
+            RiskScoringRunRepository riskScoringRunRepository,
+            OrganisationRiskModel riskModel,
+            PlatformTransactionManager transactionManager,
+            @Value("${organisation.risk.chunk-size:500}") int chunkSize,
+            @Value("${organisation.risk.parallelism:0}") int parallelism) {
+        this.organisationRepository = organisationRepository;
+        this.kycDocumentRepository = kycDocumentRepository;
+        this.riskScoringRunRepository = riskScoringRunRepository;
+        this.riskModel = riskModel;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scoringPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.chunkSize = chunkSize;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scoringPool.shutdown();
+    }
+
+    /**
+     * Nightly incremental run.
+     */
+    @Scheduled(cron = "${organisation.risk.cron:0 0 3 * * *}")
+    public void scheduledRun() {
+        try {
+            score(true);
+        } catch (ConflictException e) {
+            log.info("Skipping scheduled risk scoring: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Score organisations and record the run.
+     * @param incremental only re-score organisations changed since the previous run;
+     *                    the first run is always a full run
+     * @return the completed run with its throughput
+     * @throws ConflictException if a run is already in progress
+     */
+    public RiskScoringRunDTO score(boolean incremental) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("A risk scoring run is already in progress");
+        }
+        try {
+            return toDTO(riskScoringRunRepository.save(execute(incremental)));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Get the most recent run.
+     */
+    @Transactional(readOnly = true)
+    public Optional<RiskScoringRunDTO> getLatestRun() {
+        return riskScoringRunRepository.findFirstByOrderByStartedDatetimeDesc().map(this::toDTO);
+    }
+
+    /**
+     * Get recent runs, most recent first.
+     */
+    @Transactional(readOnly = true)
+    public List<RiskScoringRunDTO> getRecentRuns(int limit) {
+        return riskScoringRunRepository.findAllByOrderByStartedDatetimeDesc(PageRequest.of(0, limit)).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    private RiskScoringRun execute(boolean incremental) {
+        LocalDateTime started = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        LocalDateTime since = incremental
+                ? riskScoringRunRepository.findFirstByOrderByStartedDatetimeDesc()
+                        .map(RiskScoringRun::getStartedDatetime).orElse(null)
+                : null;
+        Iterator<List<Long>> chunks = since != null ? changedChunks(since) : allChunks();
+
+        long scored = 0;
+        long highRisk = 0;
+        int chunkCount = 0;
+        ForkJoinTask<List<RiskAssessment>> inFlight = null;
+        while (chunks.hasNext()) {
+            // Reading the next chunk overlaps with scoring the previous one
+            List<RiskProfile> profiles = loadProfiles(chunks.next());
+            ForkJoinTask<List<RiskAssessment>> next = scoringPool.submit(new ScoringTask(riskModel, profiles));
+            if (inFlight != null) {
+                highRisk += write(inFlight.join());
+            }
+            scored += profiles.size();
+            chunkCount++;
+            inFlight = next;
+        }
+        if (inFlight != null) {
+            highRisk += write(inFlight.join());
+        }
+
+        long durationMillis = Math.max((System.nanoTime() - startNanos) / 1_000_000, 1);
+        double perSecond = scored * 1000.0 / durationMillis;
+        log.info("Risk scoring ({}, {}) scored {} organisations in {} chunks in {} ms ({} per second), {} high risk",
+                riskModel.name(), since != null ? "incremental since " + since : "full",
+                scored, chunkCount, durationMillis, String.format("%.1f", perSecond), highRisk);
+        return RiskScoringRun.builder()
+                .modelName(riskModel.name())
+                .incremental(since != null)
+                .modifiedSince(since)
+                .startedDatetime(started)
+                .completedDatetime(LocalDateTime.now())
+                .organisationsScored(scored)
+                .highRiskCount(highRisk)
+                .chunkCount(chunkCount)
+                .durationMillis(durationMillis)
+                .organisationsPerSecond(perSecond)
+                .build();
+    }
+
+    /**
+     * Every organisation, by seeking past the last ID of the previous chunk.
+     */
+    private Iterator<List<Long>> allChunks() {
+        return new AbstractIterator<>() {
+            private long afterId = 0;
+
+            @Override
+            protected List<Long> computeNext() {
+                List<Long> ids = organisationRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    return endOfData();
+                }
+                afterId = ids.get(ids.size() - 1);
+                return ids;
+            }
+        };
+    }
+
+    /**
+     * Organisations changed or with a document changed since the given time, or never scored.
+     */
+    private Iterator<List<Long>> changedChunks(LocalDateTime since) {
+        TreeSet<Long> ids = new TreeSet<>(organisationRepository.findIdsModifiedOrUnscoredSince(since));
+        ids.addAll(kycDocumentRepository.findOrganisationIdsModifiedSince(since));
+        return Iterators.partition(ids.iterator(), chunkSize);
+    }
+
+    private List<RiskProfile> loadProfiles(List<Long> ids) {
+        Map<Long, Map<DocumentStatus, Long>> documentCounts = new HashMap<>();
+        for (Object[] row : kycDocumentRepository.countByOrganisationIdInGroupByStatus(ids)) {
+            documentCounts.computeIfAbsent((Long) row[0], id -> new EnumMap<>(DocumentStatus.class))
+                    .put((DocumentStatus) row[1], (Long) row[2]);
+        }
+        List<RiskProfile> profiles = new ArrayList<>(ids.size());
+        for (Object[] row : organisationRepository.findRiskInputs(ids)) {
+            Long id = (Long) row[0];
+            Map<DocumentStatus, Long> counts = documentCounts.getOrDefault(id, Map.of());
+            profiles.add(RiskProfile.builder()
+                    .organisationId(id)
+                    .organisationType((OrganisationType) row[1])
+                    .primaryRemittanceDestinationCountry((String) row[2])
+                    .secondaryRemittanceDestinationCountry((String) row[3])
+                    .monthlyTurnoverMax((BigDecimal) row[4])
+                    .incomingTransactionValue((BigDecimal) row[5])
+                    .outgoingTransactionValue((BigDecimal) row[6])
+                    .maxOutgoingPayment((BigDecimal) row[7])
+                    .verifiedDocuments(counts.getOrDefault(DocumentStatus.VERIFIED, 0L))
+                    .pendingDocuments(counts.getOrDefault(DocumentStatus.PENDING, 0L)
+                            + counts.getOrDefault(DocumentStatus.UNDER_REVIEW, 0L)
+                            + counts.getOrDefault(DocumentStatus.REQUIRES_UPDATE, 0L))
+                    .rejectedDocuments(counts.getOrDefault(DocumentStatus.REJECTED, 0L))
+                    .expiredDocuments(counts.getOrDefault(DocumentStatus.EXPIRED, 0L))
+                    .build());
+        }
+        return profiles;
+    }
+
+    /**
+     * @return number of high risk organisations written
+     */
+    private long write(List<RiskAssessment> assessments) {
+        transactionTemplate.executeWithoutResult(status ->
+                organisationRepository.updateRiskScores(assessments, LocalDateTime.now()));
+        return assessments.stream().filter(assessment -> assessment.level() == RiskLevel.HIGH).count();
+    }
+
+    private RiskScoringRunDTO toDTO(RiskScoringRun run) {
+        return RiskScoringRunDTO.builder()
+                .id(run.getId())
+                .modelName(run.getModelName())
+                .incremental(run.isIncremental())
+                .modifiedSince(run.getModifiedSince())
+                .startedDatetime(run.getStartedDatetime())
+                .completedDatetime(run.getCompletedDatetime())
+                .organisationsScored(run.getOrganisationsScored())
+                .highRiskCount(run.getHighRiskCount())
+                .chunkCount(run.getChunkCount())
+                .durationMillis(run.getDurationMillis())
+                .organisationsPerSecond(run.getOrganisationsPerSecond())
+                .build();
+    }
+
+    /**
+     * Scores a slice of profiles, splitting it in half until it is small enough.
+     */
+    private static final class ScoringTask extends RecursiveTask<List<RiskAssessment>> {
+
+        private final OrganisationRiskModel model;
+        private final List<RiskProfile> profiles;
+
+        ScoringTask(OrganisationRiskModel model, List<RiskProfile> profiles) {
+            this.model = model;
+            this.profiles = profiles;
+        }
+
+        @Override
+        protected List<RiskAssessment> compute() {
+            if (profiles.size() <= SCORING_THRESHOLD) {
+                List<RiskAssessment> assessments = new ArrayList<>(profiles.size());
+                for (RiskProfile profile : profiles) {
+                    assessments.add(model.assess(profile));
+                }
+                return assessments;
+            }
+            int middle = profiles.size() / 2;
+            ScoringTask left = new ScoringTask(model, profiles.subList(0, middle));
+            ScoringTask right = new ScoringTask(model, profiles.subList(middle, profiles.size()));
+            left.fork();
+            List<RiskAssessment> assessments = new ArrayList<>(right.compute());
+            assessments.addAll(0, left.join());
+            return assessments;
+        }
+    }
+}
@@ -2,25 +2,53 @@ package com.fincore.usermgmt.service;
 
 import com.fincore.usermgmt.dto.*;
 import com.fincore.usermgmt.entity.*;
+import com.fincore.usermgmt.entity.enums.HmrcExpiryStatus;
+import com.fincore.usermgmt.exception.ConflictException;
 import com.fincore.usermgmt.mapper.AddressMapper;
 import com.fincore.usermgmt.mapper.OrganisationMapper;
 import com.fincore.usermgmt.repository.AddressRepository;
 import com.fincore.usermgmt.repository.KycDocumentRepository;
 import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.OrganisationRepositoryCustom;
 import com.fincore.usermgmt.repository.UserRepository;
+import com.fincore.usermgmt.service.search.OrganisationSearchEngine;
+import com.fincore.usermgmt.util.ResourceVersion;
 import com.fincore.usermgmt.util.SecurityUtil;
+import com.fincore.usermgmt.util.SicHierarchy;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -36,9 +64,26 @@ public class OrganisationService {
     private final UserRepository userRepository;
     private final KycDocumentService kycDocumentService;
     private final KycDocumentRepository kycDocumentRepository;
+    private final OrganisationArchiveService organisationArchiveService;
+    private final OrganisationSicCodeService organisationSicCodeService;
     private final OrganisationMapper organisationMapper;
     private final AddressMapper addressMapper;
     private final SecurityUtil securityUtil;
+    private final OrganisationSearchEngine organisationSearchEngine;
+    private final OrganisationIdentifierFilter identifierFilter;
+    private final OrganisationCounterService organisationCounterService;
+    private final StatusChangeFeed statusChangeFeed;
+    private final HmrcExpiryService hmrcExpiryService;
+    private final ReviewQueueService reviewQueueService;
+
+    private static final Set<OrganisationStatus> SUBMITTABLE_STATUSES =
+            EnumSet.of(OrganisationStatus.PENDING, OrganisationStatus.REQUIRES_RESUBMISSION);
+    private static final Set<OrganisationStatus> REVIEWABLE_STATUSES = EnumSet.of(OrganisationStatus.UNDER_REVIEW);
+    private static final Set<String> RANGE_FIELDS = Set.of(
+            "monthlyTurnoverMin", "monthlyTurnoverMax",
+            "incomingTransactionCount", "outgoingTransactionCount",
+            "incomingTransactionValue", "outgoingTransactionValue",
+            "maxIncomingPayment", "maxOutgoingPayment");
 
     /**
      * Create a new organisation.
@@ -51,27 +96,16 @@ public class OrganisationService {
         User owner = userRepository.findById(createDTO.getOwnerId())
                 .orElseThrow(() -> new RuntimeException("Owner user not found with ID: " + createDTO.getOwnerId()));
 
-        // Check if owner already has an organisation (one organisation per user rule)
-        if (organisationRepository.existsByOwnerId(createDTO.getOwnerId())) {
-            throw new RuntimeException("User already has an organisation. Each user can only create one organisation.");
-        }
-
-        // Check for duplicate registration number (only if provided and not empty)
-        if (createDTO.getRegistrationNumber() != null && 
-            !createDTO.getRegistrationNumber().trim().isEmpty() &&
-            organisationRepository.existsByRegistrationNumber(createDTO.getRegistrationNumber())) {
-            throw new RuntimeException("Organisation with registration number already exists: " + createDTO.getRegistrationNumber());
-        }
-
-        // Check for duplicate company number (only if provided and not empty)
-        if (createDTO.getCompanyNumber() != null && 
-            !createDTO.getCompanyNumber().trim().isEmpty() &&
-            organisationRepository.existsByCompanyNumber(createDTO.getCompanyNumber())) {
-            throw new RuntimeException("Organisation with company number already exists: " + createDTO.getCompanyNumber());
-        }
+        // Check for duplicate registration or company number (only if provided and not empty)
+        String registrationNumber = blankToNull(createDTO.getRegistrationNumber());
+        String companyNumber = blankToNull(createDTO.getCompanyNumber());
+        checkIdentifiersAvailable(registrationNumber, companyNumber, null);
 
         Organisation organisation = organisationMapper.toOrganisation(createDTO);
         organisation.setOwner(owner);
+        organisation.setRegistrationNumber(registrationNumber);
+        organisation.setCompanyNumber(companyNumber);
+        organisation.setHmrcExpiryStatus(hmrcExpiryService.classify(organisation.getHmrcExpiryDate()));
 
         // Handle addresses
         if (createDTO.getRegisteredAddress() != null) {
@@ -92,27 +126,24 @@ public class OrganisationService {
             organisation.setCorrespondenceAddress(correspondenceAddress);
         }
 
-        Organisation saved = organisationRepository.save(organisation);
+        // Indexed below, in the same transaction
+        organisation.setSicCodesIndexed(true);
+        // The one organisation per user rule is enforced by uk_org_owner on insert
+        Organisation saved = saveAndCheckIdentifiers(organisation);
+        organisationSicCodeService.index(saved);
+        organisationSearchEngine.index(saved);
+        organisationCounterService.recordCreated(saved.getStatus(), saved.getOrganisationType());
+        statusChangeFeed.organisationStatusChanged(saved.getId(), null, saved.getStatus());
+        reviewQueueService.statusChanged(saved.getId(), null, saved.getStatus());
+        statusChangeFeed.hmrcExpiryStatusChanged(saved.getHmrcExpiryStatus(), List.of(saved.getId()));
         log.info("Created organisation with ID: {}", saved.getId());
         
-        // Handle KYC documents if provided
+        OrganisationDTO result = organisationMapper.toOrganisationDTO(saved);
+        // Handle KYC documents if provided, reusing the organisation just saved
         if (createDTO.getKycDocuments() != null && !createDTO.getKycDocuments().isEmpty()) {
-            log.info("Creating {} KYC documents for organisation {}", 
-                createDTO.getKycDocuments().size(), saved.getId());
-            
-            for (KycDocumentCreateDTO kycDocDTO : createDTO.getKycDocuments()) {
-                // Set the organisation ID for each document
-                kycDocDTO.setOrganisationId(saved.getId());
-                try {
-                    kycDocumentService.createDocument(kycDocDTO);
-                } catch (Exception e) {
-                    log.error("Failed to create KYC document: {}", e.getMessage());
-                    // Continue with other documents even if one fails
-                }
-            }
+            result.setKycDocumentResults(kycDocumentService.createDocuments(saved, createDTO.getKycDocuments()));
         }
-        
-        return organisationMapper.toOrganisationDTO(saved);
+        return result;
     }
 
     /**
@@ -125,6 +156,16 @@ public class OrganisationService {
                 .map(organisationMapper::toOrganisationDTO);
     }
 
+    /**
+     * Get the conditional request validators of an organisation without loading it.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getOrganisationVersion(Long id) {
+        return organisationRepository.findVersionById(id).stream()
+                .findFirst()
+                .map(row -> ResourceVersion.fromRow(row, 2));
+    }
+
     /**
      * Get all organisations with pagination.
      */
@@ -170,23 +211,8 @@ public class OrganisationService {
                 : Sort.by(searchDTO.getSortBy()).ascending();
         Pageable pageable = PageRequest.of(searchDTO.getPage(), searchDTO.getSize(), sort);
 
-        OrganisationStatus status = null;
-        if (searchDTO.getStatus() != null && !searchDTO.getStatus().isEmpty()) {
-            try {
-                status = OrganisationStatus.valueOf(searchDTO.getStatus().toUpperCase());
-            } catch (IllegalArgumentException e) {
-                log.warn("Invalid status filter: {}", searchDTO.getStatus());
-            }
-        }
-
-        OrganisationType type = null;
-        if (searchDTO.getOrganisationType() != null && !searchDTO.getOrganisationType().isEmpty()) {
-            try {
-                type = OrganisationType.valueOf(searchDTO.getOrganisationType().toUpperCase());
-            } catch (IllegalArgumentException e) {
-                log.warn("Invalid organisation type filter: {}", searchDTO.getOrganisationType());
-            }
-        }
+        OrganisationStatus status = parseStatusFilter(searchDTO.getStatus());
+        OrganisationType type = parseTypeFilter(searchDTO.getOrganisationType());
 
         // Make variables effectively final for lambda
         final OrganisationStatus finalStatus = status;
@@ -216,13 +242,141 @@ public class OrganisationService {
                     .orElse(new PagedResponse<>(List.of(), 0, 0, 0L, 0, true, true));
         }
 
-        // All other roles can search all organisations
-        Page<Organisation> organisationPage = organisationRepository.searchOrganisations(
-                searchDTO.getSearchTerm(), status, type, pageable);
+        // All other roles can search all organisations; free-text terms go to the
+        // ranked search index, filter-only searches go straight to the database
+        Page<Organisation> organisationPage;
+        if (searchDTO.getSearchTerm() != null && !searchDTO.getSearchTerm().isBlank()) {
+            organisationPage = organisationSearchEngine.search(searchDTO.getSearchTerm(), status, type, pageable);
+        } else {
+            organisationPage = organisationRepository.findByFilters(status, type, pageable);
+        }
         
         return buildPagedResponse(organisationPage);
     }
 
+    /**
+     * Get all organisations with pagination, selecting only the requested fields.
+     * Rows come from a projection query, so no entity is loaded or mapped.
+     * @param fields comma-separated OrganisationDTO property names
+     * @throws IllegalArgumentException for an unknown field
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<Map<String, Object>> getAllOrganisationFields(int page, int size, String sortBy,
+                                                                     String sortDirection, String fields) {
+        log.debug("Fetching organisation fields [{}] - page: {}, size: {}", fields, page, size);
+        List<String> selected = parseFields(fields);
+        Pageable pageable = PageRequest.of(page, size, sort(sortBy, sortDirection));
+        return visibleToCurrentUser(matchesFilters(null, null))
+                .map(filters -> toPagedResponse(organisationRepository.findFields(filters, selected, pageable)))
+                .orElse(new PagedResponse<>(List.of(), 0, 0, 0L, 0, true, true));
+    }
+
+    /**
+     * Search organisations, selecting only the requested fields.
+     * Filter-only searches use a projection query. Free-text results are ordered by the
+     * search index, so that page is loaded as usual and trimmed to the requested fields.
+     * @param fields comma-separated OrganisationDTO property names
+     * @throws IllegalArgumentException for an unknown field
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<Map<String, Object>> searchOrganisationFields(OrganisationSearchDTO searchDTO, String fields) {
+        log.debug("Searching organisation fields [{}] with criteria: {}", fields, searchDTO);
+        List<String> selected = parseFields(fields);
+        if (searchDTO.getSearchTerm() != null && !searchDTO.getSearchTerm().isBlank()) {
+            PagedResponse<OrganisationDTO> results = searchOrganisations(searchDTO);
+            return PagedResponse.<Map<String, Object>>builder()
+                    .content(results.getContent().stream()
+                            .map(dto -> selectFields(dto, selected))
+                            .collect(Collectors.toList()))
+                    .page(results.getPage())
+                    .size(results.getSize())
+                    .totalElements(results.getTotalElements())
+                    .totalPages(results.getTotalPages())
+                    .first(results.isFirst())
+                    .last(results.isLast())
+                    .build();
+        }
+
+        Pageable pageable = PageRequest.of(searchDTO.getPage(), searchDTO.getSize(),
+                sort(searchDTO.getSortBy(), searchDTO.getSortDirection()));
+        Specification<Organisation> filters = matchesFilters(
+                parseStatusFilter(searchDTO.getStatus()), parseTypeFilter(searchDTO.getOrganisationType()));
+        return visibleToCurrentUser(filters)
+                .map(visible -> toPagedResponse(organisationRepository.findFields(visible, selected, pageable)))
+                .orElse(new PagedResponse<>(List.of(), 0, 0, 0L, 0, true, true));
+    }
+
+    /**
+     * Search organisations by ranges over their typed transaction volumes,
+     * e.g. outgoing transaction value over 1,000,000. Evaluated in the database
+     * against the indexed numeric columns; organisations whose answer could not be
+     * parsed have no value and never match.
+     * @throws IllegalArgumentException for an unknown field or a range without valid bounds
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<OrganisationDTO> searchByRanges(OrganisationRangeSearchDTO searchDTO) {
+        log.debug("Searching organisations by ranges: {}", searchDTO);
+        Specification<Organisation> filters = matchesFilters(
+                parseStatusFilter(searchDTO.getStatus()), parseTypeFilter(searchDTO.getOrganisationType()))
+                .and(withinRanges(searchDTO.getRanges()));
+        Pageable pageable = PageRequest.of(searchDTO.getPage(), searchDTO.getSize(),
+                sort(searchDTO.getSortBy(), searchDTO.getSortDirection()));
+        return visibleToCurrentUser(filters)
+                .map(visible -> buildPagedResponse(organisationRepository.findAll(visible, pageable)))
+                .orElse(new PagedResponse<>(List.of(), 0, 0, 0L, 0, true, true));
+    }
+
+    /**
+     * Find organisations with a SIC code under any level of the hierarchy: a section
+     * letter, or a division, group, class or subclass code. Answered from the indexed
+     * organisation_sic_codes table as a single code range.
+     * @throws IllegalArgumentException if the level is not in the SIC hierarchy
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<OrganisationDTO> searchBySicCode(String level, String status, String organisationType,
+                                                          int page, int size, String sortBy, String sortDirection) {
+        log.debug("Searching organisations by SIC level: {}", level);
+        SicHierarchy.CodeRange range = SicHierarchy.range(level);
+        Specification<Organisation> filters = matchesFilters(parseStatusFilter(status), parseTypeFilter(organisationType))
+                .and((root, query, cb) -> {
+                    Subquery<Long> codes = query.subquery(Long.class);
+                    Root<OrganisationSicCode> code = codes.from(OrganisationSicCode.class);
+                    codes.select(code.get("organisation").get("id"))
+                            .where(cb.between(code.get("sicCode"), range.from(), range.to()));
+                    return root.get("id").in(codes);
+                });
+        Pageable pageable = PageRequest.of(page, size, sort(sortBy, sortDirection));
+        return visibleToCurrentUser(filters)
+                .map(visible -> buildPagedResponse(organisationRepository.findAll(visible, pageable)))
+                .orElse(new PagedResponse<>(List.of(), 0, 0, 0L, 0, true, true));
+    }
+
+    /**
+     * List organisations with keyset (cursor) pagination.
+     * Seeks past the last row of the previous page and skips the count query,
+     * so deep pages cost the same as the first.
+     */
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<OrganisationDTO> scrollOrganisations(int size, String sortBy, String sortDirection,
+                                                                    String cursor) {
+        log.debug("Scrolling organisations - size: {}, sortBy: {}", size, sortBy);
+        return scroll(null, null, size, sortBy, sortDirection, cursor);
+    }
+
+    /**
+     * Filter organisations by status and type with keyset (cursor) pagination.
+     * Free-text search is not supported here because its results are ordered by relevance.
+     */
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<OrganisationDTO> scrollSearchOrganisations(OrganisationSearchDTO searchDTO) {
+        log.debug("Scrolling organisation search with criteria: {}", searchDTO);
+        if (searchDTO.getSearchTerm() != null && !searchDTO.getSearchTerm().isBlank()) {
+            throw new IllegalArgumentException("Cursor pagination is not available for free-text search");
+        }
+        return scroll(parseStatusFilter(searchDTO.getStatus()), parseTypeFilter(searchDTO.getOrganisationType()),
+                searchDTO.getSize(), searchDTO.getSortBy(), searchDTO.getSortDirection(), searchDTO.getCursor());
+    }
+
     /**
      * Get organisations by owner user ID.
      */
@@ -251,19 +405,41 @@ public class OrganisationService {
      */
     @Transactional
     public OrganisationDTO updateOrganisation(Long id, OrganisationUpdateDTO updateDTO) {
+        return updateOrganisation(id, updateDTO, null);
+    }
+
+    /**
+     * Update an organisation, provided it still has the version the client read.
+     * @param expectedVersion version from the If-Match precondition, or null to skip the check
+     */
+    @Transactional
+    public OrganisationDTO updateOrganisation(Long id, OrganisationUpdateDTO updateDTO, Long expectedVersion) {
         log.info("Updating organisation ID: {}", id);
         
         Organisation organisation = organisationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Organisation not found with ID: " + id));
-
-        // Check for duplicate registration number (if changed)
-        if (updateDTO.getRegistrationNumber() != null && 
-            !updateDTO.getRegistrationNumber().equals(organisation.getRegistrationNumber()) &&
-            organisationRepository.existsByRegistrationNumber(updateDTO.getRegistrationNumber())) {
-            throw new RuntimeException("Organisation with registration number already exists: " + updateDTO.getRegistrationNumber());
-        }
-
+        ResourceVersion.checkExpectedVersion(expectedVersion, organisation.getVersion(), "Organisation " + id);
+
+        // Check for duplicate registration or company number (if changed)
+        String newRegistrationNumber = blankToNull(updateDTO.getRegistrationNumber());
+        String newCompanyNumber = blankToNull(updateDTO.getCompanyNumber());
+        checkIdentifiersAvailable(
+                Objects.equals(newRegistrationNumber, organisation.getRegistrationNumber()) ? null : newRegistrationNumber,
+                Objects.equals(newCompanyNumber, organisation.getCompanyNumber()) ? null : newCompanyNumber,
+                id);
+
+        OrganisationStatus previousStatus = organisation.getStatus();
+        OrganisationType previousType = organisation.getOrganisationType();
+        Set<String> previousSicCodes = SicHierarchy.parseCodes(organisation.getSicCode(), organisation.getSicCodes());
+        LocalDate previousHmrcExpiryDate = organisation.getHmrcExpiryDate();
+        HmrcExpiryStatus previousHmrcExpiryStatus = organisation.getHmrcExpiryStatus();
         organisationMapper.updateOrganisationFromDto(updateDTO, organisation);
+        organisation.setRegistrationNumber(blankToNull(organisation.getRegistrationNumber()));
+        organisation.setCompanyNumber(blankToNull(organisation.getCompanyNumber()));
+        if (!Objects.equals(previousHmrcExpiryDate, organisation.getHmrcExpiryDate())) {
+            // A renewed or corrected date may be behind the expiry scans, so classify it now
+            organisation.setHmrcExpiryStatus(hmrcExpiryService.classify(organisation.getHmrcExpiryDate()));
+        }
 
         // Handle address updates
         if (updateDTO.getRegisteredAddress() != null) {
@@ -296,7 +472,21 @@ public class OrganisationService {
             }
         }
 
-        Organisation saved = organisationRepository.save(organisation);
+        boolean sicCodesChanged = !previousSicCodes.equals(
+                SicHierarchy.parseCodes(organisation.getSicCode(), organisation.getSicCodes()));
+        if (sicCodesChanged) {
+            organisation.setSicCodesIndexed(true);
+        }
+
+        Organisation saved = saveAndCheckIdentifiers(organisation);
+        if (sicCodesChanged) {
+            organisationSicCodeService.index(saved);
+        }
+        organisationSearchEngine.index(saved);
+        recordStatusChange(saved.getId(), previousStatus, previousType, saved.getStatus(), saved.getOrganisationType());
+        if (saved.getHmrcExpiryStatus() != previousHmrcExpiryStatus) {
+            statusChangeFeed.hmrcExpiryStatusChanged(saved.getHmrcExpiryStatus(), List.of(saved.getId()));
+        }
         log.info("Updated organisation ID: {}", saved.getId());
         
         return organisationMapper.toOrganisationDTO(saved);
@@ -313,10 +503,13 @@ public class OrganisationService {
                 .orElseThrow(() -> new RuntimeException("Organisation not found with ID: " + id));
 
         OrganisationStatus newStatus = OrganisationStatus.valueOf(statusStr.toUpperCase());
+        OrganisationStatus previousStatus = organisation.getStatus();
         organisation.setStatus(newStatus);
         organisation.setReasonDescription(reason);
 
         Organisation saved = organisationRepository.save(organisation);
+        recordStatusChange(saved.getId(), previousStatus, saved.getOrganisationType(),
+                newStatus, saved.getOrganisationType());
         log.info("Updated organisation status to: {}", newStatus);
         
         return organisationMapper.toOrganisationDTO(saved);
@@ -324,6 +517,7 @@ public class OrganisationService {
 
     /**
      * Delete an organisation.
+     * It is moved to the archive tables with its addresses and KYC documents, where it stays readable.
      */
     @Transactional
     public void deleteOrganisation(Long id) {
@@ -333,12 +527,23 @@ public class OrganisationService {
             throw new RuntimeException("Organisation not found with ID: " + id);
         }
         
-        organisationRepository.deleteById(id);
+        Long deletedBy = securityUtil.getCurrentUser().map(User::getId).orElse(null);
+        organisationArchiveService.archiveOrganisations(List.of(id), ArchiveReason.DELETED, deletedBy);
         log.info("Deleted organisation ID: {}", id);
     }
 
+    /**
+     * Get organisation counts per status and type.
+     */
+    public OrganisationStatsDTO getOrganisationStats() {
+        return organisationCounterService.getStats();
+    }
+
     /**
      * Check if organisation exists by registration number.
+     * Always asks the database: the identifier filter is local to this instance and misses
+     * organisations created through other instances, which only the pre-insert check can afford
+     * because the unique constraint backs it up.
      */
     @Transactional(readOnly = true)
     public boolean existsByRegistrationNumber(String registrationNumber) {
@@ -357,22 +562,19 @@ public class OrganisationService {
         Organisation organisation = organisationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Organisation not found with ID: " + id));
 
-        if (organisation.getStatus() != OrganisationStatus.PENDING && 
-            organisation.getStatus() != OrganisationStatus.REQUIRES_RESUBMISSION) {
-            throw new RuntimeException("Only organisations with status PENDING or REQUIRES_RESUBMISSION can be submitted for review");
+        if (!SUBMITTABLE_STATUSES.contains(organisation.getStatus())) {
+            throw new ConflictException("Only organisations with status PENDING or REQUIRES_RESUBMISSION can be submitted for review");
         }
 
-        // Update all KYC documents to UNDER_REVIEW
-        List<KycDocument> kycDocuments = kycDocumentRepository.findByOrganisationId(id);
-        for (KycDocument doc : kycDocuments) {
-            doc.setStatus(DocumentStatus.UNDER_REVIEW);
-        }
+        // Clears any previous rejection reason
+        Organisation saved = transition(organisation, null, SUBMITTABLE_STATUSES, OrganisationStatus.UNDER_REVIEW, null);
 
-        organisation.setStatus(OrganisationStatus.UNDER_REVIEW);
-        organisation.setReasonDescription(null); // Clear any previous rejection reason
+        // Move all KYC documents to UNDER_REVIEW in one statement
+        int updatedCount = kycDocumentRepository.updateStatusByOrganisationId(
+                id, DocumentStatus.UNDER_REVIEW, LocalDateTime.now());
 
-        Organisation saved = organisationRepository.save(organisation);
-        log.info("Organisation submitted for review - ID: {}, {} documents updated", saved.getId(), kycDocuments.size());
+        statusChangeFeed.documentsStatusChanged(id, DocumentStatus.UNDER_REVIEW, updatedCount);
+        log.info("Organisation submitted for review - ID: {}, {} documents updated", saved.getId(), updatedCount);
         
         return organisationMapper.toOrganisationDTO(saved);
     }
@@ -383,27 +585,32 @@ public class OrganisationService {
      */
     @Transactional
     public OrganisationDTO approveOrganisation(Long id) {
+        return approveOrganisation(id, null);
+    }
+
+    /**
+     * Approve an organisation (Admin only), provided it is still at the version the reviewer saw.
+     * @param expectedVersion version the reviewer saw, or null to use the current version
+     */
+    @Transactional
+    public OrganisationDTO approveOrganisation(Long id, Long expectedVersion) {
         log.info("Approving organisation - ID: {}", id);
         
         Organisation organisation = organisationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Organisation not found with ID: " + id));
 
         if (organisation.getStatus() != OrganisationStatus.UNDER_REVIEW) {
-            throw new RuntimeException("Only organisations with status UNDER_REVIEW can be approved");
+            throw new ConflictException("Only organisations with status UNDER_REVIEW can be approved");
         }
 
-        // Verify all KYC documents and clear rejection reasons
-        List<KycDocument> kycDocuments = kycDocumentRepository.findByOrganisationId(id);
-        for (KycDocument doc : kycDocuments) {
-            doc.setStatus(DocumentStatus.VERIFIED);
-            doc.setReasonDescription(null); // Clear any rejection feedback
-        }
+        // Clears the organisation-level summary
+        Organisation saved = transition(organisation, expectedVersion, REVIEWABLE_STATUSES, OrganisationStatus.ACTIVE, null);
 
-        organisation.setStatus(OrganisationStatus.ACTIVE);
-        organisation.setReasonDescription(null); // Clear organisation-level summary
+        // Verify all KYC documents and clear rejection feedback in one statement
+        int verifiedCount = kycDocumentRepository.verifyByOrganisationId(id, LocalDateTime.now());
+        statusChangeFeed.documentsStatusChanged(id, DocumentStatus.VERIFIED, verifiedCount);
 
-        Organisation saved = organisationRepository.save(organisation);
-        log.info("Organisation approved - ID: {}, {} documents verified", saved.getId(), kycDocuments.size());
+        log.info("Organisation approved - ID: {}, {} documents verified", saved.getId(), verifiedCount);
         
         return organisationMapper.toOrganisationDTO(saved);
     }
@@ -420,50 +627,35 @@ public class OrganisationService {
                 .orElseThrow(() -> new RuntimeException("Organisation not found with ID: " + id));
 
         if (organisation.getStatus() != OrganisationStatus.UNDER_REVIEW) {
-            throw new RuntimeException("Only organisations with status UNDER_REVIEW can be rejected");
+            throw new ConflictException("Only organisations with status UNDER_REVIEW can be rejected");
         }
 
-        // Get all KYC documents
-        List<KycDocument> kycDocuments = kycDocumentRepository.findByOrganisationId(id);
-        
-        if (kycDocuments.isEmpty()) {
-            throw new RuntimeException("Organisation has no KYC documents to reject");
+        // Rejection reasons keyed by document ID; the first reason given for a document wins
+        Map<Long, String> reasonsByDocumentId = new HashMap<>();
+        for (OrganisationRejectionDTO.DocumentRejection rejection : rejectionDTO.getDocumentRejections()) {
+            reasonsByDocumentId.putIfAbsent(rejection.getDocumentId(), rejection.getRejectionReason());
         }
 
-        // Process document rejections
-        List<Long> rejectedDocIds = rejectionDTO.getDocumentRejections().stream()
-                .map(OrganisationRejectionDTO.DocumentRejection::getDocumentId)
-                .collect(Collectors.toList());
+        // One UPDATE per status group: rejected documents, then everything else verified.
+        // If the organisation transition below loses a race these are rolled back with it.
+        LocalDateTime now = LocalDateTime.now();
+        int rejectedCount = kycDocumentRepository.rejectDocuments(id, reasonsByDocumentId, now);
+        int verifiedCount = reasonsByDocumentId.isEmpty()
+                ? kycDocumentRepository.verifyByOrganisationId(id, now)
+                : kycDocumentRepository.verifyByOrganisationIdExcluding(id, reasonsByDocumentId.keySet(), now);
+        int documentCount = rejectedCount + verifiedCount;
 
-        int rejectedCount = 0;
-        int verifiedCount = 0;
-
-        for (KycDocument doc : kycDocuments) {
-            Optional<OrganisationRejectionDTO.DocumentRejection> rejection = rejectionDTO.getDocumentRejections().stream()
-                    .filter(r -> r.getDocumentId().equals(doc.getId()))
-                    .findFirst();
-
-            if (rejection.isPresent()) {
-                // Reject this document with specific reason
-                doc.setStatus(DocumentStatus.REJECTED);
-                doc.setReasonDescription(rejection.get().getRejectionReason());
-                rejectedCount++;
-                log.debug("Rejecting document ID: {} - Reason: {}", doc.getId(), rejection.get().getRejectionReason());
-            } else {
-                // Approve documents that weren't rejected
-                doc.setStatus(DocumentStatus.VERIFIED);
-                doc.setReasonDescription(null);
-                verifiedCount++;
-                log.debug("Verifying document ID: {}", doc.getId());
-            }
+        if (documentCount == 0) {
+            throw new RuntimeException("Organisation has no KYC documents to reject");
         }
 
         // Auto-generate organisation-level summary
-        String summary = String.format("%d of %d documents rejected", rejectedCount, kycDocuments.size());
-        organisation.setStatus(OrganisationStatus.REQUIRES_RESUBMISSION);
-        organisation.setReasonDescription(summary);
+        String summary = String.format("%d of %d documents rejected", rejectedCount, documentCount);
+        Organisation saved = transition(organisation, rejectionDTO.getVersion(), REVIEWABLE_STATUSES,
+                OrganisationStatus.REQUIRES_RESUBMISSION, summary);
+        statusChangeFeed.documentsStatusChanged(id, DocumentStatus.REJECTED, rejectedCount);
+        statusChangeFeed.documentsStatusChanged(id, DocumentStatus.VERIFIED, verifiedCount);
 
-        Organisation saved = organisationRepository.save(organisation);
         log.info("Organisation rejected - ID: {}, Summary: {}, Rejected: {}, Verified: {}", 
                  saved.getId(), summary, rejectedCount, verifiedCount);
         
@@ -471,15 +663,267 @@ public class OrganisationService {
     }
 
     /**
-     * Build paginated response from Page object.
+     * Apply a review transition as a conditional update on status and version,
+     * so concurrent reviewers cannot both succeed. The loser gets a ConflictException.
+     * @return the organisation reloaded after the transition
      */
-    private PagedResponse<OrganisationDTO> buildPagedResponse(Page<Organisation> page) {
-        List<OrganisationDTO> content = page.getContent().stream()
+    private Organisation transition(Organisation organisation, Long expectedVersion,
+                                    Set<OrganisationStatus> fromStatuses, OrganisationStatus toStatus,
+                                    String reasonDescription) {
+        Long id = organisation.getId();
+        Long version = expectedVersion != null ? expectedVersion : organisation.getVersion();
+        int updated = organisationRepository.transitionStatus(
+                id, fromStatuses, version, toStatus, reasonDescription, LocalDateTime.now());
+        if (updated == 0) {
+            throw new ConflictException("Organisation was modified by another request, reload and retry - ID: " + id);
+        }
+        recordStatusChange(id, organisation.getStatus(), organisation.getOrganisationType(),
+                toStatus, organisation.getOrganisationType());
+        return organisationRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Organisation not found with ID: " + id));
+    }
+
+    /**
+     * Keep the dashboard counters, the status feed and the review queue in step with a status or type change.
+     */
+    private void recordStatusChange(Long id, OrganisationStatus previousStatus, OrganisationType previousType,
+                                    OrganisationStatus newStatus, OrganisationType newType) {
+        organisationCounterService.recordChanged(previousStatus, previousType, newStatus, newType);
+        statusChangeFeed.organisationStatusChanged(id, previousStatus, newStatus);
+        reviewQueueService.statusChanged(id, previousStatus, newStatus);
+    }
+
+    /**
+     * Reject identifiers already used by another organisation.
+     * The Bloom filter answers the common "definitely new" case without a query;
+     * otherwise both identifiers are checked in a single round trip.
+     */
+    private void checkIdentifiersAvailable(String registrationNumber, String companyNumber, Long excludeId) {
+        boolean checkRegistration = registrationNumber != null
+                && identifierFilter.mightContainRegistrationNumber(registrationNumber);
+        boolean checkCompany = companyNumber != null
+                && identifierFilter.mightContainCompanyNumber(companyNumber);
+        if (!checkRegistration && !checkCompany) {
+            return;
+        }
+
+        List<Object[]> conflicts = organisationRepository.findIdentifierConflicts(
+                checkRegistration ? registrationNumber : null,
+                checkCompany ? companyNumber : null);
+        for (Object[] conflict : conflicts) {
+            if (conflict[0].equals(excludeId)) {
+                continue;
+            }
+            if (checkRegistration && registrationNumber.equals(conflict[1])) {
+                throw new ConflictException("Organisation with registration number already exists: " + registrationNumber);
+            }
+            if (checkCompany && companyNumber.equals(conflict[2])) {
+                throw new ConflictException("Organisation with company number already exists: " + companyNumber);
+            }
+        }
+    }
+
+    /**
+     * Save and flush so the unique constraints on Registration_Number and Company_Number
+     * are enforced here, closing the race between the pre-check and the insert.
+     * The owner constraint has no pre-check: concurrent creates for one user race on the insert alone.
+     */
+    private Organisation saveAndCheckIdentifiers(Organisation organisation) {
+        Organisation saved;
+        try {
+            saved = organisationRepository.saveAndFlush(organisation);
+        } catch (DataIntegrityViolationException e) {
+            String message = e.getMostSpecificCause().getMessage() != null
+                    ? e.getMostSpecificCause().getMessage().toLowerCase(Locale.ROOT) : "";
+            if (message.contains("uk_org_registration_number")) {
+                throw new ConflictException("Organisation with registration number already exists: "
+                        + organisation.getRegistrationNumber(), e);
+            }
+            if (message.contains("uk_org_company_number")) {
+                throw new ConflictException("Organisation with company number already exists: "
+                        + organisation.getCompanyNumber(), e);
+            }
+            if (message.contains("uk_org_legacy_identifier")) {
+                throw new ConflictException("Organisation with legacy identifier already exists: "
+                        + organisation.getLegacyIdentifier(), e);
+            }
+            if (message.contains("uk_org_owner")) {
+                throw new ConflictException(
+                        "User already has an organisation. Each user can only create one organisation.", e);
+            }
+            throw e;
+        }
+        identifierFilter.add(saved.getRegistrationNumber(), saved.getCompanyNumber());
+        return saved;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value;
+    }
+
+    /**
+     * Load one keyset page of organisations matching the filters.
+     */
+    private CursorPagedResponse<OrganisationDTO> scroll(OrganisationStatus status, OrganisationType organisationType,
+                                                        int size, String sortBy, String sortDirection, String cursor) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        Sort.Direction direction = "DESC".equalsIgnoreCase(sortDirection) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        ScrollPosition position = OrganisationCursor.decode(cursor, sortBy, direction);
+
+        Optional<Specification<Organisation>> visible = visibleToCurrentUser(matchesFilters(status, organisationType));
+        if (visible.isEmpty()) {
+            return new CursorPagedResponse<>(List.of(), size, null, false);
+        }
+        Specification<Organisation> filters = visible.get();
+
+        Window<Organisation> window = organisationRepository.scrollWithDetails(
+                filters, OrganisationCursor.sort(sortBy, direction), size, position);
+
+        List<OrganisationDTO> content = window.getContent().stream()
                 .map(organisationMapper::toOrganisationDTO)
                 .collect(Collectors.toList());
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? OrganisationCursor.encode(window.positionAt(window.size() - 1), sortBy, direction)
+                : null;
 
-        return PagedResponse.<OrganisationDTO>builder()
+        return CursorPagedResponse.<OrganisationDTO>builder()
                 .content(content)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
+    private static Specification<Organisation> matchesFilters(OrganisationStatus status,
+                                                              OrganisationType organisationType) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (organisationType != null) {
+                predicates.add(cb.equal(root.get("organisationType"), organisationType));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static Specification<Organisation> withinRanges(List<RangeFilterDTO> ranges) {
+        if (ranges == null || ranges.isEmpty()) {
+            throw new IllegalArgumentException("At least one range is required");
+        }
+        for (RangeFilterDTO range : ranges) {
+            if (!RANGE_FIELDS.contains(range.getField())) {
+                throw new IllegalArgumentException("Unknown range field: " + range.getField());
+            }
+            if (range.getMin() == null && range.getMax() == null) {
+                throw new IllegalArgumentException("Range on " + range.getField() + " needs a min or a max");
+            }
+            if (range.getMin() != null && range.getMax() != null && range.getMin().compareTo(range.getMax()) > 0) {
+                throw new IllegalArgumentException("Range on " + range.getField() + " has min greater than max");
+            }
+        }
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            for (RangeFilterDTO range : ranges) {
+                Path<Number> path = root.get(range.getField());
+                boolean count = Long.class.equals(path.getJavaType());
+                if (range.getMin() != null) {
+                    predicates.add(cb.ge(path, count
+                            ? range.getMin().setScale(0, RoundingMode.CEILING).longValue() : range.getMin()));
+                }
+                if (range.getMax() != null) {
+                    predicates.add(cb.le(path, count
+                            ? range.getMax().setScale(0, RoundingMode.FLOOR).longValue() : range.getMax()));
+                }
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Business Users can only see their own organisations.
+     * @return the filters restricted to what the current user may see, or empty if they may see nothing
+     */
+    private Optional<Specification<Organisation>> visibleToCurrentUser(Specification<Organisation> filters) {
+        if (!securityUtil.isBusinessUser()) {
+            return Optional.of(filters);
+        }
+        return securityUtil.getCurrentUser()
+                .map(User::getId)
+                .map(ownerId -> filters.and((root, query, cb) -> cb.equal(root.get("owner").get("id"), ownerId)));
+    }
+
+    /**
+     * Parse a comma-separated sparse fieldset, keeping the requested order. The id is always included.
+     */
+    static List<String> parseFields(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!OrganisationRepositoryCustom.PROJECTABLE_FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Unknown organisation field: " + name);
+            }
+            selected.add(name);
+        }
+        return new ArrayList<>(selected);
+    }
+
+    private static Map<String, Object> selectFields(OrganisationDTO dto, List<String> fields) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(dto);
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            row.put(field, wrapper.getPropertyValue(field));
+        }
+        return row;
+    }
+
+    private static Sort sort(String sortBy, String sortDirection) {
+        return "DESC".equalsIgnoreCase(sortDirection)
+                ? Sort.by(sortBy).descending()
+                : Sort.by(sortBy).ascending();
+    }
+
+    private OrganisationStatus parseStatusFilter(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return OrganisationStatus.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid status filter: {}", value);
+            return null;
+        }
+    }
+
+    private OrganisationType parseTypeFilter(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return OrganisationType.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid organisation type filter: {}", value);
+            return null;
+        }
+    }
+
+    /**
+     * Build paginated response from Page object.
+     */
+    private PagedResponse<OrganisationDTO> buildPagedResponse(Page<Organisation> page) {
+        return toPagedResponse(page.map(organisationMapper::toOrganisationDTO));
+    }
+
+    private static <T> PagedResponse<T> toPagedResponse(Page<T> page) {
+        return PagedResponse.<T>builder()
+                .content(page.getContent())
                 .page(page.getNumber())
                 .size(page.getSize())
                 .totalElements(page.getTotalElements())
@@ -0,0 +1,121 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.dto.SicDivisionDTO;
+import com.fincore.usermgmt.dto.SicSectionDTO;
+import com.fincore.usermgmt.entity.Organisation;
+import com.fincore.usermgmt.entity.OrganisationSicCode;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.OrganisationSicCodeRepository;
+import com.fincore.usermgmt.util.SicHierarchy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the organisation_sic_codes join table in step with the SIC code fields
+ * of each organisation, and describes the SIC hierarchy with organisation counts.
+ */
+@Service
+@Slf4j
+public class OrganisationSicCodeService {
+
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final OrganisationSicCodeRepository sicCodeRepository;
+    private final OrganisationRepository organisationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrganisationSicCodeService(OrganisationSicCodeRepository sicCodeRepository,
+                                      OrganisationRepository organisationRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.sicCodeRepository = sicCodeRepository;
+        this.organisationRepository = organisationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Replace the indexed codes of an organisation with those parsed from its SIC fields.
+     * The caller sets {@link Organisation#isSicCodesIndexed()} before saving the organisation.
+     */
+    @Transactional
+    public void index(Organisation organisation) {
+        sicCodeRepository.deleteByOrganisationIdIn(List.of(organisation.getId()));
+        sicCodeRepository.saveAll(toRows(organisation, organisation.getSicCode(), organisation.getSicCodes()));
+    }
+
+    /**
+     * Index organisations whose codes have not been indexed yet (saved before the join table
+     * existed, or inserted by an import), one chunk per transaction.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0;
+        int total = 0;
+        while (true) {
+            List<Object[]> rows = sicCodeRepository.findUnindexedOrganisations(afterId, PageRequest.of(0, BACKFILL_CHUNK_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> ids = new ArrayList<>();
+                List<OrganisationSicCode> codes = new ArrayList<>();
+                for (Object[] row : rows) {
+                    ids.add((Long) row[0]);
+                    codes.addAll(toRows(organisationRepository.getReferenceById((Long) row[0]),
+                            (String) row[1], (String) row[2]));
+                }
+                // Rows indexed before the marker existed may already have codes
+                sicCodeRepository.deleteByOrganisationIdIn(ids);
+                sicCodeRepository.saveAll(codes);
+                organisationRepository.markSicCodesIndexed(ids);
+            });
+            total += rows.size();
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        if (total > 0) {
+            log.info("Indexed SIC codes of {} existing organisations", total);
+        }
+    }
+
+    /**
+     * The SIC hierarchy down to divisions, with the number of organisations in each division.
+     */
+    @Transactional(readOnly = true)
+    public List<SicSectionDTO> getHierarchy() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : sicCodeRepository.countOrganisationsByDivision()) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return SicHierarchy.sections().stream()
+                .map(section -> SicSectionDTO.builder()
+                        .code(section.code())
+                        .title(section.title())
+                        .divisions(section.divisions().stream()
+                                .map(division -> new SicDivisionDTO(division, counts.getOrDefault(division, 0L)))
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<OrganisationSicCode> toRows(Organisation organisation, String sicCode, String sicCodes) {
+        String primaryCode = SicHierarchy.normalise(sicCode);
+        return SicHierarchy.parseCodes(sicCode, sicCodes).stream()
+                .map(code -> OrganisationSicCode.builder()
+                        .organisation(organisation)
+                        .sicCode(code)
+                        .primaryCode(code.equals(primaryCode))
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
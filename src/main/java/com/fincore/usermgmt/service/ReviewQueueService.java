@@ -0,0 +1,155 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.dto.ReviewClaimDTO;
+import com.fincore.usermgmt.entity.Organisation;
+import com.fincore.usermgmt.entity.OrganisationStatus;
+import com.fincore.usermgmt.entity.ReviewQueueEntry;
+import com.fincore.usermgmt.mapper.OrganisationMapper;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.ReviewQueueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Work queue of organisations under review. Reviewers claim the next organisations with
+ * SELECT ... FOR UPDATE SKIP LOCKED, so concurrent claims never wait on each other or
+ * return the same organisation. A claim is a lease: heartbeats extend it, and once it
+ * expires the organisation is handed to the next reviewer that claims.
+ * Organisations join the queue when submitted for review and leave it when they are
+ * approved, rejected or otherwise move out of UNDER_REVIEW.
+ */
+@Service
+@Slf4j
+public class ReviewQueueService {
+
+    private final ReviewQueueRepository reviewQueueRepository;
+    private final OrganisationRepository organisationRepository;
+    private final OrganisationMapper organisationMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lease;
+
+    public ReviewQueueService(
+            ReviewQueueRepository reviewQueueRepository,
+            OrganisationRepository organisationRepository,
+            OrganisationMapper organisationMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${organisation.review-queue.lease-minutes:15}") long leaseMinutes) {
+        this.reviewQueueRepository = reviewQueueRepository;
+        this.organisationRepository = organisationRepository;
+        this.organisationMapper = organisationMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lease = Duration.ofMinutes(leaseMinutes);
+    }
+
+    /**
+     * Bring the queue in line with the organisations under review, for organisations
+     * submitted before the queue existed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void synchronise() {
+        int[] changes = transactionTemplate.execute(status ->
+                new int[]{reviewQueueRepository.enqueueMissing(), reviewQueueRepository.deleteStale()});
+        if (changes != null && (changes[0] > 0 || changes[1] > 0)) {
+            log.info("Review queue synchronised: {} organisations queued, {} stale entries removed",
+                    changes[0], changes[1]);
+        }
+    }
+
+    /**
+     * Queue or dequeue an organisation after a status change, in the caller's transaction.
+     */
+    @Transactional
+    public void statusChanged(Long organisationId, OrganisationStatus previousStatus, OrganisationStatus status) {
+        if (status == OrganisationStatus.UNDER_REVIEW && previousStatus != OrganisationStatus.UNDER_REVIEW) {
+            reviewQueueRepository.save(ReviewQueueEntry.builder()
+                    .organisationId(organisationId)
+                    .enqueuedDatetime(LocalDateTime.now())
+                    .build());
+        } else if (previousStatus == OrganisationStatus.UNDER_REVIEW && status != OrganisationStatus.UNDER_REVIEW) {
+            reviewQueueRepository.deleteByOrganisationIdIn(List.of(organisationId));
+        }
+    }
+
+    /**
+     * Claim the next organisations in the queue, oldest first.
+     * @param reviewerId the user claiming
+     * @param count maximum number of organisations to claim
+     * @return the organisations claimed, which may be fewer than count or none
+     */
+    @Transactional
+    public List<ReviewClaimDTO> claimNext(Long reviewerId, int count) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> ids = reviewQueueRepository.lockAvailable(now, count).stream()
+                .map(Number::longValue)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        reviewQueueRepository.claim(ids, reviewerId, now, now.plus(lease));
+        log.info("Reviewer {} claimed {} organisations for review", reviewerId, ids.size());
+        return toClaims(reviewQueueRepository.findClaims(reviewerId, now).stream()
+                .filter(entry -> ids.contains(entry.getOrganisationId()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Get the unexpired claims of a reviewer, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public List<ReviewClaimDTO> getClaims(Long reviewerId) {
+        return toClaims(reviewQueueRepository.findClaims(reviewerId, LocalDateTime.now()));
+    }
+
+    /**
+     * Extend every unexpired claim of a reviewer by a full lease.
+     * @return the claims still held
+     */
+    @Transactional
+    public List<ReviewClaimDTO> heartbeat(Long reviewerId) {
+        LocalDateTime now = LocalDateTime.now();
+        reviewQueueRepository.extendLeases(reviewerId, now, now.plus(lease));
+        return toClaims(reviewQueueRepository.findClaims(reviewerId, now));
+    }
+
+    /**
+     * Return a claimed organisation to the queue.
+     * @return false if the reviewer does not hold an unexpired claim on it
+     */
+    @Transactional
+    public boolean release(Long reviewerId, Long organisationId) {
+        return reviewQueueRepository.release(organisationId, reviewerId, LocalDateTime.now()) > 0;
+    }
+
+    private List<ReviewClaimDTO> toClaims(List<ReviewQueueEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Organisation> organisations = organisationRepository.findByIdIn(entries.stream()
+                        .map(ReviewQueueEntry::getOrganisationId)
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(Organisation::getId, Function.identity()));
+        return entries.stream()
+                .filter(entry -> organisations.containsKey(entry.getOrganisationId()))
+                .map(entry -> ReviewClaimDTO.builder()
+                        .organisation(organisationMapper.toOrganisationDTO(organisations.get(entry.getOrganisationId())))
+                        .enqueuedDatetime(entry.getEnqueuedDatetime())
+                        .claimedDatetime(entry.getClaimedDatetime())
+                        .leaseExpiresDatetime(entry.getLeaseExpiresDatetime())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,329 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.dto.StatusChangeEventDTO;
+import com.fincore.usermgmt.entity.DocumentStatus;
+import com.fincore.usermgmt.entity.OrganisationStatus;
+import com.fincore.usermgmt.entity.enums.HmrcExpiryStatus;
+import com.fincore.usermgmt.util.TransactionCallbacks;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Server-Sent Events feed of organisation and KYC document status changes.
+ * Events are published only after the originating transaction commits and are
+ * kept in a bounded replay buffer so a reconnecting client can resume from its
+ * Last-Event-ID. Each subscriber has its own bounded queue drained on a small
+ * dispatcher pool; a subscriber that falls too far behind is sent a "resync"
+ * event and disconnected rather than slowing down publishers.
+ * Events are local to this instance.
+ */
+@Component
+@Slf4j
+public class StatusChangeFeed {
+
+    public static final String ORGANISATION_STATUS_CHANGED = "ORGANISATION_STATUS_CHANGED";
+    public static final String KYC_DOCUMENT_STATUS_CHANGED = "KYC_DOCUMENT_STATUS_CHANGED";
+    public static final String KYC_DOCUMENTS_STATUS_CHANGED = "KYC_DOCUMENTS_STATUS_CHANGED";
+    public static final String HMRC_EXPIRY_STATUS_CHANGED = "HMRC_EXPIRY_STATUS_CHANGED";
+
+    private static final String RESYNC_EVENT = "resync";
+    private static final long RECONNECT_DELAY_MS = 3000;
+
+    private final int replayBufferSize;
+    private final int subscriberBufferSize;
+    private final long emitterTimeoutMs;
+    private final int maxSubscribers;
+    private final ExecutorService dispatcher;
+
+    // Seeded from the clock so IDs keep increasing across restarts and stale Last-Event-IDs trigger a resync
+    private long lastEventId = System.currentTimeMillis() * 1000;
+    private final Deque<StatusChangeEventDTO> replayBuffer = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public StatusChangeFeed(
+            @Value("${status-feed.replay-buffer-size:1000}") int replayBufferSize,
+            @Value("${status-feed.subscriber-buffer-size:256}") int subscriberBufferSize,
+            @Value("${status-feed.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${status-feed.max-subscribers:500}") int maxSubscribers,
+            @Value("${status-feed.dispatcher-threads:4}") int dispatcherThreads) {
+        this.replayBufferSize = replayBufferSize;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "status-feed-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Publish an organisation status change once the current transaction commits.
+     */
+    public void organisationStatusChanged(Long organisationId, OrganisationStatus previousStatus,
+                                          OrganisationStatus status) {
+        if (status == null || previousStatus == status) {
+            return;
+        }
+        publishAfterCommit(StatusChangeEventDTO.builder()
+                .eventType(ORGANISATION_STATUS_CHANGED)
+                .organisationId(organisationId)
+                .previousStatus(previousStatus != null ? previousStatus.name() : null)
+                .status(status.name()));
+    }
+
+    /**
+     * Publish a single KYC document status change once the current transaction commits.
+     */
+    public void documentStatusChanged(Long documentId, Long organisationId, DocumentStatus previousStatus,
+                                      DocumentStatus status) {
+        if (status == null || previousStatus == status) {
+            return;
+        }
+        publishAfterCommit(StatusChangeEventDTO.builder()
+                .eventType(KYC_DOCUMENT_STATUS_CHANGED)
+                .organisationId(organisationId)
+                .documentId(documentId)
+                .previousStatus(previousStatus != null ? previousStatus.name() : null)
+                .status(status.name()));
+    }
+
+    /**
+     * Publish a bulk KYC document transition for an organisation once the current transaction commits.
+     */
+    public void documentsStatusChanged(Long organisationId, DocumentStatus status, int documentCount) {
+        if (documentCount == 0) {
+            return;
+        }
+        publishAfterCommit(StatusChangeEventDTO.builder()
+                .eventType(KYC_DOCUMENTS_STATUS_CHANGED)
+                .organisationId(organisationId)
+                .documentCount(documentCount)
+                .status(status.name()));
+    }
+
+    /**
+     * Publish one event for a batch of organisations marked with an HMRC expiry status
+     * once the current transaction commits.
+     */
+    public void hmrcExpiryStatusChanged(HmrcExpiryStatus status, List<Long> organisationIds) {
+        if (status == null || organisationIds.isEmpty()) {
+            return;
+        }
+        publishAfterCommit(StatusChangeEventDTO.builder()
+                .eventType(HMRC_EXPIRY_STATUS_CHANGED)
+                .organisationId(organisationIds.size() == 1 ? organisationIds.get(0) : null)
+                .organisationIds(List.copyOf(organisationIds))
+                .status(status.name()));
+    }
+
+    /**
+     * Open a new subscription, replaying buffered events after lastEventId if given.
+     * @throws IllegalStateException if the subscriber limit has been reached
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many status feed subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        subscriber.enqueue(() -> SseEmitter.event().reconnectTime(RECONNECT_DELAY_MS).comment("connected"));
+        // Replay and registration happen under the publish lock so no event is missed or sent twice
+        synchronized (this) {
+            if (lastEventId != null) {
+                Optional<List<StatusChangeEventDTO>> missed = eventsAfter(lastEventId);
+                if (missed.isPresent()) {
+                    missed.get().forEach(event -> subscriber.enqueue(() -> toSseEvent(event)));
+                } else {
+                    subscriber.enqueue(StatusChangeFeed::resyncEvent);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        log.debug("Status feed subscriber added, {} active", subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Buffered events published after the given event ID.
+     * @return the events to replay, or empty if some of them are no longer buffered
+     *         (or the ID was issued by an earlier run) and the client must resync
+     */
+    synchronized Optional<List<StatusChangeEventDTO>> eventsAfter(long eventId) {
+        if (eventId > lastEventId) {
+            return Optional.empty();
+        }
+        if (eventId == lastEventId) {
+            return Optional.of(List.of());
+        }
+        StatusChangeEventDTO oldest = replayBuffer.peekFirst();
+        if (oldest == null || oldest.getEventId() > eventId + 1) {
+            return Optional.empty();
+        }
+        List<StatusChangeEventDTO> missed = new ArrayList<>();
+        for (StatusChangeEventDTO event : replayBuffer) {
+            if (event.getEventId() > eventId) {
+                missed.add(event);
+            }
+        }
+        return Optional.of(missed);
+    }
+
+    /**
+     * Keep idle connections open through proxies and detect dead clients.
+     */
+    @Scheduled(fixedDelayString = "${status-feed.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeat();
+        }
+    }
+
+    /**
+     * ID of the most recently published event.
+     */
+    synchronized long latestEventId() {
+        return lastEventId;
+    }
+
+    /**
+     * Number of open subscriptions.
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        dispatcher.shutdownNow();
+    }
+
+    private void publishAfterCommit(StatusChangeEventDTO.StatusChangeEventDTOBuilder builder) {
+        LocalDateTime occurredAt = LocalDateTime.now();
+        TransactionCallbacks.afterCommit(() -> publish(builder.occurredAt(occurredAt)));
+    }
+
+    private synchronized void publish(StatusChangeEventDTO.StatusChangeEventDTOBuilder builder) {
+        StatusChangeEventDTO event = builder.eventId(++lastEventId).build();
+        replayBuffer.addLast(event);
+        if (replayBuffer.size() > replayBufferSize) {
+            replayBuffer.removeFirst();
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(() -> toSseEvent(event));
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder toSseEvent(StatusChangeEventDTO event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.getEventId()))
+                .name(event.getEventType())
+                .data(event);
+    }
+
+    private static SseEmitter.SseEventBuilder resyncEvent() {
+        return SseEmitter.event()
+                .name(RESYNC_EVENT)
+                .data(Map.of("message", "Missed events are no longer available, reload the current state"));
+    }
+
+    /**
+     * One open connection with its own bounded outbound queue.
+     * Event builders are created at send time because SseEventBuilder is single use.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closeAfterDrain;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(subscriberBufferSize);
+        }
+
+        void enqueue(Supplier<SseEmitter.SseEventBuilder> frame) {
+            if (closeAfterDrain) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                // Too slow to keep up: drop the backlog, tell the client to resync and disconnect
+                log.warn("Status feed subscriber overflowed its buffer of {} events, disconnecting", subscriberBufferSize);
+                closeAfterDrain = true;
+                subscribers.remove(this);
+                queue.clear();
+                queue.offer(StatusChangeFeed::resyncEvent);
+            }
+            scheduleDrain();
+        }
+
+        void heartbeat() {
+            if (queue.isEmpty()) {
+                enqueue(() -> SseEmitter.event().comment("heartbeat"));
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Supplier<SseEmitter.SseEventBuilder> frame;
+                while ((frame = queue.poll()) != null) {
+                    emitter.send(frame.get());
+                }
+                if (closeAfterDrain) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Status feed subscriber disconnected: {}", e.getMessage());
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+                queue.clear();
+            } finally {
+                draining.set(false);
+            }
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.dto.KycDocumentCreateDTO;
+import com.fincore.usermgmt.dto.KycDocumentDTO;
+import com.fincore.usermgmt.dto.UploadIntentCreateDTO;
+import com.fincore.usermgmt.dto.UploadIntentDTO;
+import com.fincore.usermgmt.entity.UploadIntent;
+import com.fincore.usermgmt.entity.User;
+import com.fincore.usermgmt.entity.enums.UploadIntentStatus;
+import com.fincore.usermgmt.exception.ConflictException;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.UploadIntentRepository;
+import com.fincore.usermgmt.service.storage.FileStorageBackend;
+import com.fincore.usermgmt.service.storage.SignedUpload;
+import com.fincore.usermgmt.service.storage.StoredFile;
+import com.fincore.usermgmt.util.SecurityUtil;
+import com.google.common.hash.HashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service for uploading KYC document files straight to storage. The client gets a short-lived
+ * signed URL, uploads the file to the bucket, and then completes the intent; only then, with
+ * the stored file checked against the declared size and MD5, is the document created. The
+ * file itself never passes through this service.
+ * Intents not completed within storage.direct-upload.completion-grace-minutes of their URL
+ * expiring are swept, with any file uploaded for them.
+ */
+@Service
+@Slf4j
+public class UploadIntentService {
+
+    static final String FOLDER = "kyc-documents/direct/";
+
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final UploadIntentRepository uploadIntentRepository;
+    private final OrganisationRepository organisationRepository;
+    private final FileStorageBackend backend;
+    private final FileStorageService fileStorageService;
+    private final KycDocumentService kycDocumentService;
+    private final SecurityUtil securityUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration urlTtl;
+    private final Duration completionGrace;
+    private final long maxSizeBytes;
+
+    public UploadIntentService(
+            UploadIntentRepository uploadIntentRepository,
+            OrganisationRepository organisationRepository,
+            FileStorageBackend backend,
+            FileStorageService fileStorageService,
+            KycDocumentService kycDocumentService,
+            SecurityUtil securityUtil,
+            PlatformTransactionManager transactionManager,
+            @Value("${storage.direct-upload.url-ttl-minutes:15}") int urlTtlMinutes,
+            @Value("${storage.direct-upload.completion-grace-minutes:60}") int completionGraceMinutes,
+            @Value("${storage.direct-upload.max-size-bytes:104857600}") long maxSizeBytes) {
+        this.uploadIntentRepository = uploadIntentRepository;
+        this.organisationRepository = organisationRepository;
+        this.backend = backend;
+        this.fileStorageService = fileStorageService;
+        this.kycDocumentService = kycDocumentService;
+        this.securityUtil = securityUtil;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.urlTtl = Duration.ofMinutes(urlTtlMinutes);
+        this.completionGrace = Duration.ofMinutes(completionGraceMinutes);
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * Issue a signed URL to upload a document file to. The URL only accepts content of the
+     * declared type and MD5.
+     * @throws IllegalArgumentException if the file is larger than storage.direct-upload.max-size-bytes
+     */
+    public UploadIntentDTO createIntent(UploadIntentCreateDTO createDTO) throws IOException {
+        if (createDTO.getSize() > maxSizeBytes) {
+            throw new IllegalArgumentException("File size must not exceed " + maxSizeBytes + " bytes");
+        }
+        if (!organisationRepository.existsById(createDTO.getOrganisationId())) {
+            throw new RuntimeException("Organisation not found with ID: " + createDTO.getOrganisationId());
+        }
+
+        String id = UUID.randomUUID().toString();
+        String name = FOLDER + id + extension(createDTO.getFileName());
+        SignedUpload upload = backend.signUpload(name, createDTO.getContentType(), createDTO.getContentMd5(), urlTtl);
+
+        UploadIntent intent = uploadIntentRepository.save(UploadIntent.builder()
+                .id(id)
+                .organisationId(createDTO.getOrganisationId())
+                .documentType(createDTO.getDocumentType())
+                .fileName(createDTO.getFileName())
+                .contentType(createDTO.getContentType())
+                .size(createDTO.getSize())
+                .contentMd5(createDTO.getContentMd5())
+                .storageName(name)
+                .verificationIdentifier(createDTO.getVerificationIdentifier())
+                .sumsubDocumentIdentifier(createDTO.getSumsubDocumentIdentifier())
+                .status(UploadIntentStatus.PENDING)
+                .expiresDatetime(LocalDateTime.ofInstant(upload.expiresAt(), ZoneId.systemDefault()))
+                .createdDatetime(LocalDateTime.now())
+                .createdBy(securityUtil.getCurrentUser().map(User::getId).orElse(null))
+                .build());
+        log.info("Issued upload URL for {} ({} bytes) of organisation {}, intent {}",
+                createDTO.getFileName(), createDTO.getSize(), createDTO.getOrganisationId(), id);
+
+        UploadIntentDTO dto = toDTO(intent);
+        dto.setUploadUrl(upload.url());
+        dto.setUploadMethod(upload.method());
+        dto.setUploadHeaders(upload.headers());
+        return dto;
+    }
+
+    /**
+     * Complete an intent once its file is uploaded: check the stored file against the declared
+     * size and MD5, then create the KYC document for it. Completing an intent again returns
+     * the document already created.
+     * A file that does not match is deleted and the intent marked FAILED.
+     * @throws ConflictException if the file is missing or does not match, or the intent has expired or failed
+     */
+    @Transactional(noRollbackFor = ConflictException.class)
+    public KycDocumentDTO complete(String id) throws IOException {
+        UploadIntent intent = uploadIntentRepository.lockById(id)
+                .orElseThrow(() -> new RuntimeException("Upload intent not found with ID: " + id));
+        if (intent.getStatus() == UploadIntentStatus.COMPLETED) {
+            return kycDocumentService.getDocumentById(intent.getDocumentId())
+                    .orElseThrow(() -> new ConflictException("Document of upload intent " + id + " has been deleted"));
+        }
+        if (intent.getStatus() != UploadIntentStatus.PENDING) {
+            throw new ConflictException("Upload intent " + id + " is " + intent.getStatus());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isAfter(intent.getExpiresDatetime().plus(completionGrace))) {
+            throw new ConflictException("Upload intent " + id + " has expired");
+        }
+
+        String name = intent.getStorageName();
+        Optional<StoredFile> stored = backend.stat(name);
+        if (stored.isEmpty()) {
+            throw new ConflictException("File for upload intent " + id + " has not been uploaded");
+        }
+        // GCS has already checked the MD5 against the signed header; check again rather than trust the client
+        if (stored.get().size() != intent.getSize() || !intent.getContentMd5().equals(backend.md5(name))) {
+            log.warn("Upload for intent {} does not match: {} bytes, expected {}", id, stored.get().size(), intent.getSize());
+            backend.delete(name);
+            intent.setStatus(UploadIntentStatus.FAILED);
+            uploadIntentRepository.save(intent);
+            throw new ConflictException("File for upload intent " + id + " does not match the declared size and MD5");
+        }
+
+        String hash = "md5:" + HashCode.fromBytes(Base64.getDecoder().decode(intent.getContentMd5()));
+        fileStorageService.recordUpload(name, hash, intent.getSize(), intent.getContentType());
+
+        KycDocumentCreateDTO createDTO = new KycDocumentCreateDTO();
+        createDTO.setOrganisationId(intent.getOrganisationId());
+        createDTO.setDocumentType(intent.getDocumentType());
+        createDTO.setFileName(intent.getFileName());
+        createDTO.setFileUrl(backend.toUrl(name));
+        createDTO.setVerificationIdentifier(intent.getVerificationIdentifier());
+        createDTO.setSumsubDocumentIdentifier(intent.getSumsubDocumentIdentifier());
+        KycDocumentDTO document = kycDocumentService.createDocument(createDTO);
+
+        intent.setStatus(UploadIntentStatus.COMPLETED);
+        intent.setDocumentId(document.getId());
+        intent.setCompletedDatetime(now);
+        uploadIntentRepository.save(intent);
+        log.info("Completed upload intent {} as KYC document {}", id, document.getId());
+        return document;
+    }
+
+    /**
+     * Get an intent, without its upload URL.
+     */
+    @Transactional(readOnly = true)
+    public Optional<UploadIntentDTO> getIntent(String id) {
+        return uploadIntentRepository.findById(id).map(UploadIntentService::toDTO);
+    }
+
+    /**
+     * Expire intents not completed within the grace period after their URL expired, deleting
+     * any file uploaded for them. Each intent is expired while locked, so a completion in
+     * progress either finishes first or finds it expired.
+     * @return number of intents expired
+     */
+    @Scheduled(fixedDelayString = "${storage.direct-upload.sweep-interval-ms:900000}",
+               initialDelayString = "${storage.direct-upload.sweep-interval-ms:900000}")
+    public int sweepExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(completionGrace);
+        int expired = 0;
+        boolean more = true;
+        while (more) {
+            List<String> ids = uploadIntentRepository.findExpiredIds(UploadIntentStatus.PENDING, cutoff,
+                    PageRequest.of(0, SWEEP_BATCH_SIZE));
+            int batchExpired = 0;
+            for (String id : ids) {
+                try {
+                    Boolean done = transactionTemplate.execute(tx -> uploadIntentRepository.lockById(id)
+                            .filter(intent -> intent.getStatus() == UploadIntentStatus.PENDING)
+                            .map(intent -> {
+                                try {
+                                    backend.delete(intent.getStorageName());
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                                intent.setStatus(UploadIntentStatus.EXPIRED);
+                                uploadIntentRepository.save(intent);
+                                return true;
+                            })
+                            .orElse(false));
+                    if (Boolean.TRUE.equals(done)) {
+                        batchExpired++;
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Failed to expire upload intent {}", id, e);
+                }
+            }
+            expired += batchExpired;
+            // Stop rather than retry the same failing intents in a loop
+            more = ids.size() == SWEEP_BATCH_SIZE && batchExpired > 0;
+        }
+        if (expired > 0) {
+            log.info("Expired {} upload intents", expired);
+        }
+        return expired;
+    }
+
+    /**
+     * Extension of the file name, kept on the storage name for anyone browsing the bucket.
+     */
+    static String extension(String fileName) {
+        int dot = fileName != null ? fileName.lastIndexOf('.') : -1;
+        if (dot < 0) {
+            return "";
+        }
+        String extension = fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return extension.matches("[a-z0-9]{1,10}") ? "." + extension : "";
+    }
+
+    private static UploadIntentDTO toDTO(UploadIntent intent) {
+        return UploadIntentDTO.builder()
+                .id(intent.getId())
+                .organisationId(intent.getOrganisationId())
+                .documentType(intent.getDocumentType())
+                .fileName(intent.getFileName())
+                .contentType(intent.getContentType())
+                .size(intent.getSize())
+                .status(intent.getStatus().name())
+                .expiresDatetime(intent.getExpiresDatetime())
+                .documentId(intent.getDocumentId())
+                .createdDatetime(intent.getCreatedDatetime())
+                .completedDatetime(intent.getCompletedDatetime())
+                .build();
+    }
+}
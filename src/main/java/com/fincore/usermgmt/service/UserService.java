@@ -11,6 +11,7 @@ import com.fincore.usermgmt.mapper.UserMapper;
 import com.fincore.usermgmt.repository.AddressRepository;
 import com.fincore.usermgmt.repository.RoleRepository;
 import com.fincore.usermgmt.repository.UserRepository;
+import com.fincore.usermgmt.util.ResourceVersion;
 import com.fincore.usermgmt.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -56,6 +57,16 @@ public class UserService {
                 .map(this::toUserDTOWithAddresses);
     }
 
+    /**
+     * Get the conditional request validators of a user without loading it.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getUserVersion(Long id) {
+        return userRepository.findVersionById(id).stream()
+                .findFirst()
+                .map(ResourceVersion::fromRow);
+    }
+
     @Transactional
     public UserDTO createUser(UserCreateDTO userCreateDTO) {
         log.info("Creating user with phone: {}", userCreateDTO.getPhoneNumber());
@@ -97,10 +108,20 @@ public class UserService {
 
     @Transactional
     public UserDTO updateUser(Long id, UserUpdateDTO userUpdateDTO) {
+        return updateUser(id, userUpdateDTO, null);
+    }
+
+    /**
+     * Update a user, provided it still has the version the client read.
+     * @param expectedVersion version from the If-Match precondition, or null to skip the check
+     */
+    @Transactional
+    public UserDTO updateUser(Long id, UserUpdateDTO userUpdateDTO, Long expectedVersion) {
         log.info("Updating user with ID: {}", id);
         
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        ResourceVersion.checkExpectedVersion(expectedVersion, user.getVersion(), "User " + id);
         
         userMapper.updateUserFromDto(userUpdateDTO, user);
         
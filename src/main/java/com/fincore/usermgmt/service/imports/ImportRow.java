@@ -0,0 +1,17 @@
+package com.fincore.usermgmt.service.imports;
+
+import com.fincore.usermgmt.dto.OrganisationCreateDTO;
+
+/**
+ * One row of an organisation import file.
+ * @param rowNumber position of the row in the file, starting at 1; stable across reads of the same file
+ * @param organisation the row bound to the create DTO, or null if it could not be read
+ * @param status optional status to import the organisation with, as written in the file
+ * @param error why the row could not be read, or null
+ */
+public record ImportRow(long rowNumber, OrganisationCreateDTO organisation, String status, String error) {
+
+    static ImportRow failed(long rowNumber, String error) {
+        return new ImportRow(rowNumber, null, null, error);
+    }
+}
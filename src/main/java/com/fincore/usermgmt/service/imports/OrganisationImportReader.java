@@ -0,0 +1,223 @@
+package com.fincore.usermgmt.service.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fincore.usermgmt.dto.OrganisationCreateDTO;
+import com.fincore.usermgmt.entity.enums.ImportFormat;
+import com.google.common.collect.AbstractIterator;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams the rows of an organisation import file without holding the file in memory.
+ * Rows are bound to {@link OrganisationCreateDTO} with the application ObjectMapper, so
+ * field names and date formats are the same as the create endpoint. A CSV header names
+ * DTO properties, with address fields as "registeredAddress.addressLine1" and so on.
+ * An optional "status" field imports the organisation with that status instead of PENDING.
+ * A row that cannot be read becomes an error row; the file itself is only abandoned on
+ * an I/O error.
+ */
+public abstract class OrganisationImportReader extends AbstractIterator<ImportRow> implements Closeable {
+
+    static final String STATUS_FIELD = "status";
+
+    protected final BufferedReader reader;
+    protected final ObjectMapper objectMapper;
+
+    protected OrganisationImportReader(InputStream in, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Open a reader for the given format.
+     */
+    public static OrganisationImportReader open(InputStream in, ImportFormat format, ObjectMapper objectMapper) {
+        return format == ImportFormat.CSV
+                ? new CsvReader(in, objectMapper)
+                : new NdjsonReader(in, objectMapper);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    protected ImportRow bind(long rowNumber, ObjectNode node) {
+        String status = node.hasNonNull(STATUS_FIELD) ? node.get(STATUS_FIELD).asText() : null;
+        node.remove(STATUS_FIELD);
+        try {
+            return new ImportRow(rowNumber, objectMapper.treeToValue(node, OrganisationCreateDTO.class), status, null);
+        } catch (IOException | IllegalArgumentException e) {
+            return ImportRow.failed(rowNumber, "Invalid row: " + firstLine(e.getMessage()));
+        }
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "unreadable value";
+        }
+        int newline = message.indexOf('\n');
+        return newline >= 0 ? message.substring(0, newline) : message;
+    }
+
+    /**
+     * One JSON object per line. Blank lines are skipped but still counted, so row numbers are line numbers.
+     */
+    private static final class NdjsonReader extends OrganisationImportReader {
+
+        private long lineNumber;
+
+        NdjsonReader(InputStream in, ObjectMapper objectMapper) {
+            super(in, objectMapper);
+        }
+
+        @Override
+        protected ImportRow computeNext() {
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        if (!(objectMapper.readTree(line) instanceof ObjectNode node)) {
+                            return ImportRow.failed(lineNumber, "Invalid row: not a JSON object");
+                        }
+                        return bind(lineNumber, node);
+                    } catch (IOException e) {
+                        return ImportRow.failed(lineNumber, "Invalid row: malformed JSON");
+                    }
+                }
+                return endOfData();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * RFC 4180 CSV: quoted fields may contain commas, doubled quotes and line breaks.
+     * Empty cells are treated as absent. Row numbers count records after the header.
+     */
+    private static final class CsvReader extends OrganisationImportReader {
+
+        private List<String> header;
+        private long recordNumber;
+
+        CsvReader(InputStream in, ObjectMapper objectMapper) {
+            super(in, objectMapper);
+        }
+
+        @Override
+        protected ImportRow computeNext() {
+            try {
+                if (header == null) {
+                    header = readRecord(reader);
+                    if (header == null) {
+                        return endOfData();
+                    }
+                    // A byte order mark would otherwise become part of the first column name
+                    if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+                        header.set(0, header.get(0).substring(1));
+                    }
+                }
+                List<String> record;
+                do {
+                    record = readRecord(reader);
+                    if (record == null) {
+                        return endOfData();
+                    }
+                    recordNumber++;
+                } while (record.size() == 1 && record.get(0).isEmpty());
+                if (record.size() > header.size()) {
+                    return ImportRow.failed(recordNumber,
+                            "Invalid row: " + record.size() + " fields but the header has " + header.size());
+                }
+                return bind(recordNumber, toNode(record));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private ObjectNode toNode(List<String> record) {
+            Map<String, ObjectNode> nested = new LinkedHashMap<>();
+            ObjectNode node = objectMapper.createObjectNode();
+            for (int i = 0; i < record.size(); i++) {
+                String value = record.get(i);
+                if (value.isEmpty()) {
+                    continue;
+                }
+                String name = header.get(i).trim();
+                int dot = name.indexOf('.');
+                if (dot < 0) {
+                    node.put(name, value);
+                } else {
+                    nested.computeIfAbsent(name.substring(0, dot), parent -> node.putObject(parent))
+                            .put(name.substring(dot + 1), value);
+                }
+            }
+            return node;
+        }
+
+        /**
+         * Read one record.
+         * @return the fields, or null at the end of the input
+         */
+        static List<String> readRecord(Reader reader) throws IOException {
+            int c = reader.read();
+            if (c < 0) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (c >= 0) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.fincore.usermgmt.service.risk;
+
+/**
+ * Scores the risk of an organisation from its {@link RiskProfile}.
+ * Called concurrently from the scoring pool, so implementations must be thread-safe
+ * and should not touch the database.
+ */
+public interface OrganisationRiskModel {
+
+    /**
+     * Score one organisation.
+     */
+    RiskAssessment assess(RiskProfile profile);
+
+    /**
+     * Short name of the model, recorded with each scoring run.
+     */
+    String name();
+}
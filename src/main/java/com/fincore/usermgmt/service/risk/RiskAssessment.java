@@ -0,0 +1,10 @@
+package com.fincore.usermgmt.service.risk;
+
+import com.fincore.usermgmt.entity.enums.RiskLevel;
+
+/**
+ * Score, from 0 (lowest risk) to 100, and level given to one organisation by an
+ * {@link OrganisationRiskModel}.
+ */
+public record RiskAssessment(Long organisationId, int score, RiskLevel level) {
+}
@@ -0,0 +1,28 @@
+package com.fincore.usermgmt.service.risk;
+
+import com.fincore.usermgmt.entity.OrganisationType;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+/**
+ * The inputs an {@link OrganisationRiskModel} scores an organisation on.
+ * Transaction volumes are the typed values parsed from the onboarding answers
+ * and are null where the answer could not be parsed; document counts are the
+ * organisation's KYC documents by status.
+ */
+@Builder
+public record RiskProfile(
+        Long organisationId,
+        OrganisationType organisationType,
+        String primaryRemittanceDestinationCountry,
+        String secondaryRemittanceDestinationCountry,
+        BigDecimal monthlyTurnoverMax,
+        BigDecimal incomingTransactionValue,
+        BigDecimal outgoingTransactionValue,
+        BigDecimal maxOutgoingPayment,
+        long verifiedDocuments,
+        long pendingDocuments,
+        long rejectedDocuments,
+        long expiredDocuments) {
+}
@@ -0,0 +1,122 @@
+package com.fincore.usermgmt.service.risk;
+
+import com.fincore.usermgmt.entity.OrganisationType;
+import com.fincore.usermgmt.entity.enums.RiskLevel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Additive points model following the compliance spreadsheet: remittance corridor,
+ * transaction volumes, organisation type and the state of the KYC documents each
+ * add points, capped at 100. 60 and above is HIGH, 30 and above MEDIUM.
+ * Enabled with organisation.risk.model=rules (the default).
+ */
+@Component
+@ConditionalOnProperty(name = "organisation.risk.model", havingValue = "rules", matchIfMissing = true)
+public class RuleBasedRiskModel implements OrganisationRiskModel {
+
+    static final int HIGH_THRESHOLD = 60;
+    static final int MEDIUM_THRESHOLD = 30;
+    private static final int MAX_SCORE = 100;
+
+    private static final BigDecimal HIGH_OUTGOING_VALUE = new BigDecimal("1000000");
+    private static final BigDecimal ELEVATED_OUTGOING_VALUE = new BigDecimal("250000");
+    private static final BigDecimal HIGH_SINGLE_PAYMENT = new BigDecimal("100000");
+    private static final BigDecimal HIGH_TURNOVER = new BigDecimal("1000000");
+
+    // Types with less public disclosure of ownership
+    private static final Set<OrganisationType> OPAQUE_TYPES =
+            EnumSet.of(OrganisationType.TRUST, OrganisationType.CHARITY, OrganisationType.OTHER);
+    private static final Set<OrganisationType> UNINCORPORATED_TYPES =
+            EnumSet.of(OrganisationType.SOLE_TRADER, OrganisationType.PARTNERSHIP);
+
+    private final Set<String> highRiskCountries;
+
+    public RuleBasedRiskModel(
+            @Value("${organisation.risk.high-risk-countries:Iran,North Korea,Myanmar}") List<String> highRiskCountries) {
+        this.highRiskCountries = highRiskCountries.stream()
+                .map(RuleBasedRiskModel::normaliseCountry)
+                .filter(country -> !country.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public RiskAssessment assess(RiskProfile profile) {
+        int score = 0;
+
+        // Remittance corridor
+        String primary = normaliseCountry(profile.primaryRemittanceDestinationCountry());
+        if (primary.isEmpty()) {
+            score += 10;
+        } else if (highRiskCountries.contains(primary)) {
+            score += 40;
+        }
+        if (highRiskCountries.contains(normaliseCountry(profile.secondaryRemittanceDestinationCountry()))) {
+            score += 25;
+        }
+
+        // Transaction volumes
+        if (atLeast(profile.outgoingTransactionValue(), HIGH_OUTGOING_VALUE)) {
+            score += 20;
+        } else if (atLeast(profile.outgoingTransactionValue(), ELEVATED_OUTGOING_VALUE)) {
+            score += 10;
+        }
+        if (atLeast(profile.maxOutgoingPayment(), HIGH_SINGLE_PAYMENT)) {
+            score += 10;
+        }
+        if (atLeast(profile.monthlyTurnoverMax(), HIGH_TURNOVER)) {
+            score += 10;
+        }
+
+        // Organisation type
+        if (profile.organisationType() == null || OPAQUE_TYPES.contains(profile.organisationType())) {
+            score += 15;
+        } else if (UNINCORPORATED_TYPES.contains(profile.organisationType())) {
+            score += 5;
+        }
+
+        // KYC documents
+        if (profile.rejectedDocuments() > 0) {
+            score += 20;
+        }
+        if (profile.expiredDocuments() > 0) {
+            score += 10;
+        }
+        if (profile.verifiedDocuments() == 0) {
+            score += 15;
+        } else if (profile.pendingDocuments() > 0) {
+            score += 5;
+        }
+
+        score = Math.min(score, MAX_SCORE);
+        return new RiskAssessment(profile.organisationId(), score, level(score));
+    }
+
+    @Override
+    public String name() {
+        return "rules";
+    }
+
+    static RiskLevel level(int score) {
+        if (score >= HIGH_THRESHOLD) {
+            return RiskLevel.HIGH;
+        }
+        return score >= MEDIUM_THRESHOLD ? RiskLevel.MEDIUM : RiskLevel.LOW;
+    }
+
+    private static boolean atLeast(BigDecimal value, BigDecimal threshold) {
+        return value != null && value.compareTo(threshold) >= 0;
+    }
+
+    private static String normaliseCountry(String country) {
+        return country == null ? "" : country.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,62 @@
+package com.fincore.usermgmt.service.search;
+
+import com.fincore.usermgmt.entity.Organisation;
+import com.fincore.usermgmt.entity.OrganisationStatus;
+import com.fincore.usermgmt.entity.OrganisationType;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Search engine backed by the MySQL ngram FULLTEXT index ftx_org_search
+ * (see V8.0__Add_Organisation_Fulltext_Index.sql).
+ * Enabled with organisation.search.engine=fulltext.
+ */
+@Component
+@ConditionalOnProperty(name = "organisation.search.engine", havingValue = "fulltext")
+@RequiredArgsConstructor
+@Slf4j
+public class FullTextOrganisationSearchEngine implements OrganisationSearchEngine {
+
+    private final OrganisationRepository organisationRepository;
+
+    @Override
+    public Page<Organisation> search(String searchTerm, OrganisationStatus status,
+                                     OrganisationType organisationType, Pageable pageable) {
+        String query = toBooleanModeQuery(searchTerm);
+        if (query == null) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        log.debug("Full-text organisation search: {}", query);
+        // Ranking defines the order, so any requested sort is dropped
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return organisationRepository.fullTextSearch(
+                query,
+                status != null ? status.name() : null,
+                organisationType != null ? organisationType.name() : null,
+                unsorted);
+    }
+
+    /**
+     * Quote the term as a phrase so the ngram parser matches it as a substring
+     * and boolean-mode operators typed by the user are treated literally.
+     */
+    static String toBooleanModeQuery(String searchTerm) {
+        if (searchTerm == null) {
+            return null;
+        }
+        String cleaned = searchTerm.replace("\"", " ").trim();
+        if (cleaned.isEmpty()) {
+            return null;
+        }
+        return "\"" + cleaned + "\"";
+    }
+}
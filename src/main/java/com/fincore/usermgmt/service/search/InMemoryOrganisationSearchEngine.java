@@ -0,0 +1,238 @@
+package com.fincore.usermgmt.service.search;
+
+import com.fincore.usermgmt.entity.Organisation;
+import com.fincore.usermgmt.entity.OrganisationStatus;
+import com.fincore.usermgmt.entity.OrganisationType;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-process inverted index used when the database has no full-text support (H2).
+ * Searchable fields are split into character bigrams, so a term is resolved by
+ * intersecting its bigram postings and confirming the substring on the few
+ * candidates left, instead of scanning every organisation.
+ * Enabled with organisation.search.engine=in-memory (the default).
+ */
+@Component
+@ConditionalOnProperty(name = "organisation.search.engine", havingValue = "in-memory", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryOrganisationSearchEngine implements OrganisationSearchEngine {
+
+    private static final int GRAM_SIZE = 2;
+    private static final int FILTER_CHUNK_SIZE = 1000;
+
+    // Field weights: identifiers are the most selective, then legal name, then trading name
+    private static final int COMPANY_NUMBER_WEIGHT = 3;
+    private static final int REGISTRATION_NUMBER_WEIGHT = 3;
+    private static final int LEGAL_NAME_WEIGHT = 2;
+    private static final int BUSINESS_NAME_WEIGHT = 1;
+
+    private final OrganisationRepository organisationRepository;
+
+    private final Map<Long, IndexedOrganisation> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    /**
+     * Build the index from the database once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            documents.clear();
+            postings.clear();
+        }
+        List<Object[]> rows = organisationRepository.findSearchableFields();
+        for (Object[] row : rows) {
+            indexNow(new IndexedOrganisation((Long) row[0],
+                    normalise((String) row[1]), normalise((String) row[2]),
+                    normalise((String) row[3]), normalise((String) row[4])));
+        }
+        log.info("Organisation search index built with {} organisations and {} terms", documents.size(), postings.size());
+    }
+
+    @Override
+    public void index(Organisation organisation) {
+        IndexedOrganisation document = new IndexedOrganisation(organisation.getId(),
+                normalise(organisation.getLegalName()), normalise(organisation.getBusinessName()),
+                normalise(organisation.getCompanyNumber()), normalise(organisation.getRegistrationNumber()));
+        // Only a committed save becomes searchable
+        TransactionCallbacks.afterCommit(() -> indexNow(document));
+    }
+
+    @Override
+    public void remove(Long organisationId) {
+        TransactionCallbacks.afterCommit(() -> removeNow(organisationId));
+    }
+
+    @Override
+    public Page<Organisation> search(String searchTerm, OrganisationStatus status,
+                                     OrganisationType organisationType, Pageable pageable) {
+        String term = normalise(searchTerm);
+        if (term == null) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        List<Long> rankedIds = rank(term);
+        if (status != null || organisationType != null) {
+            rankedIds = applyFilters(rankedIds, status, organisationType);
+        }
+
+        int start = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int end = Math.min(start + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(start, end);
+
+        Map<Long, Organisation> loaded = organisationRepository.findWithDetailsByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Organisation::getId, Function.identity()));
+        List<Organisation> content = pageIds.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(content, pageable, rankedIds.size());
+    }
+
+    /**
+     * Number of organisations currently held in the index.
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    List<Long> rank(String term) {
+        Collection<Long> candidates = candidates(term);
+        List<long[]> scored = new ArrayList<>();
+        for (Long id : candidates) {
+            IndexedOrganisation document = documents.get(id);
+            if (document == null) {
+                continue;
+            }
+            int score = document.score(term);
+            if (score > 0) {
+                scored.add(new long[]{score, id});
+            }
+        }
+        scored.sort((a, b) -> a[0] != b[0] ? Long.compare(b[0], a[0]) : Long.compare(a[1], b[1]));
+        return scored.stream().map(entry -> entry[1]).collect(Collectors.toList());
+    }
+
+    private Collection<Long> candidates(String term) {
+        if (term.length() < GRAM_SIZE) {
+            // Single-character terms cannot use the bigram postings
+            return documents.keySet();
+        }
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(term)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private List<Long> applyFilters(List<Long> rankedIds, OrganisationStatus status, OrganisationType organisationType) {
+        Set<Long> allowed = new HashSet<>();
+        for (int i = 0; i < rankedIds.size(); i += FILTER_CHUNK_SIZE) {
+            List<Long> chunk = rankedIds.subList(i, Math.min(i + FILTER_CHUNK_SIZE, rankedIds.size()));
+            allowed.addAll(organisationRepository.findIdsMatchingFilters(chunk, status, organisationType));
+        }
+        return rankedIds.stream().filter(allowed::contains).collect(Collectors.toList());
+    }
+
+    private synchronized void indexNow(IndexedOrganisation document) {
+        removeNow(document.id());
+        documents.put(document.id(), document);
+        for (String gram : document.grams()) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(document.id());
+        }
+    }
+
+    private synchronized void removeNow(Long organisationId) {
+        IndexedOrganisation previous = documents.remove(organisationId);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : previous.grams()) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(organisationId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    static String normalise(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalised = value.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+        return normalised.isEmpty() ? null : normalised;
+    }
+
+    static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        if (value == null) {
+            return grams;
+        }
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private record IndexedOrganisation(Long id, String legalName, String businessName,
+                                       String companyNumber, String registrationNumber) {
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            grams.addAll(InMemoryOrganisationSearchEngine.grams(legalName));
+            grams.addAll(InMemoryOrganisationSearchEngine.grams(businessName));
+            grams.addAll(InMemoryOrganisationSearchEngine.grams(companyNumber));
+            grams.addAll(InMemoryOrganisationSearchEngine.grams(registrationNumber));
+            return grams;
+        }
+
+        int score(String term) {
+            return fieldScore(companyNumber, term, COMPANY_NUMBER_WEIGHT)
+                    + fieldScore(registrationNumber, term, REGISTRATION_NUMBER_WEIGHT)
+                    + fieldScore(legalName, term, LEGAL_NAME_WEIGHT)
+                    + fieldScore(businessName, term, BUSINESS_NAME_WEIGHT);
+        }
+
+        private static int fieldScore(String field, String term, int weight) {
+            if (field == null || !field.contains(term)) {
+                return 0;
+            }
+            if (field.equals(term)) {
+                return weight * 4;
+            }
+            if (field.startsWith(term)) {
+                return weight * 2;
+            }
+            return weight;
+        }
+    }
+}
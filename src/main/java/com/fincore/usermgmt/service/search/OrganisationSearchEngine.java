@@ -0,0 +1,39 @@
+package com.fincore.usermgmt.service.search;
+
+import com.fincore.usermgmt.entity.Organisation;
+import com.fincore.usermgmt.entity.OrganisationStatus;
+import com.fincore.usermgmt.entity.OrganisationType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Ranked full-text search over organisation legal name, business name,
+ * company number and registration number.
+ * Results are ordered by relevance; the sort of the supplied pageable is ignored.
+ */
+public interface OrganisationSearchEngine {
+
+    /**
+     * Search organisations matching the term, optionally filtered by status and type.
+     * @param searchTerm free-text search term (must not be blank)
+     * @param status optional status filter
+     * @param organisationType optional type filter
+     * @param pageable page number and size
+     * @return page of matching organisations, best match first
+     */
+    Page<Organisation> search(String searchTerm, OrganisationStatus status,
+                              OrganisationType organisationType, Pageable pageable);
+
+    /**
+     * Add or refresh the searchable fields of an organisation.
+     * Engines backed by a database index do not need to do anything here.
+     */
+    default void index(Organisation organisation) {
+    }
+
+    /**
+     * Remove an organisation from the search index.
+     */
+    default void remove(Long organisationId) {
+    }
+}
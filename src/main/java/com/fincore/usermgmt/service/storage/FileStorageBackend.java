@@ -0,0 +1,70 @@
+package com.fincore.usermgmt.service.storage;
+
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Where document files are kept. Files are addressed by a name such as
+ * "kyc-documents/20240101-120000-1a2b3c4d.pdf"; the URL recorded on a document is
+ * derived from the name by the backend.
+ * Selected with storage.backend: gcs (the default) or local.
+ */
+public interface FileStorageBackend {
+
+    /**
+     * Store content under a name, replacing any file already there. The content is streamed
+     * rather than held in memory, and the file only becomes visible once it is complete.
+     * @param contentType content type to record, or null
+     * @return the stored file
+     */
+    StoredFile store(String name, String contentType, InputStreamSource content) throws IOException;
+
+    /**
+     * Get the metadata of a file without reading its content.
+     * @return the file, or empty if it does not exist
+     */
+    Optional<StoredFile> stat(String name) throws IOException;
+
+    /**
+     * Copy a byte range of a file to the output as it is read.
+     * @param end last byte to copy, inclusive
+     * @param out stream to copy to; not closed
+     * @return number of bytes copied
+     */
+    long copyRange(StoredFile file, long start, long end, OutputStream out) throws IOException;
+
+    /**
+     * Base64 MD5 of a file's content, as sent in a Content-MD5 header.
+     * @return the digest, or null if the file does not exist
+     */
+    String md5(String name) throws IOException;
+
+    /**
+     * Sign a URL a client can upload a file's content to directly, without it passing
+     * through this service. The upload must send the returned headers, so content of another
+     * type or with another MD5 is rejected by the backend.
+     * @param md5 base64 MD5 the content must have
+     * @param ttl how long the URL can be used to start an upload
+     */
+    SignedUpload signUpload(String name, String contentType, String md5, Duration ttl) throws IOException;
+
+    /**
+     * Delete a file.
+     * @return true if it existed
+     */
+    boolean delete(String name) throws IOException;
+
+    /**
+     * The URL recorded on a document for a file.
+     */
+    String toUrl(String name);
+
+    /**
+     * The name of the file behind a URL from {@link #toUrl}.
+     */
+    String toName(String url);
+}
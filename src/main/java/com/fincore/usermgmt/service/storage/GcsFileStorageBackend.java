@@ -0,0 +1,220 @@
+package com.fincore.usermgmt.service.storage;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageOptions;
+import com.google.common.base.Suppliers;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * Google Cloud Storage backend.
+ * Uploads stream through a resumable upload session with a bounded chunk buffer, and GCS
+ * checks them against the CRC32C and MD5 computed beforehand. Downloads stream through a
+ * ReadChannel pinned to the generation that was looked up.
+ * Direct uploads use V4 signed PUT URLs. Signing needs a service account key, or on GCP the
+ * runtime service account with iam.serviceAccounts.signBlob on itself.
+ * The client is created on first use with Application Default Credentials, which work
+ * automatically on GCP; for local development set GOOGLE_APPLICATION_CREDENTIALS.
+ * Enabled with storage.backend=gcs (the default).
+ */
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "gcs", matchIfMissing = true)
+@Slf4j
+public class GcsFileStorageBackend implements FileStorageBackend {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final Supplier<Storage> storage;
+    private final String bucketName;
+    private final String baseUrl;
+    private final int uploadChunkSize;
+    private final int downloadChunkSize;
+
+    @Autowired
+    public GcsFileStorageBackend(
+            @Value("${gcs.bucket-name}") String bucketName,
+            @Value("${gcs.project-id:}") String projectId,
+            @Value("${gcs.base-url:https://storage.googleapis.com}") String baseUrl,
+            @Value("${gcs.upload.chunk-size:2097152}") int uploadChunkSize,
+            @Value("${gcs.download.chunk-size:2097152}") int downloadChunkSize) {
+        this(Suppliers.memoize(() -> createStorage(projectId, bucketName)),
+                bucketName, baseUrl, uploadChunkSize, downloadChunkSize);
+    }
+
+    GcsFileStorageBackend(Supplier<Storage> storage, String bucketName, String baseUrl,
+                          int uploadChunkSize, int downloadChunkSize) {
+        this.storage = storage;
+        this.bucketName = bucketName;
+        this.baseUrl = baseUrl;
+        this.uploadChunkSize = uploadChunkSize;
+        this.downloadChunkSize = downloadChunkSize;
+    }
+
+    private static Storage createStorage(String projectId, String bucketName) {
+        try {
+            Storage storage = projectId != null && !projectId.isEmpty()
+                    ? StorageOptions.newBuilder().setProjectId(projectId).build().getService()
+                    // Use default project from ADC
+                    : StorageOptions.getDefaultInstance().getService();
+            log.info("GCS Storage initialized successfully with bucket: {}", bucketName);
+            return storage;
+        } catch (Exception e) {
+            log.error("Failed to initialize GCS Storage. File uploads will fail.", e);
+            throw new RuntimeException("GCS Storage initialization failed", e);
+        }
+    }
+
+    @Override
+    public StoredFile store(String name, String contentType, InputStreamSource content) throws IOException {
+        // Multipart files are spooled to disk, so reading twice costs no heap
+        Checksums checksums = checksum(content);
+        BlobId blobId = BlobId.of(bucketName, name);
+        BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
+                .setContentType(contentType)
+                .setCrc32c(checksums.crc32c())
+                .setMd5(checksums.md5())
+                .build();
+
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        // The session only finalises the object on close, after GCS has checked the checksums
+        try (InputStream in = content.getInputStream();
+             WriteChannel writer = storage.get().writer(blobInfo,
+                     Storage.BlobWriteOption.crc32cMatch(), Storage.BlobWriteOption.md5Match())) {
+            writer.setChunkSize(uploadChunkSize);
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, read);
+                while (bytes.hasRemaining()) {
+                    writer.write(bytes);
+                }
+            }
+        }
+        return stat(name).orElseThrow(() -> new IOException("Uploaded file not found in GCS: " + name));
+    }
+
+    @Override
+    public Optional<StoredFile> stat(String name) {
+        Blob blob = storage.get().get(BlobId.of(bucketName, name));
+        if (blob == null) {
+            return Optional.empty();
+        }
+        long generation = blob.getGeneration();
+        return Optional.of(new StoredFile(name, generation, blob.getSize(), blob.getContentType(),
+                "\"" + Long.toString(generation, 36) + "\""));
+    }
+
+    @Override
+    public long copyRange(StoredFile file, long start, long end, OutputStream out) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        ByteBuffer bytes = ByteBuffer.wrap(buffer);
+        long copied = 0;
+        try (ReadChannel reader = storage.get().reader(BlobId.of(bucketName, file.name(), file.generation()))) {
+            reader.setChunkSize(downloadChunkSize);
+            reader.seek(start);
+            reader.limit(end + 1);
+            int read;
+            while ((read = reader.read(bytes)) != -1) {
+                out.write(buffer, 0, read);
+                copied += read;
+                bytes.clear();
+            }
+        }
+        return copied;
+    }
+
+    @Override
+    public String md5(String name) {
+        Blob blob = storage.get().get(BlobId.of(bucketName, name),
+                Storage.BlobGetOption.fields(Storage.BlobField.MD5HASH));
+        return blob != null ? blob.getMd5() : null;
+    }
+
+    @Override
+    public SignedUpload signUpload(String name, String contentType, String md5, Duration ttl) {
+        // Signed headers: GCS refuses the upload if they are missing or differ, and rejects
+        // content that does not match the Content-MD5. Generation 0 only matches a missing object,
+        // so the URL cannot overwrite a completed upload while it is still valid.
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", contentType);
+        headers.put("Content-MD5", md5);
+        headers.put("x-goog-if-generation-match", "0");
+        Instant expiresAt = Instant.now().plus(ttl);
+        URL url = storage.get().signUrl(BlobInfo.newBuilder(BlobId.of(bucketName, name)).build(),
+                ttl.toSeconds(), TimeUnit.SECONDS,
+                Storage.SignUrlOption.httpMethod(HttpMethod.PUT),
+                Storage.SignUrlOption.withV4Signature(),
+                Storage.SignUrlOption.withExtHeaders(headers));
+        return new SignedUpload(url.toString(), "PUT", headers, expiresAt);
+    }
+
+    @Override
+    public boolean delete(String name) {
+        return storage.get().delete(BlobId.of(bucketName, name));
+    }
+
+    @Override
+    public String toUrl(String name) {
+        return String.format("%s/%s/%s", baseUrl, bucketName, name);
+    }
+
+    @Override
+    public String toName(String url) {
+        // Expected format: https://storage.googleapis.com/bucket-name/folder/filename.ext
+        return url.replace(baseUrl + "/" + bucketName + "/", "");
+    }
+
+    /**
+     * CRC32C and MD5 of the content, base64 encoded as GCS expects them.
+     */
+    static Checksums checksum(InputStreamSource source) throws IOException {
+        CRC32C crc32c = new CRC32C();
+        MessageDigest md5;
+        try {
+            md5 = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        try (InputStream in = source.getInputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc32c.update(buffer, 0, read);
+                md5.update(buffer, 0, read);
+            }
+        }
+        // GCS wants the CRC32C as four big-endian bytes
+        byte[] crc = ByteBuffer.allocate(4).putInt((int) crc32c.getValue()).array();
+        Base64.Encoder base64 = Base64.getEncoder();
+        return new Checksums(base64.encodeToString(crc), base64.encodeToString(md5.digest()));
+    }
+
+    record Checksums(String crc32c, String md5) {
+    }
+}
@@ -0,0 +1,273 @@
+package com.fincore.usermgmt.service.storage;
+
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Local filesystem backend, for running the document pipeline without network access
+ * (local runs, load tests, CI) or on-prem.
+ * Files are sharded two directory levels deep by a hash of their name, so no directory
+ * grows past a few thousand entries. Uploads are written to a temporary file in the target
+ * directory and atomically moved into place, so readers never see a partial file.
+ * Content is copied with FileChannel transfers rather than through heap buffers.
+ * Direct uploads are simulated with URLs signed by an HMAC key and served by
+ * LocalUploadController, which checks the signature and expiry as GCS would; the content
+ * is checked against its Content-MD5 before it is moved into place.
+ * Enabled with storage.backend=local.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+@Slf4j
+public class LocalFileStorageBackend implements FileStorageBackend {
+
+    static final String URL_PREFIX = "local://";
+
+    public static final String UPLOAD_PATH = "/api/storage/local-uploads";
+
+    private static final long TRANSFER_SIZE = 8L * 1024 * 1024;
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final String uploadBaseUrl;
+    private final byte[] signingKey;
+
+    @Autowired
+    public LocalFileStorageBackend(
+            @Value("${storage.local.root:./data/files}") String root,
+            @Value("${storage.local.upload-base-url:http://localhost:8080}") String uploadBaseUrl,
+            @Value("${storage.local.signing-key:}") String signingKey) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.uploadBaseUrl = uploadBaseUrl;
+        // Without a configured key, upload URLs are only valid until a restart
+        this.signingKey = signingKey.isEmpty() ? randomKey() : signingKey.getBytes(StandardCharsets.UTF_8);
+        log.info("Local file storage at {}", this.root);
+    }
+
+    LocalFileStorageBackend(String root) {
+        this(root, "http://localhost:8080", "");
+    }
+
+    private static byte[] randomKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    @Override
+    public StoredFile store(String name, String contentType, InputStreamSource content) throws IOException {
+        Path target = path(name);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            try (InputStream in = content.getInputStream()) {
+                write(in, temp);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return stat(name).orElseThrow(() -> new IOException("Stored file not found: " + name));
+    }
+
+    /**
+     * Store a direct upload. The content is checked in its temporary file, so a body that does
+     * not match never becomes visible under the name, and an existing file is never replaced,
+     * so a signed URL that has not expired cannot overwrite a completed upload.
+     * @param md5 base64 MD5 the content must have, or null to skip the check
+     * @param size number of bytes the content must have, or -1 if unknown
+     * @return the stored file, or empty if the content did not match
+     * @throws FileAlreadyExistsException if a file is already stored under the name
+     */
+    public Optional<StoredFile> storeUpload(String name, String md5, long size, InputStreamSource content)
+            throws IOException {
+        Path target = path(name);
+        if (Files.exists(target)) {
+            throw new FileAlreadyExistsException(name);
+        }
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            MessageDigest digest = newMd5();
+            long written;
+            try (InputStream in = new DigestInputStream(content.getInputStream(), digest)) {
+                written = write(in, temp);
+            }
+            if ((size >= 0 && written != size)
+                    || (md5 != null && !md5.equals(Base64.getEncoder().encodeToString(digest.digest())))) {
+                return Optional.empty();
+            }
+            // Unlike a move, a link fails if the name exists, even when two uploads race for it
+            Files.createLink(target, temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return stat(name);
+    }
+
+    private static long write(InputStream in, Path file) throws IOException {
+        try (ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, TRANSFER_SIZE)) > 0) {
+                position += transferred;
+            }
+            channel.force(true);
+            return position;
+        }
+    }
+
+    @Override
+    public Optional<StoredFile> stat(String name) throws IOException {
+        Path path = path(name);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+        long modified = attributes.lastModifiedTime().toMillis();
+        // No content type is kept on disk; callers fall back to the file name
+        return Optional.of(new StoredFile(name, modified, attributes.size(), Files.probeContentType(path),
+                "\"" + Long.toString(modified, 36) + "-" + Long.toString(attributes.size(), 36) + "\""));
+    }
+
+    @Override
+    public long copyRange(StoredFile file, long start, long end, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(path(file.name()), StandardOpenOption.READ)) {
+            // Not closed: closing it would close the caller's stream
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = end - start + 1;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break; // Shorter than expected
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+            return position - start;
+        }
+    }
+
+    @Override
+    public String md5(String name) throws IOException {
+        MessageDigest md5 = newMd5();
+        byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(path(name))) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                md5.update(buffer, 0, read);
+            }
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        return Base64.getEncoder().encodeToString(md5.digest());
+    }
+
+    private static MessageDigest newMd5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+
+    @Override
+    public SignedUpload signUpload(String name, String contentType, String md5, Duration ttl) {
+        path(name); // Reject names escaping the root before handing out a URL for them
+        Instant expiresAt = Instant.now().plus(ttl);
+        long expires = expiresAt.getEpochSecond();
+        String url = UriComponentsBuilder.fromHttpUrl(uploadBaseUrl)
+                .path(UPLOAD_PATH)
+                .queryParam("name", name)
+                .queryParam("expires", expires)
+                .queryParam("signature", sign(name, expires, contentType, md5))
+                .encode()
+                .toUriString();
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", contentType);
+        headers.put("Content-MD5", md5);
+        return new SignedUpload(url, "PUT", headers, expiresAt);
+    }
+
+    /**
+     * Check an upload against the URL it was made to: the signature has to cover the name,
+     * expiry and headers sent, and the URL must not have expired.
+     */
+    public boolean verifyUpload(String name, long expires, String contentType, String md5, String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        return MessageDigest.isEqual(sign(name, expires, contentType, md5).getBytes(StandardCharsets.UTF_8),
+                signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    String sign(String name, long expires, String contentType, String md5) {
+        String payload = String.join("\n", name, Long.toString(expires),
+                contentType != null ? contentType : "", md5 != null ? md5 : "");
+        return Hashing.hmacSha256(signingKey).hashString(payload, StandardCharsets.UTF_8).toString();
+    }
+
+    @Override
+    public boolean delete(String name) throws IOException {
+        return Files.deleteIfExists(path(name));
+    }
+
+    @Override
+    public String toUrl(String name) {
+        return URL_PREFIX + name;
+    }
+
+    @Override
+    public String toName(String url) {
+        return url.startsWith(URL_PREFIX) ? url.substring(URL_PREFIX.length()) : url;
+    }
+
+    /**
+     * Sharded path of a file, e.g. root/3f/a2/kyc-documents/20240101-120000-1a2b3c4d.pdf.
+     */
+    Path path(String name) {
+        String hash = Hashing.sha256().hashString(name, StandardCharsets.UTF_8).toString();
+        Path shard = root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4));
+        Path path = shard.resolve(name).normalize();
+        if (!path.startsWith(shard) || path.equals(shard)) {
+            throw new IllegalArgumentException("Invalid file name: " + name);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,12 @@
+package com.fincore.usermgmt.service.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A signed URL a client uploads a file to directly, with the request it has to make.
+ * @param headers headers covered by the signature, which the upload must send unchanged
+ * @param expiresAt when the URL stops accepting new uploads
+ */
+public record SignedUpload(String url, String method, Map<String, String> headers, Instant expiresAt) {
+}
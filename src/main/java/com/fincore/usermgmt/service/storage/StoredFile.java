@@ -0,0 +1,13 @@
+package com.fincore.usermgmt.service.storage;
+
+/**
+ * Metadata of a file in storage, read without its content.
+ *
+ * @param name name of the file in the backend, e.g. "kyc-documents/20240101-120000-1a2b3c4d.pdf"
+ * @param generation version of the file in the backend; GCS pins reads to it so ranged reads never mix two versions
+ * @param size size in bytes
+ * @param contentType content type recorded at upload, or null
+ * @param eTag strong ETag of this generation of the file
+ */
+public record StoredFile(String name, long generation, long size, String contentType, String eTag) {
+}
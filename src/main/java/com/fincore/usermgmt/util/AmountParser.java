@@ -0,0 +1,130 @@
+package com.fincore.usermgmt.util;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the free-text amounts and counts entered during onboarding
+ * ("£1.5m", "10,000 - 50,000", "over 1m", "up to 500k", "250+") into numbers.
+ * Text that cannot be read as an amount yields null; the original text is kept
+ * by the caller, so nothing is lost. So does an amount too large for the
+ * DECIMAL(19,2) columns it is stored in.
+ */
+public final class AmountParser {
+
+    private static final Pattern NUMBER = Pattern.compile(
+            "(\\d+(?:\\.\\d+)?)\\s*(thousand|million|billion|bn|mn|k|m|b)?\\b(\\+)?");
+    private static final Pattern CURRENCY = Pattern.compile("[£$€,]|\\b(gbp|usd|eur)\\b");
+    private static final Pattern LOWER_BOUND = Pattern.compile(
+            "^(over|above|more than|greater than|at least|from|min(imum)?|>=?)");
+    private static final Pattern UPPER_BOUND = Pattern.compile(
+            "^(up to|upto|under|below|less than|max(imum)?|<=?)");
+    /** Smallest amount that no longer fits DECIMAL(19,2). */
+    private static final BigDecimal LIMIT = BigDecimal.TEN.pow(17);
+
+    private AmountParser() {
+    }
+
+    /**
+     * Parse a range.
+     * @return {min, max} where an open end is null ("over 1m" has no max); null if no amount was found
+     */
+    public static BigDecimal[] parseRange(String text) {
+        if (text == null) {
+            return null;
+        }
+        String normalised = CURRENCY.matcher(text.toLowerCase(Locale.ROOT)).replaceAll("").trim();
+        List<BigDecimal> numbers = new ArrayList<>();
+        List<String> units = new ArrayList<>();
+        boolean openEnded = false;
+        Matcher matcher = NUMBER.matcher(normalised);
+        while (numbers.size() < 2 && matcher.find()) {
+            numbers.add(new BigDecimal(matcher.group(1)));
+            units.add(matcher.group(2));
+            openEnded |= matcher.group(3) != null;
+        }
+        if (numbers.isEmpty()) {
+            return null;
+        }
+
+        if (numbers.size() == 2) {
+            BigDecimal min = numbers.get(0).multiply(multiplier(units.get(0)));
+            BigDecimal max = numbers.get(1).multiply(multiplier(units.get(1)));
+            // "£1-5m": a unit written once applies to both ends
+            if (units.get(0) == null && units.get(1) != null) {
+                BigDecimal scaledMin = numbers.get(0).multiply(multiplier(units.get(1)));
+                if (scaledMin.compareTo(max) <= 0) {
+                    min = scaledMin;
+                }
+            }
+            if (!inRange(min) || !inRange(max)) {
+                return null;
+            }
+            return new BigDecimal[]{normalise(min), normalise(max)};
+        }
+
+        BigDecimal value = normalise(numbers.get(0).multiply(multiplier(units.get(0))));
+        if (!inRange(value)) {
+            return null;
+        }
+        if (openEnded || LOWER_BOUND.matcher(normalised).find()) {
+            return new BigDecimal[]{value, null};
+        }
+        if (UPPER_BOUND.matcher(normalised).find()) {
+            return new BigDecimal[]{BigDecimal.ZERO, value};
+        }
+        return new BigDecimal[]{value, value};
+    }
+
+    /**
+     * Parse a single amount. For a range the upper end is used, or the lower end if it is open.
+     * @return the amount, or null if none was found
+     */
+    public static BigDecimal parseAmount(String text) {
+        BigDecimal[] range = parseRange(text);
+        if (range == null) {
+            return null;
+        }
+        return range[1] != null ? range[1] : range[0];
+    }
+
+    /**
+     * Parse a count, as {@link #parseAmount(String)} rounded down to a whole number.
+     * Amounts are kept below 10^17, so the count always fits a long.
+     * @return the count, or null if none was found
+     */
+    public static Long parseCount(String text) {
+        BigDecimal amount = parseAmount(text);
+        return amount != null ? amount.longValue() : null;
+    }
+
+    private static BigDecimal multiplier(String unit) {
+        if (unit == null) {
+            return BigDecimal.ONE;
+        }
+        switch (unit) {
+            case "k":
+            case "thousand":
+                return BigDecimal.valueOf(1_000L);
+            case "m":
+            case "mn":
+            case "million":
+                return BigDecimal.valueOf(1_000_000L);
+            default:
+                return BigDecimal.valueOf(1_000_000_000L);
+        }
+    }
+
+    private static boolean inRange(BigDecimal value) {
+        return value.compareTo(LIMIT) < 0;
+    }
+
+    private static BigDecimal normalise(BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        return stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+    }
+}
@@ -0,0 +1,113 @@
+package com.fincore.usermgmt.util;
+
+import com.fincore.usermgmt.exception.PreconditionFailedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.StringJoiner;
+
+/**
+ * Validators for conditional requests on a single entity, read with a lightweight
+ * version query instead of loading and mapping the entity.
+ * The strong ETag combines the version of the entity with the versions of every
+ * entity nested in its representation (owner, addresses, ...), so a change to any
+ * of them produces a new tag. Last-Modified is the latest of their timestamps.
+ */
+public final class ResourceVersion {
+
+    private final Long version;
+    private final String eTag;
+    private final long lastModified;
+
+    private ResourceVersion(Long version, String eTag, long lastModified) {
+        this.version = version;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Build from a version query row holding (version, last modified) pairs:
+     * the entity itself first, then each nested entity. Absent nested entities are nulls.
+     * A row of odd length ends with the timestamp of a change written without a new version
+     * (such as a risk score), which goes into the tag as well as into Last-Modified.
+     */
+    public static ResourceVersion fromRow(Object[] row) {
+        return fromRow(row, row.length % 2);
+    }
+
+    /**
+     * Build from a version query row of (version, last modified) pairs that ends with
+     * the given number of timestamps of changes written without a new version.
+     */
+    public static ResourceVersion fromRow(Object[] row, int trailingTimestamps) {
+        StringJoiner versions = new StringJoiner(".");
+        long lastModified = -1;
+        int pairsEnd = row.length - trailingTimestamps;
+        for (int i = 0; i + 1 < pairsEnd; i += 2) {
+            Number version = (Number) row[i];
+            LocalDateTime modified = (LocalDateTime) row[i + 1];
+            versions.add(version != null ? Long.toString(version.longValue(), 36) : "x");
+            if (modified != null) {
+                lastModified = Math.max(lastModified, toEpochMilli(modified));
+            }
+        }
+        for (int i = pairsEnd; i < row.length; i++) {
+            LocalDateTime changed = (LocalDateTime) row[i];
+            versions.add(changed != null ? Long.toString(toEpochMilli(changed), 36) : "x");
+            if (changed != null) {
+                lastModified = Math.max(lastModified, toEpochMilli(changed));
+            }
+        }
+        Long rootVersion = row.length > 0 && row[0] != null ? ((Number) row[0]).longValue() : null;
+        String eTag = "\"" + versions + "-" + Long.toString(Math.max(lastModified, 0), 36) + "\"";
+        return new ResourceVersion(rootVersion, eTag, lastModified);
+    }
+
+    /**
+     * Evaluate If-None-Match / If-Modified-Since on GET, or If-Match / If-Unmodified-Since on PUT.
+     * On GET the ETag and Last-Modified headers are added to the response.
+     * @return true if a 304 or 412 response has been prepared and the handler should return null
+     */
+    public boolean checkNotModified(WebRequest request) {
+        return request.checkNotModified(eTag, lastModified);
+    }
+
+    /**
+     * The version an update must still find when it loads the entity, so a change
+     * committed between the If-Match check and the update is not overwritten.
+     * @return null if the client sent no If-Match precondition on a specific tag
+     */
+    public Long expectedVersion(WebRequest request) {
+        String ifMatch = request.getHeader(HttpHeaders.IF_MATCH);
+        return ifMatch != null && !ifMatch.trim().equals("*") ? version : null;
+    }
+
+    /**
+     * Fail with 412 if the entity loaded for an update no longer has the version
+     * the client's If-Match tag was issued for.
+     * @param expectedVersion the version from {@link #expectedVersion(WebRequest)}, or null to skip the check
+     */
+    public static void checkExpectedVersion(Long expectedVersion, Long actualVersion, String description) {
+        if (expectedVersion != null && !expectedVersion.equals(actualVersion)) {
+            throw new PreconditionFailedException(description + " was modified after it was read, reload and retry");
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+}
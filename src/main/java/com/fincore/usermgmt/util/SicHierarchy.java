@@ -0,0 +1,165 @@
+package com.fincore.usermgmt.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * The UK SIC 2007 hierarchy: section (letter) → division (2 digits) → group (3)
+ * → class (4) → subclass (5). Codes are stored as 5-digit subclasses, so every
+ * level of the hierarchy is a contiguous range of codes and can be looked up
+ * with an index range scan instead of string matching.
+ */
+public final class SicHierarchy {
+
+    /**
+     * A section with the divisions it contains.
+     */
+    public record Section(String code, String title, List<String> divisions) {
+    }
+
+    /**
+     * Inclusive range of 5-digit codes.
+     */
+    public record CodeRange(String from, String to) {
+    }
+
+    private static final int CODE_LENGTH = 5;
+    private static final Pattern SEPARATORS = Pattern.compile("[,;\\s]+");
+    private static final Pattern PUNCTUATION = Pattern.compile("[./\\-]");
+    private static final Pattern DIGITS = Pattern.compile("\\d{2,5}");
+
+    private static final List<Section> SECTIONS = List.of(
+            section("A", "Agriculture, forestry and fishing", 1, 3),
+            section("B", "Mining and quarrying", 5, 9),
+            section("C", "Manufacturing", 10, 33),
+            section("D", "Electricity, gas, steam and air conditioning supply", 35, 35),
+            section("E", "Water supply; sewerage, waste management and remediation activities", 36, 39),
+            section("F", "Construction", 41, 43),
+            section("G", "Wholesale and retail trade; repair of motor vehicles and motorcycles", 45, 47),
+            section("H", "Transportation and storage", 49, 53),
+            section("I", "Accommodation and food service activities", 55, 56),
+            section("J", "Information and communication", 58, 63),
+            section("K", "Financial and insurance activities", 64, 66),
+            section("L", "Real estate activities", 68, 68),
+            section("M", "Professional, scientific and technical activities", 69, 75),
+            section("N", "Administrative and support service activities", 77, 82),
+            section("O", "Public administration and defence; compulsory social security", 84, 84),
+            section("P", "Education", 85, 85),
+            section("Q", "Human health and social work activities", 86, 88),
+            section("R", "Arts, entertainment and recreation", 90, 93),
+            section("S", "Other service activities", 94, 96),
+            section("T", "Activities of households as employers; undifferentiated goods- and "
+                    + "services-producing activities of households for own use", 97, 98),
+            section("U", "Activities of extraterritorial organisations and bodies", 99, 99));
+
+    private static final Map<String, Section> SECTIONS_BY_CODE = new TreeMap<>();
+    private static final Map<String, Section> SECTIONS_BY_DIVISION = new TreeMap<>();
+
+    static {
+        for (Section section : SECTIONS) {
+            SECTIONS_BY_CODE.put(section.code(), section);
+            for (String division : section.divisions()) {
+                SECTIONS_BY_DIVISION.put(division, section);
+            }
+        }
+    }
+
+    private SicHierarchy() {
+    }
+
+    /**
+     * All sections in code order.
+     */
+    public static List<Section> sections() {
+        return SECTIONS;
+    }
+
+    /**
+     * The section a code or code prefix belongs to.
+     * @return the section, or null if the division does not exist
+     */
+    public static Section sectionOf(String code) {
+        return code != null && code.length() >= 2 ? SECTIONS_BY_DIVISION.get(code.substring(0, 2)) : null;
+    }
+
+    /**
+     * Normalise a code to its 5-digit subclass form: "62.02" and "6202" become "62020".
+     * @return the code, or null if it is not a code in an existing division
+     */
+    public static String normalise(String code) {
+        if (code == null) {
+            return null;
+        }
+        String digits = PUNCTUATION.matcher(code.trim()).replaceAll("");
+        if (digits.length() < 4 || !DIGITS.matcher(digits).matches() || sectionOf(digits) == null) {
+            return null;
+        }
+        StringBuilder normalised = new StringBuilder(digits);
+        while (normalised.length() < CODE_LENGTH) {
+            normalised.append('0');
+        }
+        return normalised.toString();
+    }
+
+    /**
+     * Parse the codes of an organisation from its primary code and its comma-joined list.
+     * Codes that are not valid are skipped.
+     * @return normalised codes, primary code first, without duplicates
+     */
+    public static Set<String> parseCodes(String primaryCode, String codes) {
+        Set<String> parsed = new LinkedHashSet<>();
+        for (String text : new String[]{primaryCode, codes}) {
+            if (text == null) {
+                continue;
+            }
+            for (String token : SEPARATORS.split(text)) {
+                String code = normalise(token);
+                if (code != null) {
+                    parsed.add(code);
+                }
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * The range of 5-digit codes under a level of the hierarchy: a section letter,
+     * or a division, group, class or subclass of 2 to 5 digits (dots allowed).
+     * @throws IllegalArgumentException if the level is not in the hierarchy
+     */
+    public static CodeRange range(String level) {
+        String code = level == null ? "" : PUNCTUATION.matcher(level.trim()).replaceAll("").toUpperCase(Locale.ROOT);
+        Section section = SECTIONS_BY_CODE.get(code);
+        if (section != null) {
+            List<String> divisions = section.divisions();
+            return new CodeRange(pad(divisions.get(0), '0'), pad(divisions.get(divisions.size() - 1), '9'));
+        }
+        if (!DIGITS.matcher(code).matches() || sectionOf(code) == null) {
+            throw new IllegalArgumentException("Unknown SIC section or code: " + level);
+        }
+        return new CodeRange(pad(code, '0'), pad(code, '9'));
+    }
+
+    private static String pad(String prefix, char digit) {
+        StringBuilder padded = new StringBuilder(prefix);
+        while (padded.length() < CODE_LENGTH) {
+            padded.append(digit);
+        }
+        return padded.toString();
+    }
+
+    private static Section section(String code, String title, int firstDivision, int lastDivision) {
+        List<String> divisions = new ArrayList<>();
+        for (int division = firstDivision; division <= lastDivision; division++) {
+            divisions.add(String.format("%02d", division));
+        }
+        return new Section(code, title, Collections.unmodifiableList(divisions));
+    }
+}
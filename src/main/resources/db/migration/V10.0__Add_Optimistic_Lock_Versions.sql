@@ -0,0 +1,44 @@
+-- =====================================================
+-- V10.0 Migration: Optimistic Locking Versions
+-- =====================================================
+-- Description: Add Version_Number to organisation and kyc_documents.
+--              Review transitions (submit/approve/reject) only apply when the
+--              row still has the expected status and version; a concurrent
+--              reviewer gets HTTP 409 instead of silently overwriting.
+-- =====================================================
+
+-- Organisation
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Version_Number'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Version_Number BIGINT NOT NULL DEFAULT 0',
+    'SELECT "Column organisation.Version_Number already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- KYC documents
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'kyc_documents'
+    AND COLUMN_NAME = 'Version_Number'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE kyc_documents ADD COLUMN Version_Number BIGINT NOT NULL DEFAULT 0',
+    'SELECT "Column kyc_documents.Version_Number already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
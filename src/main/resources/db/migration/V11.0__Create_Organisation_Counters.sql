@@ -0,0 +1,25 @@
+-- =====================================================
+-- V11.0 Migration: Organisation Counters
+-- =====================================================
+-- Description: Per status/type organisation counts for the admin dashboard.
+--              OrganisationCounterService updates these rows in the same
+--              transaction as every organisation change and periodically
+--              reconciles them against the organisation table.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS organisation_counters (
+    Counter_Identifier BIGINT PRIMARY KEY AUTO_INCREMENT,
+    Status_Description VARCHAR(30) NOT NULL,
+    Organisation_Type_Description VARCHAR(20) NOT NULL,
+    Organisation_Count BIGINT NOT NULL DEFAULT 0,
+    Last_Modified_Datetime TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_org_counter_status_type UNIQUE (Status_Description, Organisation_Type_Description)
+);
+
+-- Seed from existing data; missing combinations are created by the first reconciliation
+INSERT INTO organisation_counters (Status_Description, Organisation_Type_Description, Organisation_Count)
+SELECT Status_Description, Organisation_Type_Description, COUNT(*)
+FROM organisation
+WHERE Status_Description IS NOT NULL
+GROUP BY Status_Description, Organisation_Type_Description
+ON DUPLICATE KEY UPDATE Organisation_Count = VALUES(Organisation_Count);
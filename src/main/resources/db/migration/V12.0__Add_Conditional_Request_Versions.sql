@@ -0,0 +1,61 @@
+-- =====================================================
+-- V12.0 Migration: Conditional Request Versions
+-- =====================================================
+-- Description: Version and last-modified columns used to build ETags for
+--              users and addresses, so GET /{id} can answer 304 Not Modified
+--              and PUT can honour If-Match from a single indexed lookup.
+-- =====================================================
+
+-- Users
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'users'
+    AND COLUMN_NAME = 'Version_Number'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE users ADD COLUMN Version_Number BIGINT NOT NULL DEFAULT 0',
+    'SELECT "Column users.Version_Number already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Address
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'address'
+    AND COLUMN_NAME = 'Last_Modified_Datetime'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE address ADD COLUMN Last_Modified_Datetime TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP',
+    'SELECT "Column address.Last_Modified_Datetime already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Address
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'address'
+    AND COLUMN_NAME = 'Version_Number'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE address ADD COLUMN Version_Number BIGINT NOT NULL DEFAULT 0',
+    'SELECT "Column address.Version_Number already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,86 @@
+-- =====================================================
+-- V13.0 Migration: Organisation Archive
+-- =====================================================
+-- Description: Archive tables for deleted organisations and for organisations
+--              closed or rejected longer than the retention period, so the
+--              organisation, address and KYC_Documents tables and their
+--              indexes only hold live onboarding cases. Each archived row
+--              keeps its identifying columns plus a JSON snapshot of the
+--              record as the API returned it.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS organisation_archive (
+    Organisation_Identifier BIGINT PRIMARY KEY,
+    User_Identifier BIGINT,
+    Legal_Name VARCHAR(100),
+    Registration_Number VARCHAR(20),
+    Company_Number VARCHAR(20),
+    Status_Description VARCHAR(20),
+    Archive_Reason VARCHAR(20) NOT NULL COMMENT 'DELETED or RETENTION',
+    Last_Modified_Datetime TIMESTAMP NULL,
+    Archived_Datetime TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    Archived_By BIGINT,
+    Organisation_Snapshot TEXT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS kyc_documents_archive (
+    Document_Identifier BIGINT PRIMARY KEY,
+    Reference_Identifier BIGINT NOT NULL COMMENT 'Organisation_Identifier in organisation_archive',
+    Document_Type_Description VARCHAR(50),
+    Status_Description VARCHAR(20),
+    Archived_Datetime TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    Document_Snapshot TEXT NOT NULL
+);
+
+-- Indexes (idempotent)
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation_archive'
+    AND INDEX_NAME = 'idx_org_archive_user'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_org_archive_user ON organisation_archive(User_Identifier)',
+    'SELECT "Index idx_org_archive_user already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'kyc_documents_archive'
+    AND INDEX_NAME = 'idx_kyc_archive_reference'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_kyc_archive_reference ON kyc_documents_archive(Reference_Identifier)',
+    'SELECT "Index idx_kyc_archive_reference already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- The archival job scans organisation by status and last modified date
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'idx_org_status_modified'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_org_status_modified ON organisation(Status_Description, Last_Modified_Datetime)',
+    'SELECT "Index idx_org_status_modified already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,248 @@
+-- =====================================================
+-- V14.0 Migration: Typed Transaction Volumes
+-- =====================================================
+-- Description: Numeric columns parsed from the free-text transaction volume
+--              answers (turnover band, counts, values, max payments) so
+--              they can be range-filtered and indexed. The original answers
+--              are kept; existing rows have Transaction_Volumes_Parsed = FALSE
+--              and are parsed by the application on startup.
+-- =====================================================
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Monthly_Turnover_Min'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Monthly_Turnover_Min DECIMAL(19,2) NULL',
+    'SELECT "Column organisation.Monthly_Turnover_Min already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Monthly_Turnover_Max'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Monthly_Turnover_Max DECIMAL(19,2) NULL',
+    'SELECT "Column organisation.Monthly_Turnover_Max already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Incoming_Transaction_Count'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Incoming_Transaction_Count BIGINT NULL',
+    'SELECT "Column organisation.Incoming_Transaction_Count already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Outgoing_Transaction_Count'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Outgoing_Transaction_Count BIGINT NULL',
+    'SELECT "Column organisation.Outgoing_Transaction_Count already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Incoming_Transaction_Value'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Incoming_Transaction_Value DECIMAL(19,2) NULL',
+    'SELECT "Column organisation.Incoming_Transaction_Value already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Outgoing_Transaction_Value'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Outgoing_Transaction_Value DECIMAL(19,2) NULL',
+    'SELECT "Column organisation.Outgoing_Transaction_Value already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Max_Incoming_Payment'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Max_Incoming_Payment DECIMAL(19,2) NULL',
+    'SELECT "Column organisation.Max_Incoming_Payment already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Max_Outgoing_Payment'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Max_Outgoing_Payment DECIMAL(19,2) NULL',
+    'SELECT "Column organisation.Max_Outgoing_Payment already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Transaction_Volumes_Parsed'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Transaction_Volumes_Parsed BOOLEAN NOT NULL DEFAULT FALSE',
+    'SELECT "Column organisation.Transaction_Volumes_Parsed already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Indexes (idempotent)
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'idx_org_turnover'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_org_turnover ON organisation(Monthly_Turnover_Max, Monthly_Turnover_Min)',
+    'SELECT "Index idx_org_turnover already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'idx_org_incoming_value'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_org_incoming_value ON organisation(Incoming_Transaction_Value, Status_Description)',
+    'SELECT "Index idx_org_incoming_value already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'idx_org_outgoing_value'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_org_outgoing_value ON organisation(Outgoing_Transaction_Value, Status_Description)',
+    'SELECT "Index idx_org_outgoing_value already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'idx_org_max_incoming'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_org_max_incoming ON organisation(Max_Incoming_Payment, Status_Description)',
+    'SELECT "Index idx_org_max_incoming already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'idx_org_max_outgoing'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_org_max_outgoing ON organisation(Max_Outgoing_Payment, Status_Description)',
+    'SELECT "Index idx_org_max_outgoing already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
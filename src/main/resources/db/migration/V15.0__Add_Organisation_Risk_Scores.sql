@@ -0,0 +1,162 @@
+-- =====================================================
+-- V15.0 Migration: Organisation Risk Scores
+-- =====================================================
+-- Description: Risk score and level written by the batch risk scoring
+--              job, and a table recording each completed run. The
+--              Last_Modified_Datetime indexes let an incremental run find
+--              organisations and KYC documents changed since the previous
+--              run without scanning either table.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS risk_scoring_runs (
+    Run_Identifier BIGINT PRIMARY KEY AUTO_INCREMENT,
+    Model_Name VARCHAR(50) NOT NULL,
+    Incremental BOOLEAN NOT NULL,
+    Modified_Since TIMESTAMP NULL,
+    Started_Datetime TIMESTAMP NOT NULL,
+    Completed_Datetime TIMESTAMP NOT NULL,
+    Organisations_Scored BIGINT NOT NULL,
+    High_Risk_Count BIGINT NOT NULL,
+    Chunk_Count INT NOT NULL,
+    Duration_Millis BIGINT NOT NULL,
+    Organisations_Per_Second DOUBLE NOT NULL
+);
+
+-- Organisation risk columns
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Risk_Score'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Risk_Score INT NULL',
+    'SELECT "Column organisation.Risk_Score already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Risk_Level'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Risk_Level VARCHAR(20) NULL',
+    'SELECT "Column organisation.Risk_Level already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Risk_Scored_Datetime'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Risk_Scored_Datetime TIMESTAMP NULL',
+    'SELECT "Column organisation.Risk_Scored_Datetime already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Indexes (idempotent)
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'idx_org_risk'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_org_risk ON organisation(Risk_Level, Risk_Score)',
+    'SELECT "Index idx_org_risk already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'idx_org_modified'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_org_modified ON organisation(Last_Modified_Datetime)',
+    'SELECT "Index idx_org_modified already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'idx_org_risk_scored'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_org_risk_scored ON organisation(Risk_Scored_Datetime)',
+    'SELECT "Index idx_org_risk_scored already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'kyc_documents'
+    AND INDEX_NAME = 'idx_kyc_modified'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_kyc_modified ON kyc_documents(Last_Modified_Datetime)',
+    'SELECT "Index idx_kyc_modified already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'risk_scoring_runs'
+    AND INDEX_NAME = 'idx_risk_run_started'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_risk_run_started ON risk_scoring_runs(Started_Datetime)',
+    'SELECT "Index idx_risk_run_started already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
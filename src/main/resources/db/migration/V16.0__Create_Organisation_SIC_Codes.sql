@@ -0,0 +1,38 @@
+-- =====================================================
+-- V16.0 Migration: Organisation SIC Codes
+-- =====================================================
+-- Description: Normalised join table of organisation SIC codes, one row
+--              per 5-digit code, replacing LIKE scans over the comma-joined
+--              SIC_Codes column. Every level of the SIC hierarchy (section,
+--              division, group, class) is a contiguous code range, so the
+--              (SIC_Code, Organisation_Identifier) index answers lookups at
+--              any level. Existing organisations are indexed by the
+--              application on startup.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS organisation_sic_codes (
+    Sic_Code_Identifier BIGINT PRIMARY KEY AUTO_INCREMENT,
+    Organisation_Identifier INT NOT NULL,
+    SIC_Code VARCHAR(5) NOT NULL,
+    Primary_Code BOOLEAN NOT NULL DEFAULT FALSE,
+    CONSTRAINT uk_org_sic_code UNIQUE (Organisation_Identifier, SIC_Code),
+    CONSTRAINT fk_org_sic_org FOREIGN KEY (Organisation_Identifier) REFERENCES organisation(Organisation_Identifier)
+);
+
+-- Indexes (idempotent)
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation_sic_codes'
+    AND INDEX_NAME = 'idx_org_sic_code'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_org_sic_code ON organisation_sic_codes(SIC_Code, Organisation_Identifier)',
+    'SELECT "Index idx_org_sic_code already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,53 @@
+-- =====================================================
+-- V17.0 Migration: HMRC Registration Expiry Scan
+-- =====================================================
+-- Description: Expiry status set by the daily HMRC expiry scan, an index
+--              on HMRC_Expiry_Date so the scan reads only the organisations
+--              in its window, and a table holding the high-water mark each
+--              scan has reached.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS scan_watermarks (
+    Scan_Name VARCHAR(50) PRIMARY KEY,
+    Watermark_Date DATE NOT NULL,
+    Watermark_Identifier BIGINT NOT NULL,
+    Last_Run_Datetime TIMESTAMP NULL,
+    Last_Run_Count INT NOT NULL DEFAULT 0
+);
+
+-- Organisation expiry status column
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'HMRC_Expiry_Status'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN HMRC_Expiry_Status VARCHAR(20) NULL',
+    'SELECT "Column organisation.HMRC_Expiry_Status already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Index (idempotent)
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'idx_org_hmrc_expiry'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_org_hmrc_expiry ON organisation(HMRC_Expiry_Date)',
+    'SELECT "Index idx_org_hmrc_expiry already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,48 @@
+-- =====================================================
+-- V18.0 Migration: One Organisation Per Owner
+-- =====================================================
+-- Description: Enforce the one organisation per user rule in the database
+--              so concurrent creates for the same owner cannot both succeed.
+--              OrganisationService maps violations to HTTP 409 instead of
+--              checking for an existing organisation before every insert.
+--              The unique index also serves fk_org_user, so idx_org_user is
+--              dropped.
+-- Note: Any owners with more than one organisation must be resolved before
+--       this migration runs:
+--         SELECT User_Identifier, COUNT(*) FROM organisation
+--         GROUP BY User_Identifier HAVING COUNT(*) > 1;
+-- =====================================================
+
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'uk_org_owner'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'ALTER TABLE organisation ADD CONSTRAINT uk_org_owner UNIQUE (User_Identifier)',
+    'SELECT "Constraint uk_org_owner already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'idx_org_user'
+);
+
+SET @drop_idx = IF(@idx_exists > 0,
+    'DROP INDEX idx_org_user ON organisation',
+    'SELECT "Index idx_org_user already dropped" AS info'
+);
+
+PREPARE stmt FROM @drop_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,55 @@
+-- =====================================================
+-- V19.0 Migration: Reviewer Work Queue
+-- =====================================================
+-- Description: One row per organisation under review. Reviewers claim
+--              rows with SELECT ... FOR UPDATE SKIP LOCKED and hold them
+--              on a lease renewed by heartbeats, so concurrent reviewers
+--              never pick up the same organisation. Claims are kept here
+--              rather than on organisation so claiming never locks
+--              organisation rows. Organisations already under review are
+--              queued by the application on startup.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS review_queue (
+    Organisation_Identifier INT PRIMARY KEY,
+    Enqueued_Datetime TIMESTAMP NOT NULL,
+    Reviewer_Identifier BIGINT NULL,
+    Claimed_Datetime TIMESTAMP NULL,
+    Lease_Expires_Datetime TIMESTAMP NULL,
+    CONSTRAINT fk_review_queue_org FOREIGN KEY (Organisation_Identifier) REFERENCES organisation(Organisation_Identifier)
+);
+
+-- Indexes (idempotent)
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'review_queue'
+    AND INDEX_NAME = 'idx_review_queue_enqueued'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_review_queue_enqueued ON review_queue(Enqueued_Datetime, Organisation_Identifier)',
+    'SELECT "Index idx_review_queue_enqueued already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'review_queue'
+    AND INDEX_NAME = 'idx_review_queue_reviewer'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_review_queue_reviewer ON review_queue(Reviewer_Identifier, Lease_Expires_Datetime)',
+    'SELECT "Index idx_review_queue_reviewer already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
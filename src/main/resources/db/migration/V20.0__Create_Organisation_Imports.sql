@@ -0,0 +1,60 @@
+-- =====================================================
+-- V20.0 Migration: Legacy Organisation Bulk Import
+-- =====================================================
+-- Description: Track bulk imports of organisations from the legacy
+--              platform. Each chunk of a file is committed together with
+--              Checkpoint_Row, so a failed import resumes after the last
+--              committed row. Legacy_Identifier becomes unique so imports
+--              can dedupe against organisations already imported; the
+--              unique index also answers those lookups.
+-- Note: Any duplicate legacy identifiers must be resolved before this
+--       migration runs:
+--         SELECT Legacy_Identifier, COUNT(*) FROM organisation
+--         WHERE Legacy_Identifier IS NOT NULL
+--         GROUP BY Legacy_Identifier HAVING COUNT(*) > 1;
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS organisation_imports (
+    Import_Identifier BIGINT PRIMARY KEY AUTO_INCREMENT,
+    File_Name VARCHAR(255),
+    Import_Format VARCHAR(10) NOT NULL COMMENT 'CSV, NDJSON',
+    Status_Description VARCHAR(20) NOT NULL COMMENT 'RUNNING, COMPLETED, FAILED',
+    Checkpoint_Row BIGINT NOT NULL DEFAULT 0,
+    Imported_Count BIGINT NOT NULL DEFAULT 0,
+    Duplicate_Count BIGINT NOT NULL DEFAULT 0,
+    Error_Count BIGINT NOT NULL DEFAULT 0,
+    Duration_Millis BIGINT NOT NULL DEFAULT 0,
+    Failure_Reason VARCHAR(255),
+    Started_Datetime TIMESTAMP NOT NULL,
+    Completed_Datetime TIMESTAMP NULL,
+    Last_Modified_Datetime TIMESTAMP NULL,
+    Created_By INT,
+    INDEX idx_org_import_started (Started_Datetime)
+);
+
+CREATE TABLE IF NOT EXISTS organisation_import_errors (
+    Error_Identifier BIGINT PRIMARY KEY AUTO_INCREMENT,
+    Import_Identifier BIGINT NOT NULL,
+    Source_Row BIGINT NOT NULL,
+    Legacy_Identifier VARCHAR(20),
+    Message VARCHAR(255) NOT NULL,
+    INDEX idx_org_import_error_row (Import_Identifier, Source_Row),
+    CONSTRAINT fk_org_import_error_import FOREIGN KEY (Import_Identifier) REFERENCES organisation_imports(Import_Identifier)
+);
+
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'uk_org_legacy_identifier'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'ALTER TABLE organisation ADD CONSTRAINT uk_org_legacy_identifier UNIQUE (Legacy_Identifier)',
+    'SELECT "Constraint uk_org_legacy_identifier already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
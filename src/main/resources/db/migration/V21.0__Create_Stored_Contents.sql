@@ -0,0 +1,38 @@
+-- =====================================================
+-- V21.0 Migration: Content-Addressed Document Storage
+-- =====================================================
+-- Description: Uploaded KYC files are stored under the SHA-256 of their
+--              content, so a file uploaded again reuses the stored copy.
+--              Each row counts the KYC document rows referencing the file;
+--              files left unreferenced past a grace period are deleted by
+--              the application. Files uploaded before this migration keep
+--              their timestamped names and are not tracked here.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS stored_contents (
+    Storage_Name VARCHAR(255) PRIMARY KEY,
+    Content_Hash VARCHAR(64) NOT NULL,
+    Size_Bytes BIGINT NOT NULL,
+    Content_Type VARCHAR(100) NULL,
+    Reference_Count INT NOT NULL DEFAULT 0,
+    Created_Datetime TIMESTAMP NOT NULL,
+    Last_Modified_Datetime TIMESTAMP NOT NULL
+);
+
+-- Index (idempotent)
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'stored_contents'
+    AND INDEX_NAME = 'idx_stored_content_unreferenced'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_stored_content_unreferenced ON stored_contents(Reference_Count, Last_Modified_Datetime)',
+    'SELECT "Index idx_stored_content_unreferenced already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,46 @@
+-- =====================================================
+-- V22.0 Migration: Direct KYC Document Uploads
+-- =====================================================
+-- Description: KYC document files can be uploaded straight to the bucket
+--              through short-lived signed URLs. Each intent records the
+--              declared size and MD5 the upload is checked against before
+--              the KYC document is created. Intents not completed in time
+--              are expired by the application, deleting their files.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS upload_intents (
+    Intent_Identifier VARCHAR(36) PRIMARY KEY,
+    Organisation_Identifier BIGINT NOT NULL,
+    Document_Type_Description VARCHAR(50) NOT NULL,
+    File_Name VARCHAR(255) NULL,
+    Content_Type VARCHAR(100) NOT NULL,
+    Size_Bytes BIGINT NOT NULL,
+    Content_MD5 VARCHAR(24) NOT NULL COMMENT 'Base64 MD5 the upload must match',
+    Storage_Name VARCHAR(255) NOT NULL,
+    Verification_Identifier INT NULL,
+    Sumsub_Document_Identifier VARCHAR(100) NULL,
+    Status_Description VARCHAR(20) NOT NULL COMMENT 'PENDING, COMPLETED, FAILED, EXPIRED',
+    Expires_Datetime TIMESTAMP NOT NULL,
+    Document_Identifier BIGINT NULL COMMENT 'KYC document created on completion',
+    Created_Datetime TIMESTAMP NOT NULL,
+    Completed_Datetime TIMESTAMP NULL,
+    Created_By INT NULL
+);
+
+-- Index (idempotent)
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'upload_intents'
+    AND INDEX_NAME = 'idx_upload_intent_expiry'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'CREATE INDEX idx_upload_intent_expiry ON upload_intents(Status_Description, Expires_Datetime)',
+    'SELECT "Index idx_upload_intent_expiry already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,32 @@
+-- =====================================================
+-- V23.0 Migration: SIC Codes Indexed Marker
+-- =====================================================
+-- Description: Marks organisations whose SIC text has been written to
+--              organisation_sic_codes, including text that yields no valid
+--              codes, so the startup and import backfill stops reading
+--              them again. Organisations that already have codes are
+--              marked here; the rest are indexed by the application.
+-- =====================================================
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Sic_Codes_Indexed'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Sic_Codes_Indexed BOOLEAN NOT NULL DEFAULT FALSE',
+    'SELECT "Column organisation.Sic_Codes_Indexed already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Keep Last_Modified_Datetime, the organisations themselves have not changed
+UPDATE organisation o
+SET o.Sic_Codes_Indexed = TRUE, o.Last_Modified_Datetime = o.Last_Modified_Datetime
+WHERE o.Sic_Codes_Indexed = FALSE
+AND EXISTS (SELECT 1 FROM organisation_sic_codes s WHERE s.Organisation_Identifier = o.Organisation_Identifier);
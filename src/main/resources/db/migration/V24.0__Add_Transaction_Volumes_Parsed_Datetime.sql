@@ -0,0 +1,25 @@
+-- =====================================================
+-- V24.0 Migration: Transaction Volumes Parsed Timestamp
+-- =====================================================
+-- Description: Records when the startup backfill derived the typed
+--              transaction volume columns of an existing organisation.
+--              The backfill keeps the version, so the timestamp goes into
+--              the organisation's ETag and Last-Modified instead.
+-- =====================================================
+
+SET @col_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND COLUMN_NAME = 'Transaction_Volumes_Parsed_Datetime'
+);
+
+SET @add_col = IF(@col_exists = 0,
+    'ALTER TABLE organisation ADD COLUMN Transaction_Volumes_Parsed_Datetime TIMESTAMP NULL',
+    'SELECT "Column organisation.Transaction_Volumes_Parsed_Datetime already exists" AS info'
+);
+
+PREPARE stmt FROM @add_col;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,27 @@
+-- =====================================================
+-- V8.0 Migration: Organisation Full-Text Search Index
+-- =====================================================
+-- Description: Replace LOWER(...) LIKE '%term%' organisation search with a
+--              ranked FULLTEXT index over names and registration identifiers.
+--              The ngram parser indexes every 2-character token, so partial
+--              company numbers and mid-word name fragments still match.
+-- Used by: FullTextOrganisationSearchEngine (organisation.search.engine=fulltext)
+-- =====================================================
+
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'ftx_org_search'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'ALTER TABLE organisation ADD FULLTEXT INDEX ftx_org_search
+     (Legal_Name, Business_Name, Company_Number, Registration_Number) WITH PARSER ngram',
+    'SELECT "Index ftx_org_search already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,50 @@
+-- =====================================================
+-- V9.0 Migration: Unique Organisation Identifiers
+-- =====================================================
+-- Description: Enforce uniqueness of Registration_Number and Company_Number
+--              in the database so concurrent creates cannot both succeed.
+--              OrganisationService maps violations to HTTP 409.
+-- Note: Blank identifiers are normalised to NULL first (NULLs never collide).
+--       Any remaining duplicates must be resolved before this migration runs:
+--         SELECT Registration_Number, COUNT(*) FROM organisation
+--         WHERE Registration_Number IS NOT NULL GROUP BY Registration_Number HAVING COUNT(*) > 1;
+-- =====================================================
+
+UPDATE organisation SET Registration_Number = NULL WHERE TRIM(Registration_Number) = '';
+UPDATE organisation SET Company_Number = NULL WHERE TRIM(Company_Number) = '';
+
+-- Registration number
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'uk_org_registration_number'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'ALTER TABLE organisation ADD CONSTRAINT uk_org_registration_number UNIQUE (Registration_Number)',
+    'SELECT "Constraint uk_org_registration_number already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Company number
+SET @idx_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'organisation'
+    AND INDEX_NAME = 'uk_org_company_number'
+);
+
+SET @add_idx = IF(@idx_exists = 0,
+    'ALTER TABLE organisation ADD CONSTRAINT uk_org_company_number UNIQUE (Company_Number)',
+    'SELECT "Constraint uk_org_company_number already exists" AS info'
+);
+
+PREPARE stmt FROM @add_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -3,6 +3,17 @@
 -- Phase 2: Organisation Onboarding Support Added
 
 -- Drop tables in correct order (foreign keys first)
+DROP TABLE IF EXISTS Upload_Intents;
+DROP TABLE IF EXISTS Stored_Contents;
+DROP TABLE IF EXISTS Organisation_Import_Errors;
+DROP TABLE IF EXISTS Organisation_Imports;
+DROP TABLE IF EXISTS Review_Queue;
+DROP TABLE IF EXISTS Scan_Watermarks;
+DROP TABLE IF EXISTS Risk_Scoring_Runs;
+DROP TABLE IF EXISTS KYC_Documents_Archive;
+DROP TABLE IF EXISTS Organisation_Archive;
+DROP TABLE IF EXISTS Organisation_SIC_Codes;
+DROP TABLE IF EXISTS Organisation_Counters;
 DROP TABLE IF EXISTS KYC_Documents;
 DROP TABLE IF EXISTS Organisation;
 DROP TABLE IF EXISTS Otp_Tokens;
@@ -46,6 +57,7 @@ CREATE TABLE Users (
     Status_Description VARCHAR(30),
     Created_Datetime TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     Last_Modified_Datetime TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    Version_Number BIGINT NOT NULL DEFAULT 0 COMMENT 'Change counter for ETags',
     CONSTRAINT fk_role_id FOREIGN KEY (Role_Identifier) REFERENCES Roles(Role_Identifier)
 );
 
@@ -93,7 +105,9 @@ CREATE TABLE Address (
     Country VARCHAR(50) NOT NULL,
     Status_Description VARCHAR(30) DEFAULT 'ACTIVE',
     Created_Datetime TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    Created_By INT
+    Created_By INT,
+    Last_Modified_Datetime TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    Version_Number BIGINT NOT NULL DEFAULT 0 COMMENT 'Optimistic lock version'
 );
 
 -- Create Organisation table
@@ -113,6 +127,7 @@ CREATE TABLE Organisation (
     -- Regulatory Information
     HMRC_MLR_Number VARCHAR(50),
     HMRC_Expiry_Date DATE,
+    HMRC_Expiry_Status VARCHAR(20) COMMENT 'EXPIRING_SOON, EXPIRED; NULL while current',
     FCA_Number VARCHAR(20),
     ICO_Number VARCHAR(20),
     
@@ -145,6 +160,24 @@ CREATE TABLE Organisation (
     Max_Value_Of_Incoming_Payments VARCHAR(50),
     Max_Value_Of_Outgoing_Payments VARCHAR(50),
     Product_Description VARCHAR(255),
+
+    -- Transaction volumes parsed from the answers above, for range filters
+    Monthly_Turnover_Min DECIMAL(19,2),
+    Monthly_Turnover_Max DECIMAL(19,2),
+    Incoming_Transaction_Count BIGINT,
+    Outgoing_Transaction_Count BIGINT,
+    Incoming_Transaction_Value DECIMAL(19,2),
+    Outgoing_Transaction_Value DECIMAL(19,2),
+    Max_Incoming_Payment DECIMAL(19,2),
+    Max_Outgoing_Payment DECIMAL(19,2),
+    Transaction_Volumes_Parsed BOOLEAN NOT NULL DEFAULT FALSE,
+    Transaction_Volumes_Parsed_Datetime TIMESTAMP NULL,
+    Sic_Codes_Indexed BOOLEAN NOT NULL DEFAULT FALSE,
+
+    -- Risk score from the batch scoring job
+    Risk_Score INT,
+    Risk_Level VARCHAR(20) COMMENT 'LOW, MEDIUM, HIGH',
+    Risk_Scored_Datetime TIMESTAMP NULL,
     
     -- Address References
     Registered_Address_Identifier INT,
@@ -159,7 +192,14 @@ CREATE TABLE Organisation (
     Created_By INT,
     Last_Modified_Datetime TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     Last_Modified_By INT,
+    Version_Number BIGINT NOT NULL DEFAULT 0 COMMENT 'Optimistic lock version',
     
+    -- Unique Identifiers
+    CONSTRAINT uk_org_registration_number UNIQUE (Registration_Number),
+    CONSTRAINT uk_org_company_number UNIQUE (Company_Number),
+    CONSTRAINT uk_org_owner UNIQUE (User_Identifier),
+    CONSTRAINT uk_org_legacy_identifier UNIQUE (Legacy_Identifier),
+
     -- Foreign Keys
     CONSTRAINT fk_org_user FOREIGN KEY (User_Identifier) REFERENCES Users(User_Identifier),
     CONSTRAINT fk_org_registered_addr FOREIGN KEY (Registered_Address_Identifier) REFERENCES Address(Address_Identifier),
@@ -167,6 +207,26 @@ CREATE TABLE Organisation (
     CONSTRAINT fk_org_correspondence_addr FOREIGN KEY (Correspondence_Address_Identifier) REFERENCES Address(Address_Identifier)
 );
 
+-- Create Organisation_Counters table (dashboard counts per status and type)
+CREATE TABLE Organisation_Counters (
+    Counter_Identifier BIGINT PRIMARY KEY AUTO_INCREMENT,
+    Status_Description VARCHAR(30) NOT NULL,
+    Organisation_Type_Description VARCHAR(20) NOT NULL,
+    Organisation_Count BIGINT NOT NULL DEFAULT 0,
+    Last_Modified_Datetime TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_org_counter_status_type UNIQUE (Status_Description, Organisation_Type_Description)
+);
+
+-- Create Organisation_SIC_Codes table (normalised 5-digit SIC codes of each organisation)
+CREATE TABLE Organisation_SIC_Codes (
+    Sic_Code_Identifier BIGINT PRIMARY KEY AUTO_INCREMENT,
+    Organisation_Identifier INT NOT NULL,
+    SIC_Code VARCHAR(5) NOT NULL,
+    Primary_Code BOOLEAN NOT NULL DEFAULT FALSE,
+    CONSTRAINT uk_org_sic_code UNIQUE (Organisation_Identifier, SIC_Code),
+    CONSTRAINT fk_org_sic_org FOREIGN KEY (Organisation_Identifier) REFERENCES Organisation(Organisation_Identifier)
+);
+
 -- Create KYC_Documents table (for organisation document verification)
 CREATE TABLE KYC_Documents (
     Document_Identifier INT PRIMARY KEY AUTO_INCREMENT,
@@ -183,21 +243,159 @@ CREATE TABLE KYC_Documents (
     Created_By INT,
     Last_Modified_Datetime TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     Last_Modified_By INT,
+    Version_Number BIGINT NOT NULL DEFAULT 0 COMMENT 'Optimistic lock version',
     
     -- Foreign Keys
     CONSTRAINT fk_kyc_org FOREIGN KEY (Reference_Identifier) REFERENCES Organisation(Organisation_Identifier),
     CONSTRAINT fk_kyc_verified_by FOREIGN KEY (Document_Verified_By) REFERENCES Users(User_Identifier)
 );
 
+-- Create archive tables (deleted organisations and long-closed or rejected ones, with their documents)
+CREATE TABLE Organisation_Archive (
+    Organisation_Identifier BIGINT PRIMARY KEY,
+    User_Identifier BIGINT,
+    Legal_Name VARCHAR(100),
+    Registration_Number VARCHAR(20),
+    Company_Number VARCHAR(20),
+    Status_Description VARCHAR(20),
+    Archive_Reason VARCHAR(20) NOT NULL COMMENT 'DELETED or RETENTION',
+    Last_Modified_Datetime TIMESTAMP NULL,
+    Archived_Datetime TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    Archived_By BIGINT,
+    Organisation_Snapshot TEXT NOT NULL
+);
+
+CREATE TABLE KYC_Documents_Archive (
+    Document_Identifier BIGINT PRIMARY KEY,
+    Reference_Identifier BIGINT NOT NULL COMMENT 'Organisation_Identifier in Organisation_Archive',
+    Document_Type_Description VARCHAR(50),
+    Status_Description VARCHAR(20),
+    Archived_Datetime TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    Document_Snapshot TEXT NOT NULL
+);
+
+-- Create Risk_Scoring_Runs table (completed organisation risk scoring runs)
+CREATE TABLE Risk_Scoring_Runs (
+    Run_Identifier BIGINT PRIMARY KEY AUTO_INCREMENT,
+    Model_Name VARCHAR(50) NOT NULL,
+    Incremental BOOLEAN NOT NULL,
+    Modified_Since TIMESTAMP NULL,
+    Started_Datetime TIMESTAMP NOT NULL,
+    Completed_Datetime TIMESTAMP NOT NULL,
+    Organisations_Scored BIGINT NOT NULL,
+    High_Risk_Count BIGINT NOT NULL,
+    Chunk_Count INT NOT NULL,
+    Duration_Millis BIGINT NOT NULL,
+    Organisations_Per_Second DOUBLE NOT NULL
+);
+
+-- Create Scan_Watermarks table (high-water marks of scheduled index scans)
+CREATE TABLE Scan_Watermarks (
+    Scan_Name VARCHAR(50) PRIMARY KEY,
+    Watermark_Date DATE NOT NULL,
+    Watermark_Identifier BIGINT NOT NULL,
+    Last_Run_Datetime TIMESTAMP NULL,
+    Last_Run_Count INT NOT NULL DEFAULT 0
+);
+
+-- Bulk imports of legacy organisations, with the checkpoint a failed import resumes from
+CREATE TABLE Organisation_Imports (
+    Import_Identifier BIGINT PRIMARY KEY AUTO_INCREMENT,
+    File_Name VARCHAR(255),
+    Import_Format VARCHAR(10) NOT NULL COMMENT 'CSV, NDJSON',
+    Status_Description VARCHAR(20) NOT NULL COMMENT 'RUNNING, COMPLETED, FAILED',
+    Checkpoint_Row BIGINT NOT NULL DEFAULT 0,
+    Imported_Count BIGINT NOT NULL DEFAULT 0,
+    Duplicate_Count BIGINT NOT NULL DEFAULT 0,
+    Error_Count BIGINT NOT NULL DEFAULT 0,
+    Duration_Millis BIGINT NOT NULL DEFAULT 0,
+    Failure_Reason VARCHAR(255),
+    Started_Datetime TIMESTAMP NOT NULL,
+    Completed_Datetime TIMESTAMP NULL,
+    Last_Modified_Datetime TIMESTAMP NULL,
+    Created_By INT
+);
+
+-- Rows of an import that could not be imported
+CREATE TABLE Organisation_Import_Errors (
+    Error_Identifier BIGINT PRIMARY KEY AUTO_INCREMENT,
+    Import_Identifier BIGINT NOT NULL,
+    Source_Row BIGINT NOT NULL,
+    Legacy_Identifier VARCHAR(20),
+    Message VARCHAR(255) NOT NULL,
+    CONSTRAINT fk_org_import_error_import FOREIGN KEY (Import_Identifier) REFERENCES Organisation_Imports(Import_Identifier)
+);
+
+-- Content-addressed document files and the number of KYC document rows referencing each
+CREATE TABLE Stored_Contents (
+    Storage_Name VARCHAR(255) PRIMARY KEY COMMENT 'Name in the storage backend, e.g. kyc-documents/sha256/<hash>',
+    Content_Hash VARCHAR(64) NOT NULL COMMENT 'Hex SHA-256 of the content, or md5:<hex> for direct uploads',
+    Size_Bytes BIGINT NOT NULL,
+    Content_Type VARCHAR(100),
+    Reference_Count INT NOT NULL DEFAULT 0,
+    Created_Datetime TIMESTAMP NOT NULL,
+    Last_Modified_Datetime TIMESTAMP NOT NULL
+);
+
+-- KYC document files uploaded straight to storage through signed URLs
+CREATE TABLE Upload_Intents (
+    Intent_Identifier VARCHAR(36) PRIMARY KEY,
+    Organisation_Identifier BIGINT NOT NULL,
+    Document_Type_Description VARCHAR(50) NOT NULL,
+    File_Name VARCHAR(255),
+    Content_Type VARCHAR(100) NOT NULL,
+    Size_Bytes BIGINT NOT NULL,
+    Content_MD5 VARCHAR(24) NOT NULL COMMENT 'Base64 MD5 the upload must match',
+    Storage_Name VARCHAR(255) NOT NULL,
+    Verification_Identifier INT,
+    Sumsub_Document_Identifier VARCHAR(100),
+    Status_Description VARCHAR(20) NOT NULL COMMENT 'PENDING, COMPLETED, FAILED, EXPIRED',
+    Expires_Datetime TIMESTAMP NOT NULL,
+    Document_Identifier BIGINT COMMENT 'KYC document created on completion',
+    Created_Datetime TIMESTAMP NOT NULL,
+    Completed_Datetime TIMESTAMP NULL,
+    Created_By INT
+);
+
+-- Create Review_Queue table (reviewer work queue of organisations under review)
+CREATE TABLE Review_Queue (
+    Organisation_Identifier INT PRIMARY KEY,
+    Enqueued_Datetime TIMESTAMP NOT NULL,
+    Reviewer_Identifier BIGINT COMMENT 'User holding the claim; NULL while unclaimed',
+    Claimed_Datetime TIMESTAMP NULL,
+    Lease_Expires_Datetime TIMESTAMP NULL,
+    CONSTRAINT fk_review_queue_org FOREIGN KEY (Organisation_Identifier) REFERENCES Organisation(Organisation_Identifier)
+);
+
 -- Additional indexes for Organisation tables
-CREATE INDEX idx_org_user ON Organisation(User_Identifier);
 CREATE INDEX idx_org_status ON Organisation(Status_Description);
+CREATE INDEX idx_org_status_modified ON Organisation(Status_Description, Last_Modified_Datetime);
+CREATE INDEX idx_org_turnover ON Organisation(Monthly_Turnover_Max, Monthly_Turnover_Min);
+CREATE INDEX idx_org_incoming_value ON Organisation(Incoming_Transaction_Value, Status_Description);
+CREATE INDEX idx_org_outgoing_value ON Organisation(Outgoing_Transaction_Value, Status_Description);
+CREATE INDEX idx_org_max_incoming ON Organisation(Max_Incoming_Payment, Status_Description);
+CREATE INDEX idx_org_max_outgoing ON Organisation(Max_Outgoing_Payment, Status_Description);
+CREATE INDEX idx_org_risk ON Organisation(Risk_Level, Risk_Score);
+CREATE INDEX idx_org_modified ON Organisation(Last_Modified_Datetime);
+CREATE INDEX idx_org_risk_scored ON Organisation(Risk_Scored_Datetime);
+CREATE INDEX idx_org_hmrc_expiry ON Organisation(HMRC_Expiry_Date);
+CREATE INDEX idx_review_queue_enqueued ON Review_Queue(Enqueued_Datetime, Organisation_Identifier);
+CREATE INDEX idx_review_queue_reviewer ON Review_Queue(Reviewer_Identifier, Lease_Expires_Datetime);
+CREATE INDEX idx_org_sic_code ON Organisation_SIC_Codes(SIC_Code, Organisation_Identifier);
 CREATE INDEX idx_org_legal_name ON Organisation(Legal_Name);
 CREATE INDEX idx_org_reg_number ON Organisation(Registration_Number);
 CREATE INDEX idx_address_type ON Address(Type_Code);
 CREATE INDEX idx_address_country ON Address(Country);
 CREATE INDEX idx_kyc_reference ON KYC_Documents(Reference_Identifier);
 CREATE INDEX idx_kyc_status ON KYC_Documents(Status_Description);
+CREATE INDEX idx_kyc_modified ON KYC_Documents(Last_Modified_Datetime);
+CREATE INDEX idx_org_archive_user ON Organisation_Archive(User_Identifier);
+CREATE INDEX idx_kyc_archive_reference ON KYC_Documents_Archive(Reference_Identifier);
+CREATE INDEX idx_risk_run_started ON Risk_Scoring_Runs(Started_Datetime);
+CREATE INDEX idx_org_import_started ON Organisation_Imports(Started_Datetime);
+CREATE INDEX idx_org_import_error_row ON Organisation_Import_Errors(Import_Identifier, Source_Row);
+CREATE INDEX idx_stored_content_unreferenced ON Stored_Contents(Reference_Count, Last_Modified_Datetime);
+CREATE INDEX idx_upload_intent_expiry ON Upload_Intents(Status_Description, Expires_Datetime);
 
 -- Add foreign key constraints for Users table address references
 -- These are added after Address table creation to avoid circular dependency
@@ -0,0 +1,67 @@
+package com.fincore.usermgmt.config;
+
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionVolumeBackfillTest {
+
+    @Mock
+    private OrganisationRepository organisationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionVolumeBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        backfill = new TransactionVolumeBackfill(organisationRepository, transactionManager);
+    }
+
+    @Test
+    void backfill_FailedChunk_LoggedAndLaterChunksContinue() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(organisationRepository.findUnparsedTransactionVolumes(anyLong(), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(row(1L)), List.<Object[]>of(row(2L)), List.of());
+        when(organisationRepository.updateTransactionVolumes(eq(1L), any(), any(), any(), any(), any(), any(), any(),
+                any(), any(LocalDateTime.class))).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertDoesNotThrow(() -> backfill.backfill());
+
+        verify(organisationRepository).findUnparsedTransactionVolumes(eq(1L), any(Pageable.class));
+        verify(organisationRepository).updateTransactionVolumes(eq(2L), any(), any(), any(), any(),
+                any(), any(), any(), any(), any(LocalDateTime.class));
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void backfill_ReadFails_DoesNotThrow() {
+        when(organisationRepository.findUnparsedTransactionVolumes(anyLong(), any(Pageable.class)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        assertDoesNotThrow(() -> backfill.backfill());
+
+        verifyNoInteractions(transactionManager);
+    }
+
+    private static Object[] row(Long id) {
+        return new Object[]{id, "£0 - £5,000", null, null, null, null, null, null};
+    }
+}
@@ -247,7 +247,7 @@ class AddressControllerEdgeCaseTest {
         updateDTO.setAddressLine1("456 New Street");
         updateDTO.setCountry("United Kingdom");
 
-        when(addressService.updateAddress(999L, updateDTO))
+        when(addressService.updateAddress(999L, updateDTO, null))
                 .thenThrow(new RuntimeException("Address not found"));
 
         mockMvc.perform(put("/api/addresses/999")
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fincore.usermgmt.dto.AddressCreateDTO;
 import com.fincore.usermgmt.dto.AddressDTO;
 import com.fincore.usermgmt.service.AddressService;
+import com.fincore.usermgmt.util.ResourceVersion;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -14,6 +15,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -21,6 +23,8 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -241,7 +245,7 @@ class AddressControllerTest {
         updatedDTO.setAddressLine1("456 New Street");
         updatedDTO.setCity("London");
 
-        when(addressService.updateAddress(eq(1L), any(AddressCreateDTO.class)))
+        when(addressService.updateAddress(eq(1L), any(AddressCreateDTO.class), isNull()))
                 .thenReturn(updatedDTO);
 
         // When & Then
@@ -265,7 +269,7 @@ class AddressControllerTest {
         updateDTO.setCity("London");
         updateDTO.setCountry("United Kingdom");
 
-        when(addressService.updateAddress(eq(999L), any(AddressCreateDTO.class)))
+        when(addressService.updateAddress(eq(999L), any(AddressCreateDTO.class), isNull()))
                 .thenThrow(new RuntimeException("Address not found"));
 
         // When & Then
@@ -309,5 +313,84 @@ class AddressControllerTest {
                         .content(objectMapper.writeValueAsString(createDTO)))
                 .andExpect(status().isBadRequest());
     }
-}
 
+    @WithMockUser(username = "testuser", roles = {"USER"})
+
+    @Test
+    void getAddressById_ShouldReturnETagAndLastModified() throws Exception {
+        // Given
+        ResourceVersion version = ResourceVersion.fromRow(new Object[]{3L, LocalDateTime.of(2024, 1, 15, 10, 30)});
+        AddressDTO addressDTO = new AddressDTO();
+        addressDTO.setId(1L);
+
+        when(addressService.getAddressVersion(1L)).thenReturn(Optional.of(version));
+        when(addressService.getAddressById(1L)).thenReturn(Optional.of(addressDTO));
+
+        // When & Then
+        mockMvc.perform(get("/api/addresses/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", version.getETag()))
+                .andExpect(header().exists("Last-Modified"));
+    }
+
+    @WithMockUser(username = "testuser", roles = {"USER"})
+
+    @Test
+    void getAddressById_WithMatchingIfNoneMatch_ShouldReturn304WithoutLoading() throws Exception {
+        // Given
+        ResourceVersion version = ResourceVersion.fromRow(new Object[]{3L, LocalDateTime.of(2024, 1, 15, 10, 30)});
+        when(addressService.getAddressVersion(1L)).thenReturn(Optional.of(version));
+
+        // When & Then
+        mockMvc.perform(get("/api/addresses/1").header("If-None-Match", version.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(addressService, never()).getAddressById(anyLong());
+    }
+
+    @WithMockUser(username = "testuser", roles = {"USER"})
+
+    @Test
+    void updateAddress_WithStaleIfMatch_ShouldReturn412() throws Exception {
+        // Given
+        AddressCreateDTO updateDTO = new AddressCreateDTO();
+        updateDTO.setTypeCode(3);
+        updateDTO.setAddressLine1("456 New Street");
+        updateDTO.setCountry("United Kingdom");
+        ResourceVersion current = ResourceVersion.fromRow(new Object[]{4L, LocalDateTime.of(2024, 1, 15, 10, 30)});
+        ResourceVersion stale = ResourceVersion.fromRow(new Object[]{3L, LocalDateTime.of(2024, 1, 14, 9, 0)});
+        when(addressService.getAddressVersion(1L)).thenReturn(Optional.of(current));
+
+        // When & Then
+        mockMvc.perform(put("/api/addresses/1")
+                        .header("If-Match", stale.getETag())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isPreconditionFailed());
+        verify(addressService, never()).updateAddress(anyLong(), any(AddressCreateDTO.class), any());
+    }
+
+    @WithMockUser(username = "testuser", roles = {"USER"})
+
+    @Test
+    void updateAddress_WithMatchingIfMatch_ShouldPassExpectedVersion() throws Exception {
+        // Given
+        AddressCreateDTO updateDTO = new AddressCreateDTO();
+        updateDTO.setTypeCode(3);
+        updateDTO.setAddressLine1("456 New Street");
+        updateDTO.setCountry("United Kingdom");
+        ResourceVersion current = ResourceVersion.fromRow(new Object[]{4L, LocalDateTime.of(2024, 1, 15, 10, 30)});
+        AddressDTO updatedDTO = new AddressDTO();
+        updatedDTO.setId(1L);
+        when(addressService.getAddressVersion(1L)).thenReturn(Optional.of(current));
+        when(addressService.updateAddress(eq(1L), any(AddressCreateDTO.class), eq(4L))).thenReturn(updatedDTO);
+
+        // When & Then
+        mockMvc.perform(put("/api/addresses/1")
+                        .header("If-Match", current.getETag())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+    }
+}
@@ -2,7 +2,10 @@ package com.fincore.usermgmt.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fincore.usermgmt.dto.*;
+import com.fincore.usermgmt.service.FileStorageService;
 import com.fincore.usermgmt.service.KycDocumentService;
+import com.fincore.usermgmt.service.KycDocumentUploadService;
+import com.fincore.usermgmt.service.storage.StoredFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,15 +13,22 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -37,6 +47,12 @@ class KycDocumentControllerTest {
     @MockBean
     private KycDocumentService kycDocumentService;
 
+    @MockBean
+    private FileStorageService fileStorageService;
+
+    @MockBean
+    private KycDocumentUploadService kycDocumentUploadService;
+
     private KycDocumentDTO kycDocumentDTO;
     private KycDocumentCreateDTO createDTO;
 
@@ -74,6 +90,38 @@ class KycDocumentControllerTest {
                 .andExpect(jsonPath("$.documentType").value("CERTIFICATE_OF_INCORPORATION"));
     }
 
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void uploadDocuments_ReportsEachFile() throws Exception {
+        when(kycDocumentUploadService.uploadDocuments(eq(1L), anyList(), eq(List.of("PASSPORT", "UTILITY_BILL")), isNull()))
+                .thenReturn(List.of(
+                        KycDocumentCreateResultDTO.builder().index(0).created(true).documentId(7L).fileName("passport.pdf").build(),
+                        KycDocumentCreateResultDTO.builder().index(1).fileName("bill.pdf").error("Failed to upload file").build()));
+
+        mockMvc.perform(multipart("/api/kyc-documents/upload/batch")
+                        .file(new MockMultipartFile("files", "passport.pdf", "application/pdf", new byte[]{1}))
+                        .file(new MockMultipartFile("files", "bill.pdf", "application/pdf", new byte[]{2}))
+                        .param("organisationId", "1")
+                        .param("documentTypes", "PASSPORT", "UTILITY_BILL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].documentId").value(7))
+                .andExpect(jsonPath("$[1].created").value(false))
+                .andExpect(jsonPath("$[1].error").value("Failed to upload file"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void uploadDocuments_DocumentTypeMissing_BadRequest() throws Exception {
+        mockMvc.perform(multipart("/api/kyc-documents/upload/batch")
+                        .file(new MockMultipartFile("files", "passport.pdf", "application/pdf", new byte[]{1}))
+                        .file(new MockMultipartFile("files", "bill.pdf", "application/pdf", new byte[]{2}))
+                        .param("organisationId", "1")
+                        .param("documentTypes", "PASSPORT"))
+                .andExpect(status().isBadRequest());
+
+        verify(kycDocumentUploadService, never()).uploadDocuments(any(), anyList(), anyList(), any());
+    }
+
     @Test
     @WithMockUser(username = "testuser", roles = {"USER"})
     void getDocumentById_Found() throws Exception {
@@ -94,6 +142,68 @@ class KycDocumentControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void getDocumentContent_StreamsWholeFile() throws Exception {
+        StoredFile file = storedFile("%PDF-1.7 body");
+        MvcResult result = mockMvc.perform(get("/api/kyc-documents/1/content"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/pdf"))
+                .andExpect(header().longValue("Content-Length", file.size()))
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(header().string("ETag", file.eTag()))
+                .andExpect(content().string("%PDF-1.7 body"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void getDocumentContent_Range_PartialContent() throws Exception {
+        storedFile("%PDF-1.7 body");
+        MvcResult result = mockMvc.perform(get("/api/kyc-documents/1/content").header("Range", "bytes=9-"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 9-12/13"))
+                .andExpect(header().longValue("Content-Length", 4))
+                .andExpect(content().string("body"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void getDocumentContent_RangeNotSatisfiable() throws Exception {
+        storedFile("%PDF-1.7 body");
+
+        mockMvc.perform(get("/api/kyc-documents/1/content").header("Range", "bytes=20-30"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */13"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void getDocumentContent_MatchingIfNoneMatch_NotModified() throws Exception {
+        StoredFile file = storedFile("%PDF-1.7 body");
+
+        mockMvc.perform(get("/api/kyc-documents/1/content").header("If-None-Match", file.eTag()))
+                .andExpect(status().isNotModified());
+        verify(fileStorageService, never()).copyRange(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void getDocumentContent_FileMissing_NotFound() throws Exception {
+        when(kycDocumentService.getDocumentById(1L)).thenReturn(Optional.of(kycDocumentDTO));
+        when(fileStorageService.getFile(kycDocumentDTO.getFileUrl())).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/kyc-documents/1/content"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @WithMockUser(username = "testuser", roles = {"USER"})
     void getDocumentsByOrganisation_Success() throws Exception {
@@ -171,7 +281,7 @@ class KycDocumentControllerTest {
                 .fileName("updated_certificate.pdf")
                 .build();
 
-        when(kycDocumentService.updateDocument(eq(1L), any(KycDocumentUpdateDTO.class)))
+        when(kycDocumentService.updateDocument(eq(1L), any(KycDocumentUpdateDTO.class), isNull()))
                 .thenReturn(kycDocumentDTO);
 
         mockMvc.perform(put("/api/kyc-documents/1")
@@ -220,4 +330,20 @@ class KycDocumentControllerTest {
                         .content(objectMapper.writeValueAsString(createDTO)))
                 .andExpect(status().isForbidden());
     }
+
+    private StoredFile storedFile(String content) throws Exception {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        StoredFile file = new StoredFile("kyc-documents/certificate.pdf", 1700000000000L, bytes.length,
+                "application/pdf", "\"abc123\"");
+        when(kycDocumentService.getDocumentById(1L)).thenReturn(Optional.of(kycDocumentDTO));
+        when(fileStorageService.getFile(kycDocumentDTO.getFileUrl())).thenReturn(Optional.of(file));
+        doAnswer(invocation -> {
+            long start = invocation.getArgument(1);
+            long end = invocation.getArgument(2);
+            OutputStream out = invocation.getArgument(3);
+            out.write(bytes, (int) start, (int) (end - start + 1));
+            return end - start + 1;
+        }).when(fileStorageService).copyRange(any(StoredFile.class), anyLong(), anyLong(), any(OutputStream.class));
+        return file;
+    }
 }
@@ -0,0 +1,119 @@
+package com.fincore.usermgmt.controller;
+
+import com.fincore.usermgmt.entity.Organisation;
+import com.fincore.usermgmt.entity.Role;
+import com.fincore.usermgmt.entity.User;
+import com.fincore.usermgmt.entity.OrganisationStatus;
+import com.fincore.usermgmt.entity.OrganisationType;
+import com.fincore.usermgmt.entity.enums.RiskLevel;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.RoleRepository;
+import com.fincore.usermgmt.repository.UserRepository;
+import com.fincore.usermgmt.service.risk.RiskAssessment;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Conditional GET on an organisation against the database, for changes that are
+ * written without a new version.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class OrganisationControllerConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrganisationRepository organisationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Organisation organisation;
+
+    @BeforeEach
+    void setUp() {
+        Role role = new Role();
+        role.setName("CONDITIONAL_GET_ROLE");
+        role.setDescription("Role for conditional GET tests");
+        role = roleRepository.save(role);
+
+        User owner = new User();
+        owner.setPhoneNumber("+9999993001");
+        owner.setFirstName("Conditional");
+        owner.setLastName("Owner");
+        owner.setRole(role);
+        owner.setStatusDescription("ACTIVE");
+        owner = userRepository.save(owner);
+
+        organisation = organisationRepository.saveAndFlush(Organisation.builder()
+                .owner(owner)
+                .legalName("Conditional Company Ltd")
+                .organisationType(OrganisationType.LTD)
+                .status(OrganisationStatus.PENDING)
+                .build());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void getOrganisation_AfterRiskScoring_IfNoneMatchReturnsNewScore() throws Exception {
+        String url = "/api/organizations/" + organisation.getId();
+        String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get(url).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        organisationRepository.updateRiskScores(
+                List.of(new RiskAssessment(organisation.getId(), 72, RiskLevel.HIGH)), LocalDateTime.now());
+        entityManager.clear();
+
+        mockMvc.perform(get(url).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.riskScore").value(72));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void getOrganisation_AfterTransactionVolumeBackfill_IfNoneMatchReturnsVolumes() throws Exception {
+        String url = "/api/organizations/" + organisation.getId();
+        String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        organisationRepository.updateTransactionVolumes(organisation.getId(), BigDecimal.ZERO,
+                new BigDecimal("5000"), 10L, 20L, null, null, null, null, LocalDateTime.now());
+        entityManager.clear();
+
+        mockMvc.perform(get(url).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.outgoingTransactionCount").value(20));
+    }
+}
@@ -147,7 +147,7 @@ class OrganisationControllerEdgeCaseTest {
                 .businessName("Updated Business")
                 .build();
 
-        when(organisationService.updateOrganisation(eq(999L), any(OrganisationUpdateDTO.class)))
+        when(organisationService.updateOrganisation(eq(999L), any(OrganisationUpdateDTO.class), isNull()))
                 .thenThrow(new RuntimeException("Organisation not found with ID: 999"));
 
         mockMvc.perform(put("/api/organisations/999")
@@ -155,7 +155,7 @@ class OrganisationControllerTest {
                 .businessName("Updated Business Name")
                 .build();
 
-        when(organisationService.updateOrganisation(eq(1L), any(OrganisationUpdateDTO.class)))
+        when(organisationService.updateOrganisation(eq(1L), any(OrganisationUpdateDTO.class), isNull()))
                 .thenReturn(organisationDTO);
 
         mockMvc.perform(put("/api/organisations/1")
@@ -172,7 +172,7 @@ class OrganisationControllerTest {
                 .businessName("Updated Business Name")
                 .build();
 
-        when(organisationService.updateOrganisation(eq(1L), any(OrganisationUpdateDTO.class)))
+        when(organisationService.updateOrganisation(eq(1L), any(OrganisationUpdateDTO.class), isNull()))
                 .thenThrow(new RuntimeException("Organisation not found"));
 
         mockMvc.perform(put("/api/organisations/1")
@@ -0,0 +1,104 @@
+package com.fincore.usermgmt.controller;
+
+import com.fincore.usermgmt.dto.OrganisationImportDTO;
+import com.fincore.usermgmt.entity.enums.ImportFormat;
+import com.fincore.usermgmt.service.OrganisationImportService;
+import com.fincore.usermgmt.util.SecurityUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "organisation.import.max-size-bytes=64")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OrganisationImportControllerTest {
+
+    private static final String CSV = "legacyIdentifier,legalName\nL-1,Acme Ltd\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OrganisationImportService importService;
+
+    @MockBean
+    private SecurityUtil securityUtil;
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void importOrganisations_CsvBody_StreamedToImport() throws Exception {
+        when(importService.importFile(eq("legacy.csv"), eq(ImportFormat.CSV), any(InputStream.class)))
+                .thenReturn(OrganisationImportDTO.builder().id(1L).build());
+
+        mockMvc.perform(post("/api/organizations/imports")
+                        .param("fileName", "legacy.csv")
+                        .contentType("text/csv; charset=UTF-8")
+                        .content(CSV))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void importOrganisations_OctetStream_FormatFromFileName() throws Exception {
+        when(importService.importFile(eq("legacy.ndjson"), eq(ImportFormat.NDJSON), any(InputStream.class)))
+                .thenReturn(OrganisationImportDTO.builder().id(2L).build());
+
+        mockMvc.perform(post("/api/organizations/imports")
+                        .param("fileName", "legacy.ndjson")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content("{\"legacyIdentifier\":\"L-1\"}\n"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void importOrganisations_FormatUnknown_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/organizations/imports")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(CSV))
+                .andExpect(status().isBadRequest());
+
+        verify(importService, never()).importFile(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void importOrganisations_LargerThanLimit_ReturnsPayloadTooLarge() throws Exception {
+        mockMvc.perform(post("/api/organizations/imports")
+                        .contentType("text/csv")
+                        .content(CSV + CSV))
+                .andExpect(status().isPayloadTooLarge());
+
+        verify(importService, never()).importFile(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void resumeImport_LargerThanLimit_ReturnsPayloadTooLarge() throws Exception {
+        when(importService.getImport(1L)).thenReturn(Optional.of(OrganisationImportDTO.builder().id(1L).build()));
+
+        mockMvc.perform(post("/api/organizations/imports/1/resume")
+                        .contentType("text/csv")
+                        .content(CSV + CSV))
+                .andExpect(status().isPayloadTooLarge());
+
+        verify(importService, never()).resume(any(), any());
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -173,7 +174,7 @@ class UserControllerEdgeCaseTest {
         updateDTO.setLastName("Name");
         updateDTO.setEmail("updated@example.com");
 
-        when(userService.updateUser(eq(999L), any(UserUpdateDTO.class)))
+        when(userService.updateUser(eq(999L), any(UserUpdateDTO.class), isNull()))
                 .thenThrow(new RuntimeException("User not found"));
 
         mockMvc.perform(put("/api/users/999")
@@ -1,5 +1,6 @@
 package com.fincore.usermgmt.entity;
 
+import jakarta.persistence.PersistenceException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Test class for Organisation entity lifecycle methods and JPA behavior.
@@ -272,8 +274,8 @@ class OrganisationEntityTest {
     }
 
     @Test
-    @DisplayName("Multiple organisations can have the same owner")
-    void persist_multipleOrganisationsWithSameOwner_shouldSucceed() {
+    @DisplayName("An owner cannot have a second organisation")
+    void persist_secondOrganisationWithSameOwner_shouldFail() {
         // Arrange
         Organisation org1 = Organisation.builder()
                 .owner(testOwner)
@@ -288,11 +290,11 @@ class OrganisationEntityTest {
                 .build();
 
         // Act
-        Organisation saved1 = entityManager.persistAndFlush(org1);
-        Organisation saved2 = entityManager.persistAndFlush(org2);
+        entityManager.persistAndFlush(org1);
 
         // Assert
-        assertThat(saved1.getOwner().getId()).isEqualTo(saved2.getOwner().getId());
+        assertThatThrownBy(() -> entityManager.persistAndFlush(org2))
+                .isInstanceOf(PersistenceException.class);
     }
 
     @Test
@@ -352,14 +354,14 @@ class OrganisationEntityTest {
         Organisation savedLimited = entityManager.persistAndFlush(limited);
 
         Organisation partnership = Organisation.builder()
-                .owner(testOwner)
+                .owner(newOwner("+1234567891"))
                 .legalName("Partnership Firm")
                 .organisationType(OrganisationType.PARTNERSHIP)
                 .build();
         Organisation savedPartnership = entityManager.persistAndFlush(partnership);
 
         Organisation soleTrader = Organisation.builder()
-                .owner(testOwner)
+                .owner(newOwner("+1234567892"))
                 .legalName("Sole Trader Business")
                 .organisationType(OrganisationType.SOLE_TRADER)
                 .build();
@@ -395,4 +397,13 @@ class OrganisationEntityTest {
         assertThat(retrieved.getRegistrationNumber()).isNull();
         assertThat(retrieved.getSicCode()).isNull();
     }
+
+    private User newOwner(String phoneNumber) {
+        User owner = new User();
+        owner.setPhoneNumber(phoneNumber);
+        owner.setFirstName("Other");
+        owner.setLastName("Owner");
+        owner.setRole(testOwner.getRole());
+        return entityManager.persist(owner);
+    }
 }
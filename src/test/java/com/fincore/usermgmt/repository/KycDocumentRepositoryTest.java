@@ -5,12 +5,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,6 +34,9 @@ class KycDocumentRepositoryTest {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Organisation organisation;
     private User verifier;
     private KycDocument kycDocument;
@@ -209,4 +216,84 @@ class KycDocumentRepositoryTest {
         
         assertEquals(2, result.size());
     }
+
+    @Test
+    void updateStatusByOrganisationId_UpdatesAllDocuments() {
+        kycDocumentRepository.save(KycDocument.builder()
+                .organisation(organisation)
+                .documentType(DocumentType.PROOF_OF_ADDRESS)
+                .fileName("proof.pdf")
+                .status(DocumentStatus.PENDING)
+                .build());
+
+        int updated = kycDocumentRepository.updateStatusByOrganisationId(
+                organisation.getId(), DocumentStatus.UNDER_REVIEW, LocalDateTime.now());
+        entityManager.clear();
+
+        assertEquals(2, updated);
+        assertEquals(2, kycDocumentRepository.countByOrganisationIdAndStatus(
+                organisation.getId(), DocumentStatus.UNDER_REVIEW));
+    }
+
+    @Test
+    void rejectDocuments_SetsPerDocumentReasonsAndVerifiesTheRest() {
+        KycDocument proofOfAddress = kycDocumentRepository.save(KycDocument.builder()
+                .organisation(organisation)
+                .documentType(DocumentType.PROOF_OF_ADDRESS)
+                .fileName("proof.pdf")
+                .status(DocumentStatus.UNDER_REVIEW)
+                .reasonDescription("Old feedback")
+                .build());
+        KycDocument bankStatement = kycDocumentRepository.save(KycDocument.builder()
+                .organisation(organisation)
+                .documentType(DocumentType.BANK_STATEMENT)
+                .fileName("statement.pdf")
+                .status(DocumentStatus.UNDER_REVIEW)
+                .build());
+        LocalDateTime now = LocalDateTime.now();
+
+        int rejected = kycDocumentRepository.rejectDocuments(organisation.getId(),
+                Map.of(kycDocument.getId(), "Blurred scan", bankStatement.getId(), "Expired", 999999L, "Unknown"),
+                now);
+        int verified = kycDocumentRepository.verifyByOrganisationIdExcluding(organisation.getId(),
+                Set.of(kycDocument.getId(), bankStatement.getId(), 999999L), now);
+        entityManager.clear();
+
+        assertEquals(2, rejected);
+        assertEquals(1, verified);
+        KycDocument rejectedCertificate = kycDocumentRepository.findById(kycDocument.getId()).orElseThrow();
+        assertEquals(DocumentStatus.REJECTED, rejectedCertificate.getStatus());
+        assertEquals("Blurred scan", rejectedCertificate.getReasonDescription());
+        assertEquals("Expired", kycDocumentRepository.findById(bankStatement.getId()).orElseThrow().getReasonDescription());
+        KycDocument verifiedProof = kycDocumentRepository.findById(proofOfAddress.getId()).orElseThrow();
+        assertEquals(DocumentStatus.VERIFIED, verifiedProof.getStatus());
+        assertNull(verifiedProof.getReasonDescription());
+    }
+
+    @Test
+    void insertAll_InsertsBatchAndSetsGeneratedIds() {
+        List<KycDocument> documents = List.of(
+                KycDocument.builder()
+                        .organisation(organisation)
+                        .documentType(DocumentType.PROOF_OF_ADDRESS)
+                        .fileName("address.pdf")
+                        .build(),
+                KycDocument.builder()
+                        .organisation(organisation)
+                        .documentType(DocumentType.BANK_STATEMENT)
+                        .fileName("statement.pdf")
+                        .build());
+
+        kycDocumentRepository.insertAll(documents);
+        entityManager.clear();
+
+        assertNotNull(documents.get(0).getId());
+        assertNotNull(documents.get(1).getId());
+        KycDocument loaded = kycDocumentRepository.findById(documents.get(1).getId()).orElseThrow();
+        assertEquals("statement.pdf", loaded.getFileName());
+        assertEquals(DocumentStatus.PENDING, loaded.getStatus());
+        assertEquals(0L, loaded.getVersion());
+        assertNotNull(loaded.getCreatedDatetime());
+        assertEquals(3, kycDocumentRepository.findByOrganisationId(organisation.getId()).size());
+    }
 }
@@ -0,0 +1,160 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the number of SQL statements needed to load and map a page of organisations.
+ * Without the Organisation.summary fetch plan a 20-row page costs up to 81 queries.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class OrganisationFetchPlanTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private OrganisationRepository organisationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        Role role = new Role();
+        role.setName("FETCH_PLAN_ROLE");
+        role.setDescription("Role for fetch plan tests");
+        entityManager.persist(role);
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            User owner = new User();
+            owner.setPhoneNumber("+99988800" + String.format("%02d", i));
+            owner.setFirstName("Owner");
+            owner.setLastName("Number " + i);
+            owner.setRole(role);
+            owner.setStatusDescription("ACTIVE");
+            entityManager.persist(owner);
+            ownerId = owner.getId();
+
+            Organisation organisation = Organisation.builder()
+                    .owner(owner)
+                    .legalName("Fetch Plan Company " + i)
+                    .organisationType(OrganisationType.LTD)
+                    .status(OrganisationStatus.UNDER_REVIEW)
+                    .registeredAddress(address(AddressType.REGISTERED, i))
+                    .businessAddress(address(AddressType.BUSINESS, i))
+                    .correspondenceAddress(address(AddressType.CORRESPONDENCE, i))
+                    .build();
+            entityManager.persist(organisation);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAll_PageLoadsOwnerAndAddressesWithoutNPlusOne() {
+        Page<Organisation> page = organisationRepository.findAll(
+                PageRequest.of(0, PAGE_SIZE, Sort.by("legalName")));
+
+        touchMappedAssociations(page.getContent());
+
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        // One select for the page; the count query is skipped when the page is not full
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Expected at most 2 statements but was " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByFilters_PageLoadsOwnerAndAddressesWithoutNPlusOne() {
+        Page<Organisation> page = organisationRepository.findByFilters(
+                OrganisationStatus.UNDER_REVIEW, OrganisationType.LTD, PageRequest.of(0, PAGE_SIZE));
+
+        touchMappedAssociations(page.getContent());
+
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Expected at most 2 statements but was " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByStatus_ListLoadsOwnerAndAddressesInOneQuery() {
+        List<Organisation> organisations = organisationRepository.findByStatus(OrganisationStatus.UNDER_REVIEW);
+
+        touchMappedAssociations(organisations);
+
+        assertEquals(PAGE_SIZE, organisations.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findWithDetailsByIdIn_LoadsOwnerAndAddressesInOneQuery() {
+        List<Long> ids = organisationRepository.findSearchableFields().stream()
+                .map(row -> (Long) row[0])
+                .collect(Collectors.toList());
+        statistics.clear();
+
+        List<Organisation> organisations = organisationRepository.findWithDetailsByIdIn(ids);
+
+        touchMappedAssociations(organisations);
+
+        assertEquals(PAGE_SIZE, organisations.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByOwnerId_LoadsOwnerAndAddressesInOneQuery() {
+        List<Organisation> organisations = organisationRepository.findByOwnerId(ownerId);
+
+        touchMappedAssociations(organisations);
+
+        assertEquals(1, organisations.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Read every association OrganisationMapper.toOrganisationDTO reads.
+     */
+    private void touchMappedAssociations(List<Organisation> organisations) {
+        for (Organisation organisation : organisations) {
+            assertNotNull(organisation.getOwner().getLastName());
+            assertNotNull(organisation.getRegisteredAddress().getCity());
+            assertNotNull(organisation.getBusinessAddress().getCity());
+            assertNotNull(organisation.getCorrespondenceAddress().getCity());
+        }
+    }
+
+    private Address address(AddressType type, int index) {
+        Address address = Address.builder()
+                .addressLine1(index + " Test Street")
+                .city("London")
+                .country("United Kingdom")
+                .build();
+        address.setAddressType(type);
+        return address;
+    }
+}
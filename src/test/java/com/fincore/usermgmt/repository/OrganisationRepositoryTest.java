@@ -1,17 +1,31 @@
 package com.fincore.usermgmt.repository;
 
 import com.fincore.usermgmt.entity.*;
+import com.fincore.usermgmt.entity.enums.HmrcExpiryStatus;
+import com.fincore.usermgmt.entity.enums.RiskLevel;
+import com.fincore.usermgmt.service.risk.RiskAssessment;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -28,6 +42,9 @@ class OrganisationRepositoryTest {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private User owner;
     private Organisation organisation;
 
@@ -156,6 +173,31 @@ class OrganisationRepositoryTest {
         assertFalse(organisationRepository.existsByCompanyNumber("CN99999"));
     }
 
+    @Test
+    void findIdentifierConflicts_MatchesEitherIdentifier() {
+        List<Object[]> byRegistration = organisationRepository.findIdentifierConflicts("12345678", null);
+        List<Object[]> byCompany = organisationRepository.findIdentifierConflicts(null, "CN12345");
+        List<Object[]> none = organisationRepository.findIdentifierConflicts("99999999", "CN99999");
+
+        assertEquals(1, byRegistration.size());
+        assertEquals(organisation.getId(), byRegistration.get(0)[0]);
+        assertEquals(1, byCompany.size());
+        assertTrue(none.isEmpty());
+    }
+
+    @Test
+    void save_DuplicateRegistrationNumber_ViolatesUniqueConstraint() {
+        Organisation duplicate = Organisation.builder()
+                .owner(newOwner("+9999990002"))
+                .legalName("Duplicate Company Ltd")
+                .organisationType(OrganisationType.LTD)
+                .registrationNumber("12345678")
+                .build();
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> organisationRepository.saveAndFlush(duplicate));
+    }
+
     @Test
     void findAllPaged_Success() {
         Page<Organisation> result = organisationRepository.findAll(PageRequest.of(0, 10));
@@ -174,47 +216,396 @@ class OrganisationRepositoryTest {
     }
 
     @Test
-    void searchOrganisations_ByName() {
-        Page<Organisation> result = organisationRepository.searchOrganisations(
-                "Test", null, null, PageRequest.of(0, 10));
+    void findByFilters_ByStatus() {
+        Page<Organisation> result = organisationRepository.findByFilters(
+                OrganisationStatus.PENDING, null, PageRequest.of(0, 10));
         
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
     }
 
     @Test
-    void searchOrganisations_ByStatus() {
-        Page<Organisation> result = organisationRepository.searchOrganisations(
-                null, OrganisationStatus.PENDING, null, PageRequest.of(0, 10));
+    void findByFilters_ByType() {
+        Page<Organisation> result = organisationRepository.findByFilters(
+                null, OrganisationType.LTD, PageRequest.of(0, 10));
         
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
     }
 
     @Test
-    void searchOrganisations_ByType() {
-        Page<Organisation> result = organisationRepository.searchOrganisations(
-                null, null, OrganisationType.LTD, PageRequest.of(0, 10));
+    void findByFilters_NoMatch() {
+        Page<Organisation> result = organisationRepository.findByFilters(
+                OrganisationStatus.ACTIVE, null, PageRequest.of(0, 10));
         
         assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
+        assertEquals(0, result.getTotalElements());
     }
 
     @Test
-    void searchOrganisations_AllFilters() {
-        Page<Organisation> result = organisationRepository.searchOrganisations(
-                "Test", OrganisationStatus.PENDING, OrganisationType.LTD, PageRequest.of(0, 10));
-        
-        assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
+    void findSearchableFields_ReturnsIndexedColumns() {
+        List<Object[]> rows = organisationRepository.findSearchableFields();
+
+        assertEquals(1, rows.size());
+        assertEquals(organisation.getId(), rows.get(0)[0]);
+        assertEquals("Test Company Ltd", rows.get(0)[1]);
+        assertEquals("CN12345", rows.get(0)[3]);
     }
 
     @Test
-    void searchOrganisations_NoMatch() {
-        Page<Organisation> result = organisationRepository.searchOrganisations(
-                "NonExistent", null, null, PageRequest.of(0, 10));
-        
-        assertNotNull(result);
-        assertEquals(0, result.getTotalElements());
+    void findIdsMatchingFilters_NarrowsCandidates() {
+        List<Long> ids = organisationRepository.findIdsMatchingFilters(
+                List.of(organisation.getId(), 999L), OrganisationStatus.PENDING, OrganisationType.LTD);
+
+        assertEquals(List.of(organisation.getId()), ids);
+    }
+
+    @Test
+    void transitionStatus_AppliesAtExpectedVersionAndBumpsIt() {
+        Long version = organisation.getVersion();
+
+        int updated = organisationRepository.transitionStatus(organisation.getId(),
+                Set.of(OrganisationStatus.PENDING), version, OrganisationStatus.UNDER_REVIEW, null, LocalDateTime.now());
+
+        assertEquals(1, updated);
+        Organisation reloaded = organisationRepository.findById(organisation.getId()).orElseThrow();
+        assertEquals(OrganisationStatus.UNDER_REVIEW, reloaded.getStatus());
+        assertEquals(version + 1, reloaded.getVersion());
+    }
+
+    @Test
+    void transitionStatus_StaleVersionOrWrongStatus_NoUpdate() {
+        Long version = organisation.getVersion();
+
+        int staleVersion = organisationRepository.transitionStatus(organisation.getId(),
+                Set.of(OrganisationStatus.PENDING), version + 1, OrganisationStatus.UNDER_REVIEW, null, LocalDateTime.now());
+        int wrongStatus = organisationRepository.transitionStatus(organisation.getId(),
+                Set.of(OrganisationStatus.UNDER_REVIEW), version, OrganisationStatus.ACTIVE, null, LocalDateTime.now());
+
+        assertEquals(0, staleVersion);
+        assertEquals(0, wrongStatus);
+        assertEquals(OrganisationStatus.PENDING,
+                organisationRepository.findById(organisation.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void findBy_KeysetScrollVisitsEveryRowOnceInOrder() {
+        for (int i = 0; i < 4; i++) {
+            User extraOwner = new User();
+            extraOwner.setPhoneNumber("+999999100" + i);
+            extraOwner.setFirstName("Scroll");
+            extraOwner.setLastName("Owner " + i);
+            extraOwner.setRole(owner.getRole());
+            extraOwner.setStatusDescription("ACTIVE");
+            extraOwner = userRepository.save(extraOwner);
+            // Duplicate legal names force the ID tie breaker to be used
+            organisationRepository.save(Organisation.builder()
+                    .owner(extraOwner)
+                    .legalName(i < 2 ? "Same Name Ltd" : "Other Name " + i)
+                    .organisationType(OrganisationType.LTD)
+                    .status(OrganisationStatus.PENDING)
+                    .build());
+        }
+
+        List<String> seen = new ArrayList<>();
+        ScrollPosition position = ScrollPosition.keyset();
+        Sort sort = Sort.by("legalName", "id");
+        Window<Organisation> window;
+        do {
+            ScrollPosition current = position;
+            window = organisationRepository.findBy(
+                    (root, query, cb) -> cb.equal(root.get("status"), OrganisationStatus.PENDING),
+                    q -> q.sortBy(sort).limit(2).scroll(current));
+            window.forEach(org -> seen.add(org.getLegalName() + "#" + org.getId()));
+            if (!window.isEmpty()) {
+                position = window.positionAt(window.size() - 1);
+            }
+        } while (window.hasNext());
+
+        assertEquals(5, seen.size());
+        assertEquals(5, seen.stream().distinct().count());
+        assertTrue(seen.get(0).startsWith("Other Name 2"));
+        assertTrue(seen.get(4).startsWith("Test Company Ltd"));
+    }
+
+    @Test
+    void scrollWithDetails_LoadsOwnerWithWindow() {
+        organisationRepository.flush();
+        entityManager.clear();
+
+        Window<Organisation> window = organisationRepository.scrollWithDetails(
+                (root, query, cb) -> cb.equal(root.get("status"), OrganisationStatus.PENDING),
+                Sort.by("legalName", "id"), 10, ScrollPosition.keyset());
+
+        assertEquals(1, window.size());
+        assertTrue(org.hibernate.Hibernate.isInitialized(window.getContent().get(0).getOwner()));
+        assertEquals("Owner", window.getContent().get(0).getOwner().getLastName());
+        assertFalse(window.hasNext());
+    }
+
+    @Test
+    void save_SecondOrganisationForOwner_ViolatesUniqueConstraint() {
+        Organisation second = Organisation.builder()
+                .owner(owner)
+                .legalName("Second Company Ltd")
+                .organisationType(OrganisationType.LTD)
+                .build();
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> organisationRepository.saveAndFlush(second));
+    }
+
+    @Test
+    void findFields_SelectsOnlyRequestedFields() {
+        Organisation other = Organisation.builder()
+                .owner(newOwner("+9999990003"))
+                .legalName("Active Company Ltd")
+                .organisationType(OrganisationType.LLP)
+                .status(OrganisationStatus.ACTIVE)
+                .build();
+        organisationRepository.save(other);
+
+        Page<Map<String, Object>> page = organisationRepository.findFields(
+                (root, query, cb) -> cb.equal(root.get("status"), OrganisationStatus.PENDING),
+                List.of("id", "legalName", "statusDescription", "ownerName"),
+                PageRequest.of(0, 10, Sort.by("legalName")));
+
+        assertEquals(1, page.getTotalElements());
+        Map<String, Object> row = page.getContent().get(0);
+        assertEquals(List.of("id", "legalName", "statusDescription", "ownerName"), new ArrayList<>(row.keySet()));
+        assertEquals(organisation.getId(), row.get("id"));
+        assertEquals("Test Company Ltd", row.get("legalName"));
+        assertEquals("PENDING", row.get("statusDescription"));
+        assertEquals("Test Owner", row.get("ownerName"));
+    }
+
+    @Test
+    void findFields_TypedVolumesAndRiskScore() {
+        organisationRepository.flush();
+        organisationRepository.updateTransactionVolumes(organisation.getId(), BigDecimal.ZERO, new BigDecimal("5000"),
+                10L, 20L, new BigDecimal("1000"), new BigDecimal("2000"), new BigDecimal("300"), new BigDecimal("400"),
+                LocalDateTime.now());
+        organisationRepository.updateRiskScores(
+                List.of(new RiskAssessment(organisation.getId(), 72, RiskLevel.HIGH)), LocalDateTime.now());
+        List<String> fields = List.of("monthlyTurnoverMin", "monthlyTurnoverMax", "incomingTransactionCount",
+                "outgoingTransactionCount", "incomingTransactionValue", "outgoingTransactionValue",
+                "maxIncomingPayment", "maxOutgoingPayment", "riskScore", "riskLevel");
+
+        Page<Map<String, Object>> page = organisationRepository.findFields(null, fields, PageRequest.of(0, 10));
+
+        Map<String, Object> row = page.getContent().get(0);
+        assertEquals(fields, new ArrayList<>(row.keySet()));
+        assertEquals(0, BigDecimal.ZERO.compareTo((BigDecimal) row.get("monthlyTurnoverMin")));
+        assertEquals(0, new BigDecimal("5000").compareTo((BigDecimal) row.get("monthlyTurnoverMax")));
+        assertEquals(10L, row.get("incomingTransactionCount"));
+        assertEquals(20L, row.get("outgoingTransactionCount"));
+        assertEquals(0, new BigDecimal("1000").compareTo((BigDecimal) row.get("incomingTransactionValue")));
+        assertEquals(0, new BigDecimal("2000").compareTo((BigDecimal) row.get("outgoingTransactionValue")));
+        assertEquals(0, new BigDecimal("300").compareTo((BigDecimal) row.get("maxIncomingPayment")));
+        assertEquals(0, new BigDecimal("400").compareTo((BigDecimal) row.get("maxOutgoingPayment")));
+        assertEquals(72, row.get("riskScore"));
+        assertEquals("HIGH", row.get("riskLevel"));
+    }
+
+    @Test
+    void findFields_UnknownFieldRejected() {
+        // The repository proxy translates the IllegalArgumentException
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> organisationRepository.findFields(
+                null, List.of("id", "registeredAddress"), PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void findArchivableIds_OnlyClosedOrRejectedBeforeCutoff() {
+        Organisation closed = organisationRepository.save(Organisation.builder()
+                .owner(newOwner("+9999990004"))
+                .legalName("Closed Company Ltd")
+                .organisationType(OrganisationType.LTD)
+                .status(OrganisationStatus.CLOSED)
+                .build());
+
+        List<Long> due = organisationRepository.findArchivableIds(
+                Set.of(OrganisationStatus.CLOSED, OrganisationStatus.REJECTED),
+                LocalDateTime.now().plusDays(1), PageRequest.of(0, 10));
+        List<Long> notYetDue = organisationRepository.findArchivableIds(
+                Set.of(OrganisationStatus.CLOSED, OrganisationStatus.REJECTED),
+                LocalDateTime.now().minusDays(1), PageRequest.of(0, 10));
+
+        assertEquals(List.of(closed.getId()), due);
+        assertTrue(notYetDue.isEmpty());
+    }
+
+    @Test
+    void deleteAllByIdIn_RemovesOnlyGivenOrganisations() {
+        int deleted = organisationRepository.deleteAllByIdIn(List.of(organisation.getId()));
+
+        assertEquals(1, deleted);
+        assertFalse(organisationRepository.existsById(organisation.getId()));
+    }
+
+    @Test
+    void save_DerivesTypedTransactionVolumes() {
+        Organisation saved = organisationRepository.saveAndFlush(Organisation.builder()
+                .owner(newOwner("+9999990005"))
+                .legalName("Volume Company Ltd")
+                .organisationType(OrganisationType.LTD)
+                .status(OrganisationStatus.PENDING)
+                .monthlyTurnoverRange("£100k - £500k")
+                .numberOfOutgoingTransactions("1,000+")
+                .valueOfOutgoingTransactions("over £1m")
+                .maxValueOfOutgoingPayments("not known")
+                .build());
+
+        assertTrue(saved.isTransactionVolumesParsed());
+        assertEquals(0, new BigDecimal("100000").compareTo(saved.getMonthlyTurnoverMin()));
+        assertEquals(0, new BigDecimal("500000").compareTo(saved.getMonthlyTurnoverMax()));
+        assertEquals(1000L, saved.getOutgoingTransactionCount());
+        assertEquals(0, new BigDecimal("1000000").compareTo(saved.getOutgoingTransactionValue()));
+        assertNull(saved.getMaxOutgoingPayment());
+        assertEquals("over £1m", saved.getValueOfOutgoingTransactions());
+        assertTrue(organisationRepository.findUnparsedTransactionVolumes(0L, PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    void updateTransactionVolumes_KeepsVersionAndLastModified() {
+        Long version = organisation.getVersion();
+        LocalDateTime lastModified = LocalDateTime.of(2024, 1, 15, 9, 30);
+        organisationRepository.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE organisation SET Last_Modified_Datetime = ?1 WHERE Organisation_Identifier = ?2")
+                .setParameter(1, lastModified)
+                .setParameter(2, organisation.getId())
+                .executeUpdate();
+
+        LocalDateTime parsedAt = LocalDateTime.of(2024, 2, 1, 8, 0);
+        int updated = organisationRepository.updateTransactionVolumes(organisation.getId(),
+                BigDecimal.ZERO, new BigDecimal("5000"), 10L, 20L, null, new BigDecimal("7500"), null, null, parsedAt);
+
+        assertEquals(1, updated);
+        Organisation reloaded = organisationRepository.findById(organisation.getId()).orElseThrow();
+        assertEquals(version, reloaded.getVersion());
+        assertEquals(lastModified, reloaded.getLastModifiedDatetime());
+        assertEquals(parsedAt, reloaded.getTransactionVolumesParsedDatetime());
+        assertEquals(20L, reloaded.getOutgoingTransactionCount());
+        assertEquals(0, new BigDecimal("7500").compareTo(reloaded.getOutgoingTransactionValue()));
+    }
+
+    @Test
+    void updateRiskScores_WritesScoresWithoutNewVersion() {
+        organisationRepository.flush();
+        Long version = organisation.getVersion();
+
+        organisationRepository.updateRiskScores(
+                List.of(new RiskAssessment(organisation.getId(), 72, RiskLevel.HIGH)), LocalDateTime.now());
+        entityManager.clear();
+
+        Organisation reloaded = organisationRepository.findById(organisation.getId()).orElseThrow();
+        assertEquals(72, reloaded.getRiskScore());
+        assertEquals(RiskLevel.HIGH, reloaded.getRiskLevel());
+        assertNotNull(reloaded.getRiskScoredDatetime());
+        assertEquals(version, reloaded.getVersion());
+        assertEquals(List.of(organisation.getId()),
+                organisationRepository.findIdsAfter(0L, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void findHmrcExpiryDue_SeeksPastMarkWithinWindow() {
+        LocalDate due = LocalDate.of(2026, 4, 1);
+        organisation.setHmrcExpiryDate(due);
+        organisationRepository.save(organisation);
+        Long[] ids = new Long[4];
+        LocalDate[] dates = {due, due.plusDays(5), due.plusDays(40), due.plusDays(2)};
+        OrganisationStatus[] statuses = {OrganisationStatus.ACTIVE, OrganisationStatus.ACTIVE,
+                OrganisationStatus.ACTIVE, OrganisationStatus.CLOSED};
+        for (int i = 0; i < ids.length; i++) {
+            User extraOwner = new User();
+            extraOwner.setPhoneNumber("+999999200" + i);
+            extraOwner.setFirstName("Expiry");
+            extraOwner.setLastName("Owner " + i);
+            extraOwner.setRole(owner.getRole());
+            extraOwner.setStatusDescription("ACTIVE");
+            extraOwner = userRepository.save(extraOwner);
+            ids[i] = organisationRepository.save(Organisation.builder()
+                    .owner(extraOwner)
+                    .legalName("Expiry " + i)
+                    .organisationType(OrganisationType.LTD)
+                    .status(statuses[i])
+                    .hmrcExpiryDate(dates[i])
+                    .build()).getId();
+        }
+        Set<OrganisationStatus> excluded = Set.of(OrganisationStatus.CLOSED, OrganisationStatus.REJECTED);
+
+        // Past the first organisation on the due date: the second on that date, then the one 5 days later;
+        // the closed one and the one outside the window are skipped
+        List<Object[]> rows = organisationRepository.findHmrcExpiryDue(due, organisation.getId(), due.plusDays(30),
+                HmrcExpiryStatus.EXPIRING_SOON, excluded, PageRequest.of(0, 10));
+        assertEquals(List.of(ids[0], ids[1]), rows.stream().map(row -> (Long) row[0]).toList());
+        assertEquals(due, rows.get(0)[1]);
+
+        organisationRepository.flush();
+        Long version = organisationRepository.findById(ids[0]).orElseThrow().getVersion();
+        assertEquals(1, organisationRepository.updateHmrcExpiryStatus(
+                List.of(ids[0]), HmrcExpiryStatus.EXPIRING_SOON, LocalDateTime.now()));
+        Organisation marked = organisationRepository.findById(ids[0]).orElseThrow();
+        assertEquals(HmrcExpiryStatus.EXPIRING_SOON, marked.getHmrcExpiryStatus());
+        assertEquals(version + 1, marked.getVersion());
+
+        // Already marked organisations are not returned again
+        assertEquals(List.of(organisation.getId(), ids[1]),
+                organisationRepository.findHmrcExpiryDue(due.minusDays(1), Long.MAX_VALUE, due.plusDays(30),
+                        HmrcExpiryStatus.EXPIRING_SOON, excluded, PageRequest.of(0, 10))
+                        .stream().map(row -> (Long) row[0]).toList());
+    }
+
+    @Test
+    void insertAll_BatchInsertsOrganisationsWithAddressesAndAssignsIds() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Organisation> imported = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Organisation legacy = Organisation.builder()
+                    .owner(newOwner("+999999300" + i))
+                    .legalName("Legacy Company " + i)
+                    .organisationType(OrganisationType.LTD)
+                    .status(OrganisationStatus.ACTIVE)
+                    .legacyIdentifier("LEG-" + i)
+                    .monthlyTurnoverRange("10000-50000")
+                    .createdDatetime(now)
+                    .lastModifiedDatetime(now)
+                    .version(0L)
+                    .build();
+            legacy.parseTransactionVolumes();
+            imported.add(legacy);
+        }
+        imported.get(0).setRegisteredAddress(Address.builder()
+                .typeCode(AddressType.REGISTERED.getCode())
+                .addressLine1("1 Legacy Street")
+                .country("United Kingdom")
+                .statusDescription("ACTIVE")
+                .createdDatetime(now)
+                .lastModifiedDatetime(now)
+                .build());
+
+        organisationRepository.insertAll(imported);
+        entityManager.clear();
+
+        Organisation withAddress = organisationRepository.findById(imported.get(0).getId()).orElseThrow();
+        assertEquals("LEG-0", withAddress.getLegacyIdentifier());
+        assertEquals(OrganisationStatus.ACTIVE, withAddress.getStatus());
+        assertEquals(0L, withAddress.getVersion());
+        assertEquals(0, new BigDecimal("50000").compareTo(withAddress.getMonthlyTurnoverMax()));
+        assertEquals(imported.get(0).getRegisteredAddress().getId(), withAddress.getRegisteredAddress().getId());
+        assertEquals("1 Legacy Street", withAddress.getRegisteredAddress().getAddressLine1());
+        assertEquals("Legacy Company 1", organisationRepository.findById(imported.get(1).getId()).orElseThrow().getLegalName());
+        assertEquals(List.of("LEG-1"), organisationRepository.findLegacyIdentifiersIn(List.of("LEG-1", "LEG-9")));
+        assertEquals(List.of(owner.getId()), organisationRepository.findOwnerIdsIn(List.of(owner.getId(), 0L)));
+    }
+
+    private User newOwner(String phoneNumber) {
+        User other = new User();
+        other.setPhoneNumber(phoneNumber);
+        other.setFirstName("Other");
+        other.setLastName("Owner");
+        other.setRole(owner.getRole());
+        other.setStatusDescription("ACTIVE");
+        return userRepository.save(other);
     }
 }
@@ -0,0 +1,137 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class OrganisationSicCodeRepositoryTest {
+
+    @Autowired
+    private OrganisationSicCodeRepository sicCodeRepository;
+
+    @Autowired
+    private OrganisationRepository organisationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Organisation indexed;
+    private Organisation unindexed;
+
+    @BeforeEach
+    void setUp() {
+        Role role = new Role();
+        role.setName("TEST_ROLE");
+        role.setDescription("Test Role for Repository Tests");
+        role = roleRepository.save(role);
+
+        indexed = organisationRepository.save(Organisation.builder()
+                .owner(owner(role, "+9999990011"))
+                .legalName("Payments Ltd")
+                .organisationType(OrganisationType.LTD)
+                .sicCode("64191")
+                .sicCodes("64191,62020")
+                .sicCodesIndexed(true)
+                .build());
+        unindexed = organisationRepository.save(Organisation.builder()
+                .owner(owner(role, "+9999990012"))
+                .legalName("Online Retail Ltd")
+                .organisationType(OrganisationType.LTD)
+                .sicCodes("47910")
+                .build());
+        organisationRepository.save(Organisation.builder()
+                .owner(owner(role, "+9999990013"))
+                .legalName("No Codes Ltd")
+                .organisationType(OrganisationType.LTD)
+                .build());
+
+        sicCodeRepository.saveAll(List.of(
+                OrganisationSicCode.builder().organisation(indexed).sicCode("64191").primaryCode(true).build(),
+                OrganisationSicCode.builder().organisation(indexed).sicCode("62020").build()));
+    }
+
+    @Test
+    void findByOrganisationId_PrimaryCodeFirst() {
+        List<OrganisationSicCode> codes = sicCodeRepository.findByOrganisationId(indexed.getId());
+
+        assertEquals(List.of("64191", "62020"), codes.stream().map(OrganisationSicCode::getSicCode).toList());
+    }
+
+    @Test
+    void findUnindexedOrganisations_OnlyThoseWithTextNotYetIndexed() {
+        List<Object[]> rows = sicCodeRepository.findUnindexedOrganisations(0L, PageRequest.of(0, 10));
+
+        assertEquals(1, rows.size());
+        assertEquals(unindexed.getId(), rows.get(0)[0]);
+        assertEquals("47910", rows.get(0)[2]);
+    }
+
+    @Test
+    void findUnindexedOrganisations_SkipsMarkedTextWithoutValidCodes() {
+        Organisation invalid = organisationRepository.save(Organisation.builder()
+                .owner(owner(indexed.getOwner().getRole(), "+9999990014"))
+                .legalName("Unclassified Ltd")
+                .organisationType(OrganisationType.LTD)
+                .sicCode("n/a")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        LocalDateTime lastModified = organisationRepository.findById(invalid.getId()).orElseThrow().getLastModifiedDatetime();
+
+        assertEquals(1, organisationRepository.markSicCodesIndexed(List.of(invalid.getId())));
+
+        List<Object[]> rows = sicCodeRepository.findUnindexedOrganisations(0L, PageRequest.of(0, 10));
+        assertEquals(List.of(unindexed.getId()), rows.stream().map(row -> row[0]).toList());
+        Organisation reloaded = organisationRepository.findById(invalid.getId()).orElseThrow();
+        assertTrue(reloaded.isSicCodesIndexed());
+        assertEquals(lastModified, reloaded.getLastModifiedDatetime());
+        assertTrue(sicCodeRepository.findByOrganisationId(invalid.getId()).isEmpty());
+    }
+
+    @Test
+    void countOrganisationsByDivision_GroupsByFirstTwoDigits() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : sicCodeRepository.countOrganisationsByDivision()) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+
+        assertEquals(Map.of("64", 1L, "62", 1L), counts);
+    }
+
+    @Test
+    void deleteByOrganisationIdIn_RemovesAllCodesOfOrganisation() {
+        assertEquals(2, sicCodeRepository.deleteByOrganisationIdIn(List.of(indexed.getId())));
+
+        assertTrue(sicCodeRepository.findByOrganisationId(indexed.getId()).isEmpty());
+    }
+
+    private User owner(Role role, String phoneNumber) {
+        User owner = new User();
+        owner.setPhoneNumber(phoneNumber);
+        owner.setFirstName("Test");
+        owner.setLastName("Owner");
+        owner.setRole(role);
+        owner.setStatusDescription("ACTIVE");
+        return userRepository.save(owner);
+    }
+}
@@ -0,0 +1,121 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ReviewQueueRepositoryTest {
+
+    @Autowired
+    private ReviewQueueRepository reviewQueueRepository;
+
+    @Autowired
+    private OrganisationRepository organisationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private final List<Long> ids = new ArrayList<>();
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        Role role = new Role();
+        role.setName("TEST_ROLE");
+        role.setDescription("Test Role for Repository Tests");
+        role = roleRepository.save(role);
+
+        now = LocalDateTime.now();
+        for (int i = 0; i < 4; i++) {
+            User owner = new User();
+            owner.setPhoneNumber("+999999300" + i);
+            owner.setFirstName("Queue");
+            owner.setLastName("Owner " + i);
+            owner.setRole(role);
+            owner.setStatusDescription("ACTIVE");
+            owner = userRepository.save(owner);
+            ids.add(organisationRepository.save(Organisation.builder()
+                    .owner(owner)
+                    .legalName("Queued Company " + i)
+                    .organisationType(OrganisationType.LTD)
+                    .status(OrganisationStatus.UNDER_REVIEW)
+                    .build()).getId());
+        }
+        // 0 is claimed, 1 has an expired claim, 2 and 3 are unclaimed; 0 is the oldest
+        reviewQueueRepository.saveAll(List.of(
+                entry(ids.get(0), now.minusHours(4), 7L, now.plusMinutes(10)),
+                entry(ids.get(1), now.minusHours(3), 7L, now.minusMinutes(1)),
+                entry(ids.get(2), now.minusHours(2), null, null),
+                entry(ids.get(3), now.minusHours(1), null, null)));
+        reviewQueueRepository.flush();
+    }
+
+    @Test
+    void lockAvailable_SkipsLiveClaimsInQueueOrder() {
+        List<Long> available = reviewQueueRepository.lockAvailable(now, 2).stream()
+                .map(Number::longValue)
+                .toList();
+
+        // The expired claim is available again
+        assertEquals(List.of(ids.get(1), ids.get(2)), available);
+    }
+
+    @Test
+    void claimAndExtendLeases_OnlyLiveClaimsAreExtended() {
+        reviewQueueRepository.claim(List.of(ids.get(2)), 8L, now, now.plusMinutes(15));
+
+        assertEquals(List.of(ids.get(2)), reviewQueueRepository.findClaims(8L, now).stream()
+                .map(ReviewQueueEntry::getOrganisationId).toList());
+        // Reviewer 7 still holds 0; their expired claim on 1 is not revived
+        assertEquals(1, reviewQueueRepository.extendLeases(7L, now, now.plusMinutes(15)));
+        assertEquals(List.of(ids.get(0)), reviewQueueRepository.findClaims(7L, now).stream()
+                .map(ReviewQueueEntry::getOrganisationId).toList());
+    }
+
+    @Test
+    void release_OnlyByTheReviewerHoldingTheClaim() {
+        assertEquals(0, reviewQueueRepository.release(ids.get(0), 8L, now));
+        assertEquals(1, reviewQueueRepository.release(ids.get(0), 7L, now));
+
+        assertNull(reviewQueueRepository.findById(ids.get(0)).orElseThrow().getReviewerId());
+    }
+
+    @Test
+    void enqueueMissingAndDeleteStale_FollowOrganisationStatus() {
+        reviewQueueRepository.deleteByOrganisationIdIn(List.of(ids.get(3)));
+        Organisation approved = organisationRepository.findById(ids.get(2)).orElseThrow();
+        approved.setStatus(OrganisationStatus.ACTIVE);
+        organisationRepository.saveAndFlush(approved);
+
+        assertEquals(1, reviewQueueRepository.enqueueMissing());
+        assertEquals(1, reviewQueueRepository.deleteStale());
+
+        assertTrue(reviewQueueRepository.existsById(ids.get(3)));
+        assertFalse(reviewQueueRepository.existsById(ids.get(2)));
+    }
+
+    private static ReviewQueueEntry entry(Long organisationId, LocalDateTime enqueued, Long reviewerId,
+                                          LocalDateTime leaseExpires) {
+        return ReviewQueueEntry.builder()
+                .organisationId(organisationId)
+                .enqueuedDatetime(enqueued)
+                .reviewerId(reviewerId)
+                .claimedDatetime(reviewerId != null ? enqueued : null)
+                .leaseExpiresDatetime(leaseExpires)
+                .build();
+    }
+}
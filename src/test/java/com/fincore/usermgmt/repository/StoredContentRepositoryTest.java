@@ -0,0 +1,73 @@
+package com.fincore.usermgmt.repository;
+
+import com.fincore.usermgmt.entity.StoredContent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class StoredContentRepositoryTest {
+
+    @Autowired
+    private StoredContentRepository storedContentRepository;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        storedContentRepository.save(content("kyc-documents/sha256/old", 0, now.minusDays(2)));
+        storedContentRepository.save(content("kyc-documents/sha256/recent", 0, now.minusMinutes(5)));
+        storedContentRepository.save(content("kyc-documents/sha256/referenced", 2, now.minusDays(3)));
+    }
+
+    @Test
+    void adjustReferences_NeverBelowZero() {
+        assertEquals(1, storedContentRepository.adjustReferences("kyc-documents/sha256/referenced", -2, now));
+        assertEquals(0, storedContentRepository.adjustReferences("kyc-documents/sha256/referenced", -1, now));
+        assertEquals(0, storedContentRepository.adjustReferences("kyc-documents/unknown.pdf", 1, now));
+
+        StoredContent content = storedContentRepository.findById("kyc-documents/sha256/referenced").orElseThrow();
+        assertEquals(0, content.getReferenceCount());
+        assertEquals(now, content.getLastModifiedDatetime());
+    }
+
+    @Test
+    void findUnreferencedNames_OnlyPastTheGracePeriod() {
+        List<String> names = storedContentRepository.findUnreferencedNames(now.minusHours(24), PageRequest.of(0, 10));
+
+        assertEquals(List.of("kyc-documents/sha256/old"), names);
+    }
+
+    @Test
+    void lockUnreferenced_RechecksCountAndCutoff() {
+        LocalDateTime cutoff = now.minusHours(24);
+        assertTrue(storedContentRepository.lockUnreferenced("kyc-documents/sha256/old", cutoff).isPresent());
+        assertTrue(storedContentRepository.lockUnreferenced("kyc-documents/sha256/referenced", cutoff).isEmpty());
+
+        // A new upload of the same content restarts the grace period
+        assertEquals(1, storedContentRepository.touch("kyc-documents/sha256/old", now));
+        assertTrue(storedContentRepository.lockUnreferenced("kyc-documents/sha256/old", cutoff).isEmpty());
+    }
+
+    private static StoredContent content(String name, int references, LocalDateTime modified) {
+        return StoredContent.builder()
+                .name(name)
+                .contentHash(name.substring(name.lastIndexOf('/') + 1))
+                .size(3)
+                .referenceCount(references)
+                .createdDatetime(modified)
+                .lastModifiedDatetime(modified)
+                .build();
+    }
+}
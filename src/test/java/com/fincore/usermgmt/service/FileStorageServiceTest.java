@@ -0,0 +1,193 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.entity.StoredContent;
+import com.fincore.usermgmt.repository.StoredContentRepository;
+import com.fincore.usermgmt.service.storage.FileStorageBackend;
+import com.fincore.usermgmt.service.storage.StoredFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileStorageServiceTest {
+
+    // SHA-256 of "abc"
+    private static final String ABC_SHA256 = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+    private static final String ABC_NAME = "kyc-documents/sha256/" + ABC_SHA256;
+
+    @Mock
+    private FileStorageBackend backend;
+
+    @Mock
+    private StoredContentRepository storedContentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService = new FileStorageService(backend, storedContentRepository, transactionManager, 24, 4, 2);
+        lenient().when(backend.toUrl(anyString())).thenAnswer(invocation -> "local://" + invocation.getArgument(0));
+        lenient().when(backend.toName(anyString())).thenAnswer(invocation ->
+                invocation.<String>getArgument(0).substring("local://".length()));
+    }
+
+    @Test
+    void uploadFile_NewContent_StoredUnderItsHashAndRecordedUnreferenced() throws IOException {
+        MockMultipartFile file = abc();
+        when(storedContentRepository.touch(eq(ABC_NAME), any(LocalDateTime.class))).thenReturn(0);
+        when(backend.store(ABC_NAME, "application/pdf", file))
+                .thenReturn(new StoredFile(ABC_NAME, 1L, 3, "application/pdf", "\"1\""));
+
+        String url = fileStorageService.uploadFile(file, "kyc-documents");
+
+        assertEquals("local://" + ABC_NAME, url);
+        ArgumentCaptor<StoredContent> recorded = ArgumentCaptor.forClass(StoredContent.class);
+        verify(storedContentRepository).save(recorded.capture());
+        assertEquals(ABC_SHA256, recorded.getValue().getContentHash());
+        assertEquals(3, recorded.getValue().getSize());
+        assertEquals(0, recorded.getValue().getReferenceCount());
+    }
+
+    @Test
+    void uploadFile_KnownContent_ReusesStoredFile() throws IOException {
+        when(storedContentRepository.touch(eq(ABC_NAME), any(LocalDateTime.class))).thenReturn(1);
+        when(backend.stat(ABC_NAME)).thenReturn(Optional.of(new StoredFile(ABC_NAME, 1L, 3, "application/pdf", "\"1\"")));
+
+        String url = fileStorageService.uploadFile(abc(), "kyc-documents");
+
+        assertEquals("local://" + ABC_NAME, url);
+        verify(backend, never()).store(anyString(), any(), any());
+        verify(storedContentRepository, never()).save(any());
+    }
+
+    @Test
+    void uploadFile_KnownContentMissingFromStorage_StoredAgain() throws IOException {
+        MockMultipartFile file = abc();
+        when(storedContentRepository.touch(eq(ABC_NAME), any(LocalDateTime.class))).thenReturn(1);
+        when(backend.stat(ABC_NAME)).thenReturn(Optional.empty());
+        when(storedContentRepository.existsById(ABC_NAME)).thenReturn(true);
+        when(backend.store(ABC_NAME, "application/pdf", file))
+                .thenReturn(new StoredFile(ABC_NAME, 2L, 3, "application/pdf", "\"2\""));
+
+        fileStorageService.uploadFile(file, "kyc-documents");
+
+        verify(backend).store(ABC_NAME, "application/pdf", file);
+        verify(storedContentRepository, never()).save(any());
+    }
+
+    @Test
+    void uploadFile_Empty_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> fileStorageService.uploadFile(
+                new MockMultipartFile("file", "passport.pdf", "application/pdf", new byte[0]), "kyc-documents"));
+        verifyNoInteractions(backend);
+    }
+
+    @Test
+    void addAndRemoveReferences_GroupedByFile() {
+        fileStorageService.addReferences(Arrays.asList("local://a", "local://b", "local://a", null));
+        fileStorageService.removeReferences(List.of("local://a"));
+
+        verify(storedContentRepository).adjustReferences(eq("a"), eq(2), any(LocalDateTime.class));
+        verify(storedContentRepository).adjustReferences(eq("b"), eq(1), any(LocalDateTime.class));
+        verify(storedContentRepository).adjustReferences(eq("a"), eq(-1), any(LocalDateTime.class));
+    }
+
+    @Test
+    void sweepUnreferenced_DeletesOnlyFilesStillUnreferencedWhenLocked() throws IOException {
+        StoredContent orphan = StoredContent.builder().name("kyc-documents/sha256/1").build();
+        when(storedContentRepository.findUnreferencedNames(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of("kyc-documents/sha256/1", "kyc-documents/sha256/2"));
+        when(storedContentRepository.lockUnreferenced(eq("kyc-documents/sha256/1"), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(orphan));
+        // Referenced again between the scan and the lock
+        when(storedContentRepository.lockUnreferenced(eq("kyc-documents/sha256/2"), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        assertEquals(1, fileStorageService.sweepUnreferenced());
+
+        verify(backend).delete("kyc-documents/sha256/1");
+        verify(backend, never()).delete("kyc-documents/sha256/2");
+        verify(storedContentRepository).delete(orphan);
+    }
+
+    @Test
+    void getFileAndDelete_ResolveNameFromUrl() throws IOException {
+        StoredFile stored = new StoredFile("kyc-documents/passport.pdf", 1L, 3, null, "\"1\"");
+        when(backend.stat("kyc-documents/passport.pdf")).thenReturn(Optional.of(stored));
+        when(backend.delete("kyc-documents/passport.pdf")).thenReturn(true);
+
+        assertEquals(Optional.of(stored), fileStorageService.getFile("local://kyc-documents/passport.pdf"));
+        assertTrue(fileStorageService.fileExists("local://kyc-documents/passport.pdf"));
+        assertTrue(fileStorageService.deleteFile("local://kyc-documents/passport.pdf"));
+    }
+
+    @Test
+    void uploadFiles_AtMostCapConcurrentlyAndResultsInOrder() throws IOException {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        when(storedContentRepository.touch(anyString(), any(LocalDateTime.class))).thenReturn(0);
+        when(backend.store(anyString(), any(), any())).thenAnswer(invocation -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            active.decrementAndGet();
+            return new StoredFile(invocation.getArgument(0), 1L, 1, "application/pdf", "\"1\"");
+        });
+        List<MockMultipartFile> files = List.of(file("a"), file("b"), file("c"), file("d"), file("e"));
+
+        List<FileStorageService.UploadResult> results = fileStorageService.uploadFiles(List.copyOf(files), "kyc-documents");
+
+        assertEquals(5, results.size());
+        for (int i = 0; i < files.size(); i++) {
+            assertEquals("local://kyc-documents/sha256/" + FileStorageService.sha256(files.get(i)), results.get(i).url());
+            assertNull(results.get(i).error());
+        }
+        assertTrue(maxActive.get() <= 2, "more uploads at once than the per-request cap");
+    }
+
+    @Test
+    void uploadFiles_FailuresReportedPerFile() throws IOException {
+        MockMultipartFile failing = file("x");
+        String failingName = "kyc-documents/sha256/" + FileStorageService.sha256(failing);
+        when(storedContentRepository.touch(anyString(), any(LocalDateTime.class))).thenReturn(0);
+        when(backend.store(eq(ABC_NAME), any(), any()))
+                .thenReturn(new StoredFile(ABC_NAME, 1L, 3, "application/pdf", "\"1\""));
+        when(backend.store(eq(failingName), any(), any())).thenThrow(new IOException("connection reset"));
+        MockMultipartFile empty = new MockMultipartFile("file", "empty.pdf", "application/pdf", new byte[0]);
+
+        List<FileStorageService.UploadResult> results = fileStorageService.uploadFiles(List.of(abc(), failing, empty), "kyc-documents");
+
+        assertEquals("local://" + ABC_NAME, results.get(0).url());
+        assertNull(results.get(1).url());
+        assertEquals("Failed to upload file", results.get(1).error());
+        assertEquals("Cannot upload empty file", results.get(2).error());
+    }
+
+    private static MockMultipartFile file(String content) {
+        return new MockMultipartFile("file", content + ".pdf", "application/pdf", content.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static MockMultipartFile abc() {
+        return new MockMultipartFile("file", "certificate.pdf", "application/pdf", "abc".getBytes(StandardCharsets.US_ASCII));
+    }
+}
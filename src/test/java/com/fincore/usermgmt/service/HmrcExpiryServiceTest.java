@@ -0,0 +1,125 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.entity.ScanWatermark;
+import com.fincore.usermgmt.entity.enums.HmrcExpiryStatus;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.ScanWatermarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HmrcExpiryServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    @Mock
+    private OrganisationRepository organisationRepository;
+
+    @Mock
+    private ScanWatermarkRepository scanWatermarkRepository;
+
+    @Mock
+    private StatusChangeFeed statusChangeFeed;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private HmrcExpiryService hmrcExpiryService;
+
+    @BeforeEach
+    void setUp() {
+        hmrcExpiryService = new HmrcExpiryService(organisationRepository, scanWatermarkRepository, statusChangeFeed,
+                transactionManager, 30, CHUNK_SIZE);
+    }
+
+    @Test
+    void scan_WalksFromWatermarkInChunksAndAdvancesIt() {
+        LocalDate warnedUntil = TODAY.plusDays(25);
+        when(scanWatermarkRepository.findById(HmrcExpiryService.WARNING_SCAN))
+                .thenReturn(Optional.of(mark(HmrcExpiryService.WARNING_SCAN, warnedUntil)));
+        when(scanWatermarkRepository.findById(HmrcExpiryService.EXPIRED_SCAN))
+                .thenReturn(Optional.of(mark(HmrcExpiryService.EXPIRED_SCAN, TODAY.minusDays(2))));
+        LocalDate dueDate = TODAY.plusDays(27);
+        when(organisationRepository.findHmrcExpiryDue(eq(warnedUntil), eq(Long.MAX_VALUE), eq(TODAY.plusDays(30)),
+                eq(HmrcExpiryStatus.EXPIRING_SOON), anyCollection(), any(Pageable.class)))
+                .thenReturn(List.of(new Object[]{4L, dueDate}, new Object[]{9L, dueDate}));
+        when(organisationRepository.findHmrcExpiryDue(eq(dueDate), eq(9L), eq(TODAY.plusDays(30)),
+                eq(HmrcExpiryStatus.EXPIRING_SOON), anyCollection(), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, TODAY.plusDays(29)}));
+        when(organisationRepository.findHmrcExpiryDue(eq(TODAY.minusDays(2)), eq(Long.MAX_VALUE),
+                eq(TODAY.minusDays(1)), eq(HmrcExpiryStatus.EXPIRED), anyCollection(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        int marked = hmrcExpiryService.scan(TODAY);
+
+        assertEquals(3, marked);
+        verify(organisationRepository).updateHmrcExpiryStatus(eq(List.of(4L, 9L)), eq(HmrcExpiryStatus.EXPIRING_SOON), any());
+        verify(organisationRepository).updateHmrcExpiryStatus(eq(List.of(2L)), eq(HmrcExpiryStatus.EXPIRING_SOON), any());
+        // One notification per chunk
+        verify(statusChangeFeed).hmrcExpiryStatusChanged(HmrcExpiryStatus.EXPIRING_SOON, List.of(4L, 9L));
+        verify(statusChangeFeed).hmrcExpiryStatusChanged(HmrcExpiryStatus.EXPIRING_SOON, List.of(2L));
+        verify(organisationRepository, never()).updateHmrcExpiryStatus(any(), eq(HmrcExpiryStatus.EXPIRED), any());
+
+        ArgumentCaptor<ScanWatermark> saved = ArgumentCaptor.forClass(ScanWatermark.class);
+        verify(scanWatermarkRepository, atLeastOnce()).save(saved.capture());
+        ScanWatermark warning = saved.getAllValues().stream()
+                .filter(mark -> mark.getScanName().equals(HmrcExpiryService.WARNING_SCAN))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        assertEquals(TODAY.plusDays(30), warning.getWatermarkDate());
+        assertEquals(Long.MAX_VALUE, warning.getWatermarkIdentifier());
+        assertEquals(3, warning.getLastRunCount());
+    }
+
+    @Test
+    void scan_FirstRunStartsWarningsFromToday() {
+        when(scanWatermarkRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(organisationRepository.findHmrcExpiryDue(any(), any(), any(), any(), anyCollection(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        assertEquals(0, hmrcExpiryService.scan(TODAY));
+
+        // Warnings skip dates before today; the expired scan starts from the beginning
+        verify(organisationRepository).findHmrcExpiryDue(eq(TODAY.minusDays(1)), eq(Long.MAX_VALUE),
+                eq(TODAY.plusDays(30)), eq(HmrcExpiryStatus.EXPIRING_SOON), anyCollection(), any(Pageable.class));
+        verify(organisationRepository).findHmrcExpiryDue(eq(LocalDate.EPOCH), eq(0L),
+                eq(TODAY.minusDays(1)), eq(HmrcExpiryStatus.EXPIRED), anyCollection(), any(Pageable.class));
+        verify(statusChangeFeed, never()).hmrcExpiryStatusChanged(any(), any());
+    }
+
+    @Test
+    void classify_DatesBehindWatermarksAreMarked() {
+        when(scanWatermarkRepository.findById(HmrcExpiryService.WARNING_SCAN))
+                .thenReturn(Optional.of(mark(HmrcExpiryService.WARNING_SCAN, TODAY.plusDays(30))));
+        when(scanWatermarkRepository.findById(HmrcExpiryService.EXPIRED_SCAN))
+                .thenReturn(Optional.of(mark(HmrcExpiryService.EXPIRED_SCAN, TODAY.minusDays(1))));
+
+        assertEquals(HmrcExpiryStatus.EXPIRED, hmrcExpiryService.classify(TODAY.minusDays(5)));
+        assertEquals(HmrcExpiryStatus.EXPIRING_SOON, hmrcExpiryService.classify(TODAY.plusDays(10)));
+        assertNull(hmrcExpiryService.classify(TODAY.plusDays(31)));
+        assertNull(hmrcExpiryService.classify(null));
+    }
+
+    private static ScanWatermark mark(String scanName, LocalDate date) {
+        return ScanWatermark.builder()
+                .scanName(scanName)
+                .watermarkDate(date)
+                .watermarkIdentifier(Long.MAX_VALUE)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.fincore.usermgmt.service;
 
 import com.fincore.usermgmt.dto.KycDocumentCreateDTO;
+import com.fincore.usermgmt.dto.KycDocumentCreateResultDTO;
 import com.fincore.usermgmt.dto.KycDocumentDTO;
 import com.fincore.usermgmt.dto.KycDocumentUpdateDTO;
 import com.fincore.usermgmt.dto.PagedResponse;
@@ -25,6 +26,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +44,12 @@ class KycDocumentServiceTest {
     @Mock
     private KycDocumentMapper kycDocumentMapper;
 
+    @Mock
+    private StatusChangeFeed statusChangeFeed;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
     @InjectMocks
     private KycDocumentService kycDocumentService;
 
@@ -104,6 +112,7 @@ class KycDocumentServiceTest {
         assertEquals("CERTIFICATE_OF_INCORPORATION", result.getDocumentType());
         assertEquals(1L, result.getOrganisationId());
         verify(kycDocumentRepository).save(any(KycDocument.class));
+        verify(fileStorageService).addReferences(List.of("https://storage.example.com/certificate.pdf"));
     }
 
     @Test
@@ -116,6 +125,34 @@ class KycDocumentServiceTest {
         assertTrue(exception.getMessage().contains("Organisation not found"));
     }
 
+    @Test
+    void createDocuments_InsertsValidDocumentsAndReportsInvalidOnes() {
+        KycDocumentCreateDTO missingType = KycDocumentCreateDTO.builder()
+                .fileName("unknown.pdf")
+                .build();
+        kycDocument.setId(null);
+        when(kycDocumentMapper.toKycDocument(createDTO)).thenReturn(kycDocument);
+        doAnswer(invocation -> {
+            List<KycDocument> documents = invocation.getArgument(0);
+            documents.get(0).setId(10L);
+            return null;
+        }).when(kycDocumentRepository).insertAll(anyList());
+
+        List<KycDocumentCreateResultDTO> results =
+                kycDocumentService.createDocuments(organisation, List.of(missingType, createDTO));
+
+        assertEquals(2, results.size());
+        assertFalse(results.get(0).isCreated());
+        assertEquals("Document type is required", results.get(0).getError());
+        assertTrue(results.get(1).isCreated());
+        assertEquals(1, results.get(1).getIndex());
+        assertEquals(10L, results.get(1).getDocumentId());
+        assertSame(organisation, kycDocument.getOrganisation());
+        verify(kycDocumentRepository).insertAll(List.of(kycDocument));
+        verify(organisationRepository, never()).findById(any());
+        verify(statusChangeFeed).documentStatusChanged(10L, 1L, null, DocumentStatus.PENDING);
+    }
+
     @Test
     void getDocumentById_Found() {
         when(kycDocumentRepository.findById(1L)).thenReturn(Optional.of(kycDocument));
@@ -220,6 +257,7 @@ class KycDocumentServiceTest {
 
         assertNotNull(result);
         verify(kycDocumentRepository).save(kycDocument);
+        verify(statusChangeFeed).documentStatusChanged(1L, 1L, DocumentStatus.PENDING, DocumentStatus.VERIFIED);
     }
 
     @Test
@@ -245,16 +283,17 @@ class KycDocumentServiceTest {
 
     @Test
     void deleteDocument_Success() {
-        when(kycDocumentRepository.existsById(1L)).thenReturn(true);
+        when(kycDocumentRepository.findById(1L)).thenReturn(Optional.of(kycDocument));
 
         kycDocumentService.deleteDocument(1L);
 
-        verify(kycDocumentRepository).deleteById(1L);
+        verify(kycDocumentRepository).delete(kycDocument);
+        verify(fileStorageService).removeReferences(List.of("https://storage.example.com/certificate.pdf"));
     }
 
     @Test
     void deleteDocument_NotFound() {
-        when(kycDocumentRepository.existsById(1L)).thenReturn(false);
+        when(kycDocumentRepository.findById(1L)).thenReturn(Optional.empty());
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> 
             kycDocumentService.deleteDocument(1L));
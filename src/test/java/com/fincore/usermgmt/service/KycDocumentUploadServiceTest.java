@@ -0,0 +1,101 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.dto.KycDocumentCreateDTO;
+import com.fincore.usermgmt.dto.KycDocumentCreateResultDTO;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KycDocumentUploadServiceTest {
+
+    @Mock
+    private OrganisationRepository organisationRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private KycDocumentService kycDocumentService;
+
+    @InjectMocks
+    private KycDocumentUploadService uploadService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void uploadDocuments_CreatesUploadedInOneBatchAndReportsFailuresInPlace() {
+        List<MultipartFile> files = List.of(file("passport.pdf"), file("bill.pdf"), file("statement.pdf"));
+        when(organisationRepository.existsById(1L)).thenReturn(true);
+        when(fileStorageService.uploadFiles(files, "kyc-documents")).thenReturn(List.of(
+                new FileStorageService.UploadResult("local://kyc-documents/sha256/a", null),
+                new FileStorageService.UploadResult(null, "Failed to upload file"),
+                new FileStorageService.UploadResult("local://kyc-documents/sha256/c", null)));
+        when(kycDocumentService.createDocuments(eq(1L), anyList())).thenReturn(List.of(
+                KycDocumentCreateResultDTO.builder().index(0).created(true).documentId(10L).build(),
+                KycDocumentCreateResultDTO.builder().index(1).created(true).documentId(11L).build()));
+
+        List<KycDocumentCreateResultDTO> results = uploadService.uploadDocuments(1L, files,
+                List.of("PASSPORT", "UTILITY_BILL", "BANK_STATEMENT"), 5);
+
+        ArgumentCaptor<List<KycDocumentCreateDTO>> created = ArgumentCaptor.forClass(List.class);
+        verify(kycDocumentService).createDocuments(eq(1L), created.capture());
+        assertEquals(List.of("PASSPORT", "BANK_STATEMENT"),
+                created.getValue().stream().map(KycDocumentCreateDTO::getDocumentType).toList());
+        assertEquals("local://kyc-documents/sha256/c", created.getValue().get(1).getFileUrl());
+        assertEquals(5, created.getValue().get(0).getVerificationIdentifier());
+
+        assertEquals(3, results.size());
+        assertEquals(10L, results.get(0).getDocumentId());
+        assertEquals(1, results.get(1).getIndex());
+        assertFalse(results.get(1).isCreated());
+        assertEquals("Failed to upload file", results.get(1).getError());
+        assertEquals("bill.pdf", results.get(1).getFileName());
+        assertEquals(2, results.get(2).getIndex());
+        assertEquals(11L, results.get(2).getDocumentId());
+    }
+
+    @Test
+    void uploadDocuments_NothingUploaded_NoDocumentsCreated() {
+        List<MultipartFile> files = List.of(file("passport.pdf"));
+        when(organisationRepository.existsById(1L)).thenReturn(true);
+        when(fileStorageService.uploadFiles(files, "kyc-documents"))
+                .thenReturn(List.of(new FileStorageService.UploadResult(null, "Cannot upload empty file")));
+
+        List<KycDocumentCreateResultDTO> results = uploadService.uploadDocuments(1L, files, List.of("PASSPORT"), null);
+
+        assertEquals("Cannot upload empty file", results.get(0).getError());
+        verifyNoInteractions(kycDocumentService);
+    }
+
+    @Test
+    void uploadDocuments_UnknownOrganisation_NothingUploaded() {
+        when(organisationRepository.existsById(9L)).thenReturn(false);
+
+        assertThrows(RuntimeException.class, () ->
+                uploadService.uploadDocuments(9L, List.of(file("passport.pdf")), List.of("PASSPORT"), null));
+        verifyNoInteractions(fileStorageService, kycDocumentService);
+    }
+
+    @Test
+    void uploadDocuments_DocumentTypeCountMismatch_Rejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+                uploadService.uploadDocuments(1L, List.of(file("passport.pdf")), List.of(), null));
+        verifyNoInteractions(fileStorageService);
+    }
+
+    private static MockMultipartFile file(String name) {
+        return new MockMultipartFile("files", name, "application/pdf", name.getBytes());
+    }
+}
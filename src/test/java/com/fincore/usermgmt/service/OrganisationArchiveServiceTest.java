@@ -0,0 +1,190 @@
+package com.fincore.usermgmt.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fincore.usermgmt.dto.KycDocumentDTO;
+import com.fincore.usermgmt.dto.OrganisationDTO;
+import com.fincore.usermgmt.entity.*;
+import com.fincore.usermgmt.mapper.KycDocumentMapper;
+import com.fincore.usermgmt.mapper.OrganisationMapper;
+import com.fincore.usermgmt.repository.AddressRepository;
+import com.fincore.usermgmt.repository.ArchivedKycDocumentRepository;
+import com.fincore.usermgmt.repository.ArchivedOrganisationRepository;
+import com.fincore.usermgmt.repository.KycDocumentRepository;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.OrganisationSicCodeRepository;
+import com.fincore.usermgmt.repository.ReviewQueueRepository;
+import com.fincore.usermgmt.service.search.OrganisationSearchEngine;
+import com.fincore.usermgmt.util.SecurityUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrganisationArchiveServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private OrganisationRepository organisationRepository;
+
+    @Mock
+    private KycDocumentRepository kycDocumentRepository;
+
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private ArchivedOrganisationRepository archivedOrganisationRepository;
+
+    @Mock
+    private ArchivedKycDocumentRepository archivedKycDocumentRepository;
+
+    @Mock
+    private OrganisationSicCodeRepository organisationSicCodeRepository;
+
+    @Mock
+    private ReviewQueueRepository reviewQueueRepository;
+
+    @Mock
+    private OrganisationMapper organisationMapper;
+
+    @Mock
+    private KycDocumentMapper kycDocumentMapper;
+
+    @Mock
+    private OrganisationSearchEngine organisationSearchEngine;
+
+    @Mock
+    private OrganisationCounterService organisationCounterService;
+
+    @Mock
+    private SecurityUtil securityUtil;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private OrganisationArchiveService archiveService;
+    private Organisation organisation;
+    private KycDocument document;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new OrganisationArchiveService(organisationRepository, kycDocumentRepository,
+                addressRepository, archivedOrganisationRepository, archivedKycDocumentRepository,
+                organisationSicCodeRepository, reviewQueueRepository, organisationMapper, kycDocumentMapper,
+                organisationSearchEngine, organisationCounterService, securityUtil, objectMapper, transactionManager,
+                365, CHUNK_SIZE);
+
+        User owner = new User();
+        owner.setId(7L);
+        Address registered = Address.builder().id(20L).build();
+        organisation = Organisation.builder()
+                .id(1L)
+                .owner(owner)
+                .legalName("Closed Company Ltd")
+                .organisationType(OrganisationType.LTD)
+                .status(OrganisationStatus.CLOSED)
+                .registeredAddress(registered)
+                .build();
+        document = KycDocument.builder()
+                .id(5L)
+                .organisation(organisation)
+                .documentType(DocumentType.BANK_STATEMENT)
+                .status(DocumentStatus.VERIFIED)
+                .build();
+    }
+
+    @Test
+    void archiveOrganisations_SnapshotsThenDeletesChildrenFirst() {
+        when(organisationRepository.findWithDetailsByIdIn(List.of(1L))).thenReturn(List.of(organisation));
+        when(kycDocumentRepository.findWithDetailsByOrganisationIdIn(List.of(1L))).thenReturn(List.of(document));
+        when(organisationMapper.toOrganisationDTO(organisation))
+                .thenReturn(OrganisationDTO.builder().id(1L).legalName("Closed Company Ltd").build());
+        when(kycDocumentMapper.toKycDocumentDTO(document))
+                .thenReturn(KycDocumentDTO.builder().id(5L).fileName("statement.pdf").build());
+
+        int archived = archiveService.archiveOrganisations(List.of(1L), ArchiveReason.DELETED, 9L);
+
+        assertEquals(1, archived);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArchivedOrganisation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(archivedOrganisationRepository).saveAll(captor.capture());
+        ArchivedOrganisation row = captor.getValue().get(0);
+        assertEquals(7L, row.getOwnerId());
+        assertEquals(ArchiveReason.DELETED, row.getArchiveReason());
+        assertEquals(9L, row.getArchivedBy());
+        assertTrue(row.isNew());
+        assertTrue(row.getSnapshot().contains("Closed Company Ltd"));
+
+        InOrder order = inOrder(archivedKycDocumentRepository, kycDocumentRepository, organisationSicCodeRepository,
+                reviewQueueRepository, organisationRepository, addressRepository);
+        order.verify(archivedKycDocumentRepository).saveAll(anyList());
+        order.verify(kycDocumentRepository).deleteByOrganisationIdIn(List.of(1L));
+        order.verify(organisationSicCodeRepository).deleteByOrganisationIdIn(List.of(1L));
+        order.verify(reviewQueueRepository).deleteByOrganisationIdIn(List.of(1L));
+        order.verify(organisationRepository).deleteAllByIdIn(List.of(1L));
+        order.verify(addressRepository).deleteAllByIdIn(Set.of(20L));
+        verify(organisationSearchEngine).remove(1L);
+        verify(organisationCounterService).recordDeleted(OrganisationStatus.CLOSED, OrganisationType.LTD);
+    }
+
+    @Test
+    void archiveOrganisations_UnknownIdsAreIgnored() {
+        when(organisationRepository.findWithDetailsByIdIn(List.of(99L))).thenReturn(List.of());
+
+        assertEquals(0, archiveService.archiveOrganisations(List.of(99L), ArchiveReason.DELETED, null));
+
+        verifyNoInteractions(archivedOrganisationRepository, kycDocumentRepository, addressRepository);
+    }
+
+    @Test
+    void archiveExpiredOrganisations_ProcessesChunksUntilShortChunk() {
+        Organisation second = Organisation.builder().id(2L).status(OrganisationStatus.REJECTED)
+                .organisationType(OrganisationType.LLP).build();
+        Organisation third = Organisation.builder().id(3L).status(OrganisationStatus.CLOSED)
+                .organisationType(OrganisationType.LTD).build();
+        when(organisationRepository.findArchivableIds(eq(OrganisationArchiveService.ARCHIVABLE_STATUSES),
+                any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(organisationRepository.findWithDetailsByIdIn(List.of(1L, 2L))).thenReturn(List.of(organisation, second));
+        when(organisationRepository.findWithDetailsByIdIn(List.of(3L))).thenReturn(List.of(third));
+        when(organisationMapper.toOrganisationDTO(any(Organisation.class))).thenReturn(new OrganisationDTO());
+
+        assertEquals(3, archiveService.archiveExpiredOrganisations());
+
+        verify(organisationRepository, times(2)).findArchivableIds(any(), any(), any());
+        verify(transactionManager, times(2)).commit(any());
+        verify(organisationCounterService).recordDeleted(OrganisationStatus.REJECTED, OrganisationType.LLP);
+    }
+
+    @Test
+    void getArchivedOrganisation_ReadsSnapshot() throws Exception {
+        String snapshot = objectMapper.writeValueAsString(OrganisationDTO.builder()
+                .id(1L).legalName("Closed Company Ltd").statusDescription("CLOSED").build());
+        when(archivedOrganisationRepository.findById(1L))
+                .thenReturn(Optional.of(ArchivedOrganisation.builder().id(1L).snapshot(snapshot).build()));
+
+        Optional<OrganisationDTO> result = archiveService.getArchivedOrganisation(1L);
+
+        assertTrue(result.isPresent());
+        assertEquals("Closed Company Ltd", result.get().getLegalName());
+        assertEquals("CLOSED", result.get().getStatusDescription());
+    }
+}
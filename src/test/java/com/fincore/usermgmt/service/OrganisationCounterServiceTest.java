@@ -0,0 +1,144 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.dto.OrganisationStatsDTO;
+import com.fincore.usermgmt.entity.OrganisationCounter;
+import com.fincore.usermgmt.entity.OrganisationStatus;
+import com.fincore.usermgmt.entity.OrganisationType;
+import com.fincore.usermgmt.repository.OrganisationCounterRepository;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrganisationCounterServiceTest {
+
+    @Mock
+    private OrganisationCounterRepository counterRepository;
+
+    @Mock
+    private OrganisationRepository organisationRepository;
+
+    @InjectMocks
+    private OrganisationCounterService counterService;
+
+    @Test
+    void recordCreated_IncrementsTableAndMirror() {
+        when(counterRepository.addToCount(eq(OrganisationStatus.PENDING), eq(OrganisationType.LTD), eq(1L),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        counterService.recordCreated(OrganisationStatus.PENDING, OrganisationType.LTD);
+
+        OrganisationStatsDTO stats = counterService.getStats();
+        assertEquals(1, stats.getTotalOrganisations());
+        assertEquals(1L, stats.getCountsByStatus().get("PENDING"));
+        assertEquals(1L, stats.getCountsByType().get("LTD"));
+        verify(counterRepository, never()).save(any(OrganisationCounter.class));
+    }
+
+    @Test
+    void recordCreated_MissingRow_NotInserted() {
+        when(counterRepository.addToCount(any(), any(), anyLong(), any(LocalDateTime.class))).thenReturn(0);
+
+        counterService.recordCreated(OrganisationStatus.PENDING, OrganisationType.PLC);
+
+        verify(counterRepository, never()).save(any(OrganisationCounter.class));
+        assertEquals(0, counterService.getStats().getTotalOrganisations());
+    }
+
+    @Test
+    void recordChanged_MovesCountBetweenStatuses() {
+        when(counterRepository.addToCount(any(), any(), anyLong(), any(LocalDateTime.class))).thenReturn(1);
+        counterService.recordCreated(OrganisationStatus.UNDER_REVIEW, OrganisationType.LTD);
+
+        counterService.recordChanged(OrganisationStatus.UNDER_REVIEW, OrganisationType.LTD,
+                OrganisationStatus.ACTIVE, OrganisationType.LTD);
+
+        OrganisationStatsDTO stats = counterService.getStats();
+        assertEquals(1, stats.getTotalOrganisations());
+        assertEquals(0L, stats.getCountsByStatus().get("UNDER_REVIEW"));
+        assertEquals(1L, stats.getCountsByStatus().get("ACTIVE"));
+        verify(counterRepository).addToCount(eq(OrganisationStatus.UNDER_REVIEW), eq(OrganisationType.LTD), eq(-1L),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    void recordChanged_NoChange_DoesNothing() {
+        counterService.recordChanged(OrganisationStatus.ACTIVE, OrganisationType.LTD,
+                OrganisationStatus.ACTIVE, OrganisationType.LTD);
+
+        verifyNoInteractions(counterRepository);
+    }
+
+    @Test
+    void createMissingCounters_CreatesOnlyMissingRows() {
+        when(counterRepository.findAllCounts()).thenReturn(List.<Object[]>of(
+                new Object[]{OrganisationStatus.ACTIVE, OrganisationType.LTD, 5L}));
+
+        counterService.createMissingCounters();
+
+        ArgumentCaptor<OrganisationCounter> captor = ArgumentCaptor.forClass(OrganisationCounter.class);
+        verify(counterRepository, times(OrganisationStatus.values().length * OrganisationType.values().length - 1))
+                .saveAndFlush(captor.capture());
+        assertTrue(captor.getAllValues().stream().allMatch(c -> c.getOrganisationCount() == 0L));
+        assertTrue(captor.getAllValues().stream().noneMatch(c ->
+                c.getStatus() == OrganisationStatus.ACTIVE && c.getOrganisationType() == OrganisationType.LTD));
+    }
+
+    @Test
+    void createMissingCounters_RowCreatedConcurrently_Continues() {
+        when(counterRepository.findAllCounts()).thenReturn(List.of());
+        when(counterRepository.saveAndFlush(any(OrganisationCounter.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_org_counter_status_type"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        counterService.createMissingCounters();
+
+        verify(counterRepository, times(OrganisationStatus.values().length * OrganisationType.values().length))
+                .saveAndFlush(any(OrganisationCounter.class));
+    }
+
+    @Test
+    void reconcile_LocksBeforeCountingAndCorrectsByDelta() {
+        OrganisationCounter drifted = OrganisationCounter.builder()
+                .status(OrganisationStatus.ACTIVE).organisationType(OrganisationType.LTD).organisationCount(7L).build();
+        OrganisationCounter correct = OrganisationCounter.builder()
+                .status(OrganisationStatus.PENDING).organisationType(OrganisationType.PLC).organisationCount(2L).build();
+        when(counterRepository.lockAll()).thenReturn(List.of(drifted, correct));
+        when(organisationRepository.countByStatusAndType()).thenReturn(List.<Object[]>of(
+                new Object[]{OrganisationStatus.ACTIVE, OrganisationType.LTD, 5L},
+                new Object[]{OrganisationStatus.PENDING, OrganisationType.PLC, 2L}));
+        // A change committed on another instance after the recount is in the table
+        when(counterRepository.findAllCounts()).thenReturn(List.<Object[]>of(
+                new Object[]{OrganisationStatus.ACTIVE, OrganisationType.LTD, 6L},
+                new Object[]{OrganisationStatus.PENDING, OrganisationType.PLC, 2L}));
+
+        counterService.reconcile();
+
+        InOrder inOrder = inOrder(counterRepository, organisationRepository);
+        inOrder.verify(counterRepository).lockAll();
+        inOrder.verify(organisationRepository).countByStatusAndType();
+        verify(counterRepository).addToCount(eq(OrganisationStatus.ACTIVE), eq(OrganisationType.LTD), eq(-2L),
+                any(LocalDateTime.class));
+        verify(counterRepository, times(1)).addToCount(any(), any(), anyLong(), any(LocalDateTime.class));
+        verify(counterRepository, never()).saveAll(anyList());
+
+        OrganisationStatsDTO stats = counterService.getStats();
+        assertEquals(8, stats.getTotalOrganisations());
+        assertEquals(6L, stats.getCountsByStatus().get("ACTIVE"));
+        assertEquals(2L, stats.getCountsByType().get("PLC"));
+        assertNotNull(stats.getLastReconciledDatetime());
+    }
+}
@@ -0,0 +1,77 @@
+package com.fincore.usermgmt.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrganisationCursorTest {
+
+    @Test
+    void encodeDecode_RoundTripsSortKeyAndId() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("legalName", "Acme\nHoldings Ltd");
+        keys.put("id", 42L);
+
+        String cursor = OrganisationCursor.encode(ScrollPosition.forward(keys), "legalName", Sort.Direction.ASC);
+        KeysetScrollPosition decoded = (KeysetScrollPosition) OrganisationCursor.decode(
+                cursor, "legalName", Sort.Direction.ASC);
+
+        assertEquals(keys, decoded.getKeys());
+        assertTrue(decoded.scrollsForward());
+    }
+
+    @Test
+    void encodeDecode_ParsesDatetimeKeys() {
+        LocalDateTime created = LocalDateTime.of(2024, 3, 1, 9, 30, 15);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdDatetime", created);
+        keys.put("id", 7L);
+
+        String cursor = OrganisationCursor.encode(ScrollPosition.forward(keys), "createdDatetime", Sort.Direction.DESC);
+        KeysetScrollPosition decoded = (KeysetScrollPosition) OrganisationCursor.decode(
+                cursor, "createdDatetime", Sort.Direction.DESC);
+
+        assertEquals(created, decoded.getKeys().get("createdDatetime"));
+        assertEquals(7L, decoded.getKeys().get("id"));
+    }
+
+    @Test
+    void decode_BlankCursorStartsAtFirstPage() {
+        assertTrue(OrganisationCursor.decode(null, "legalName", Sort.Direction.ASC).isInitial());
+        assertTrue(OrganisationCursor.decode("", "id", Sort.Direction.ASC).isInitial());
+    }
+
+    @Test
+    void decode_CursorFromAnotherSort_Rejected() {
+        String cursor = OrganisationCursor.encode(ScrollPosition.forward(Map.of("id", 1L)), "id", Sort.Direction.ASC);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                OrganisationCursor.decode(cursor, "id", Sort.Direction.DESC));
+    }
+
+    @Test
+    void decode_GarbageCursor_Rejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+                OrganisationCursor.decode("not-a-cursor!", "legalName", Sort.Direction.ASC));
+    }
+
+    @Test
+    void sort_UnsupportedColumn_Rejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+                OrganisationCursor.sort("businessName", Sort.Direction.ASC));
+    }
+
+    @Test
+    void sort_AddsIdAsTieBreaker() {
+        Sort sort = OrganisationCursor.sort("legalName", Sort.Direction.DESC);
+
+        assertEquals(Sort.by(Sort.Direction.DESC, "legalName", "id"), sort);
+    }
+}
@@ -0,0 +1,255 @@
+package com.fincore.usermgmt.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fincore.usermgmt.dto.OrganisationCreateDTO;
+import com.fincore.usermgmt.dto.OrganisationImportDTO;
+import com.fincore.usermgmt.entity.Organisation;
+import com.fincore.usermgmt.entity.OrganisationImport;
+import com.fincore.usermgmt.entity.OrganisationImportError;
+import com.fincore.usermgmt.entity.OrganisationStatus;
+import com.fincore.usermgmt.entity.OrganisationType;
+import com.fincore.usermgmt.entity.User;
+import com.fincore.usermgmt.entity.enums.HmrcExpiryStatus;
+import com.fincore.usermgmt.entity.enums.ImportFormat;
+import com.fincore.usermgmt.entity.enums.ImportStatus;
+import com.fincore.usermgmt.exception.ConflictException;
+import com.fincore.usermgmt.mapper.AddressMapper;
+import com.fincore.usermgmt.mapper.OrganisationMapper;
+import com.fincore.usermgmt.repository.OrganisationImportErrorRepository;
+import com.fincore.usermgmt.repository.OrganisationImportRepository;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.UserRepository;
+import com.fincore.usermgmt.service.search.OrganisationSearchEngine;
+import com.fincore.usermgmt.util.SecurityUtil;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrganisationImportServiceTest {
+
+    @Mock
+    private OrganisationImportRepository importRepository;
+
+    @Mock
+    private OrganisationImportErrorRepository importErrorRepository;
+
+    @Mock
+    private OrganisationRepository organisationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OrganisationMapper organisationMapper;
+
+    @Mock
+    private AddressMapper addressMapper;
+
+    @Mock
+    private HmrcExpiryService hmrcExpiryService;
+
+    @Mock
+    private OrganisationIdentifierFilter identifierFilter;
+
+    @Mock
+    private OrganisationSearchEngine organisationSearchEngine;
+
+    @Mock
+    private OrganisationSicCodeService organisationSicCodeService;
+
+    @Mock
+    private ReviewQueueService reviewQueueService;
+
+    @Mock
+    private OrganisationCounterService organisationCounterService;
+
+    @Mock
+    private SecurityUtil securityUtil;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrganisationImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        importService = new OrganisationImportService(importRepository, importErrorRepository, organisationRepository,
+                userRepository, organisationMapper, addressMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), objectMapper, hmrcExpiryService,
+                identifierFilter, organisationSearchEngine, organisationSicCodeService, reviewQueueService,
+                organisationCounterService, securityUtil, transactionManager, 1000, 1000);
+
+        lenient().when(importRepository.save(any(OrganisationImport.class))).thenAnswer(invocation -> {
+            OrganisationImport job = invocation.getArgument(0);
+            if (job.getId() == null) {
+                job.setId(1L);
+            }
+            return job;
+        });
+        lenient().when(hmrcExpiryService.classifier()).thenReturn(date -> date != null ? HmrcExpiryStatus.EXPIRED : null);
+        lenient().when(organisationMapper.toOrganisation(any(OrganisationCreateDTO.class))).thenAnswer(invocation -> {
+            OrganisationCreateDTO dto = invocation.getArgument(0);
+            return Organisation.builder()
+                    .legalName(dto.getLegalName())
+                    .organisationType(OrganisationType.LTD)
+                    .hmrcExpiryDate(dto.getHmrcExpiryDate())
+                    .legacyIdentifier(dto.getLegacyIdentifier())
+                    .status(OrganisationStatus.PENDING)
+                    .build();
+        });
+        lenient().when(organisationMapper.stringToStatus(anyString())).thenAnswer(invocation -> {
+            try {
+                return OrganisationStatus.valueOf(invocation.<String>getArgument(0).toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importFile_InsertsNewRowsSkipsDuplicatesAndRecordsErrors() {
+        when(organisationRepository.findLegacyIdentifiersIn(anyCollection())).thenReturn(List.of("L2"));
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(5L, 7L));
+        when(organisationRepository.findOwnerIdsIn(anyCollection())).thenReturn(List.of(7L));
+        User owner = User.builder().id(5L).build();
+        when(userRepository.getReferenceById(5L)).thenReturn(owner);
+
+        OrganisationImportDTO result = importService.importFile("legacy.ndjson", ImportFormat.NDJSON, file(
+                row("L1", 5, "Acme", "\"status\":\"active\",\"hmrcExpiryDate\":\"2020-01-31\""),
+                row("L2", 6, "Already Imported", null),
+                row("L3", 9, "Unknown Owner", null),
+                row("L1", 5, "Same Legacy Row", null),
+                row("L4", 7, "Owner Has Organisation", null),
+                row("L5", 5, "", null)));
+
+        ArgumentCaptor<List<Organisation>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(organisationRepository).insertAll(inserted.capture());
+        assertEquals(1, inserted.getValue().size());
+        Organisation acme = inserted.getValue().get(0);
+        assertSame(owner, acme.getOwner());
+        assertEquals(OrganisationStatus.ACTIVE, acme.getStatus());
+        assertEquals(HmrcExpiryStatus.EXPIRED, acme.getHmrcExpiryStatus());
+        assertNotNull(acme.getCreatedDatetime());
+        assertTrue(acme.isTransactionVolumesParsed());
+
+        ArgumentCaptor<List<OrganisationImportError>> errors = ArgumentCaptor.forClass(List.class);
+        verify(importErrorRepository).saveAll(errors.capture());
+        assertEquals(List.of(3L, 5L, 6L), errors.getValue().stream().map(OrganisationImportError::getRowNumber).toList());
+        assertEquals("Owner user not found with ID: 9", errors.getValue().get(0).getMessage());
+        assertTrue(errors.getValue().get(2).getMessage().startsWith("legalName"));
+
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(6, result.getCheckpointRow());
+        assertEquals(1, result.getImportedCount());
+        assertEquals(2, result.getDuplicateCount());
+        assertEquals(3, result.getErrorCount());
+        assertEquals(6, result.getRowsProcessed());
+        verify(organisationSearchEngine).index(acme);
+        verify(identifierFilter).add(null, null);
+        verify(organisationSicCodeService).backfill();
+        verify(reviewQueueService).synchronise();
+        verify(organisationCounterService).reconcile();
+    }
+
+    @Test
+    void resume_SkipsRowsUpToCheckpoint() {
+        OrganisationImport job = OrganisationImport.builder()
+                .id(3L)
+                .format(ImportFormat.NDJSON)
+                .status(ImportStatus.FAILED)
+                .checkpointRow(1)
+                .importedCount(1)
+                .durationMillis(500)
+                .build();
+        when(importRepository.findById(3L)).thenReturn(Optional.of(job));
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(6L));
+
+        OrganisationImportDTO result = importService.resume(3L, file(
+                row("L1", 5, "Acme", null),
+                row("L2", 6, "Globex", null)));
+
+        verify(organisationRepository).findLegacyIdentifiersIn(Set.of("L2"));
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(2, result.getCheckpointRow());
+        assertEquals(2, result.getImportedCount());
+        assertTrue(result.getDurationMillis() > 500);
+    }
+
+    @Test
+    void resume_CompletedImport_Conflict() {
+        when(importRepository.findById(3L)).thenReturn(Optional.of(OrganisationImport.builder()
+                .id(3L)
+                .format(ImportFormat.CSV)
+                .status(ImportStatus.COMPLETED)
+                .build()));
+
+        assertThrows(ConflictException.class, () -> importService.resume(3L, file()));
+        verifyNoInteractions(organisationRepository);
+    }
+
+    @Test
+    void importFile_ChunkFails_MarkedFailedAtLastCommittedCheckpoint() {
+        importService = new OrganisationImportService(importRepository, importErrorRepository, organisationRepository,
+                userRepository, organisationMapper, addressMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), hmrcExpiryService,
+                identifierFilter, organisationSearchEngine, organisationSicCodeService, reviewQueueService,
+                organisationCounterService, securityUtil, transactionManager, 1, 1000);
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(5L, 6L));
+        doNothing().doThrow(new DataIntegrityViolationException("uk_org_company_number"))
+                .when(organisationRepository).insertAll(anyList());
+        OrganisationImport committed = OrganisationImport.builder()
+                .id(1L)
+                .format(ImportFormat.NDJSON)
+                .status(ImportStatus.RUNNING)
+                .checkpointRow(1)
+                .importedCount(1)
+                .build();
+        when(importRepository.findById(1L)).thenReturn(Optional.of(committed));
+
+        OrganisationImportDTO result = importService.importFile("legacy.ndjson", ImportFormat.NDJSON, file(
+                row("L1", 5, "Acme", null),
+                row("L2", 6, "Globex", null)));
+
+        assertEquals("FAILED", result.getStatus());
+        assertEquals(1, result.getCheckpointRow());
+        assertEquals(1, result.getImportedCount());
+        assertTrue(result.getFailureReason().contains("uk_org_company_number"));
+        // Derived data still catches up with the committed chunk
+        verify(organisationCounterService).reconcile();
+    }
+
+    private static String row(String legacyIdentifier, long ownerId, String legalName, String extra) {
+        return "{\"legacyIdentifier\":\"" + legacyIdentifier + "\",\"ownerId\":" + ownerId
+                + ",\"legalName\":\"" + legalName + "\",\"organisationType\":\"LTD\""
+                + (extra != null ? "," + extra : "") + "}";
+    }
+
+    private static InputStream file(String... rows) {
+        return new ByteArrayInputStream(String.join("\n", rows).getBytes(StandardCharsets.UTF_8));
+    }
+}
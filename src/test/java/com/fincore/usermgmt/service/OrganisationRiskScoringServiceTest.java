@@ -0,0 +1,135 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.dto.RiskScoringRunDTO;
+import com.fincore.usermgmt.entity.DocumentStatus;
+import com.fincore.usermgmt.entity.OrganisationType;
+import com.fincore.usermgmt.entity.RiskScoringRun;
+import com.fincore.usermgmt.entity.enums.RiskLevel;
+import com.fincore.usermgmt.repository.KycDocumentRepository;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.RiskScoringRunRepository;
+import com.fincore.usermgmt.service.risk.RiskAssessment;
+import com.fincore.usermgmt.service.risk.RuleBasedRiskModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrganisationRiskScoringServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private OrganisationRepository organisationRepository;
+
+    @Mock
+    private KycDocumentRepository kycDocumentRepository;
+
+    @Mock
+    private RiskScoringRunRepository riskScoringRunRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrganisationRiskScoringService scoringService;
+
+    @BeforeEach
+    void setUp() {
+        scoringService = new OrganisationRiskScoringService(organisationRepository, kycDocumentRepository,
+                riskScoringRunRepository, new RuleBasedRiskModel(List.of("Iran")), transactionManager, CHUNK_SIZE, 2);
+        when(riskScoringRunRepository.save(any(RiskScoringRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(organisationRepository.findRiskInputs(anyCollection())).thenAnswer(invocation -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (Long id : invocation.<Collection<Long>>getArgument(0)) {
+                // Odd IDs remit to a high-risk country with high volumes
+                boolean risky = id % 2 == 1;
+                rows.add(new Object[]{id, risky ? OrganisationType.TRUST : OrganisationType.LTD,
+                        risky ? "Iran" : "France", null, null, null,
+                        risky ? new BigDecimal("2000000") : null, null});
+            }
+            return rows;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoringService.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void score_FullRunWalksAllChunksAndWritesScores() {
+        when(organisationRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(organisationRepository.findIdsAfter(eq(2L), any(Pageable.class))).thenReturn(List.of(3L));
+        when(organisationRepository.findIdsAfter(eq(3L), any(Pageable.class))).thenReturn(List.of());
+        when(kycDocumentRepository.countByOrganisationIdInGroupByStatus(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, DocumentStatus.VERIFIED, 2L}));
+
+        RiskScoringRunDTO run = scoringService.score(false);
+
+        assertFalse(run.isIncremental());
+        assertNull(run.getModifiedSince());
+        assertEquals(3, run.getOrganisationsScored());
+        assertEquals(2, run.getChunkCount());
+        assertEquals(2, run.getHighRiskCount());
+        assertEquals("rules", run.getModelName());
+        assertTrue(run.getOrganisationsPerSecond() > 0);
+
+        ArgumentCaptor<List<RiskAssessment>> captor = ArgumentCaptor.forClass(List.class);
+        verify(organisationRepository, times(2)).updateRiskScores(captor.capture(), any(LocalDateTime.class));
+        List<RiskAssessment> firstChunk = captor.getAllValues().get(0);
+        assertEquals(List.of(1L, 2L), firstChunk.stream().map(RiskAssessment::organisationId).toList());
+        assertEquals(RiskLevel.HIGH, firstChunk.get(0).level());
+        assertEquals(RiskLevel.LOW, firstChunk.get(1).level());
+        verify(transactionManager, times(2)).commit(any());
+        verify(riskScoringRunRepository, never()).findFirstByOrderByStartedDatetimeDesc();
+    }
+
+    @Test
+    void score_IncrementalRunOnlyScoresChangedOrganisations() {
+        LocalDateTime previousStart = LocalDateTime.now().minusDays(1);
+        when(riskScoringRunRepository.findFirstByOrderByStartedDatetimeDesc())
+                .thenReturn(Optional.of(RiskScoringRun.builder().startedDatetime(previousStart).build()));
+        when(organisationRepository.findIdsModifiedOrUnscoredSince(previousStart)).thenReturn(List.of(5L, 3L));
+        when(kycDocumentRepository.findOrganisationIdsModifiedSince(previousStart)).thenReturn(List.of(3L, 9L));
+        when(kycDocumentRepository.countByOrganisationIdInGroupByStatus(anyCollection())).thenReturn(List.of());
+
+        RiskScoringRunDTO run = scoringService.score(true);
+
+        assertTrue(run.isIncremental());
+        assertEquals(previousStart, run.getModifiedSince());
+        assertEquals(3, run.getOrganisationsScored());
+        verify(organisationRepository).findRiskInputs(List.of(3L, 5L));
+        verify(organisationRepository).findRiskInputs(List.of(9L));
+        verify(organisationRepository, never()).findIdsAfter(anyLong(), any());
+    }
+
+    @Test
+    void score_FirstIncrementalRunIsFull() {
+        when(riskScoringRunRepository.findFirstByOrderByStartedDatetimeDesc()).thenReturn(Optional.empty());
+        when(organisationRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of());
+
+        RiskScoringRunDTO run = scoringService.score(true);
+
+        assertFalse(run.isIncremental());
+        assertEquals(0, run.getOrganisationsScored());
+        verify(organisationRepository, never()).updateRiskScores(any(), any());
+    }
+}
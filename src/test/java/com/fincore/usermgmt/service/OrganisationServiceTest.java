@@ -2,26 +2,38 @@ package com.fincore.usermgmt.service;
 
 import com.fincore.usermgmt.dto.*;
 import com.fincore.usermgmt.entity.*;
+import com.fincore.usermgmt.entity.enums.HmrcExpiryStatus;
+import com.fincore.usermgmt.exception.ConflictException;
+import com.fincore.usermgmt.exception.PreconditionFailedException;
 import com.fincore.usermgmt.mapper.AddressMapper;
 import com.fincore.usermgmt.mapper.OrganisationMapper;
 import com.fincore.usermgmt.repository.AddressRepository;
+import com.fincore.usermgmt.repository.KycDocumentRepository;
 import com.fincore.usermgmt.repository.OrganisationRepository;
 import com.fincore.usermgmt.repository.UserRepository;
+import com.fincore.usermgmt.service.search.OrganisationSearchEngine;
+import com.fincore.usermgmt.util.SecurityUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -48,6 +60,36 @@ class OrganisationServiceTest {
     @Mock
     private KycDocumentService kycDocumentService;
 
+    @Mock
+    private KycDocumentRepository kycDocumentRepository;
+
+    @Mock
+    private SecurityUtil securityUtil;
+
+    @Mock
+    private OrganisationSearchEngine organisationSearchEngine;
+
+    @Mock
+    private OrganisationIdentifierFilter identifierFilter;
+
+    @Mock
+    private OrganisationCounterService organisationCounterService;
+
+    @Mock
+    private StatusChangeFeed statusChangeFeed;
+
+    @Mock
+    private OrganisationArchiveService organisationArchiveService;
+
+    @Mock
+    private OrganisationSicCodeService organisationSicCodeService;
+
+    @Mock
+    private HmrcExpiryService hmrcExpiryService;
+
+    @Mock
+    private ReviewQueueService reviewQueueService;
+
     @InjectMocks
     private OrganisationService organisationService;
 
@@ -83,7 +125,7 @@ class OrganisationServiceTest {
                 .legalName("Test Company Ltd")
                 .businessName("Test Business")
                 .organisationType("LTD")
-                .status("PENDING")
+                .statusDescription("PENDING")
                 .registrationNumber("12345678")
                 .companyNumber("CN12345")
                 .countryOfIncorporation("United Kingdom")
@@ -103,10 +145,8 @@ class OrganisationServiceTest {
     @Test
     void createOrganisation_Success() {
         when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
-        when(organisationRepository.existsByRegistrationNumber("12345678")).thenReturn(false);
-        when(organisationRepository.existsByCompanyNumber("CN12345")).thenReturn(false);
         when(organisationMapper.toOrganisation(any(OrganisationCreateDTO.class))).thenReturn(organisation);
-        when(organisationRepository.save(any(Organisation.class))).thenReturn(organisation);
+        when(organisationRepository.saveAndFlush(any(Organisation.class))).thenReturn(organisation);
         when(organisationMapper.toOrganisationDTO(any(Organisation.class))).thenReturn(organisationDTO);
 
         OrganisationDTO result = organisationService.createOrganisation(createDTO);
@@ -114,7 +154,12 @@ class OrganisationServiceTest {
         assertNotNull(result);
         assertEquals("Test Company Ltd", result.getLegalName());
         assertEquals(1L, result.getOwnerId());
-        verify(organisationRepository).save(any(Organisation.class));
+        verify(organisationRepository).saveAndFlush(any(Organisation.class));
+        // Bloom filter says both identifiers are new, so no duplicate query is issued
+        verify(organisationRepository, never()).findIdentifierConflicts(any(), any());
+        verify(organisationCounterService).recordCreated(OrganisationStatus.PENDING, OrganisationType.LTD);
+        verify(identifierFilter).add("12345678", "CN12345");
+        verify(organisationSicCodeService).index(any(Organisation.class));
     }
 
     @Test
@@ -130,12 +175,68 @@ class OrganisationServiceTest {
     @Test
     void createOrganisation_DuplicateRegistrationNumber() {
         when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
-        when(organisationRepository.existsByRegistrationNumber("12345678")).thenReturn(true);
+        when(identifierFilter.mightContainRegistrationNumber("12345678")).thenReturn(true);
+        when(organisationRepository.findIdentifierConflicts("12345678", null))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, "12345678", "CN99999"}));
 
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> 
+        ConflictException exception = assertThrows(ConflictException.class, () -> 
             organisationService.createOrganisation(createDTO));
         
         assertTrue(exception.getMessage().contains("registration number already exists"));
+        verify(organisationRepository, never()).saveAndFlush(any(Organisation.class));
+    }
+
+    @Test
+    void existsByRegistrationNumber_AlwaysQueriesDatabase() {
+        when(organisationRepository.existsByRegistrationNumber("12345678")).thenReturn(true);
+
+        assertTrue(organisationService.existsByRegistrationNumber("12345678"));
+        verifyNoInteractions(identifierFilter);
+    }
+
+    @Test
+    void createOrganisation_BloomFilterFalsePositive_SingleQueryThenSave() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
+        when(identifierFilter.mightContainRegistrationNumber("12345678")).thenReturn(true);
+        when(identifierFilter.mightContainCompanyNumber("CN12345")).thenReturn(true);
+        when(organisationRepository.findIdentifierConflicts("12345678", "CN12345")).thenReturn(List.of());
+        when(organisationMapper.toOrganisation(any(OrganisationCreateDTO.class))).thenReturn(organisation);
+        when(organisationRepository.saveAndFlush(any(Organisation.class))).thenReturn(organisation);
+        when(organisationMapper.toOrganisationDTO(any(Organisation.class))).thenReturn(organisationDTO);
+
+        assertNotNull(organisationService.createOrganisation(createDTO));
+
+        verify(organisationRepository, times(1)).findIdentifierConflicts(any(), any());
+    }
+
+    @Test
+    void createOrganisation_ConcurrentDuplicateCompanyNumber_MapsConstraintToConflict() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
+        when(organisationMapper.toOrganisation(any(OrganisationCreateDTO.class))).thenReturn(organisation);
+        when(organisationRepository.saveAndFlush(any(Organisation.class))).thenThrow(
+                new DataIntegrityViolationException("could not execute statement",
+                        new RuntimeException("Unique index or primary key violation: \"PUBLIC.UK_ORG_COMPANY_NUMBER\"")));
+
+        ConflictException exception = assertThrows(ConflictException.class, () ->
+            organisationService.createOrganisation(createDTO));
+
+        assertTrue(exception.getMessage().contains("company number already exists"));
+    }
+
+    @Test
+    void createOrganisation_OwnerAlreadyHasOrganisation_MapsConstraintToConflict() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
+        when(organisationMapper.toOrganisation(any(OrganisationCreateDTO.class))).thenReturn(organisation);
+        when(organisationRepository.saveAndFlush(any(Organisation.class))).thenThrow(
+                new DataIntegrityViolationException("could not execute statement",
+                        new RuntimeException("Unique index or primary key violation: \"PUBLIC.UK_ORG_OWNER\"")));
+
+        ConflictException exception = assertThrows(ConflictException.class, () ->
+            organisationService.createOrganisation(createDTO));
+
+        assertTrue(exception.getMessage().contains("already has an organisation"));
+        verify(identifierFilter, never()).add(any(), any());
+        verify(organisationCounterService, never()).recordCreated(any(), any());
     }
 
     @Test
@@ -202,13 +303,39 @@ class OrganisationServiceTest {
                 .build();
 
         when(organisationRepository.findById(1L)).thenReturn(Optional.of(organisation));
-        when(organisationRepository.save(any(Organisation.class))).thenReturn(organisation);
+        when(organisationRepository.saveAndFlush(any(Organisation.class))).thenReturn(organisation);
         when(organisationMapper.toOrganisationDTO(any(Organisation.class))).thenReturn(organisationDTO);
 
         OrganisationDTO result = organisationService.updateOrganisation(1L, updateDTO);
 
         assertNotNull(result);
         verify(organisationMapper).updateOrganisationFromDto(updateDTO, organisation);
+        // The mapper is a mock, so the SIC codes are unchanged and not re-indexed
+        verify(organisationSicCodeService, never()).index(any());
+        verify(hmrcExpiryService, never()).classify(any());
+    }
+
+    @Test
+    void updateOrganisation_HmrcExpiryDateChanged_ClassifiedAndNotified() {
+        LocalDate expiryDate = LocalDate.now().minusDays(3);
+        OrganisationUpdateDTO updateDTO = OrganisationUpdateDTO.builder()
+                .hmrcExpiryDate(expiryDate)
+                .build();
+
+        when(organisationRepository.findById(1L)).thenReturn(Optional.of(organisation));
+        doAnswer(invocation -> {
+            organisation.setHmrcExpiryDate(expiryDate);
+            return null;
+        }).when(organisationMapper).updateOrganisationFromDto(updateDTO, organisation);
+        when(hmrcExpiryService.classify(expiryDate)).thenReturn(HmrcExpiryStatus.EXPIRED);
+        when(organisationRepository.saveAndFlush(any(Organisation.class))).thenReturn(organisation);
+        when(organisationMapper.toOrganisationDTO(any(Organisation.class))).thenReturn(organisationDTO);
+
+        organisationService.updateOrganisation(1L, updateDTO);
+
+        // A date behind the expiry scan's mark is marked straight away
+        assertEquals(HmrcExpiryStatus.EXPIRED, organisation.getHmrcExpiryStatus());
+        verify(statusChangeFeed).hmrcExpiryStatusChanged(HmrcExpiryStatus.EXPIRED, List.of(1L));
     }
 
     @Test
@@ -222,6 +349,20 @@ class OrganisationServiceTest {
         assertTrue(exception.getMessage().contains("not found"));
     }
 
+    @Test
+    void updateOrganisation_StaleExpectedVersion() {
+        organisation.setVersion(4L);
+        OrganisationUpdateDTO updateDTO = OrganisationUpdateDTO.builder()
+                .businessName("Updated Business Name")
+                .build();
+        when(organisationRepository.findById(1L)).thenReturn(Optional.of(organisation));
+
+        assertThrows(PreconditionFailedException.class, () ->
+            organisationService.updateOrganisation(1L, updateDTO, 3L));
+
+        verify(organisationMapper, never()).updateOrganisationFromDto(any(), any());
+    }
+
     @Test
     void updateOrganisationStatus_Success() {
         when(organisationRepository.findById(1L)).thenReturn(Optional.of(organisation));
@@ -232,15 +373,113 @@ class OrganisationServiceTest {
 
         assertNotNull(result);
         verify(organisationRepository).save(organisation);
+        verify(organisationCounterService).recordChanged(
+                OrganisationStatus.PENDING, OrganisationType.LTD, OrganisationStatus.ACTIVE, OrganisationType.LTD);
+    }
+
+    @Test
+    void approveOrganisation_ConditionalTransitionThenSingleDocumentUpdate() {
+        organisation.setStatus(OrganisationStatus.UNDER_REVIEW);
+        organisation.setVersion(4L);
+        when(organisationRepository.findById(1L)).thenReturn(Optional.of(organisation));
+        when(organisationRepository.transitionStatus(eq(1L), eq(Set.of(OrganisationStatus.UNDER_REVIEW)), eq(4L),
+                eq(OrganisationStatus.ACTIVE), isNull(), any(LocalDateTime.class))).thenReturn(1);
+        when(kycDocumentRepository.verifyByOrganisationId(eq(1L), any(LocalDateTime.class))).thenReturn(3);
+        when(organisationMapper.toOrganisationDTO(organisation)).thenReturn(organisationDTO);
+
+        organisationService.approveOrganisation(1L);
+
+        verify(organisationRepository, never()).save(any(Organisation.class));
+        verify(organisationCounterService).recordChanged(
+                OrganisationStatus.UNDER_REVIEW, OrganisationType.LTD, OrganisationStatus.ACTIVE, OrganisationType.LTD);
+        verify(reviewQueueService).statusChanged(1L, OrganisationStatus.UNDER_REVIEW, OrganisationStatus.ACTIVE);
+        verify(kycDocumentRepository, never()).findByOrganisationId(anyLong());
+    }
+
+    @Test
+    void approveOrganisation_ConcurrentChange_Conflict() {
+        organisation.setStatus(OrganisationStatus.UNDER_REVIEW);
+        organisation.setVersion(4L);
+        when(organisationRepository.findById(1L)).thenReturn(Optional.of(organisation));
+        when(organisationRepository.transitionStatus(eq(1L), anySet(), eq(4L),
+                eq(OrganisationStatus.ACTIVE), isNull(), any(LocalDateTime.class))).thenReturn(0);
+
+        assertThrows(ConflictException.class, () -> organisationService.approveOrganisation(1L));
+
+        verify(kycDocumentRepository, never()).verifyByOrganisationId(anyLong(), any(LocalDateTime.class));
+        verifyNoInteractions(organisationCounterService);
+    }
+
+    @Test
+    void approveOrganisation_StaleExpectedVersion_Conflict() {
+        organisation.setStatus(OrganisationStatus.UNDER_REVIEW);
+        organisation.setVersion(5L);
+        when(organisationRepository.findById(1L)).thenReturn(Optional.of(organisation));
+        when(organisationRepository.transitionStatus(eq(1L), anySet(), eq(4L),
+                eq(OrganisationStatus.ACTIVE), isNull(), any(LocalDateTime.class))).thenReturn(0);
+
+        assertThrows(ConflictException.class, () -> organisationService.approveOrganisation(1L, 4L));
+    }
+
+    @Test
+    void approveOrganisation_NotUnderReview_Conflict() {
+        organisation.setStatus(OrganisationStatus.ACTIVE);
+        when(organisationRepository.findById(1L)).thenReturn(Optional.of(organisation));
+
+        assertThrows(ConflictException.class, () -> organisationService.approveOrganisation(1L));
+
+        verify(organisationRepository, never()).transitionStatus(anyLong(), anySet(), any(), any(), any(), any());
+    }
+
+    @Test
+    void rejectOrganisation_RejectsListedDocumentsAndVerifiesTheRest() {
+        organisation.setStatus(OrganisationStatus.UNDER_REVIEW);
+        organisation.setVersion(2L);
+        OrganisationRejectionDTO rejectionDTO = OrganisationRejectionDTO.builder()
+                .documentRejections(List.of(
+                        new OrganisationRejectionDTO.DocumentRejection(10L, "Blurred scan"),
+                        new OrganisationRejectionDTO.DocumentRejection(11L, "Expired"),
+                        new OrganisationRejectionDTO.DocumentRejection(10L, "Duplicate entry")))
+                .build();
+        Map<Long, String> expectedReasons = Map.of(10L, "Blurred scan", 11L, "Expired");
+        when(organisationRepository.findById(1L)).thenReturn(Optional.of(organisation));
+        when(kycDocumentRepository.rejectDocuments(eq(1L), eq(expectedReasons), any(LocalDateTime.class))).thenReturn(2);
+        when(kycDocumentRepository.verifyByOrganisationIdExcluding(eq(1L), eq(Set.of(10L, 11L)), any(LocalDateTime.class)))
+                .thenReturn(3);
+        when(organisationRepository.transitionStatus(eq(1L), eq(Set.of(OrganisationStatus.UNDER_REVIEW)), eq(2L),
+                eq(OrganisationStatus.REQUIRES_RESUBMISSION), eq("2 of 5 documents rejected"), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(organisationMapper.toOrganisationDTO(organisation)).thenReturn(organisationDTO);
+
+        organisationService.rejectOrganisation(1L, rejectionDTO);
+
+        verify(kycDocumentRepository, never()).findByOrganisationId(anyLong());
+    }
+
+    @Test
+    void rejectOrganisation_NoDocuments() {
+        organisation.setStatus(OrganisationStatus.UNDER_REVIEW);
+        OrganisationRejectionDTO rejectionDTO = OrganisationRejectionDTO.builder()
+                .documentRejections(List.of(new OrganisationRejectionDTO.DocumentRejection(10L, "Blurred scan")))
+                .build();
+        when(organisationRepository.findById(1L)).thenReturn(Optional.of(organisation));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () ->
+                organisationService.rejectOrganisation(1L, rejectionDTO));
+
+        assertTrue(exception.getMessage().contains("no KYC documents"));
+        verify(organisationRepository, never()).transitionStatus(anyLong(), anySet(), any(), any(), any(), any());
     }
 
     @Test
     void deleteOrganisation_Success() {
         when(organisationRepository.existsById(1L)).thenReturn(true);
+        when(securityUtil.getCurrentUser()).thenReturn(Optional.of(owner));
 
         organisationService.deleteOrganisation(1L);
 
-        verify(organisationRepository).deleteById(1L);
+        verify(organisationArchiveService).archiveOrganisations(List.of(1L), ArchiveReason.DELETED, owner.getId());
+        verify(organisationRepository, never()).delete(any(Organisation.class));
     }
 
     @Test
@@ -265,7 +504,7 @@ class OrganisationServiceTest {
                 .build();
 
         Page<Organisation> page = new PageImpl<>(Arrays.asList(organisation));
-        when(organisationRepository.searchOrganisations(eq("Test"), any(), any(), any(Pageable.class)))
+        when(organisationSearchEngine.search(eq("Test"), eq(OrganisationStatus.PENDING), isNull(), any(Pageable.class)))
                 .thenReturn(page);
         when(organisationMapper.toOrganisationDTO(organisation)).thenReturn(organisationDTO);
 
@@ -273,6 +512,114 @@ class OrganisationServiceTest {
 
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
+        verify(organisationRepository, never()).findByFilters(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void searchOrganisations_WithoutSearchTerm_UsesFilterQuery() {
+        OrganisationSearchDTO searchDTO = OrganisationSearchDTO.builder()
+                .status("PENDING")
+                .page(0)
+                .size(20)
+                .sortBy("legalName")
+                .sortDirection("ASC")
+                .build();
+
+        Page<Organisation> page = new PageImpl<>(Arrays.asList(organisation));
+        when(organisationRepository.findByFilters(eq(OrganisationStatus.PENDING), isNull(), any(Pageable.class)))
+                .thenReturn(page);
+        when(organisationMapper.toOrganisationDTO(organisation)).thenReturn(organisationDTO);
+
+        PagedResponse<OrganisationDTO> result = organisationService.searchOrganisations(searchDTO);
+
+        assertEquals(1, result.getContent().size());
+        verifyNoInteractions(organisationSearchEngine);
+    }
+
+    @Test
+    void searchOrganisationFields_WithSearchTerm_TrimsRankedResults() {
+        OrganisationSearchDTO searchDTO = OrganisationSearchDTO.builder()
+                .searchTerm("Test")
+                .page(0)
+                .size(20)
+                .sortBy("legalName")
+                .sortDirection("ASC")
+                .build();
+
+        when(organisationSearchEngine.search(eq("Test"), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(Arrays.asList(organisation)));
+        when(organisationMapper.toOrganisationDTO(organisation)).thenReturn(organisationDTO);
+
+        PagedResponse<Map<String, Object>> result = organisationService.searchOrganisationFields(searchDTO, "legalName");
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(List.of("id", "legalName"), new ArrayList<>(result.getContent().get(0).keySet()));
+        assertEquals(organisationDTO.getLegalName(), result.getContent().get(0).get("legalName"));
+    }
+
+    @Test
+    void parseFields_AlwaysIncludesIdAndRejectsUnknownFields() {
+        assertEquals(List.of("id", "statusDescription", "legalName"),
+                OrganisationService.parseFields(" statusDescription, legalName,id,,statusDescription"));
+        assertThrows(IllegalArgumentException.class, () -> OrganisationService.parseFields("legalName,registeredAddress"));
+        assertThrows(IllegalArgumentException.class, () -> OrganisationService.parseFields("status"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchByRanges_QueriesRepositoryWithRangeSpecification() {
+        when(securityUtil.isBusinessUser()).thenReturn(false);
+        when(organisationRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(organisation)));
+        when(organisationMapper.toOrganisationDTO(organisation)).thenReturn(organisationDTO);
+        OrganisationRangeSearchDTO searchDTO = OrganisationRangeSearchDTO.builder()
+                .ranges(List.of(RangeFilterDTO.builder()
+                        .field("outgoingTransactionValue").min(new BigDecimal("1000000")).build()))
+                .status("PENDING")
+                .build();
+
+        PagedResponse<OrganisationDTO> result = organisationService.searchByRanges(searchDTO);
+
+        assertEquals(List.of(organisationDTO), result.getContent());
+    }
+
+    @Test
+    void searchByRanges_InvalidRangesRejected() {
+        assertThrows(IllegalArgumentException.class, () -> organisationService.searchByRanges(rangeSearch(
+                RangeFilterDTO.builder().field("legalName").min(BigDecimal.ONE).build())));
+        assertThrows(IllegalArgumentException.class, () -> organisationService.searchByRanges(rangeSearch(
+                RangeFilterDTO.builder().field("monthlyTurnoverMax").build())));
+        assertThrows(IllegalArgumentException.class, () -> organisationService.searchByRanges(rangeSearch(
+                RangeFilterDTO.builder().field("maxIncomingPayment")
+                        .min(new BigDecimal("500")).max(new BigDecimal("100")).build())));
+
+        verifyNoInteractions(organisationRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchBySicCode_ValidLevelQueriesRepository() {
+        when(securityUtil.isBusinessUser()).thenReturn(false);
+        when(organisationRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(organisation)));
+        when(organisationMapper.toOrganisationDTO(organisation)).thenReturn(organisationDTO);
+
+        PagedResponse<OrganisationDTO> result = organisationService.searchBySicCode(
+                "K", null, null, 0, 20, "legalName", "ASC");
+
+        assertEquals(List.of(organisationDTO), result.getContent());
+    }
+
+    @Test
+    void searchBySicCode_UnknownLevelRejected() {
+        assertThrows(IllegalArgumentException.class, () -> organisationService.searchBySicCode(
+                "34", null, null, 0, 20, "legalName", "ASC"));
+
+        verifyNoInteractions(organisationRepository);
+    }
+
+    private static OrganisationRangeSearchDTO rangeSearch(RangeFilterDTO range) {
+        return OrganisationRangeSearchDTO.builder().ranges(List.of(range)).build();
     }
 
     @Test
@@ -297,23 +644,21 @@ class OrganisationServiceTest {
                 .build();
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
-        when(organisationRepository.existsByRegistrationNumber("12345678")).thenReturn(false);
-        when(organisationRepository.existsByCompanyNumber("CN12345")).thenReturn(false);
         when(organisationMapper.toOrganisation(any(OrganisationCreateDTO.class))).thenReturn(organisation);
-        when(organisationRepository.save(any(Organisation.class))).thenReturn(organisation);
+        when(organisationRepository.saveAndFlush(any(Organisation.class))).thenReturn(organisation);
         when(organisationMapper.toOrganisationDTO(any(Organisation.class))).thenReturn(organisationDTO);
         
         // Mock KYC document creation
-        KycDocument savedDoc = new KycDocument();
-        savedDoc.setId(1L);
-        when(kycDocumentService.createKycDocument(any(KycDocumentCreateDTO.class)))
-                .thenReturn(savedDoc);
+        List<KycDocumentCreateResultDTO> report = List.of(KycDocumentCreateResultDTO.builder()
+                .index(0).created(true).documentId(1L).documentType("CERTIFICATE_OF_INCORPORATION").build());
+        when(kycDocumentService.createDocuments(organisation, kycDocuments)).thenReturn(report);
 
         OrganisationDTO result = organisationService.createOrganisation(createDTOWithKyc);
 
         assertNotNull(result);
         assertEquals("Test Company Ltd", result.getLegalName());
-        verify(kycDocumentService, times(1)).createKycDocument(any(KycDocumentCreateDTO.class));
-        verify(organisationRepository).save(any(Organisation.class));
+        assertEquals(report, result.getKycDocumentResults());
+        verify(kycDocumentService, times(1)).createDocuments(organisation, kycDocuments);
+        verify(organisationRepository).saveAndFlush(any(Organisation.class));
     }
 }
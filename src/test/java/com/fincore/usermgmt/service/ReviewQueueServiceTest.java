@@ -0,0 +1,120 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.dto.OrganisationDTO;
+import com.fincore.usermgmt.dto.ReviewClaimDTO;
+import com.fincore.usermgmt.entity.Organisation;
+import com.fincore.usermgmt.entity.OrganisationStatus;
+import com.fincore.usermgmt.entity.ReviewQueueEntry;
+import com.fincore.usermgmt.mapper.OrganisationMapper;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.ReviewQueueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewQueueServiceTest {
+
+    @Mock
+    private ReviewQueueRepository reviewQueueRepository;
+
+    @Mock
+    private OrganisationRepository organisationRepository;
+
+    @Mock
+    private OrganisationMapper organisationMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReviewQueueService reviewQueueService;
+
+    @BeforeEach
+    void setUp() {
+        reviewQueueService = new ReviewQueueService(reviewQueueRepository, organisationRepository, organisationMapper,
+                transactionManager, 15);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void claimNext_LocksClaimsAndReturnsOnlyNewClaims() {
+        when(reviewQueueRepository.lockAvailable(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(3, 5));
+        // Organisation 1 was claimed by the same reviewer earlier
+        when(reviewQueueRepository.findClaims(eq(7L), any(LocalDateTime.class)))
+                .thenReturn(List.of(entry(1L), entry(3L), entry(5L)));
+        Organisation three = Organisation.builder().id(3L).build();
+        Organisation five = Organisation.builder().id(5L).build();
+        when(organisationRepository.findByIdIn(List.of(3L, 5L))).thenReturn(List.of(five, three));
+        when(organisationMapper.toOrganisationDTO(three)).thenReturn(OrganisationDTO.builder().id(3L).build());
+        when(organisationMapper.toOrganisationDTO(five)).thenReturn(OrganisationDTO.builder().id(5L).build());
+
+        List<ReviewClaimDTO> claims = reviewQueueService.claimNext(7L, 2);
+
+        assertEquals(List.of(3L, 5L), claims.stream().map(claim -> claim.getOrganisation().getId()).toList());
+        ArgumentCaptor<Collection<Long>> claimed = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> leaseExpires = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(reviewQueueRepository).claim(claimed.capture(), eq(7L), now.capture(), leaseExpires.capture());
+        assertEquals(Set.of(3L, 5L), Set.copyOf(claimed.getValue()));
+        assertEquals(now.getValue().plusMinutes(15), leaseExpires.getValue());
+    }
+
+    @Test
+    void claimNext_NothingAvailable_ClaimsNothing() {
+        when(reviewQueueRepository.lockAvailable(any(LocalDateTime.class), eq(1))).thenReturn(List.of());
+
+        assertTrue(reviewQueueService.claimNext(7L, 1).isEmpty());
+        verify(reviewQueueRepository, never()).claim(any(), any(), any(), any());
+        verifyNoInteractions(organisationRepository);
+    }
+
+    @Test
+    void statusChanged_SubmittedForReview_Enqueued() {
+        reviewQueueService.statusChanged(4L, OrganisationStatus.PENDING, OrganisationStatus.UNDER_REVIEW);
+
+        ArgumentCaptor<ReviewQueueEntry> saved = ArgumentCaptor.forClass(ReviewQueueEntry.class);
+        verify(reviewQueueRepository).save(saved.capture());
+        assertEquals(4L, saved.getValue().getOrganisationId());
+        assertNull(saved.getValue().getReviewerId());
+    }
+
+    @Test
+    void statusChanged_LeavesReview_Dequeued() {
+        reviewQueueService.statusChanged(4L, OrganisationStatus.UNDER_REVIEW, OrganisationStatus.REJECTED);
+
+        verify(reviewQueueRepository).deleteByOrganisationIdIn(List.of(4L));
+        verify(reviewQueueRepository, never()).save(any());
+    }
+
+    @Test
+    void statusChanged_OutsideReview_QueueUntouched() {
+        reviewQueueService.statusChanged(4L, OrganisationStatus.ACTIVE, OrganisationStatus.SUSPENDED);
+
+        verifyNoInteractions(reviewQueueRepository);
+    }
+
+    private static ReviewQueueEntry entry(Long organisationId) {
+        LocalDateTime claimed = LocalDateTime.now();
+        return ReviewQueueEntry.builder()
+                .organisationId(organisationId)
+                .enqueuedDatetime(claimed.minusDays(1))
+                .reviewerId(7L)
+                .claimedDatetime(claimed)
+                .leaseExpiresDatetime(claimed.plusMinutes(15))
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.dto.StatusChangeEventDTO;
+import com.fincore.usermgmt.entity.DocumentStatus;
+import com.fincore.usermgmt.entity.OrganisationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatusChangeFeedTest {
+
+    private static final int REPLAY_BUFFER_SIZE = 3;
+
+    private StatusChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new StatusChangeFeed(REPLAY_BUFFER_SIZE, 16, 60000, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    @Test
+    void eventsAfter_ReplaysEventsPublishedSinceLastEventId() {
+        long start = feed.latestEventId();
+        feed.organisationStatusChanged(1L, OrganisationStatus.PENDING, OrganisationStatus.UNDER_REVIEW);
+        feed.documentsStatusChanged(1L, DocumentStatus.UNDER_REVIEW, 2);
+
+        Optional<List<StatusChangeEventDTO>> missed = feed.eventsAfter(start);
+
+        assertTrue(missed.isPresent());
+        assertEquals(2, missed.get().size());
+        StatusChangeEventDTO first = missed.get().get(0);
+        assertEquals(start + 1, first.getEventId());
+        assertEquals(StatusChangeFeed.ORGANISATION_STATUS_CHANGED, first.getEventType());
+        assertEquals("PENDING", first.getPreviousStatus());
+        assertEquals("UNDER_REVIEW", first.getStatus());
+        assertEquals(2, missed.get().get(1).getDocumentCount());
+    }
+
+    @Test
+    void eventsAfter_UpToDateClientGetsNothing() {
+        feed.organisationStatusChanged(1L, null, OrganisationStatus.PENDING);
+
+        assertEquals(Optional.of(List.of()), feed.eventsAfter(feed.latestEventId()));
+    }
+
+    @Test
+    void eventsAfter_GapBeyondBufferRequiresResync() {
+        long start = feed.latestEventId();
+        for (long id = 1; id <= REPLAY_BUFFER_SIZE + 1; id++) {
+            feed.documentStatusChanged(id, 1L, DocumentStatus.PENDING, DocumentStatus.VERIFIED);
+        }
+
+        assertTrue(feed.eventsAfter(start).isEmpty());
+        assertEquals(REPLAY_BUFFER_SIZE, feed.eventsAfter(start + 1).orElseThrow().size());
+    }
+
+    @Test
+    void eventsAfter_UnknownFutureIdRequiresResync() {
+        assertTrue(feed.eventsAfter(feed.latestEventId() + 100).isEmpty());
+    }
+
+    @Test
+    void unchangedStatusIsNotPublished() {
+        long start = feed.latestEventId();
+
+        feed.organisationStatusChanged(1L, OrganisationStatus.ACTIVE, OrganisationStatus.ACTIVE);
+        feed.documentsStatusChanged(1L, DocumentStatus.VERIFIED, 0);
+
+        assertEquals(start, feed.latestEventId());
+    }
+
+    @Test
+    void subscribe_RejectsBeyondSubscriberLimit() {
+        feed.subscribe(null);
+        feed.subscribe(null);
+
+        assertEquals(2, feed.subscriberCount());
+        assertThrows(IllegalStateException.class, () -> feed.subscribe(null));
+    }
+}
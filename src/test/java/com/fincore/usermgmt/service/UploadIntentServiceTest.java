@@ -0,0 +1,216 @@
+package com.fincore.usermgmt.service;
+
+import com.fincore.usermgmt.dto.KycDocumentCreateDTO;
+import com.fincore.usermgmt.dto.KycDocumentDTO;
+import com.fincore.usermgmt.dto.UploadIntentCreateDTO;
+import com.fincore.usermgmt.dto.UploadIntentDTO;
+import com.fincore.usermgmt.entity.UploadIntent;
+import com.fincore.usermgmt.entity.enums.UploadIntentStatus;
+import com.fincore.usermgmt.exception.ConflictException;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import com.fincore.usermgmt.repository.UploadIntentRepository;
+import com.fincore.usermgmt.service.storage.FileStorageBackend;
+import com.fincore.usermgmt.service.storage.SignedUpload;
+import com.fincore.usermgmt.service.storage.StoredFile;
+import com.fincore.usermgmt.util.SecurityUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UploadIntentServiceTest {
+
+    // MD5 of "123456789"
+    private static final String MD5 = "JfnnlDI7RTiF9RgfG2JNCw==";
+
+    @Mock
+    private UploadIntentRepository uploadIntentRepository;
+
+    @Mock
+    private OrganisationRepository organisationRepository;
+
+    @Mock
+    private FileStorageBackend backend;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private KycDocumentService kycDocumentService;
+
+    @Mock
+    private SecurityUtil securityUtil;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UploadIntentService uploadIntentService;
+
+    @BeforeEach
+    void setUp() {
+        uploadIntentService = new UploadIntentService(uploadIntentRepository, organisationRepository, backend,
+                fileStorageService, kycDocumentService, securityUtil, transactionManager, 15, 60, 1000);
+        lenient().when(backend.toUrl(anyString())).thenAnswer(invocation -> "local://" + invocation.getArgument(0));
+        lenient().when(uploadIntentRepository.save(any(UploadIntent.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void createIntent_SignsUrlForDeclaredContentAndRecordsIntent() throws IOException {
+        when(organisationRepository.existsById(1L)).thenReturn(true);
+        when(securityUtil.getCurrentUser()).thenReturn(Optional.empty());
+        Instant expiresAt = Instant.now().plusSeconds(900);
+        when(backend.signUpload(startsWith(UploadIntentService.FOLDER), eq("application/pdf"), eq(MD5),
+                eq(Duration.ofMinutes(15))))
+                .thenReturn(new SignedUpload("https://upload", "PUT", Map.of("Content-MD5", MD5), expiresAt));
+
+        UploadIntentDTO intent = uploadIntentService.createIntent(createDTO(9));
+
+        assertEquals("https://upload", intent.getUploadUrl());
+        assertEquals("PUT", intent.getUploadMethod());
+        assertEquals("PENDING", intent.getStatus());
+        ArgumentCaptor<UploadIntent> saved = ArgumentCaptor.forClass(UploadIntent.class);
+        verify(uploadIntentRepository).save(saved.capture());
+        assertEquals(UploadIntentService.FOLDER + intent.getId() + ".pdf", saved.getValue().getStorageName());
+        assertEquals(9, saved.getValue().getSize());
+        assertEquals(MD5, saved.getValue().getContentMd5());
+    }
+
+    @Test
+    void createIntent_TooLarge_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> uploadIntentService.createIntent(createDTO(1001)));
+        verifyNoInteractions(backend, uploadIntentRepository);
+    }
+
+    @Test
+    void complete_MatchingFile_RecordsUploadAndCreatesDocument() throws IOException {
+        UploadIntent intent = pending(LocalDateTime.now().plusMinutes(10));
+        when(uploadIntentRepository.lockById("i1")).thenReturn(Optional.of(intent));
+        when(backend.stat("kyc-documents/direct/i1.pdf"))
+                .thenReturn(Optional.of(new StoredFile("kyc-documents/direct/i1.pdf", 1L, 9, "application/pdf", "\"1\"")));
+        when(backend.md5("kyc-documents/direct/i1.pdf")).thenReturn(MD5);
+        when(kycDocumentService.createDocument(any(KycDocumentCreateDTO.class)))
+                .thenReturn(KycDocumentDTO.builder().id(42L).build());
+
+        KycDocumentDTO document = uploadIntentService.complete("i1");
+
+        assertEquals(42L, document.getId());
+        verify(fileStorageService).recordUpload("kyc-documents/direct/i1.pdf",
+                "md5:25f9e794323b453885f5181f1b624d0b", 9, "application/pdf");
+        ArgumentCaptor<KycDocumentCreateDTO> created = ArgumentCaptor.forClass(KycDocumentCreateDTO.class);
+        verify(kycDocumentService).createDocument(created.capture());
+        assertEquals("local://kyc-documents/direct/i1.pdf", created.getValue().getFileUrl());
+        assertEquals("PASSPORT", created.getValue().getDocumentType());
+        assertEquals(UploadIntentStatus.COMPLETED, intent.getStatus());
+        assertEquals(42L, intent.getDocumentId());
+    }
+
+    @Test
+    void complete_SizeMismatch_DeletesFileAndFails() throws IOException {
+        UploadIntent intent = pending(LocalDateTime.now().plusMinutes(10));
+        when(uploadIntentRepository.lockById("i1")).thenReturn(Optional.of(intent));
+        when(backend.stat("kyc-documents/direct/i1.pdf"))
+                .thenReturn(Optional.of(new StoredFile("kyc-documents/direct/i1.pdf", 1L, 10, "application/pdf", "\"1\"")));
+
+        assertThrows(ConflictException.class, () -> uploadIntentService.complete("i1"));
+
+        verify(backend).delete("kyc-documents/direct/i1.pdf");
+        assertEquals(UploadIntentStatus.FAILED, intent.getStatus());
+        verifyNoInteractions(kycDocumentService, fileStorageService);
+    }
+
+    @Test
+    void complete_NotUploaded_ConflictAndStillPending() throws IOException {
+        UploadIntent intent = pending(LocalDateTime.now().plusMinutes(10));
+        when(uploadIntentRepository.lockById("i1")).thenReturn(Optional.of(intent));
+        when(backend.stat("kyc-documents/direct/i1.pdf")).thenReturn(Optional.empty());
+
+        assertThrows(ConflictException.class, () -> uploadIntentService.complete("i1"));
+
+        assertEquals(UploadIntentStatus.PENDING, intent.getStatus());
+        verify(backend, never()).delete(anyString());
+    }
+
+    @Test
+    void complete_PastGracePeriod_Conflict() throws IOException {
+        when(uploadIntentRepository.lockById("i1")).thenReturn(Optional.of(pending(LocalDateTime.now().minusMinutes(61))));
+
+        assertThrows(ConflictException.class, () -> uploadIntentService.complete("i1"));
+        verify(backend, never()).stat(anyString());
+    }
+
+    @Test
+    void complete_AlreadyCompleted_ReturnsSameDocument() throws IOException {
+        UploadIntent intent = pending(LocalDateTime.now());
+        intent.setStatus(UploadIntentStatus.COMPLETED);
+        intent.setDocumentId(42L);
+        when(uploadIntentRepository.lockById("i1")).thenReturn(Optional.of(intent));
+        when(kycDocumentService.getDocumentById(42L)).thenReturn(Optional.of(KycDocumentDTO.builder().id(42L).build()));
+
+        assertEquals(42L, uploadIntentService.complete("i1").getId());
+        verify(kycDocumentService, never()).createDocument(any());
+    }
+
+    @Test
+    void sweepExpired_DeletesFileAndExpiresIntent() throws IOException {
+        UploadIntent intent = pending(LocalDateTime.now().minusHours(2));
+        when(uploadIntentRepository.findExpiredIds(eq(UploadIntentStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of("i1"));
+        when(uploadIntentRepository.lockById("i1")).thenReturn(Optional.of(intent));
+
+        assertEquals(1, uploadIntentService.sweepExpired());
+
+        verify(backend).delete("kyc-documents/direct/i1.pdf");
+        assertEquals(UploadIntentStatus.EXPIRED, intent.getStatus());
+    }
+
+    @Test
+    void extension_KeepsOnlySimpleExtensions() {
+        assertEquals(".pdf", UploadIntentService.extension("Passport.PDF"));
+        assertEquals("", UploadIntentService.extension("passport"));
+        assertEquals("", UploadIntentService.extension("evil./../x"));
+    }
+
+    private static UploadIntentCreateDTO createDTO(long size) {
+        return UploadIntentCreateDTO.builder()
+                .organisationId(1L)
+                .documentType("PASSPORT")
+                .fileName("passport.pdf")
+                .contentType("application/pdf")
+                .size(size)
+                .contentMd5(MD5)
+                .build();
+    }
+
+    private static UploadIntent pending(LocalDateTime expires) {
+        return UploadIntent.builder()
+                .id("i1")
+                .organisationId(1L)
+                .documentType("PASSPORT")
+                .fileName("passport.pdf")
+                .contentType("application/pdf")
+                .size(9)
+                .contentMd5(MD5)
+                .storageName("kyc-documents/direct/i1.pdf")
+                .status(UploadIntentStatus.PENDING)
+                .expiresDatetime(expires)
+                .createdDatetime(LocalDateTime.now().minusMinutes(5))
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.fincore.usermgmt.service.imports;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fincore.usermgmt.entity.enums.ImportFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrganisationImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Test
+    void csv_QuotedFieldsNestedAddressesAndStatus() throws IOException {
+        String csv = "\uFEFFlegacyIdentifier,ownerId,legalName,organisationType,incorporationDate,status,"
+                + "registeredAddress.addressLine1,registeredAddress.country\r\n"
+                + "L1,5,\"Acme, \"\"The\"\" Company\",LTD,2019-03-01,active,\"1 High St\nFloor 2\",UK\r\n"
+                + "\r\n"
+                + "L2,6,Globex,PLC,,,,\n";
+
+        List<ImportRow> rows = readAll(csv, ImportFormat.CSV);
+
+        assertEquals(2, rows.size());
+        ImportRow acme = rows.get(0);
+        assertEquals(1, acme.rowNumber());
+        assertNull(acme.error());
+        assertEquals("L1", acme.organisation().getLegacyIdentifier());
+        assertEquals(5L, acme.organisation().getOwnerId());
+        assertEquals("Acme, \"The\" Company", acme.organisation().getLegalName());
+        assertEquals(LocalDate.of(2019, 3, 1), acme.organisation().getIncorporationDate());
+        assertEquals("active", acme.status());
+        assertEquals("1 High St\nFloor 2", acme.organisation().getRegisteredAddress().getAddressLine1());
+
+        // The blank line is counted, so row numbers stay stable for resume
+        ImportRow globex = rows.get(1);
+        assertEquals(3, globex.rowNumber());
+        assertNull(globex.status());
+        assertNull(globex.organisation().getIncorporationDate());
+        assertNull(globex.organisation().getRegisteredAddress());
+    }
+
+    @Test
+    void csv_UnreadableRowBecomesErrorRow() throws IOException {
+        String csv = "legacyIdentifier,ownerId,legalName\nL1,not-a-number,Acme\nL2,7,Globex,extra\nL3,8,Initech\n";
+
+        List<ImportRow> rows = readAll(csv, ImportFormat.CSV);
+
+        assertEquals(3, rows.size());
+        assertTrue(rows.get(0).error().startsWith("Invalid row"));
+        assertTrue(rows.get(1).error().contains("4 fields"));
+        assertEquals("Initech", rows.get(2).organisation().getLegalName());
+    }
+
+    @Test
+    void ndjson_RowNumbersAreLineNumbers() throws IOException {
+        String ndjson = "{\"legacyIdentifier\":\"L1\",\"ownerId\":5,\"legalName\":\"Acme\",\"status\":\"ACTIVE\"}\n"
+                + "\n"
+                + "{broken\n"
+                + "[1,2]\n"
+                + "{\"legacyIdentifier\":\"L2\",\"ownerId\":6,\"legalName\":\"Globex\","
+                + "\"businessAddress\":{\"addressLine1\":\"2 Low St\",\"country\":\"UK\"}}\n";
+
+        List<ImportRow> rows = readAll(ndjson, ImportFormat.NDJSON);
+
+        assertEquals(List.of(1L, 3L, 4L, 5L), rows.stream().map(ImportRow::rowNumber).toList());
+        assertEquals("ACTIVE", rows.get(0).status());
+        assertEquals("Invalid row: malformed JSON", rows.get(1).error());
+        assertEquals("Invalid row: not a JSON object", rows.get(2).error());
+        assertEquals("2 Low St", rows.get(3).organisation().getBusinessAddress().getAddressLine1());
+    }
+
+    private List<ImportRow> readAll(String content, ImportFormat format) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        try (OrganisationImportReader reader = OrganisationImportReader.open(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, objectMapper)) {
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,67 @@
+package com.fincore.usermgmt.service.risk;
+
+import com.fincore.usermgmt.entity.OrganisationType;
+import com.fincore.usermgmt.entity.enums.RiskLevel;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleBasedRiskModelTest {
+
+    private final RuleBasedRiskModel model = new RuleBasedRiskModel(List.of("Iran", " North Korea ", ""));
+
+    @Test
+    void assess_VerifiedDomesticCompany_LowRisk() {
+        RiskAssessment assessment = model.assess(RiskProfile.builder()
+                .organisationId(1L)
+                .organisationType(OrganisationType.LTD)
+                .primaryRemittanceDestinationCountry("United Kingdom")
+                .outgoingTransactionValue(new BigDecimal("50000"))
+                .verifiedDocuments(3)
+                .build());
+
+        assertEquals(1L, assessment.organisationId());
+        assertEquals(0, assessment.score());
+        assertEquals(RiskLevel.LOW, assessment.level());
+    }
+
+    @Test
+    void assess_HighRiskCorridorAndVolumes_HighRiskCappedAt100() {
+        RiskAssessment assessment = model.assess(RiskProfile.builder()
+                .organisationId(2L)
+                .organisationType(OrganisationType.TRUST)
+                .primaryRemittanceDestinationCountry("iran")
+                .secondaryRemittanceDestinationCountry("North Korea")
+                .outgoingTransactionValue(new BigDecimal("2000000"))
+                .maxOutgoingPayment(new BigDecimal("150000"))
+                .rejectedDocuments(1)
+                .build());
+
+        assertEquals(100, assessment.score());
+        assertEquals(RiskLevel.HIGH, assessment.level());
+    }
+
+    @Test
+    void assess_UnparsedVolumesAddNothing() {
+        RiskAssessment assessment = model.assess(RiskProfile.builder()
+                .organisationId(3L)
+                .organisationType(OrganisationType.SOLE_TRADER)
+                .primaryRemittanceDestinationCountry("France")
+                .verifiedDocuments(1)
+                .pendingDocuments(1)
+                .build());
+
+        assertEquals(10, assessment.score());
+        assertEquals(RiskLevel.LOW, assessment.level());
+    }
+
+    @Test
+    void level_Thresholds() {
+        assertEquals(RiskLevel.LOW, RuleBasedRiskModel.level(RuleBasedRiskModel.MEDIUM_THRESHOLD - 1));
+        assertEquals(RiskLevel.MEDIUM, RuleBasedRiskModel.level(RuleBasedRiskModel.MEDIUM_THRESHOLD));
+        assertEquals(RiskLevel.HIGH, RuleBasedRiskModel.level(RuleBasedRiskModel.HIGH_THRESHOLD));
+    }
+}
@@ -0,0 +1,137 @@
+package com.fincore.usermgmt.service.search;
+
+import com.fincore.usermgmt.entity.Organisation;
+import com.fincore.usermgmt.entity.OrganisationStatus;
+import com.fincore.usermgmt.entity.OrganisationType;
+import com.fincore.usermgmt.repository.OrganisationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryOrganisationSearchEngineTest {
+
+    @Mock
+    private OrganisationRepository organisationRepository;
+
+    @InjectMocks
+    private InMemoryOrganisationSearchEngine searchEngine;
+
+    private Organisation acme;
+    private Organisation acmeHoldings;
+    private Organisation globex;
+
+    @BeforeEach
+    void setUp() {
+        acme = Organisation.builder()
+                .id(1L)
+                .legalName("Acme Ltd")
+                .businessName("Acme")
+                .companyNumber("CN10001")
+                .registrationNumber("REG001")
+                .organisationType(OrganisationType.LTD)
+                .status(OrganisationStatus.PENDING)
+                .build();
+        acmeHoldings = Organisation.builder()
+                .id(2L)
+                .legalName("Global Acme Holdings PLC")
+                .companyNumber("CN20002")
+                .organisationType(OrganisationType.PLC)
+                .status(OrganisationStatus.ACTIVE)
+                .build();
+        globex = Organisation.builder()
+                .id(3L)
+                .legalName("Globex Corporation")
+                .businessName("Globex")
+                .companyNumber("CN30003")
+                .organisationType(OrganisationType.LTD)
+                .status(OrganisationStatus.ACTIVE)
+                .build();
+
+        searchEngine.index(acme);
+        searchEngine.index(acmeHoldings);
+        searchEngine.index(globex);
+    }
+
+    @Test
+    void rank_PrefixAndExactMatchesOutrankSubstrings() {
+        List<Long> ranked = searchEngine.rank("acme");
+
+        assertEquals(List.of(1L, 2L), ranked);
+    }
+
+    @Test
+    void rank_MatchesCompanyNumberSubstring() {
+        assertEquals(List.of(3L), searchEngine.rank("30003"));
+    }
+
+    @Test
+    void rank_NoMatch() {
+        assertTrue(searchEngine.rank("initech").isEmpty());
+    }
+
+    @Test
+    void search_LoadsOnlyRequestedPageInRankOrder() {
+        when(organisationRepository.findWithDetailsByIdIn(List.of(2L))).thenReturn(List.of(acmeHoldings));
+
+        Page<Organisation> result = searchEngine.search("ACME", null, null, PageRequest.of(1, 1));
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(1, result.getContent().size());
+        assertEquals("Global Acme Holdings PLC", result.getContent().get(0).getLegalName());
+    }
+
+    @Test
+    void search_AppliesFiltersThroughRepository() {
+        when(organisationRepository.findIdsMatchingFilters(anyCollection(), eq(OrganisationStatus.ACTIVE), isNull()))
+                .thenReturn(List.of(2L, 3L));
+        when(organisationRepository.findWithDetailsByIdIn(List.of(3L, 2L))).thenReturn(Arrays.asList(acmeHoldings, globex));
+
+        Page<Organisation> result = searchEngine.search("glob", OrganisationStatus.ACTIVE, null, PageRequest.of(0, 20));
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(3L, result.getContent().get(0).getId());
+        assertEquals(2L, result.getContent().get(1).getId());
+    }
+
+    @Test
+    void remove_DropsOrganisationFromIndex() {
+        searchEngine.remove(1L);
+
+        assertEquals(List.of(2L), searchEngine.rank("acme"));
+        assertEquals(2, searchEngine.size());
+    }
+
+    @Test
+    void index_ReplacesPreviousTerms() {
+        acme.setLegalName("Initech Ltd");
+        acme.setBusinessName(null);
+        searchEngine.index(acme);
+
+        assertEquals(List.of(2L), searchEngine.rank("acme"));
+        assertEquals(List.of(1L), searchEngine.rank("initech"));
+    }
+
+    @Test
+    void rebuild_LoadsSearchableFieldsFromRepository() {
+        when(organisationRepository.findSearchableFields()).thenReturn(List.<Object[]>of(
+                new Object[]{10L, "Initech Ltd", null, "CN99999", null}));
+
+        searchEngine.rebuild();
+
+        assertEquals(1, searchEngine.size());
+        assertEquals(List.of(10L), searchEngine.rank("99999"));
+    }
+}
@@ -0,0 +1,182 @@
+package com.fincore.usermgmt.service.storage;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GcsFileStorageBackendTest {
+
+    @Mock
+    private Storage storage;
+
+    @Mock
+    private WriteChannel writeChannel;
+
+    @Mock
+    private ReadChannel readChannel;
+
+    @Mock
+    private Blob blob;
+
+    private GcsFileStorageBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        backend = new GcsFileStorageBackend(() -> storage, "kyc-bucket", "https://storage.googleapis.com", 262144, 262144);
+    }
+
+    @Test
+    void checksum_MatchesKnownCrc32cAndMd5() throws IOException {
+        GcsFileStorageBackend.Checksums checksums = GcsFileStorageBackend.checksum(
+                new MockMultipartFile("file", "123456789".getBytes(StandardCharsets.US_ASCII)));
+
+        // CRC32C check value of "123456789" is 0xE3069283
+        assertEquals("4waSgw==", checksums.crc32c());
+        assertEquals("JfnnlDI7RTiF9RgfG2JNCw==", checksums.md5());
+    }
+
+    @Test
+    void store_StreamsThroughResumableSessionWithChecksums() throws IOException {
+        byte[] content = new byte[200_000];
+        Arrays.fill(content, (byte) 7);
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        when(storage.writer(any(BlobInfo.class), any(Storage.BlobWriteOption[].class))).thenReturn(writeChannel);
+        when(writeChannel.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            ByteBuffer bytes = invocation.getArgument(0);
+            int count = bytes.remaining();
+            byte[] chunk = new byte[count];
+            bytes.get(chunk);
+            received.write(chunk);
+            return count;
+        });
+        when(storage.get(BlobId.of("kyc-bucket", "kyc-documents/passport.pdf"))).thenReturn(blob);
+        when(blob.getGeneration()).thenReturn(36L);
+        when(blob.getSize()).thenReturn((long) content.length);
+        MockMultipartFile file = new MockMultipartFile("file", "passport.pdf", "application/pdf", content);
+
+        StoredFile stored = backend.store("kyc-documents/passport.pdf", "application/pdf", file);
+
+        assertEquals(content.length, stored.size());
+        assertEquals(36L, stored.generation());
+        ArgumentCaptor<BlobInfo> blobInfo = ArgumentCaptor.forClass(BlobInfo.class);
+        verify(storage).writer(blobInfo.capture(), any(Storage.BlobWriteOption[].class));
+        GcsFileStorageBackend.Checksums expected = GcsFileStorageBackend.checksum(file);
+        assertEquals(expected.crc32c(), blobInfo.getValue().getCrc32c());
+        assertEquals(expected.md5(), blobInfo.getValue().getMd5());
+        assertEquals("application/pdf", blobInfo.getValue().getContentType());
+        verify(writeChannel).setChunkSize(262144);
+        verify(writeChannel).close();
+        verify(storage, never()).create(any(BlobInfo.class), any(byte[].class), any(Storage.BlobTargetOption[].class));
+        assertArrayEquals(content, received.toByteArray());
+    }
+
+    @Test
+    void store_WriteFails_ThrowsAndClosesSession() throws IOException {
+        when(storage.writer(any(BlobInfo.class), any(Storage.BlobWriteOption[].class))).thenReturn(writeChannel);
+        when(writeChannel.write(any(ByteBuffer.class))).thenThrow(new IOException("connection reset"));
+
+        assertThrows(IOException.class, () -> backend.store("kyc-documents/passport.pdf", "application/pdf",
+                new MockMultipartFile("file", "passport.pdf", "application/pdf", new byte[10])));
+        verify(writeChannel).close();
+        verify(storage, never()).get(any(BlobId.class));
+    }
+
+    @Test
+    void stat_ReadsMetadataWithGenerationETag() {
+        when(storage.get(BlobId.of("kyc-bucket", "kyc-documents/passport.pdf"))).thenReturn(blob);
+        when(blob.getGeneration()).thenReturn(36L);
+        when(blob.getSize()).thenReturn(1024L);
+        when(blob.getContentType()).thenReturn("application/pdf");
+
+        Optional<StoredFile> file = backend.stat(
+                backend.toName("https://storage.googleapis.com/kyc-bucket/kyc-documents/passport.pdf"));
+
+        assertTrue(file.isPresent());
+        assertEquals(new StoredFile("kyc-documents/passport.pdf", 36L, 1024L, "application/pdf", "\"10\""), file.get());
+    }
+
+    @Test
+    void stat_Missing_Empty() {
+        assertTrue(backend.stat("kyc-documents/none.pdf").isEmpty());
+    }
+
+    @Test
+    void toUrl_RoundTripsThroughToName() {
+        String url = backend.toUrl("kyc-documents/passport.pdf");
+
+        assertEquals("https://storage.googleapis.com/kyc-bucket/kyc-documents/passport.pdf", url);
+        assertEquals("kyc-documents/passport.pdf", backend.toName(url));
+    }
+
+    @Test
+    void copyRange_SeeksAndLimitsTheReadChannel() throws IOException {
+        StoredFile file = new StoredFile("kyc-documents/passport.pdf", 36L, 1024L, "application/pdf", "\"10\"");
+        when(storage.reader(BlobId.of("kyc-bucket", "kyc-documents/passport.pdf", 36L))).thenReturn(readChannel);
+        when(readChannel.read(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            invocation.<ByteBuffer>getArgument(0).put("abcd".getBytes(StandardCharsets.US_ASCII));
+            return 4;
+        }).thenReturn(-1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long copied = backend.copyRange(file, 100, 103, out);
+
+        assertEquals(4, copied);
+        assertEquals("abcd", out.toString(StandardCharsets.US_ASCII));
+        verify(readChannel).seek(100);
+        verify(readChannel).limit(104);
+        verify(readChannel).close();
+    }
+
+    @Test
+    void signUpload_SignsPutUrlWithContentTypeAndMd5Headers() throws Exception {
+        ArgumentCaptor<BlobInfo> blobInfo = ArgumentCaptor.forClass(BlobInfo.class);
+        when(storage.signUrl(blobInfo.capture(), eq(900L), eq(TimeUnit.SECONDS), any(Storage.SignUrlOption[].class)))
+                .thenReturn(new URL("https://storage.googleapis.com/kyc-bucket/kyc-documents/direct/a.pdf?X-Goog-Signature=ab"));
+
+        SignedUpload upload = backend.signUpload("kyc-documents/direct/a.pdf", "application/pdf",
+                "JfnnlDI7RTiF9RgfG2JNCw==", Duration.ofMinutes(15));
+
+        assertEquals(BlobId.of("kyc-bucket", "kyc-documents/direct/a.pdf"), blobInfo.getValue().getBlobId());
+        assertEquals("PUT", upload.method());
+        assertEquals(Map.of("Content-Type", "application/pdf", "Content-MD5", "JfnnlDI7RTiF9RgfG2JNCw==",
+                "x-goog-if-generation-match", "0"), upload.headers());
+        assertTrue(upload.url().contains("X-Goog-Signature"));
+        assertNotNull(upload.expiresAt());
+    }
+
+    @Test
+    void md5_ReadsMetadataOnly() {
+        when(storage.get(eq(BlobId.of("kyc-bucket", "kyc-documents/passport.pdf")), any(Storage.BlobGetOption[].class)))
+                .thenReturn(blob);
+        when(blob.getMd5()).thenReturn("JfnnlDI7RTiF9RgfG2JNCw==");
+
+        assertEquals("JfnnlDI7RTiF9RgfG2JNCw==", backend.md5("kyc-documents/passport.pdf"));
+    }
+}
@@ -0,0 +1,193 @@
+package com.fincore.usermgmt.service.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalFileStorageBackendTest {
+
+    @TempDir
+    Path root;
+
+    private LocalFileStorageBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        backend = new LocalFileStorageBackend(root.toString());
+    }
+
+    @Test
+    void store_WritesShardedFileAndStatsIt() throws IOException {
+        StoredFile stored = backend.store("kyc-documents/passport.pdf", "application/pdf", content("%PDF-1.7 body"));
+
+        Path path = backend.path("kyc-documents/passport.pdf");
+        assertTrue(Files.exists(path));
+        // root/xx/yy/kyc-documents/passport.pdf
+        assertEquals(root.toAbsolutePath().normalize(), path.getParent().getParent().getParent().getParent());
+        assertEquals(13, stored.size());
+        assertEquals(Optional.of(stored), backend.stat("kyc-documents/passport.pdf"));
+        try (Stream<Path> files = Files.list(path.getParent())) {
+            assertEquals(1, files.count(), "temporary file left behind");
+        }
+    }
+
+    @Test
+    void copyRange_TransfersOnlyTheRange() throws IOException {
+        StoredFile stored = backend.store("kyc-documents/passport.pdf", null, content("%PDF-1.7 body"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long copied = backend.copyRange(stored, 9, 12, out);
+
+        assertEquals(4, copied);
+        assertEquals("body", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void store_ReplacesExistingFile() throws IOException {
+        backend.store("kyc-documents/passport.pdf", null, content("first"));
+        StoredFile second = backend.store("kyc-documents/passport.pdf", null, content("second version"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        backend.copyRange(second, 0, second.size() - 1, out);
+        assertEquals("second version", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void store_SourceFails_LeavesNoFile() {
+        InputStreamSource failing = () -> new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("client disconnected");
+            }
+        };
+
+        assertThrows(IOException.class, () -> backend.store("kyc-documents/passport.pdf", null, failing));
+        assertFalse(Files.exists(backend.path("kyc-documents/passport.pdf")));
+        try (Stream<Path> files = Files.list(backend.path("kyc-documents/passport.pdf").getParent())) {
+            assertEquals(0, files.count());
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Test
+    void statAndDelete_MissingFile() throws IOException {
+        assertTrue(backend.stat("kyc-documents/none.pdf").isEmpty());
+        assertFalse(backend.delete("kyc-documents/none.pdf"));
+    }
+
+    @Test
+    void delete_RemovesFile() throws IOException {
+        backend.store("kyc-documents/passport.pdf", null, content("body"));
+
+        assertTrue(backend.delete("kyc-documents/passport.pdf"));
+        assertTrue(backend.stat("kyc-documents/passport.pdf").isEmpty());
+    }
+
+    @Test
+    void path_EscapingName_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> backend.path("../../../etc/passwd"));
+        assertThrows(IllegalArgumentException.class, () -> backend.path("/etc/passwd"));
+    }
+
+    @Test
+    void toUrl_RoundTripsThroughToName() {
+        assertEquals("local://kyc-documents/passport.pdf", backend.toUrl("kyc-documents/passport.pdf"));
+        assertEquals("kyc-documents/passport.pdf", backend.toName("local://kyc-documents/passport.pdf"));
+    }
+
+    @Test
+    void md5_MatchesContent() throws IOException {
+        backend.store("kyc-documents/digits.txt", null, content("123456789"));
+
+        assertEquals("JfnnlDI7RTiF9RgfG2JNCw==", backend.md5("kyc-documents/digits.txt"));
+        assertNull(backend.md5("kyc-documents/none.txt"));
+    }
+
+    @Test
+    void storeUpload_ChecksContentBeforeItBecomesVisible() throws IOException {
+        String name = "kyc-documents/direct/a.txt";
+
+        assertTrue(backend.storeUpload(name, "AAAAAAAAAAAAAAAAAAAAAA==", -1, content("0123456789")).isEmpty());
+        assertTrue(backend.storeUpload(name, "eB5eJF1ptWaXm4bijSPyxw==", 9, content("0123456789")).isEmpty());
+        assertFalse(Files.exists(backend.path(name)));
+
+        Optional<StoredFile> stored = backend.storeUpload(name, "eB5eJF1ptWaXm4bijSPyxw==", 10, content("0123456789"));
+
+        assertTrue(stored.isPresent());
+        assertEquals(10, stored.get().size());
+        try (Stream<Path> files = Files.list(backend.path(name).getParent())) {
+            assertEquals(1, files.count(), "temporary file left behind");
+        }
+    }
+
+    @Test
+    void storeUpload_ExistingFile_NotReplaced() throws IOException {
+        String name = "kyc-documents/direct/a.txt";
+        backend.storeUpload(name, null, -1, content("0123456789"));
+
+        assertThrows(FileAlreadyExistsException.class,
+                () -> backend.storeUpload(name, null, -1, content("replaced")));
+        assertEquals("eB5eJF1ptWaXm4bijSPyxw==", backend.md5(name));
+    }
+
+    @Test
+    void signUpload_UrlVerifiesOnlyWithSignedHeaders() {
+        SignedUpload upload = backend.signUpload("kyc-documents/direct/a.pdf", "application/pdf",
+                "JfnnlDI7RTiF9RgfG2JNCw==", Duration.ofMinutes(15));
+
+        assertEquals("PUT", upload.method());
+        assertEquals("JfnnlDI7RTiF9RgfG2JNCw==", upload.headers().get("Content-MD5"));
+        URI uri = URI.create(upload.url());
+        assertEquals(LocalFileStorageBackend.UPLOAD_PATH, uri.getPath());
+        MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(uri).build(true).getQueryParams();
+        String name = params.getFirst("name");
+        long expires = Long.parseLong(params.getFirst("expires"));
+        String signature = params.getFirst("signature");
+
+        assertEquals("kyc-documents/direct/a.pdf", name);
+        assertTrue(backend.verifyUpload(name, expires, "application/pdf", "JfnnlDI7RTiF9RgfG2JNCw==", signature));
+        assertFalse(backend.verifyUpload(name, expires, "text/html", "JfnnlDI7RTiF9RgfG2JNCw==", signature));
+        assertFalse(backend.verifyUpload(name, expires, "application/pdf", "AAAAAAAAAAAAAAAAAAAAAA==", signature));
+        assertFalse(backend.verifyUpload("kyc-documents/direct/b.pdf", expires, "application/pdf",
+                "JfnnlDI7RTiF9RgfG2JNCw==", signature));
+    }
+
+    @Test
+    void verifyUpload_Expired_Rejected() {
+        long expired = Instant.now().minusSeconds(1).getEpochSecond();
+        String signature = backend.sign("kyc-documents/direct/a.pdf", expired, "application/pdf", "JfnnlDI7RTiF9RgfG2JNCw==");
+
+        assertFalse(backend.verifyUpload("kyc-documents/direct/a.pdf", expired, "application/pdf",
+                "JfnnlDI7RTiF9RgfG2JNCw==", signature));
+    }
+
+    @Test
+    void signUpload_EscapingName_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> backend.signUpload("../../etc/cron.d/x", "text/plain",
+                "JfnnlDI7RTiF9RgfG2JNCw==", Duration.ofMinutes(15)));
+    }
+
+    private static InputStreamSource content(String text) {
+        return new ByteArrayResource(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
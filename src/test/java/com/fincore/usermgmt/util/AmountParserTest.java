@@ -0,0 +1,57 @@
+package com.fincore.usermgmt.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AmountParserTest {
+
+    @Test
+    void parseRange_BoundedRangeWithCurrencyAndUnits() {
+        assertRange("10000", "50000", AmountParser.parseRange("£10,000 - £50,000"));
+        assertRange("100000", "500000", AmountParser.parseRange("100k-500k"));
+        assertRange("1000000", "5000000", AmountParser.parseRange("£1-5m"));
+        assertRange("500000", "2000000", AmountParser.parseRange("500k to 2 million"));
+    }
+
+    @Test
+    void parseRange_OpenEnds() {
+        assertRange("1000000", null, AmountParser.parseRange("Over £1m"));
+        assertRange("250", null, AmountParser.parseRange("250+"));
+        assertRange("0", "500000", AmountParser.parseRange("up to 500k"));
+        assertRange("1500000", "1500000", AmountParser.parseRange("1.5m"));
+    }
+
+    @Test
+    void parseRange_NoAmount_ReturnsNull() {
+        assertNull(AmountParser.parseRange(null));
+        assertNull(AmountParser.parseRange("not sure yet"));
+    }
+
+    @Test
+    void parseAmountAndCount_UseUpperEndUnlessOpen() {
+        assertEquals(new BigDecimal("50000"), AmountParser.parseAmount("10,000 - 50,000"));
+        assertEquals(new BigDecimal("1000000"), AmountParser.parseAmount("over 1m"));
+        assertEquals(1500L, AmountParser.parseCount("1000-1500"));
+        assertEquals(2500L, AmountParser.parseCount("2.5k"));
+        assertNull(AmountParser.parseCount("varies"));
+    }
+
+    @Test
+    void parse_AmountTooLargeToStore_ReturnsNull() {
+        assertRange("0", "99999999999999999", AmountParser.parseRange("up to 99999999999999999"));
+        assertNull(AmountParser.parseRange("100000000000000000"));
+        assertNull(AmountParser.parseRange("1-100000000bn"));
+        assertNull(AmountParser.parseAmount("over 100000000000m"));
+        assertNull(AmountParser.parseCount("9223372036854775808"));
+        assertNull(AmountParser.parseCount("99999999999999999999999999"));
+    }
+
+    private static void assertRange(String min, String max, BigDecimal[] range) {
+        assertNotNull(range);
+        assertEquals(min != null ? new BigDecimal(min) : null, range[0]);
+        assertEquals(max != null ? new BigDecimal(max) : null, range[1]);
+    }
+}
@@ -0,0 +1,79 @@
+package com.fincore.usermgmt.util;
+
+import com.fincore.usermgmt.exception.PreconditionFailedException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceVersionTest {
+
+    private static final LocalDateTime MODIFIED = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    @Test
+    void fromRow_TagChangesWithAnyNestedVersion() {
+        ResourceVersion original = ResourceVersion.fromRow(new Object[]{5L, MODIFIED, 1L, MODIFIED, null, null});
+        ResourceVersion nestedChanged = ResourceVersion.fromRow(new Object[]{5L, MODIFIED, 2L, MODIFIED, null, null});
+        ResourceVersion nestedAdded = ResourceVersion.fromRow(new Object[]{5L, MODIFIED, 1L, MODIFIED, 0L, MODIFIED});
+
+        assertNotEquals(original.getETag(), nestedChanged.getETag());
+        assertNotEquals(original.getETag(), nestedAdded.getETag());
+        assertEquals(original.getETag(), ResourceVersion.fromRow(new Object[]{5L, MODIFIED, 1L, MODIFIED, null, null}).getETag());
+        assertTrue(original.getETag().startsWith("\"") && original.getETag().endsWith("\""));
+        assertEquals(5L, original.getVersion());
+    }
+
+    @Test
+    void fromRow_LastModifiedIsLatestTimestamp() {
+        LocalDateTime later = MODIFIED.plusHours(1);
+
+        ResourceVersion version = ResourceVersion.fromRow(new Object[]{5L, MODIFIED, 1L, later});
+
+        assertEquals(later.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), version.getLastModified());
+    }
+
+    @Test
+    void fromRow_TrailingTimestampChangesTagWithoutVersion() {
+        LocalDateTime scored = MODIFIED.minusDays(1);
+
+        ResourceVersion unscored = ResourceVersion.fromRow(new Object[]{5L, MODIFIED, null});
+        ResourceVersion rescored = ResourceVersion.fromRow(new Object[]{5L, MODIFIED, scored});
+        ResourceVersion scoredLater = ResourceVersion.fromRow(new Object[]{5L, MODIFIED, MODIFIED.plusHours(1)});
+
+        assertNotEquals(unscored.getETag(), rescored.getETag());
+        assertEquals(unscored.getLastModified(), rescored.getLastModified());
+        assertEquals(MODIFIED.plusHours(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                scoredLater.getLastModified());
+        assertEquals(5L, scoredLater.getVersion());
+    }
+
+    @Test
+    void fromRow_EachTrailingTimestampChangesTag() {
+        LocalDateTime changed = MODIFIED.plusHours(1);
+
+        ResourceVersion neither = ResourceVersion.fromRow(new Object[]{5L, MODIFIED, null, null}, 2);
+        ResourceVersion first = ResourceVersion.fromRow(new Object[]{5L, MODIFIED, changed, null}, 2);
+        ResourceVersion second = ResourceVersion.fromRow(new Object[]{5L, MODIFIED, null, changed}, 2);
+
+        assertNotEquals(neither.getETag(), first.getETag());
+        assertNotEquals(neither.getETag(), second.getETag());
+        assertNotEquals(first.getETag(), second.getETag());
+        assertEquals(changed.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), second.getLastModified());
+        assertEquals(5L, second.getVersion());
+    }
+
+    @Test
+    void fromRow_WithoutTimestampsHasNoLastModified() {
+        assertEquals(-1, ResourceVersion.fromRow(new Object[]{0L, null}).getLastModified());
+    }
+
+    @Test
+    void checkExpectedVersion_RejectsDifferentVersion() {
+        assertDoesNotThrow(() -> ResourceVersion.checkExpectedVersion(null, 3L, "Address 1"));
+        assertDoesNotThrow(() -> ResourceVersion.checkExpectedVersion(3L, 3L, "Address 1"));
+        assertThrows(PreconditionFailedException.class,
+                () -> ResourceVersion.checkExpectedVersion(2L, 3L, "Address 1"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.fincore.usermgmt.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SicHierarchyTest {
+
+    @Test
+    void normalise_PadsClassesAndRejectsUnknownDivisions() {
+        assertEquals("62020", SicHierarchy.normalise("62.02"));
+        assertEquals("62020", SicHierarchy.normalise("6202"));
+        assertEquals("64191", SicHierarchy.normalise(" 64191 "));
+        assertNull(SicHierarchy.normalise("04123"));
+        assertNull(SicHierarchy.normalise("64"));
+        assertNull(SicHierarchy.normalise("retail"));
+    }
+
+    @Test
+    void parseCodes_PrimaryFirstWithoutDuplicates() {
+        Set<String> codes = SicHierarchy.parseCodes("64191", "62020, 64191;47910 bad");
+
+        assertEquals(List.of("64191", "62020", "47910"), List.copyOf(codes));
+        assertTrue(SicHierarchy.parseCodes(null, null).isEmpty());
+    }
+
+    @Test
+    void range_CoversEveryLevel() {
+        assertEquals(new SicHierarchy.CodeRange("64000", "66999"), SicHierarchy.range("k"));
+        assertEquals(new SicHierarchy.CodeRange("64000", "64999"), SicHierarchy.range("64"));
+        assertEquals(new SicHierarchy.CodeRange("64100", "64199"), SicHierarchy.range("641"));
+        assertEquals(new SicHierarchy.CodeRange("64190", "64199"), SicHierarchy.range("64.19"));
+        assertEquals(new SicHierarchy.CodeRange("64191", "64191"), SicHierarchy.range("64191"));
+    }
+
+    @Test
+    void range_UnknownLevelRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SicHierarchy.range("Z"));
+        assertThrows(IllegalArgumentException.class, () -> SicHierarchy.range("34"));
+        assertThrows(IllegalArgumentException.class, () -> SicHierarchy.range("6"));
+        assertThrows(IllegalArgumentException.class, () -> SicHierarchy.range(null));
+    }
+
+    @Test
+    void sections_CoverAllDivisions() {
+        assertEquals(21, SicHierarchy.sections().size());
+        assertEquals("K", SicHierarchy.sectionOf("64191").code());
+        assertEquals("U", SicHierarchy.sectionOf("99999").code());
+        assertNull(SicHierarchy.sectionOf("40"));
+    }
+}